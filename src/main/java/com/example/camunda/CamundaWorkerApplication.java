@@ -1,11 +1,19 @@
 package com.example.camunda;
 
+import com.example.camunda.generator.GenerateDataCommand;
+import com.example.camunda.importer.BulkImportCommand;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class CamundaWorkerApplication {
     public static void main(String[] args) {
-        SpringApplication.run(CamundaWorkerApplication.class, args);
+        SpringApplication application = new SpringApplication(CamundaWorkerApplication.class);
+        // An import or data generation run from the command line needs no web server
+        if (BulkImportCommand.isImportCommand(args) || GenerateDataCommand.isGenerateCommand(args)) {
+            application.setWebApplicationType(WebApplicationType.NONE);
+        }
+        application.run(args);
     }
 }
@@ -10,6 +10,8 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 public class DataInitializer {
     @Bean
@@ -22,7 +24,6 @@ public class DataInitializer {
             emp1.setJobTitle("Account Manager");
             emp1.setDepartment("Sales");
             emp1.setPhoneNumber("123-456-7890");
-            employeeRepo.save(emp1);
 
             Employee emp2 = new Employee();
             emp2.setEmployeeId(2L);
@@ -30,20 +31,19 @@ public class DataInitializer {
             emp2.setJobTitle("Support Lead");
             emp2.setDepartment("Support");
             emp2.setPhoneNumber("987-654-3210");
-            employeeRepo.save(emp2);
+            employeeRepo.saveAll(List.of(emp1, emp2));
 
             // Customers
             Customer cust1 = new Customer();
             cust1.setCustomerId(100L);
             cust1.setCustomerName("Acme Corp");
             cust1.setEmployeeId(1L);
-            customerRepo.save(cust1);
 
             Customer cust2 = new Customer();
             cust2.setCustomerId(200L);
             cust2.setCustomerName("Beta LLC");
             cust2.setEmployeeId(2L);
-            customerRepo.save(cust2);
+            customerRepo.saveAll(List.of(cust1, cust2));
 
             // External Companies
             ExternalCompany comp1 = new ExternalCompany();
@@ -52,7 +52,6 @@ public class DataInitializer {
             comp1.setAddress("1 Main St, Metropolis");
             comp1.setContactPerson("Jane Doe");
             comp1.setPhoneNumber("555-111-2222");
-            companyRepo.save(comp1);
 
             ExternalCompany comp2 = new ExternalCompany();
             comp2.setCompanyId(2000L);
@@ -60,7 +59,7 @@ public class DataInitializer {
             comp2.setAddress("42 Silicon Ave, Tech City");
             comp2.setContactPerson("John Roe");
             comp2.setPhoneNumber("555-333-4444");
-            companyRepo.save(comp2);
+            companyRepo.saveAll(List.of(comp1, comp2));
         };
     }
 }
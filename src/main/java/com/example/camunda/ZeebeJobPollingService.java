@@ -1,6 +1,8 @@
 package com.example.camunda;
 
-import com.example.camunda.service.JobHistoryService;
+import com.example.camunda.service.JobHistoryRecorder;
+import com.example.camunda.service.JobPhaseTimer;
+import com.example.camunda.service.JobPhaseTimer.Phase;
 import com.example.camunda.service.ZeebeConnectionService;
 import com.example.camunda.worker.MatchCustomerWithDriWorker;
 import com.example.camunda.worker.QueryForCompanyWorker;
@@ -23,11 +25,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Slf4j
 public class ZeebeJobPollingService {
     
+    private static final Duration ACTIVATION_TIMEOUT = Duration.ofMinutes(1);
+    
     private final ZeebeConnectionService zeebeConnectionService;
     private final MatchCustomerWithDriWorker matchWorker;
     private final QueryForCompanyWorker companyWorker;
     private final EmployeeSearchWorker employeeSearchWorker;
-    private final JobHistoryService jobHistoryService;
+    private final JobHistoryRecorder jobHistoryRecorder;
     
     private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
@@ -78,7 +82,7 @@ public class ZeebeJobPollingService {
                     .newActivateJobsCommand()
                     .jobType(jobType)
                     .maxJobsToActivate(5)
-                    .timeout(Duration.ofMinutes(1))
+                    .timeout(ACTIVATION_TIMEOUT)
                     .send()
                     .join()
                     .getJobs();
@@ -97,34 +101,39 @@ public class ZeebeJobPollingService {
         String jobKey = String.valueOf(job.getKey());
         String variables = job.getVariables();
 
-        try {
-            log.debug("Processing job {} of type {}", jobKey, jobType);
-            Object result = handler.apply(job);
-            
-            zeebeConnectionService.getClient()
-                    .newCompleteCommand(job.getKey())
-                    .variables(result)
-                    .send()
-                    .join();
-
-            long executionTime = System.currentTimeMillis() - startTime;
-            jobHistoryService.recordJobSuccess(jobType, jobKey, variables, executionTime);
-            
-            log.info("Completed job {} of type {} in {}ms", jobKey, jobType, executionTime);
-
-        } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            zeebeConnectionService.getClient()
-                    .newFailCommand(job.getKey())
-                    .retries(job.getRetries() - 1)
-                    .errorMessage(e.getMessage())
-                    .send()
-                    .join();
-
-            jobHistoryService.recordJobFailure(jobType, jobKey, variables, e.getMessage(), executionTime);
-            
-            log.error("Failed job {} of type {} after {}ms: {}", jobKey, jobType, executionTime, e.getMessage());
+        // The broker sets the deadline to the activation time plus the timeout we asked for
+        try (JobPhaseTimer timer = JobPhaseTimer.start(job.getDeadline() - ACTIVATION_TIMEOUT.toMillis())) {
+            try {
+                log.debug("Processing job {} of type {}", jobKey, jobType);
+                Object result = JobPhaseTimer.time(Phase.HANDLER, () -> handler.apply(job));
+                
+                JobPhaseTimer.time(Phase.COMPLETE, () -> zeebeConnectionService.getClient()
+                        .newCompleteCommand(job.getKey())
+                        .variables(result)
+                        .send()
+                        .join());
+
+                long executionTime = System.currentTimeMillis() - startTime;
+                JobPhaseTimer.Timings phases = timer.timings();
+                jobHistoryRecorder.recordSuccess(jobType, jobKey, variables, executionTime, phases);
+                
+                log.info("Completed job {} of type {} in {}ms - {}", jobKey, jobType, executionTime, phases);
+
+            } catch (Exception e) {
+                long executionTime = System.currentTimeMillis() - startTime;
+                
+                zeebeConnectionService.getClient()
+                        .newFailCommand(job.getKey())
+                        .retries(job.getRetries() - 1)
+                        .errorMessage(e.getMessage())
+                        .send()
+                        .join();
+
+                jobHistoryRecorder.recordFailure(jobType, jobKey, variables, e.getMessage(), executionTime,
+                        timer.timings());
+                
+                log.error("Failed job {} of type {} after {}ms: {}", jobKey, jobType, executionTime, e.getMessage());
+            }
         }
     }
 
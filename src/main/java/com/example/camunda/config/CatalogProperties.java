@@ -0,0 +1,132 @@
+package com.example.camunda.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "catalog")
+public class CatalogProperties {
+    
+    private ReadModel readModel = new ReadModel();
+    
+    private Snapshot snapshot = new Snapshot();
+    
+    private ChangeLog changeLog = new ChangeLog();
+    
+    private Deployment deployment = new Deployment();
+    
+    private SecondLevelCache secondLevelCache = new SecondLevelCache();
+    
+    private BulkImport bulkImport = new BulkImport();
+    
+    private Generator generator = new Generator();
+    
+    @Data
+    public static class ReadModel {
+        // When disabled, catalog reads go back to the JPA repositories
+        private boolean enabled = true;
+        
+        // Keep the read model's text arenas in direct buffers outside the Java heap
+        private boolean offHeap = false;
+    }
+    
+    @Data
+    public static class Snapshot {
+        // Warm up from a snapshot file and replay the change log entries after it instead of reading every row
+        // at start-up; needs the change log
+        private boolean enabled = true;
+        
+        private String path = "./data/catalog.snapshot";
+        
+        // How often the snapshot file is rewritten
+        private long writeIntervalMs = 300_000;
+    }
+    
+    @Data
+    public static class ChangeLog {
+        // Record catalog writes in entity_change_log and apply other replicas' writes to the local indexes
+        private boolean enabled = true;
+        
+        private long pollIntervalMs = 1000;
+        
+        private int batchSize = 500;
+        
+        // How long a skipped change-log ID is re-checked in case its transaction commits late
+        private Duration gapTimeout = Duration.ofMinutes(1);
+        
+        // Change-log rows older than this are deleted
+        private Duration retention = Duration.ofDays(1);
+    }
+    
+    @Data
+    public static class Deployment {
+        // single: one process owns the H2 file; primary: also serve it over TCP; replica: write to a primary, read locally
+        private String mode = "single";
+        
+        // Port of the primary's H2 TCP server
+        private int h2TcpPort = 9092;
+        
+        // Accept TCP connections from other hosts; only local connections are accepted otherwise
+        private boolean h2TcpAllowOthers = false;
+        
+        // Database a replica serves read-only transactions from
+        private String readCopyUrl = "jdbc:h2:mem:read-copy;DB_CLOSE_DELAY=-1";
+    }
+    
+    @Data
+    public static class SecondLevelCache {
+        // Entities kept per Hibernate entity region
+        private long maxEntries = 10_000;
+        
+        // Cached query results kept in the query cache region
+        private long maxQueryResults = 5_000;
+        
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+    
+    @Data
+    public static class BulkImport {
+        // Rows validated together and written in one transaction; indexes and caches are updated once per chunk
+        private int chunkSize = 1000;
+        
+        // Rejected rows reported per job; later rejections are only counted
+        private int maxReportedErrors = 100;
+        
+        // Finished jobs kept for progress queries
+        private int retainedJobs = 20;
+    }
+    
+    @Data
+    public static class Generator {
+        // The same seed and counts always generate the same rows
+        private long seed = 42;
+        
+        private long employees = 1_000;
+        
+        private long customers = 100_000;
+        
+        private long companies = 10_000;
+        
+        // Generated IDs start here, clear of the sample data
+        private long firstId = 1_000_000;
+        
+        // Rows written per batch and transaction
+        private int batchSize = 5_000;
+        
+        // Batches written concurrently; 0 uses one per processor
+        private int threads = 0;
+        
+        // Share of customers and companies given the name of an earlier row
+        private double duplicateNameRate = 0.05;
+        
+        // Share of names with one misspelled letter
+        private double typoRate = 0.02;
+        
+        // Zipf exponent of customers per employee; 0 spreads customers evenly
+        private double driSkew = 1.1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.camunda.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Caffeine-backed JCache regions for Hibernate's second-level and query caches. Every region is
+ * created here with a size bound and write expiry, so Hibernate is configured to fail on any
+ * region it would otherwise create unbounded.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    // Match the @Cache regions declared on the entities
+    public static final String CUSTOMERS_REGION = "customers";
+    public static final String EMPLOYEES_REGION = "employees";
+    public static final String COMPANIES_REGION = "external_companies";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(CatalogProperties catalogProperties) {
+        CatalogProperties.SecondLevelCache settings = catalogProperties.getSecondLevelCache();
+        // One manager per application context; tests start several in the same JVM
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        long expiry = settings.getExpireAfterWrite().toNanos();
+        cacheManager.createCache(CUSTOMERS_REGION, bounded(settings.getMaxEntries(), expiry));
+        cacheManager.createCache(EMPLOYEES_REGION, bounded(settings.getMaxEntries(), expiry));
+        cacheManager.createCache(COMPANIES_REGION, bounded(settings.getMaxEntries(), expiry));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                bounded(settings.getMaxQueryResults(), expiry));
+        // Update timestamps decide whether cached query results are stale; they must never be evicted early
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxEntries, long expireAfterWriteNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWriteNanos));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.camunda.config;
+
+import com.example.camunda.service.JobPhaseTimer;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Reports the time each Hibernate session spends acquiring connections, preparing and executing statements
+ * to the {@link JobPhaseTimer} of the current thread, which splits a worker's search into database and
+ * matching time. Registered for every session with {@code hibernate.session.events.auto}.
+ */
+public class JdbcTimingListener implements SessionEventListener {
+
+    private long connectionStart;
+    private long prepareStart;
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        JobPhaseTimer.addDatabaseNanos(System.nanoTime() - connectionStart);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        JobPhaseTimer.addDatabaseNanos(System.nanoTime() - prepareStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        JobPhaseTimer.addDatabaseNanos(System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        JobPhaseTimer.addDatabaseNanos(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.camunda.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "job-history")
+public class JobHistoryProperties {
+    
+    private Recorder recorder = new Recorder();
+    
+    private Retention retention = new Retention();
+    
+    private VariablesMigration variablesMigration = new VariablesMigration();
+    
+    private Rollups rollups = new Rollups();
+    
+    @Data
+    public static class Recorder {
+        // Entries buffered between job completion and their insert
+        private int capacity = 10_000;
+        
+        // Entries inserted together in one transaction
+        private int batchSize = 500;
+        
+        // What a job does when the buffer is full
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+        
+        // How long shutdown waits for the buffer to be written
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
+    
+    @Data
+    public static class Retention {
+        // Archive and delete rows once they are older than the TTL of their status
+        private boolean enabled = true;
+        
+        // How long rows are kept, by status; statuses not listed here use default-ttl
+        private Map<String, Duration> ttl = defaultTtls();
+        
+        private Duration defaultTtl = Duration.ofDays(30);
+        
+        // Rows archived and deleted together in one transaction
+        private int batchSize = 1_000;
+        
+        // Batches per run; older rows left over are handled by the next run
+        private int maxBatchesPerRun = 50;
+        
+        private long intervalMs = 600_000;
+        
+        // Write expired rows to the archive before deleting them; when disabled they are only deleted
+        private boolean archive = true;
+        
+        // Directory of the archive files, one gzip-compressed NDJSON file per day of execution time
+        private String archivePath = "./data/job-history-archive";
+        
+        public Duration ttlFor(String status) {
+            return ttl.getOrDefault(status, defaultTtl);
+        }
+        
+        // Statuses are stored in upper case; property keys may be written in any case
+        public void setTtl(Map<String, Duration> ttl) {
+            this.ttl = new LinkedHashMap<>();
+            ttl.forEach((status, duration) -> this.ttl.put(status.toUpperCase(Locale.ROOT), duration));
+        }
+        
+        private static Map<String, Duration> defaultTtls() {
+            Map<String, Duration> ttls = new LinkedHashMap<>();
+            ttls.put("COMPLETED", Duration.ofDays(7));
+            ttls.put("FAILED", Duration.ofDays(30));
+            return ttls;
+        }
+    }
+    
+    @Data
+    public static class VariablesMigration {
+        // Compress the variables of rows written before they were stored compressed
+        private boolean enabled = true;
+        
+        // Rows compressed together in one transaction
+        private int batchSize = 1_000;
+        
+        // Batches per run, so the migration shares the scheduler with other background work
+        private int batchesPerRun = 10;
+        
+        private long intervalMs = 1_000;
+    }
+    
+    @Data
+    public static class Rollups {
+        // Minute and hour buckets older than this are deleted; day buckets and totals are kept
+        private Duration minuteRetention = Duration.ofDays(2);
+        
+        private Duration hourRetention = Duration.ofDays(90);
+    }
+    
+    public enum OverflowPolicy {
+        // Overwrite the oldest buffered entry, as a ring buffer does
+        DROP_OLDEST,
+        // Discard the entry being recorded
+        DROP_NEWEST,
+        // Insert the entry on the job's thread; keeps every entry but adds the insert to job latency
+        WRITE_THROUGH
+    }
+}
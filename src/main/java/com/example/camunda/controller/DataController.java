@@ -1,14 +1,26 @@
 package com.example.camunda.controller;
 
+import com.example.camunda.dto.CompanyDTO;
+import com.example.camunda.dto.CompanySummary;
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.CustomerDTO;
+import com.example.camunda.dto.CustomerDriView;
+import com.example.camunda.dto.EmployeeDTO;
+import com.example.camunda.dto.EmployeeSummary;
 import com.example.camunda.dto.JobHistoryDTO;
+import com.example.camunda.dto.JobHistoryFilter;
+import com.example.camunda.dto.JobMetricsBucket;
+import com.example.camunda.dto.JobPhaseBreakdown;
+import com.example.camunda.dto.PageParams;
+import com.example.camunda.exception.CustomerNotFoundException;
 import com.example.camunda.model.Customer;
 import com.example.camunda.model.Employee;
 import com.example.camunda.model.ExternalCompany;
-import com.example.camunda.model.JobHistory;
 import com.example.camunda.service.CustomerService;
 import com.example.camunda.service.EmployeeService;
 import com.example.camunda.service.CompanyService;
 import com.example.camunda.service.JobHistoryService;
+import com.example.camunda.service.JobMetricsService;
 import com.example.camunda.service.ZeebeConnectionService;
 import com.example.camunda.ZeebeJobPollingService;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +32,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -27,7 +40,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api")
@@ -39,25 +52,100 @@ public class DataController {
     private final EmployeeService employeeService;
     private final CompanyService companyService;
     private final JobHistoryService jobHistoryService;
+    private final JobMetricsService jobMetricsService;
     private final ZeebeConnectionService zeebeConnectionService;
     private final ZeebeJobPollingService pollingService;
 
+    /**
+     * Lists customers a page at a time; pass the returned {@code nextCursor} back as {@code cursor}.
+     */
     @GetMapping("/customers")
-    public List<Customer> getCustomers() {
-        log.debug("Fetching all customers");
-        return customerService.getAllCustomers();
+    public CursorPage<CustomerDTO> getCustomers(PageParams page,
+                                                @RequestParam(required = false) String name,
+                                                @RequestParam(required = false) Long employeeId) {
+        log.debug("Fetching customers - {}", page);
+        return customerService.getCustomerPage(name, employeeId, page).map(CustomerDTO::from);
     }
 
+    @GetMapping("/customers/{id}")
+    public CustomerDTO getCustomer(@PathVariable Long id) {
+        log.debug("Fetching customer with ID: {}", id);
+        return customerService.findCustomer(id, null)
+                .map(CustomerDTO::from)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id));
+    }
+
+    /**
+     * Lists customers with their DRI employees a page at a time, with the filters of {@code /customers}.
+     */
+    @GetMapping("/customers/dri-views")
+    public CursorPage<CustomerDriView> getCustomerDriViews(PageParams page,
+                                                           @RequestParam(required = false) String name,
+                                                           @RequestParam(required = false) Long employeeId) {
+        log.debug("Fetching customers with their DRI employees - {}", page);
+        CursorPage<Customer> customers = customerService.getCustomerPage(name, employeeId, page);
+        return new CursorPage<>(customerService.getDriViews(customers.items()), customers.nextCursor(),
+                customers.total());
+    }
+
+    /**
+     * Lists employees a page at a time; {@code include=customers} adds the customers of the page's
+     * employees, fetched in one batch.
+     */
     @GetMapping("/employees")
-    public List<Employee> getEmployees() {
-        log.debug("Fetching all employees");
-        return employeeService.getAllEmployees();
+    public CursorPage<EmployeeDTO> getEmployees(PageParams page,
+                                                @RequestParam(required = false) String name,
+                                                @RequestParam(required = false) String department,
+                                                @RequestParam(required = false) String jobTitle,
+                                                @RequestParam(required = false) Set<String> include) {
+        log.debug("Fetching employees - {}, including: {}", page, include);
+        CursorPage<Employee> employees = employeeService.getEmployeePage(name, department, jobTitle, page);
+        if (include == null || !include.contains("customers")) {
+            return employees.map(EmployeeDTO::from);
+        }
+        Map<Long, List<Customer>> customersByEmployee = customerService.getCustomersByEmployee(
+                employees.items().stream().map(Employee::getEmployeeId).toList());
+        return employees.map(employee -> EmployeeDTO.from(employee, customersByEmployee
+                .getOrDefault(employee.getEmployeeId(), List.of()).stream()
+                .map(CustomerDTO::from)
+                .toList()));
+    }
+
+    @GetMapping("/employees/{id}")
+    public EmployeeDTO getEmployee(@PathVariable Long id) {
+        log.debug("Fetching employee with ID: {}", id);
+        return EmployeeDTO.from(employeeService.getEmployeeById(id));
+    }
+
+    /**
+     * Lists employee summaries a page at a time, for pickers that search by name as the user types.
+     */
+    @GetMapping("/employees/summaries")
+    public CursorPage<EmployeeSummary> getEmployeeSummaries(PageParams page,
+                                                            @RequestParam(required = false) String name) {
+        log.debug("Fetching employee summaries - {}", page);
+        return employeeService.getEmployeePage(name, null, null, page).map(EmployeeSummary::from);
     }
 
     @GetMapping("/companies")
-    public List<ExternalCompany> getCompanies() {
-        log.debug("Fetching all companies");
-        return companyService.getAllCompanies();
+    public CursorPage<CompanyDTO> getCompanies(PageParams page,
+                                               @RequestParam(required = false) String name,
+                                               @RequestParam(required = false) String city) {
+        log.debug("Fetching companies - {}", page);
+        return companyService.getCompanyPage(name, city, page).map(CompanyDTO::from);
+    }
+
+    @GetMapping("/companies/{id}")
+    public CompanyDTO getCompany(@PathVariable Long id) {
+        log.debug("Fetching company with ID: {}", id);
+        return CompanyDTO.from(companyService.getCompany(id, null));
+    }
+
+    @GetMapping("/companies/summaries")
+    public CursorPage<CompanySummary> getCompanySummaries(PageParams page,
+                                                          @RequestParam(required = false) String name) {
+        log.debug("Fetching company summaries - {}", page);
+        return companyService.getCompanyPage(name, null, page).map(CompanySummary::from);
     }
 
     @GetMapping("/connection-status")
@@ -96,10 +184,17 @@ public class DataController {
     @GetMapping("/job-history")
     public List<JobHistoryDTO> getJobHistory() {
         log.debug("Fetching enhanced job history");
-        List<JobHistory> jobHistories = jobHistoryService.getRecentJobHistory(100);
-        return jobHistories.stream()
-                .map(JobHistoryDTO::fromJobHistory)
-                .collect(Collectors.toList());
+        return jobHistoryService.getRecentJobHistoryDtos(100);
+    }
+
+    /**
+     * Searches the job history, newest first; e.g. {@code ?jobType=query-for-company&status=FAILED&from=...}.
+     * Pass the returned {@code nextCursor} back as {@code cursor} for the next page.
+     */
+    @GetMapping("/job-history/search")
+    public CursorPage<JobHistoryDTO> searchJobHistory(JobHistoryFilter filter, PageParams page) {
+        log.debug("Searching job history - {}, {}", filter, page);
+        return jobHistoryService.searchJobHistory(filter, page).map(JobHistoryDTO::fromJobHistory);
     }
 
     @GetMapping("/job-metrics")
@@ -107,25 +202,43 @@ public class DataController {
         log.debug("Fetching job metrics");
         Map<String, Object> metrics = new HashMap<>();
         
-        metrics.put("totalJobs", jobHistoryService.getTotalJobsProcessed());
-        metrics.put("jobsToday", jobHistoryService.getJobsProcessedToday());
-        metrics.put("jobsByType", jobHistoryService.getJobCountsByType());
+        metrics.put("totalJobs", jobMetricsService.getTotalJobsProcessed());
+        metrics.put("jobsToday", jobMetricsService.getJobsProcessedToday());
+        metrics.put("failedJobs", jobMetricsService.getFailedJobs());
+        metrics.put("jobsByType", jobMetricsService.getJobCountsByType());
+        metrics.put("failedJobsByType", jobMetricsService.getFailedJobCountsByType());
+        metrics.put("averageExecutionTimeMsByType", jobMetricsService.getAverageExecutionTimeMsByType());
         
         return metrics;
     }
 
+    @GetMapping("/job-metrics/timeline")
+    public List<JobMetricsBucket> getJobTimeline(@RequestParam(defaultValue = "hour") String granularity,
+                                                 @RequestParam(defaultValue = "24") int buckets) {
+        return jobMetricsService.getJobTimeline(granularity, buckets);
+    }
+
+    /**
+     * Average time per phase of each job type, from broker wait to the complete command, for the dashboard's waterfall.
+     */
+    @GetMapping("/job-metrics/phases")
+    public List<JobPhaseBreakdown> getJobPhases() {
+        log.debug("Fetching job phase breakdown");
+        return jobMetricsService.getPhaseBreakdownByType();
+    }
+
     // CRUD Operations for Customers
     @PostMapping("/customers")
-    public Customer createCustomer(@Valid @RequestBody Customer customer) {
+    public CustomerDTO createCustomer(@Valid @RequestBody Customer customer) {
         log.info("Creating new customer: {}", customer.getCustomerName());
-        return customerService.saveCustomer(customer);
+        return CustomerDTO.from(customerService.saveCustomer(customer));
     }
 
     @PutMapping("/customers/{id}")
-    public Customer updateCustomer(@PathVariable Long id, @Valid @RequestBody Customer customer) {
+    public CustomerDTO updateCustomer(@PathVariable Long id, @Valid @RequestBody Customer customer) {
         log.info("Updating customer with ID: {}", id);
         customer.setCustomerId(id);
-        return customerService.saveCustomer(customer);
+        return CustomerDTO.from(customerService.saveCustomer(customer));
     }
 
     @DeleteMapping("/customers/{id}")
@@ -139,16 +252,16 @@ public class DataController {
 
     // CRUD Operations for Employees
     @PostMapping("/employees")
-    public Employee createEmployee(@Valid @RequestBody Employee employee) {
+    public EmployeeDTO createEmployee(@Valid @RequestBody Employee employee) {
         log.info("Creating new employee: {}", employee.getFullName());
-        return employeeService.saveEmployee(employee);
+        return EmployeeDTO.from(employeeService.saveEmployee(employee));
     }
 
     @PutMapping("/employees/{id}")
-    public Employee updateEmployee(@PathVariable Long id, @Valid @RequestBody Employee employee) {
+    public EmployeeDTO updateEmployee(@PathVariable Long id, @Valid @RequestBody Employee employee) {
         log.info("Updating employee with ID: {}", id);
         employee.setEmployeeId(id);
-        return employeeService.saveEmployee(employee);
+        return EmployeeDTO.from(employeeService.saveEmployee(employee));
     }
 
     @DeleteMapping("/employees/{id}")
@@ -162,16 +275,16 @@ public class DataController {
 
     // CRUD Operations for Companies
     @PostMapping("/companies")
-    public ExternalCompany createCompany(@Valid @RequestBody ExternalCompany company) {
+    public CompanyDTO createCompany(@Valid @RequestBody ExternalCompany company) {
         log.info("Creating new company: {}", company.getCompanyName());
-        return companyService.saveCompany(company);
+        return CompanyDTO.from(companyService.saveCompany(company));
     }
 
     @PutMapping("/companies/{id}")
-    public ExternalCompany updateCompany(@PathVariable Long id, @Valid @RequestBody ExternalCompany company) {
+    public CompanyDTO updateCompany(@PathVariable Long id, @Valid @RequestBody ExternalCompany company) {
         log.info("Updating company with ID: {}", id);
         company.setCompanyId(id);
-        return companyService.saveCompany(company);
+        return CompanyDTO.from(companyService.saveCompany(company));
     }
 
     @DeleteMapping("/companies/{id}")
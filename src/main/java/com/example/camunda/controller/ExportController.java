@@ -0,0 +1,120 @@
+package com.example.camunda.controller;
+
+import com.example.camunda.dto.CompanyDTO;
+import com.example.camunda.dto.CustomerDTO;
+import com.example.camunda.dto.EmployeeDTO;
+import com.example.camunda.export.ExportFormat;
+import com.example.camunda.export.RowWriter;
+import com.example.camunda.service.CompanyService;
+import com.example.camunda.service.CustomerService;
+import com.example.camunda.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams whole catalog tables as NDJSON or CSV. Rows go from an open database cursor straight to the
+ * response, so memory use does not grow with the table; the filters are the same as the listings'.
+ * The body is gzip-compressed when the client accepts it.
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private final CustomerService customerService;
+    private final EmployeeService employeeService;
+    private final CompanyService companyService;
+    private final ObjectMapper objectMapper;
+
+    @FunctionalInterface
+    private interface Export<T> {
+        long writeTo(RowWriter<T> writer) throws IOException;
+    }
+
+    @GetMapping("/customers")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Long employeeId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return stream("customers", ExportFormat.of(format), acceptEncoding, CustomerDTO.class,
+                writer -> customerService.exportCustomers(name, employeeId, writer));
+    }
+
+    @GetMapping("/employees")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String jobTitle,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return stream("employees", ExportFormat.of(format), acceptEncoding, EmployeeDTO.class,
+                writer -> employeeService.exportEmployees(name, department, jobTitle, writer));
+    }
+
+    @GetMapping("/companies")
+    public ResponseEntity<StreamingResponseBody> exportCompanies(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String city,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return stream("companies", ExportFormat.of(format), acceptEncoding, CompanyDTO.class,
+                writer -> companyService.exportCompanies(name, city, writer));
+    }
+
+    private <T extends Record> ResponseEntity<StreamingResponseBody> stream(String table, ExportFormat format,
+                                                                         String acceptEncoding, Class<T> type,
+                                                                         Export<T> export) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = response -> {
+            long start = System.currentTimeMillis();
+            OutputStream out = gzip ? new GZIPOutputStream(response, 1 << 16) : response;
+            long rows = export.writeTo(format.open(out, type, objectMapper));
+            if (out instanceof GZIPOutputStream compressed) {
+                compressed.finish();
+            }
+            log.info("Exported {} {} as {}{} in {}ms", rows, table, format.extension(), gzip ? " (gzip)" : "",
+                    System.currentTimeMillis() - start);
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(table + "." + format.extension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").equals("q=0");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.camunda.controller;
+
+import com.example.camunda.dto.FacetCountsDTO;
+import com.example.camunda.service.FacetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/facets")
+@RequiredArgsConstructor
+@Slf4j
+public class FacetController {
+
+    private final FacetService facetService;
+
+    @GetMapping("/employees")
+    public FacetCountsDTO getEmployeeFacets(@RequestParam(required = false) String department,
+                                            @RequestParam(required = false) String jobTitle) {
+        log.debug("Fetching employee facets");
+        return facetService.getEmployeeFacets(department, jobTitle);
+    }
+
+    @GetMapping("/companies")
+    public FacetCountsDTO getCompanyFacets(@RequestParam(required = false) String city,
+                                           @RequestParam(required = false) String state) {
+        log.debug("Fetching company facets");
+        return facetService.getCompanyFacets(city, state);
+    }
+}
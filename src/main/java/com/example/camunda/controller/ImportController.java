@@ -0,0 +1,65 @@
+package com.example.camunda.controller;
+
+import com.example.camunda.dto.ImportProgress;
+import com.example.camunda.importer.ImportFormat;
+import com.example.camunda.importer.ImportJob;
+import com.example.camunda.importer.ImportTable;
+import com.example.camunda.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Bulk loads a catalog table from a CSV or NDJSON request body, in the same layout the export endpoints write.
+ * The format is taken from {@code format} or else from the content type; form-encoded bodies are refused,
+ * since the container would consume them as request parameters. The body is spooled to disk and imported
+ * in the background; poll the returned job for progress.
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    @PostMapping(value = "/{table}", consumes = {"text/csv", "application/x-ndjson", "application/json",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportProgress> startImport(
+            @PathVariable String table,
+            @RequestParam(required = false) String format,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        ImportTable importTable = ImportTable.of(table);
+        ImportFormat importFormat = format != null ? ImportFormat.of(format) : ImportFormat.forMediaType(contentType);
+        ImportJob job = bulkImportService.submit(importTable, importFormat, body, "gzip".equalsIgnoreCase(contentEncoding));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/import/jobs/" + job.id()))
+                .body(job.progress());
+    }
+
+    @GetMapping("/jobs")
+    public List<ImportProgress> getJobs() {
+        return bulkImportService.getJobs().stream().map(ImportJob::progress).toList();
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ImportProgress getJob(@PathVariable String jobId) {
+        return bulkImportService.getJob(jobId).progress();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.camunda.dto;
+
+import com.example.camunda.model.ExternalCompany;
+
+import java.time.LocalDateTime;
+
+public record CompanyDTO(
+        Long companyId,
+        String companyName,
+        String address,
+        String contactPerson,
+        String phoneNumber,
+        String street,
+        String city,
+        String state,
+        String zipCode,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static CompanyDTO from(ExternalCompany company) {
+        return new CompanyDTO(company.getCompanyId(), company.getCompanyName(), company.getAddress(),
+                company.getContactPerson(), company.getPhoneNumber(), company.getStreet(), company.getCity(),
+                company.getState(), company.getZipCode(), company.getCreatedAt(), company.getUpdatedAt());
+    }
+}
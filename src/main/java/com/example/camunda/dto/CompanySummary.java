@@ -0,0 +1,25 @@
+package com.example.camunda.dto;
+
+import com.example.camunda.model.ExternalCompany;
+import com.example.camunda.readmodel.CompanyRecord;
+
+/**
+ * The company fields workers and list views read, without the parsed address parts or auditing columns.
+ */
+public record CompanySummary(
+        Long companyId,
+        String companyName,
+        String address,
+        String contactPerson,
+        String phoneNumber) {
+
+    public static CompanySummary from(CompanyRecord company) {
+        return new CompanySummary(company.companyId(), company.companyName(), company.address(),
+                company.contactPerson(), company.phoneNumber());
+    }
+
+    public static CompanySummary from(ExternalCompany company) {
+        return new CompanySummary(company.getCompanyId(), company.getCompanyName(), company.getAddress(),
+                company.getContactPerson(), company.getPhoneNumber());
+    }
+}
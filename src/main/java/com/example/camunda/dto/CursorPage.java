@@ -0,0 +1,20 @@
+package com.example.camunda.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page; {@code total}
+ * is only counted for the first page of a listing.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long total) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor, total);
+    }
+}
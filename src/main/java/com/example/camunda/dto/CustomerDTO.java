@@ -0,0 +1,18 @@
+package com.example.camunda.dto;
+
+import com.example.camunda.model.Customer;
+
+import java.time.LocalDateTime;
+
+public record CustomerDTO(
+        Long customerId,
+        String customerName,
+        Long employeeId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static CustomerDTO from(Customer customer) {
+        return new CustomerDTO(customer.getCustomerId(), customer.getCustomerName(), customer.getEmployeeId(),
+                customer.getCreatedAt(), customer.getUpdatedAt());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.camunda.dto;
+
+import com.example.camunda.model.Customer;
+
+/**
+ * A customer together with its directly responsible employee, flattened into one row.
+ */
+public record CustomerDriView(
+        Long customerId,
+        String customerName,
+        Long employeeId,
+        String employeeName,
+        String employeeTitle,
+        String employeeDepartment,
+        String employeePhone) {
+
+    public static CustomerDriView of(Customer customer, EmployeeSummary employee) {
+        return new CustomerDriView(customer.getCustomerId(), customer.getCustomerName(), employee.employeeId(),
+                employee.fullName(), employee.jobTitle(), employee.department(), employee.phoneNumber());
+    }
+}
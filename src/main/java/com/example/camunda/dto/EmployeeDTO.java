@@ -0,0 +1,37 @@
+package com.example.camunda.dto;
+
+import com.example.camunda.model.Employee;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An employee as returned by the REST API. The assigned customers are only present when requested
+ * with {@code ?include=customers}; the entity's lazy collection is never touched.
+ */
+public record EmployeeDTO(
+        Long employeeId,
+        String fullName,
+        String jobTitle,
+        String department,
+        String phoneNumber,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<CustomerDTO> customers) {
+
+    public EmployeeDTO(Long employeeId, String fullName, String jobTitle, String department, String phoneNumber,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(employeeId, fullName, jobTitle, department, phoneNumber, createdAt, updatedAt, null);
+    }
+
+    public static EmployeeDTO from(Employee employee) {
+        return from(employee, null);
+    }
+
+    public static EmployeeDTO from(Employee employee, List<CustomerDTO> customers) {
+        return new EmployeeDTO(employee.getEmployeeId(), employee.getFullName(), employee.getJobTitle(),
+                employee.getDepartment(), employee.getPhoneNumber(), employee.getCreatedAt(),
+                employee.getUpdatedAt(), customers);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.camunda.dto;
+
+import com.example.camunda.model.Employee;
+import com.example.camunda.readmodel.EmployeeRecord;
+
+/**
+ * The employee fields workers and list views read, without auditing columns or the customer collection.
+ */
+public record EmployeeSummary(
+        Long employeeId,
+        String fullName,
+        String jobTitle,
+        String department,
+        String phoneNumber) {
+
+    public static EmployeeSummary from(EmployeeRecord employee) {
+        return new EmployeeSummary(employee.employeeId(), employee.fullName(), employee.jobTitle(),
+                employee.department(), employee.phoneNumber());
+    }
+
+    public static EmployeeSummary from(Employee employee) {
+        return new EmployeeSummary(employee.getEmployeeId(), employee.getFullName(), employee.getJobTitle(),
+                employee.getDepartment(), employee.getPhoneNumber());
+    }
+}
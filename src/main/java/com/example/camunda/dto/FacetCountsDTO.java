@@ -0,0 +1,16 @@
+package com.example.camunda.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountsDTO {
+    private int total;
+    private Map<String, String> filters;
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -0,0 +1,28 @@
+package com.example.camunda.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Point-in-time progress of a bulk import job. {@code errors} lists the first rejected rows by input line.
+ */
+public record ImportProgress(
+        String jobId,
+        String table,
+        String format,
+        String status,
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        long chunks,
+        long rowsPerSecond,
+        LocalDateTime startedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) LocalDateTime finishedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String failure,
+        List<RowError> errors) {
+
+    public record RowError(long line, String message) {
+    }
+}
@@ -1,18 +1,13 @@
 package com.example.camunda.dto;
 
 import com.example.camunda.model.JobHistory;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
-import lombok.extern.slf4j.Slf4j;
 
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Data
-@Slf4j
 public class JobHistoryDTO {
     private Long id;
     private String jobType;
@@ -22,11 +17,11 @@ public class JobHistoryDTO {
     private String duration;
     private Map<String, Object> inputParameters;
     private Map<String, Object> results;
+    private Map<String, Long> phases;
     private String errorMessage;
     private String workerName;
     private String processDefinition;
     
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public static JobHistoryDTO fromJobHistory(JobHistory jobHistory) {
@@ -52,44 +47,54 @@ public class JobHistoryDTO {
             dto.setDuration("N/A");
         }
         
+        // Phase timings, for entries recorded since phases were timed
+        if (jobHistory.getBrokerWaitMs() != null) {
+            Map<String, Long> phases = new LinkedHashMap<>();
+            phases.put("brokerWaitMs", jobHistory.getBrokerWaitMs());
+            phases.put("deserializeMs", jobHistory.getDeserializeMs());
+            phases.put("searchDbMs", jobHistory.getSearchDbMs());
+            phases.put("searchMatchMs", jobHistory.getSearchMatchMs());
+            phases.put("resultBuildMs", jobHistory.getResultBuildMs());
+            phases.put("completeMs", jobHistory.getCompleteMs());
+            dto.setPhases(phases);
+        }
+        
         // Set worker name based on job type
         dto.setWorkerName(getWorkerDisplayName(jobHistory.getJobType()));
         
         // Set process definition (simplified)
         dto.setProcessDefinition("Internal Systems Process");
         
-        // Parse variables JSON to extract input parameters and results
-        Map<String, Object> inputParams = new HashMap<>();
-        Map<String, Object> results = new HashMap<>();
-        
-        if (jobHistory.getVariables() != null && !jobHistory.getVariables().trim().isEmpty()) {
-            try {
-                JsonNode variablesNode = objectMapper.readTree(jobHistory.getVariables());
-                
-                // Extract input parameters based on job type
-                if ("match-customer-with-dri".equals(jobHistory.getJobType())) {
-                    extractMatchCustomerInputs(variablesNode, inputParams);
-                    extractMatchCustomerResults(variablesNode, results);
-                } else if ("query-for-company".equals(jobHistory.getJobType())) {
-                    extractCompanyQueryInputs(variablesNode, inputParams);
-                    extractCompanyQueryResults(variablesNode, results);
-                } else if ("search-employee".equals(jobHistory.getJobType())) {
-                    extractEmployeeSearchInputs(variablesNode, inputParams);
-                    extractEmployeeSearchResults(variablesNode, results);
-                }
-                
-            } catch (JsonProcessingException e) {
-                log.warn("Failed to parse job variables JSON for job {}: {}", jobHistory.getId(), e.getMessage());
-                inputParams.put("raw", jobHistory.getVariables());
-            }
-        }
-        
-        dto.setInputParameters(inputParams);
-        dto.setResults(results);
+        // Summaries are extracted when the entry is written; entries from before that are parsed here
+        JobHistorySummary summary = jobHistory.getSummary() != null
+                ? JobHistorySummary.fromJson(jobHistory.getSummary())
+                : JobHistorySummary.extract(jobHistory.getJobType(), jobHistory.getVariables());
+        dto.setInputParameters(summary.inputParameters());
+        dto.setResults(summary.results());
         
         return dto;
     }
     
+    /**
+     * A copy that can be changed without affecting this one, its maps included.
+     */
+    public JobHistoryDTO copy() {
+        JobHistoryDTO copy = new JobHistoryDTO();
+        copy.setId(id);
+        copy.setJobType(jobType);
+        copy.setJobKey(jobKey);
+        copy.setStatus(status);
+        copy.setExecutionTime(executionTime);
+        copy.setDuration(duration);
+        copy.setInputParameters(inputParameters != null ? new LinkedHashMap<>(inputParameters) : null);
+        copy.setResults(results != null ? new LinkedHashMap<>(results) : null);
+        copy.setPhases(phases != null ? new LinkedHashMap<>(phases) : null);
+        copy.setErrorMessage(errorMessage);
+        copy.setWorkerName(workerName);
+        copy.setProcessDefinition(processDefinition);
+        return copy;
+    }
+    
     private static String getWorkerDisplayName(String jobType) {
         switch (jobType) {
             case "match-customer-with-dri":
@@ -102,156 +107,4 @@ public class JobHistoryDTO {
                 return jobType;
         }
     }
-    
-    private static void extractMatchCustomerInputs(JsonNode variables, Map<String, Object> inputParams) {
-        if (variables.has("customerId")) {
-            inputParams.put("Customer ID", variables.get("customerId").asText());
-        }
-        if (variables.has("customerName")) {
-            inputParams.put("Customer Name", variables.get("customerName").asText());
-        }
-    }
-    
-    private static void extractMatchCustomerResults(JsonNode variables, Map<String, Object> results) {
-        if (variables.has("matchingResult")) {
-            JsonNode matchingResult = variables.get("matchingResult");
-            
-            if (matchingResult.has("status")) {
-                results.put("Status", matchingResult.get("status").asText());
-            }
-            
-            if (matchingResult.has("customer")) {
-                JsonNode customer = matchingResult.get("customer");
-                if (customer.has("customerName")) {
-                    results.put("Matched Customer", customer.get("customerName").asText());
-                }
-            }
-            
-            if (matchingResult.has("employee")) {
-                JsonNode employee = matchingResult.get("employee");
-                if (employee.has("fullName")) {
-                    results.put("Assigned DRI", employee.get("fullName").asText());
-                }
-                if (employee.has("department")) {
-                    results.put("Department", employee.get("department").asText());
-                }
-            }
-        }
-    }
-    
-    private static void extractCompanyQueryInputs(JsonNode variables, Map<String, Object> inputParams) {
-        if (variables.has("companyName") && !variables.get("companyName").isNull()) {
-            inputParams.put("Company Name", variables.get("companyName").asText());
-        }
-        if (variables.has("industry") && !variables.get("industry").isNull()) {
-            inputParams.put("Industry", variables.get("industry").asText());
-        }
-        if (variables.has("city") && !variables.get("city").isNull()) {
-            inputParams.put("City", variables.get("city").asText());
-        }
-        if (variables.has("revenue") && !variables.get("revenue").isNull()) {
-            inputParams.put("Revenue", variables.get("revenue").asText());
-        }
-    }
-    
-    private static void extractCompanyQueryResults(JsonNode variables, Map<String, Object> results) {
-        if (variables.has("companySearchResult")) {
-            JsonNode searchResult = variables.get("companySearchResult");
-            
-            if (searchResult.has("status")) {
-                results.put("Status", searchResult.get("status").asText());
-            }
-            
-            if (searchResult.has("companies")) {
-                JsonNode companies = searchResult.get("companies");
-                if (companies.isArray()) {
-                    results.put("Companies Found", companies.size());
-                    
-                    // Show first few company names
-                    StringBuilder companyNames = new StringBuilder();
-                    int count = 0;
-                    for (JsonNode company : companies) {
-                        if (count >= 3) {
-                            companyNames.append("...");
-                            break;
-                        }
-                        if (count > 0) companyNames.append(", ");
-                        if (company.has("companyName")) {
-                            companyNames.append(company.get("companyName").asText());
-                        }
-                        count++;
-                    }
-                    if (companyNames.length() > 0) {
-                        results.put("Sample Companies", companyNames.toString());
-                    }
-                }
-            }
-        }
-    }
-    
-    private static void extractEmployeeSearchInputs(JsonNode variables, Map<String, Object> inputParams) {
-        if (variables.has("employeeName")) {
-            inputParams.put("Employee Name", variables.get("employeeName").asText());
-        }
-        if (variables.has("department")) {
-            inputParams.put("Department", variables.get("department").asText());
-        }
-        if (variables.has("jobTitle")) {
-            inputParams.put("Job Title", variables.get("jobTitle").asText());
-        }
-        if (variables.has("exactMatch")) {
-            inputParams.put("Exact Match", variables.get("exactMatch").asBoolean() ? "Yes" : "No");
-        }
-    }
-    
-    private static void extractEmployeeSearchResults(JsonNode variables, Map<String, Object> results) {
-        if (variables.has("employeeSearchResult")) {
-            JsonNode searchResult = variables.get("employeeSearchResult");
-            
-            if (searchResult.has("status")) {
-                results.put("Search Status", searchResult.get("status").asText());
-            }
-            
-            if (searchResult.has("employeeCount")) {
-                results.put("Employees Found", searchResult.get("employeeCount").asInt());
-            }
-            
-            if (searchResult.has("employees")) {
-                JsonNode employees = searchResult.get("employees");
-                if (employees.isArray() && employees.size() > 0) {
-                    // Show first few employee names
-                    StringBuilder employeeNames = new StringBuilder();
-                    int count = 0;
-                    for (JsonNode employee : employees) {
-                        if (count >= 3) {
-                            employeeNames.append("...");
-                            break;
-                        }
-                        if (count > 0) employeeNames.append(", ");
-                        if (employee.has("fullName")) {
-                            employeeNames.append(employee.get("fullName").asText());
-                            if (employee.has("department")) {
-                                employeeNames.append(" (").append(employee.get("department").asText()).append(")");
-                            }
-                        }
-                        count++;
-                    }
-                    if (employeeNames.length() > 0) {
-                        results.put("Sample Employees", employeeNames.toString());
-                    }
-                }
-            }
-        }
-        
-        // Also check for individual employee fields (when single employee found)
-        if (variables.has("employeeName") && variables.get("employeeName").isTextual()) {
-            results.put("Employee Found", variables.get("employeeName").asText());
-        }
-        if (variables.has("employeeTitle") && variables.get("employeeTitle").isTextual()) {
-            results.put("Job Title", variables.get("employeeTitle").asText());
-        }
-        if (variables.has("employeeDepartment") && variables.get("employeeDepartment").isTextual()) {
-            results.put("Department", variables.get("employeeDepartment").asText());
-        }
-    }
 }
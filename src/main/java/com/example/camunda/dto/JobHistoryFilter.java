@@ -0,0 +1,18 @@
+package com.example.camunda.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters of the job history search; any of them may be omitted. The time range includes {@code from}
+ * and excludes {@code to}; {@code minDurationMs} keeps jobs that took at least that long.
+ */
+public record JobHistoryFilter(
+        String jobType,
+        String status,
+        String jobKey,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        Long minDurationMs) {
+}
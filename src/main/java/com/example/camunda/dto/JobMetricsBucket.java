@@ -0,0 +1,22 @@
+package com.example.camunda.dto;
+
+import com.example.camunda.model.JobMetricsRollup;
+
+import java.time.LocalDateTime;
+
+/**
+ * Executions of one job type in one time bucket, as read from the job metrics rollups.
+ */
+public record JobMetricsBucket(
+        LocalDateTime bucketStart,
+        String jobType,
+        String status,
+        long executions,
+        long averageExecutionTimeMs) {
+
+    public static JobMetricsBucket from(JobMetricsRollup rollup) {
+        return new JobMetricsBucket(rollup.getBucketStart(), rollup.getJobType(), rollup.getStatus(),
+                rollup.getExecutions(), rollup.getExecutions() > 0
+                        ? rollup.getExecutionTimeMsSum() / rollup.getExecutions() : 0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.camunda.dto;
+
+/**
+ * Average time of each phase of one job type's executions, in the order the phases run; see
+ * {@link com.example.camunda.service.JobPhaseTimer.Timings}. {@code jobs} counts the executions timed by phase.
+ */
+public record JobPhaseBreakdown(
+        String jobType,
+        long jobs,
+        long brokerWaitMs,
+        long deserializeMs,
+        long searchDbMs,
+        long searchMatchMs,
+        long resultBuildMs,
+        long completeMs) {
+}
@@ -0,0 +1,15 @@
+package com.example.camunda.dto;
+
+/**
+ * Paging and sorting query parameters shared by the catalog listings; any of them may be omitted.
+ */
+public record PageParams(
+        String cursor,
+        Integer limit,
+        String sort,
+        String direction) {
+
+    public static PageParams first(int limit) {
+        return new PageParams(null, limit, null, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.camunda.exception;
+
+/**
+ * Exception thrown when a bulk import job is not found
+ */
+public class ImportJobNotFoundException extends BusinessException {
+    
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+    
+    public ImportJobNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.camunda.exception;
+
+/**
+ * Exception thrown when an in-memory index is queried before it has been built
+ */
+public class IndexNotReadyException extends BusinessException {
+    
+    public IndexNotReadyException(String message) {
+        super(message);
+    }
+    
+    public IndexNotReadyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
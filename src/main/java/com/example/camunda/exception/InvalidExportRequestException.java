@@ -0,0 +1,15 @@
+package com.example.camunda.exception;
+
+/**
+ * Exception thrown when an export is requested in an unsupported format
+ */
+public class InvalidExportRequestException extends BusinessException {
+    
+    public InvalidExportRequestException(String message) {
+        super(message);
+    }
+    
+    public InvalidExportRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
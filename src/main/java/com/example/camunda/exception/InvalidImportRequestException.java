@@ -0,0 +1,15 @@
+package com.example.camunda.exception;
+
+/**
+ * Exception thrown when an import is requested for an unknown table or in an unsupported format
+ */
+public class InvalidImportRequestException extends BusinessException {
+    
+    public InvalidImportRequestException(String message) {
+        super(message);
+    }
+    
+    public InvalidImportRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.camunda.exception;
+
+/**
+ * Exception thrown when job metrics are requested for an unknown granularity or range
+ */
+public class InvalidMetricsRequestException extends BusinessException {
+    
+    public InvalidMetricsRequestException(String message) {
+        super(message);
+    }
+    
+    public InvalidMetricsRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
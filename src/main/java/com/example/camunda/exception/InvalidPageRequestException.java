@@ -0,0 +1,15 @@
+package com.example.camunda.exception;
+
+/**
+ * Exception thrown when a page request names an unknown sort column, an out-of-range limit or a bad cursor
+ */
+public class InvalidPageRequestException extends BusinessException {
+    
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+    
+    public InvalidPageRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.camunda.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * RFC 4180 CSV with a header row taken from the record's component names. Collection-valued components
+ * have no flat representation and are left out.
+ */
+class CsvRowWriter<T extends Record> implements RowWriter<T> {
+
+    private final Writer out;
+    private final RecordComponent[] columns;
+    private boolean headerWritten;
+
+    CsvRowWriter(OutputStream out, Class<T> type) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        this.columns = Arrays.stream(type.getRecordComponents())
+                .filter(column -> !Collection.class.isAssignableFrom(column.getType()))
+                .toArray(RecordComponent[]::new);
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        if (!headerWritten) {
+            writeHeader();
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = value(row, columns[i]);
+            if (value != null) {
+                out.write(escape(value.toString()));
+            }
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (!headerWritten) {
+            writeHeader();
+        }
+        out.flush();
+    }
+
+    private void writeHeader() throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(columns[i].getName());
+        }
+        out.write("\r\n");
+        headerWritten = true;
+    }
+
+    private static Object value(Record row, RecordComponent column) {
+        try {
+            return column.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new UncheckedIOException(new IOException("Cannot read column " + column.getName(), e));
+        }
+    }
+
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.camunda.export;
+
+import com.example.camunda.exception.InvalidExportRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.OutputStream;
+
+/**
+ * The formats catalog tables can be exported in.
+ */
+public enum ExportFormat {
+
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat of(String format) {
+        for (ExportFormat candidate : values()) {
+            if (candidate.extension.equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new InvalidExportRequestException("Unsupported export format '" + format + "'; use ndjson or csv");
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public <T extends Record> RowWriter<T> open(OutputStream out, Class<T> type, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonRowWriter<>(out, objectMapper);
+            case CSV -> new CsvRowWriter<>(out, type);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.camunda.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One JSON object per line, serialized with the application's {@link ObjectMapper}.
+ */
+class NdjsonRowWriter<T> implements RowWriter<T> {
+
+    private final OutputStream out;
+    private final ObjectWriter writer;
+
+    NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) {
+        this.out = new BufferedOutputStream(out, 1 << 16);
+        this.writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        writer.writeValue(out, row);
+        out.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+}
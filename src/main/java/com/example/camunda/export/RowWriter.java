@@ -0,0 +1,32 @@
+package com.example.camunda.export;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes export rows to an output stream one at a time, without holding earlier rows.
+ */
+public interface RowWriter<T> {
+
+    void write(T row) throws IOException;
+
+    /**
+     * Flushes anything buffered; the underlying stream is left open.
+     */
+    void finish() throws IOException;
+
+    /**
+     * Writes every row of the stream as it is produced and finishes; returns the number of rows written.
+     */
+    default long writeAll(Stream<? extends T> rows) throws IOException {
+        long count = 0;
+        Iterator<? extends T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            write(iterator.next());
+            count++;
+        }
+        finish();
+        return count;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.camunda.generator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line mode: {@code java -jar app.jar generate [--catalog.generator.customers=10000000 ...]} writes a
+ * synthetic dataset and exits; the exit code is non-zero if generation failed. The generator never runs as part
+ * of a normal start-up, and runs before data seeding so the sample rows are not added to the dataset.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class GenerateDataCommand implements ApplicationRunner {
+
+    public static final String COMMAND = "generate";
+
+    private final SyntheticDataGenerator generator;
+    private final ConfigurableApplicationContext context;
+
+    public static boolean isGenerateCommand(String... args) {
+        return args.length > 0 && COMMAND.equals(args[0]);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.getNonOptionArgs().isEmpty() || !COMMAND.equals(args.getNonOptionArgs().get(0))) {
+            return;
+        }
+        System.exit(SpringApplication.exit(context, this::generate));
+    }
+
+    int generate() {
+        try {
+            generator.generate();
+            return 0;
+        } catch (RuntimeException e) {
+            log.error("Synthetic data generation failed", e);
+            return 1;
+        }
+    }
+}
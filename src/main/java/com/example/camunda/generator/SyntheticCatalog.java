@@ -0,0 +1,222 @@
+package com.example.camunda.generator;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.model.ExternalCompany;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic catalog rows for load and benchmark datasets. Every row is derived from the seed
+ * and its own position alone, so a dataset can be generated in any order and on any number of threads and
+ * still comes out identical. Names are coined from syllables that spell out the row's index, so no two rows of
+ * a table share a base name at any size; a configurable share of customers and companies reuse an earlier row's
+ * name, and another share carry a single-letter typo. Customers are assigned to employees with a Zipf distribution, so a few
+ * employees are the DRI for many customers and most for only a few.
+ */
+public final class SyntheticCatalog {
+
+    private static final long EMPLOYEE = 1;
+    private static final long CUSTOMER = 2;
+    private static final long COMPANY = 3;
+    private static final long NAME = 4;
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "Daniel", "Nancy", "Matthew", "Betty", "Anthony", "Helen", "Mark", "Sandra", "Steven", "Carol",
+        "Alice", "Bob", "Fiona", "George", "Hannah", "Ian", "Julia", "Oscar", "Rachel", "Victor"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Wilson", "Anderson", "Taylor", "Moore", "Jackson", "Martin", "Lee", "Thompson", "White", "Harris",
+        "Clark", "Lewis", "Walker", "Young", "Allen", "King", "Wright", "Scott", "Hill", "Green",
+        "Cooper", "Reed", "Bailey", "Murphy", "Morgan", "Patel", "Nguyen", "Schmidt", "Weaver", "Grant"
+    };
+
+    // Fifty two-letter syllables, the digits a row index is written in
+    private static final String[] SYLLABLES = {
+        "ba", "be", "bi", "bo", "bu", "da", "de", "di", "do", "du", "fa", "fe", "fi", "fo", "fu",
+        "ka", "ke", "ki", "ko", "ku", "la", "le", "li", "lo", "lu", "ma", "me", "mi", "mo", "mu",
+        "na", "ne", "ni", "no", "nu", "ra", "re", "ri", "ro", "ru", "sa", "se", "si", "so", "su",
+        "ta", "te", "ti", "to", "tu"
+    };
+
+    private static final int MIN_SYLLABLES = 3;
+
+    private static final String[] COMPANY_SUFFIXES = {
+        "Inc", "LLC", "Corp", "Group", "Holdings", "Partners", "Labs", "Systems", "Solutions", "Industries"
+    };
+
+    private static final String[] DEPARTMENTS = {
+        "Engineering", "Sales", "Marketing", "Human Resources", "Finance", "Operations", "Customer Service",
+        "Product Management", "Quality Assurance", "IT Support", "Business Development", "Legal"
+    };
+
+    private static final String[] JOB_TITLES = {
+        "Software Engineer", "Senior Developer", "Product Manager", "Sales Representative", "Account Manager",
+        "Customer Success Manager", "Financial Analyst", "Operations Manager", "Business Analyst", "Technical Lead"
+    };
+
+    private static final String[] STREETS = {
+        "Main St", "Oak Ave", "First St", "Park Ave", "Elm St", "Maple Ave", "Cedar St", "Lake St", "Market St", "Broadway"
+    };
+
+    // City and state pairs, in the address layout the company address parser expects
+    private static final String[][] CITIES = {
+        {"New York", "NY"}, {"Los Angeles", "CA"}, {"Chicago", "IL"}, {"Houston", "TX"}, {"Phoenix", "AZ"},
+        {"Philadelphia", "PA"}, {"San Diego", "CA"}, {"Dallas", "TX"}, {"Austin", "TX"}, {"Seattle", "WA"},
+        {"Denver", "CO"}, {"Boston", "MA"}, {"Nashville", "TN"}, {"Portland", "OR"}, {"Atlanta", "GA"},
+        {"Miami", "FL"}, {"Minneapolis", "MN"}, {"Columbus", "OH"}, {"Charlotte", "NC"}, {"Kansas City", "MO"}
+    };
+
+    private final CatalogProperties.Generator settings;
+
+    public SyntheticCatalog(CatalogProperties.Generator settings) {
+        this.settings = settings;
+    }
+
+    public long id(long index) {
+        return settings.getFirstId() + index;
+    }
+
+    public Employee employee(long index) {
+        SplittableRandom random = random(EMPLOYEE, index);
+        Employee employee = new Employee();
+        employee.setEmployeeId(id(index));
+        employee.setFullName(withTypo(random, pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES)));
+        employee.setJobTitle(pick(random, JOB_TITLES));
+        employee.setDepartment(pick(random, DEPARTMENTS));
+        employee.setPhoneNumber(phoneNumber(random));
+        return employee;
+    }
+
+    public Customer customer(long index) {
+        SplittableRandom random = random(CUSTOMER, index);
+        Customer customer = new Customer();
+        customer.setCustomerId(id(index));
+        customer.setCustomerName(name(random, CUSTOMER, index));
+        customer.setEmployeeId(id(driRank(random)));
+        return customer;
+    }
+
+    public ExternalCompany company(long index) {
+        SplittableRandom random = random(COMPANY, index);
+        ExternalCompany company = new ExternalCompany();
+        company.setCompanyId(id(index));
+        company.setCompanyName(name(random, COMPANY, index));
+        String[] city = pick(random, CITIES);
+        company.setAddress((1 + random.nextInt(9999)) + " " + pick(random, STREETS) + ", " + city[0] + ", "
+                + city[1] + " " + (10000 + random.nextInt(90000)));
+        company.setContactPerson(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES));
+        company.setPhoneNumber(phoneNumber(random));
+        company.deriveLocationFields();
+        return company;
+    }
+
+    /**
+     * The employee index a customer is assigned to: rank {@code r} is drawn with probability proportional to
+     * {@code r^-driSkew}, by inverting the continuous power law over {@code [1, employees + 1)}.
+     */
+    long driRank(SplittableRandom random) {
+        long employees = settings.getEmployees();
+        double skew = settings.getDriSkew();
+        if (skew <= 0) {
+            return random.nextLong(employees);
+        }
+        double u = random.nextDouble();
+        double rank;
+        if (Math.abs(skew - 1) < 1e-9) {
+            rank = Math.pow(employees + 1, u);
+        } else {
+            double exponent = 1 - skew;
+            rank = Math.pow(u * (Math.pow(employees + 1, exponent) - 1) + 1, 1 / exponent);
+        }
+        return Math.min(employees - 1, (long) rank - 1);
+    }
+
+    private String name(SplittableRandom random, long table, long index) {
+        // Duplicates copy an earlier row's name, so each name first appears at its own row
+        long source = index > 0 && random.nextDouble() < settings.getDuplicateNameRate()
+                ? random.nextLong(index)
+                : index;
+        return withTypo(random, baseName(table, source));
+    }
+
+    private String baseName(long table, long index) {
+        SplittableRandom random = random(NAME * 31 + table, index);
+        String word = coinedWord(table, index);
+        if (table == CUSTOMER && random.nextBoolean()) {
+            return pick(random, FIRST_NAMES) + " " + word;
+        }
+        return word + " " + pick(random, COMPANY_SUFFIXES);
+    }
+
+    private String withTypo(SplittableRandom random, String name) {
+        if (random.nextDouble() >= settings.getTypoRate()) {
+            return name;
+        }
+        StringBuilder typo = new StringBuilder(name);
+        // Never touch the first letter, so the name stays non-blank and keeps its initial
+        int at = 1 + random.nextInt(name.length() - 1);
+        switch (random.nextInt(4)) {
+            case 0 -> {
+                if (at < typo.length() - 1) {
+                    char next = typo.charAt(at + 1);
+                    typo.setCharAt(at + 1, typo.charAt(at));
+                    typo.setCharAt(at, next);
+                } else {
+                    typo.deleteCharAt(at);
+                }
+            }
+            case 1 -> typo.deleteCharAt(at);
+            case 2 -> typo.insert(at, typo.charAt(at));
+            default -> typo.setCharAt(at, (char) ('a' + random.nextInt(26)));
+        }
+        return typo.toString().strip();
+    }
+
+    /**
+     * Writes the index in base fifty, least significant syllable first, with every syllable shifted by an
+     * amount derived from the digits before it. Each shift can be undone from the already decoded digits, so
+     * distinct indexes give distinct words, while neighbouring indexes differ in every syllable rather than
+     * only the first. All syllables have two letters, so words of different lengths never collide either.
+     */
+    private String coinedWord(long table, long index) {
+        long salt = mix(settings.getSeed() + (NAME * 31 + table) * 0x9E3779B97F4A7C15L);
+        StringBuilder word = new StringBuilder();
+        long rest = index;
+        long lower = 0;
+        for (int position = 0; rest > 0 || position < MIN_SYLLABLES; position++) {
+            int digit = (int) (rest % SYLLABLES.length);
+            rest /= SYLLABLES.length;
+            int shift = (int) Math.floorMod(mix(salt ^ (lower * 64 + position)), (long) SYLLABLES.length);
+            word.append(SYLLABLES[(digit + shift) % SYLLABLES.length]);
+            lower = lower * SYLLABLES.length + digit;
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    private static String phoneNumber(SplittableRandom random) {
+        return String.format("+1-%03d-%03d-%04d",
+                200 + random.nextInt(800), 200 + random.nextInt(800), 1000 + random.nextInt(9000));
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private SplittableRandom random(long stream, long index) {
+        return new SplittableRandom(mix(mix(settings.getSeed() + stream * 0x9E3779B97F4A7C15L) ^ index));
+    }
+
+    // Stafford's variant 13 of the MurmurHash3 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.camunda.generator;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.model.ExternalCompany;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Writes a {@link SyntheticCatalog} dataset straight to the catalog tables. Each table is cut into batches
+ * of {@code catalog.generator.batch-size} rows that are generated and upserted by ID concurrently, one
+ * transaction per batch; employees are written first, since customers refer to them. Rows bypass the
+ * change log and the search indexes, which pick them up when they are next built at start-up, so the
+ * generator is meant to fill a database that no running instance is serving.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final long PROGRESS_LOG_INTERVAL_MS = 10_000;
+
+    private static final String MERGE_EMPLOYEE = "MERGE INTO employees (employee_id, full_name, job_title, "
+            + "department, phone_number, created_at, updated_at) KEY (employee_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String MERGE_CUSTOMER = "MERGE INTO customers (customer_id, customer_name, employee_id, "
+            + "created_at, updated_at) KEY (customer_id) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String MERGE_COMPANY = "MERGE INTO external_companies (company_id, company_name, address, "
+            + "contact_person, phone_number, street, city, state, zip_code, city_key, created_at, updated_at) "
+            + "KEY (company_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogProperties catalogProperties;
+
+    /**
+     * Rows written per table.
+     */
+    public record Report(long employees, long customers, long companies, long millis) {
+    }
+
+    public Report generate() {
+        CatalogProperties.Generator settings = catalogProperties.getGenerator();
+        if (settings.getCustomers() > 0 && settings.getEmployees() < 1) {
+            throw new IllegalArgumentException("Customers need at least one generated employee to be assigned to");
+        }
+        if (settings.getBatchSize() < 1) {
+            throw new IllegalArgumentException("catalog.generator.batch-size must be positive");
+        }
+        SyntheticCatalog catalog = new SyntheticCatalog(settings);
+        int threads = settings.getThreads() > 0 ? settings.getThreads() : Runtime.getRuntime().availableProcessors();
+        log.info("Generating {} employees, {} customers and {} companies from seed {} with IDs from {} on {} threads",
+                settings.getEmployees(), settings.getCustomers(), settings.getCompanies(), settings.getSeed(),
+                settings.getFirstId(), threads);
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "synthetic-data");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long employees = write(executor, "employees", settings.getEmployees(), catalog::employee,
+                    MERGE_EMPLOYEE, this::setEmployee);
+            long customers = write(executor, "customers", settings.getCustomers(), catalog::customer,
+                    MERGE_CUSTOMER, this::setCustomer);
+            long companies = write(executor, "companies", settings.getCompanies(), catalog::company,
+                    MERGE_COMPANY, this::setCompany);
+            Report report = new Report(employees, customers, companies, System.currentTimeMillis() - start);
+            log.info("Generated {} employees, {} customers and {} companies in {}ms", report.employees(),
+                    report.customers(), report.companies(), report.millis());
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <E> long write(ExecutorService executor, String table, long rows, LongFunction<E> row, String mergeSql,
+                           ParameterizedPreparedStatementSetter<E> parameters) {
+        int batchSize = catalogProperties.getGenerator().getBatchSize();
+        AtomicLong written = new AtomicLong();
+        AtomicLong lastLogged = new AtomicLong(System.currentTimeMillis());
+        List<Future<?>> batches = new ArrayList<>();
+        for (long from = 0; from < rows; from += batchSize) {
+            long first = from;
+            long last = Math.min(rows, from + batchSize);
+            batches.add(executor.submit(() -> {
+                List<E> batch = new ArrayList<>((int) (last - first));
+                for (long index = first; index < last; index++) {
+                    batch.add(row.apply(index));
+                }
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(mergeSql, batch, batch.size(), parameters));
+                long total = written.addAndGet(batch.size());
+                long logged = lastLogged.get();
+                long now = System.currentTimeMillis();
+                if (now - logged >= PROGRESS_LOG_INTERVAL_MS && lastLogged.compareAndSet(logged, now)) {
+                    log.info("Generated {} of {} {}", total, rows, table);
+                }
+            }));
+        }
+        try {
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batches.forEach(batch -> batch.cancel(true));
+            throw new IllegalStateException("Interrupted while generating " + table, e);
+        } catch (ExecutionException e) {
+            batches.forEach(batch -> batch.cancel(true));
+            throw new IllegalStateException("Could not generate " + table + ": " + e.getCause().getMessage(),
+                    e.getCause());
+        }
+        return written.get();
+    }
+
+    private void setEmployee(PreparedStatement statement, Employee employee) throws SQLException {
+        Timestamp now = now();
+        statement.setLong(1, employee.getEmployeeId());
+        statement.setString(2, employee.getFullName());
+        statement.setString(3, employee.getJobTitle());
+        statement.setString(4, employee.getDepartment());
+        statement.setString(5, employee.getPhoneNumber());
+        statement.setTimestamp(6, now);
+        statement.setTimestamp(7, now);
+    }
+
+    private void setCustomer(PreparedStatement statement, Customer customer) throws SQLException {
+        Timestamp now = now();
+        statement.setLong(1, customer.getCustomerId());
+        statement.setString(2, customer.getCustomerName());
+        statement.setLong(3, customer.getEmployeeId());
+        statement.setTimestamp(4, now);
+        statement.setTimestamp(5, now);
+    }
+
+    private void setCompany(PreparedStatement statement, ExternalCompany company) throws SQLException {
+        Timestamp now = now();
+        statement.setLong(1, company.getCompanyId());
+        statement.setString(2, company.getCompanyName());
+        statement.setString(3, company.getAddress());
+        statement.setString(4, company.getContactPerson());
+        statement.setString(5, company.getPhoneNumber());
+        statement.setString(6, company.getStreet());
+        statement.setString(7, company.getCity());
+        statement.setString(8, company.getState());
+        statement.setString(9, company.getZipCode());
+        statement.setString(10, company.getCityKey());
+        statement.setTimestamp(11, now);
+        statement.setTimestamp(12, now);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.camunda.importer;
+
+import com.example.camunda.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command-line mode: {@code java -jar app.jar import <table> <file> [<table> <file> ...]} imports each file
+ * in turn, logs progress and exits; the exit code is non-zero if any import failed. Runs before data seeding,
+ * so an empty database is not filled with sample rows first.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportCommand implements ApplicationRunner {
+
+    public static final String COMMAND = "import";
+
+    private final BulkImportService bulkImportService;
+    private final ConfigurableApplicationContext context;
+
+    public static boolean isImportCommand(String... args) {
+        return args.length > 0 && COMMAND.equals(args[0]);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> arguments = args.getNonOptionArgs();
+        if (arguments.isEmpty() || !COMMAND.equals(arguments.get(0))) {
+            return;
+        }
+        System.exit(SpringApplication.exit(context, () -> importAll(arguments.subList(1, arguments.size()))));
+    }
+
+    int importAll(List<String> arguments) {
+        if (arguments.isEmpty() || arguments.size() % 2 != 0) {
+            log.error("Usage: import <employees|customers|companies> <file.csv|file.ndjson[.gz]> [<table> <file> ...]");
+            return 2;
+        }
+        int exitCode = 0;
+        for (int i = 0; i < arguments.size(); i += 2) {
+            ImportTable table = ImportTable.of(arguments.get(i));
+            Path file = Path.of(arguments.get(i + 1));
+            if (!Files.isReadable(file)) {
+                log.error("Cannot read import file {}", file);
+                return 2;
+            }
+            ImportJob job = bulkImportService.importFile(table, ImportFormat.forFile(file), file);
+            if (job.status() != ImportJob.Status.COMPLETED) {
+                exitCode = 1;
+            }
+            job.progress().errors().forEach(error ->
+                    log.warn("{} line {}: {}", file.getFileName(), error.line(), error.message()));
+        }
+        return exitCode;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.camunda.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV whose header row names the record's components, in any order and case; columns that name no
+ * component are ignored and missing components are left null. Quoted fields may span lines.
+ */
+class CsvRowReader<T extends Record> implements RowReader<T> {
+
+    private final BufferedReader in;
+    private final RecordComponent[] components;
+    private final Constructor<T> constructor;
+    private int[] componentByColumn;
+    private long line;
+    private long recordStart;
+
+    CsvRowReader(InputStream in, Class<T> type) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        this.components = type.getRecordComponents();
+        try {
+            this.constructor = type.getDeclaredConstructor(
+                    Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Record " + type.getName() + " has no canonical constructor", e);
+        }
+    }
+
+    @Override
+    public ImportRow<T> next() throws IOException {
+        if (componentByColumn == null) {
+            List<String> header = readRecord();
+            if (header == null) {
+                return null;
+            }
+            mapHeader(header);
+        }
+        List<String> fields;
+        do {
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+        return bind(recordStart, fields);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void mapHeader(List<String> header) {
+        componentByColumn = new int[header.size()];
+        for (int column = 0; column < header.size(); column++) {
+            componentByColumn[column] = -1;
+            for (int component = 0; component < components.length; component++) {
+                if (components[component].getName().equalsIgnoreCase(header.get(column).trim())) {
+                    componentByColumn[column] = component;
+                }
+            }
+        }
+    }
+
+    private ImportRow<T> bind(long start, List<String> fields) {
+        if (fields.size() != componentByColumn.length) {
+            return ImportRow.rejected(start, "Expected " + componentByColumn.length + " fields but found " + fields.size());
+        }
+        Object[] values = new Object[components.length];
+        for (int column = 0; column < fields.size(); column++) {
+            int component = componentByColumn[column];
+            if (component < 0 || fields.get(column).isEmpty()) {
+                continue;
+            }
+            try {
+                values[component] = convert(fields.get(column), components[component].getType());
+            } catch (NumberFormatException | DateTimeParseException e) {
+                return ImportRow.rejected(start, "Invalid " + components[component].getName()
+                        + " '" + fields.get(column) + "'");
+            }
+        }
+        try {
+            return ImportRow.parsed(start, constructor.newInstance(values));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        }
+        if (type == Long.class) {
+            return Long.valueOf(value.trim());
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value.trim());
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value.trim());
+        }
+        // Collections and other nested values have no flat representation
+        return null;
+    }
+
+    /**
+     * Reads one record, following quoted fields across line breaks; returns null at the end of the input.
+     */
+    private List<String> readRecord() throws IOException {
+        String text = in.readLine();
+        if (text == null) {
+            return null;
+        }
+        recordStart = ++line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == text.length()) {
+                if (!quoted) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                String continuation = in.readLine();
+                if (continuation == null) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                line++;
+                field.append('\n');
+                text = continuation;
+                i = 0;
+                continue;
+            }
+            char c = text.charAt(i++);
+            if (quoted) {
+                if (c == '"' && i < text.length() && text.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.camunda.importer;
+
+import com.example.camunda.exception.InvalidImportRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * The formats catalog tables can be imported from; the same as the export formats, so exports load back as-is.
+ */
+public enum ImportFormat {
+
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public static ImportFormat of(String format) {
+        for (ImportFormat candidate : values()) {
+            if (candidate.extension.equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new InvalidImportRequestException("Unsupported import format '" + format + "'; use ndjson or csv");
+    }
+
+    /**
+     * CSV for a {@code text/csv} body, NDJSON otherwise.
+     */
+    public static ImportFormat forMediaType(MediaType contentType) {
+        return contentType.isCompatibleWith(MediaType.parseMediaType("text/csv")) ? CSV : NDJSON;
+    }
+
+    /**
+     * The format named by a file's extension, looking through a trailing {@code .gz}.
+     */
+    public static ImportFormat forFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        return of(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public <T extends Record> RowReader<T> open(InputStream in, Class<T> type, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonRowReader<>(in, type, objectMapper);
+            case CSV -> new CsvRowReader<>(in, type);
+        };
+    }
+}
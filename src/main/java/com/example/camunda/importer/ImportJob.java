@@ -0,0 +1,116 @@
+package com.example.camunda.importer;
+
+import com.example.camunda.dto.ImportProgress;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one bulk import, updated by the importing thread and read by progress queries.
+ */
+public class ImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final ImportTable table;
+    private final ImportFormat format;
+    private final int maxReportedErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+    private final List<ImportProgress.RowError> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failure;
+
+    public ImportJob(ImportTable table, ImportFormat format, int maxReportedErrors) {
+        this.table = table;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public ImportTable table() {
+        return table;
+    }
+
+    public ImportFormat format() {
+        return format;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public void started() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    public void completed() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void failed(String reason) {
+        failure = reason;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public void read(long rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    public void imported(long rows) {
+        rowsImported.addAndGet(rows);
+        chunks.incrementAndGet();
+    }
+
+    public void rejected(long line, String message) {
+        rowsRejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportProgress.RowError(line, message));
+            }
+        }
+    }
+
+    public long rowsImported() {
+        return rowsImported.get();
+    }
+
+    public long rowsRejected() {
+        return rowsRejected.get();
+    }
+
+    public ImportProgress progress() {
+        LocalDateTime since = startedAt != null ? startedAt : createdAt;
+        LocalDateTime until = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(since, until).toMillis());
+        List<ImportProgress.RowError> reported;
+        synchronized (errors) {
+            reported = List.copyOf(errors);
+        }
+        return new ImportProgress(id, table.path(), format.extension(), status.name(), rowsRead.get(),
+                rowsImported.get(), rowsRejected.get(), chunks.get(), rowsImported.get() * 1000 / millis,
+                since, finishedAt, failure, reported);
+    }
+}
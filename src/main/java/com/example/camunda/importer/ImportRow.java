@@ -0,0 +1,15 @@
+package com.example.camunda.importer;
+
+/**
+ * One parsed input row, or the reason it could not be parsed. {@code line} is the line the row starts on.
+ */
+public record ImportRow<T>(long line, T value, String error) {
+
+    public static <T> ImportRow<T> parsed(long line, T value) {
+        return new ImportRow<>(line, value, null);
+    }
+
+    public static <T> ImportRow<T> rejected(long line, String error) {
+        return new ImportRow<>(line, null, error);
+    }
+}
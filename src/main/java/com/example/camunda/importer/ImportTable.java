@@ -0,0 +1,42 @@
+package com.example.camunda.importer;
+
+import com.example.camunda.dto.CompanyDTO;
+import com.example.camunda.dto.CustomerDTO;
+import com.example.camunda.dto.EmployeeDTO;
+import com.example.camunda.exception.InvalidImportRequestException;
+
+/**
+ * The catalog tables that can be bulk-imported, each read as rows of its API DTO.
+ */
+public enum ImportTable {
+
+    EMPLOYEES("employees", EmployeeDTO.class),
+    CUSTOMERS("customers", CustomerDTO.class),
+    COMPANIES("companies", CompanyDTO.class);
+
+    private final String path;
+    private final Class<? extends Record> rowType;
+
+    ImportTable(String path, Class<? extends Record> rowType) {
+        this.path = path;
+        this.rowType = rowType;
+    }
+
+    public static ImportTable of(String table) {
+        for (ImportTable candidate : values()) {
+            if (candidate.path.equalsIgnoreCase(table)) {
+                return candidate;
+            }
+        }
+        throw new InvalidImportRequestException("Unknown import table '" + table
+                + "'; use employees, customers or companies");
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public Class<? extends Record> rowType() {
+        return rowType;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.camunda.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One JSON object per line, bound with the application's {@link ObjectMapper}; blank lines are skipped.
+ */
+class NdjsonRowReader<T> implements RowReader<T> {
+
+    private final BufferedReader in;
+    private final ObjectReader reader;
+    private long line;
+
+    NdjsonRowReader(InputStream in, Class<T> type, ObjectMapper objectMapper) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        this.reader = objectMapper.readerFor(type);
+    }
+
+    @Override
+    public ImportRow<T> next() throws IOException {
+        String text;
+        do {
+            text = in.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+        try {
+            return ImportRow.parsed(line, reader.readValue(text));
+        } catch (JsonProcessingException e) {
+            return ImportRow.rejected(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.camunda.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads import rows from an input stream one at a time, without holding earlier rows.
+ */
+public interface RowReader<T> extends Closeable {
+
+    /**
+     * The next row, or null at the end of the input. Malformed rows are returned as rejected rather than thrown.
+     */
+    ImportRow<T> next() throws IOException;
+}
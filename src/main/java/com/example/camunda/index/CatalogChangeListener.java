@@ -0,0 +1,54 @@
+package com.example.camunda.index;
+
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.model.ExternalCompany;
+
+import java.util.List;
+
+/**
+ * Receives catalog writes so in-memory indexes can stay in sync with the database.
+ * Implementations override only the entity types they index. Bulk writes arrive a chunk at a time
+ * through the list variants, which implementations may override to take their lock once per chunk.
+ */
+public interface CatalogChangeListener {
+
+    default void rebuildEmployees(List<Employee> employees) {
+    }
+
+    default void rebuildCustomers(List<Customer> customers) {
+    }
+
+    default void rebuildCompanies(List<ExternalCompany> companies) {
+    }
+
+    default void onEmployeeSaved(Employee employee) {
+    }
+
+    default void onEmployeeDeleted(Long employeeId) {
+    }
+
+    default void onCustomerSaved(Customer customer) {
+    }
+
+    default void onCustomerDeleted(Long customerId) {
+    }
+
+    default void onCompanySaved(ExternalCompany company) {
+    }
+
+    default void onCompanyDeleted(Long companyId) {
+    }
+
+    default void onEmployeesSaved(List<Employee> employees) {
+        employees.forEach(this::onEmployeeSaved);
+    }
+
+    default void onCustomersSaved(List<Customer> customers) {
+        customers.forEach(this::onCustomerSaved);
+    }
+
+    default void onCompaniesSaved(List<ExternalCompany> companies) {
+        companies.forEach(this::onCompanySaved);
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.camunda.index;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.model.EntityChangeLog;
+import com.example.camunda.model.EntityChangeLog.EntityType;
+import com.example.camunda.model.EntityChangeLog.Operation;
+import com.example.camunda.model.ExternalCompany;
+import com.example.camunda.readmodel.CatalogSnapshotFile;
+import com.example.camunda.readmodel.CatalogSnapshotStore;
+import com.example.camunda.readmodel.CompanyRecord;
+import com.example.camunda.readmodel.CustomerRecord;
+import com.example.camunda.readmodel.EmployeeRecord;
+import com.example.camunda.repository.CustomerRepository;
+import com.example.camunda.repository.EmployeeRepository;
+import com.example.camunda.repository.EntityChangeLogRepository;
+import com.example.camunda.repository.ExternalCompanyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Builds all catalog indexes once the application is ready (after data seeding)
+ * and forwards service writes to them once the surrounding transaction commits.
+ * When a catalog snapshot file is available, start-up loads it and replays only the rows named in the
+ * change log after the snapshot's stamp, instead of reading every row through JPA.
+ * Writes are also recorded in the entity change log so other replicas can follow them
+ * (see {@link ChangeLogPoller}).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogIndexManager {
+
+    private final List<CatalogChangeListener> listeners;
+    private final EmployeeRepository employeeRepository;
+    private final CustomerRepository customerRepository;
+    private final ExternalCompanyRepository companyRepository;
+    private final CatalogSnapshotStore snapshotStore;
+    private final CatalogProperties catalogProperties;
+    private final EntityChangeLogRepository changeLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private volatile boolean built;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+
+        List<Employee> employees;
+        List<Customer> customers;
+        List<ExternalCompany> companies;
+        Optional<CatalogSnapshotFile.Contents> saved = snapshotStore.load();
+        if (saved.isPresent()) {
+            CatalogSnapshotFile.Contents contents = saved.get();
+            long after = contents.changeLogId();
+            employees = replay(contents.employees(), EmployeeRecord::toEntity, Employee::getEmployeeId,
+                    employeeRepository.findAllIds(),
+                    changeLogRepository.findEntityIdsChangedAfter(EntityType.EMPLOYEE, after),
+                    employeeRepository::findAllById);
+            customers = replay(contents.customers(), CustomerRecord::toEntity, Customer::getCustomerId,
+                    customerRepository.findAllIds(),
+                    changeLogRepository.findEntityIdsChangedAfter(EntityType.CUSTOMER, after),
+                    customerRepository::findAllById);
+            companies = replay(contents.companies(), CompanyRecord::toEntity, ExternalCompany::getCompanyId,
+                    companyRepository.findAllIds(),
+                    changeLogRepository.findEntityIdsChangedAfter(EntityType.COMPANY, after),
+                    companyRepository::findAllById);
+            log.info("Warm-started the catalog from a snapshot saved at {}, replaying change log entries after {}",
+                    contents.savedAt(), after);
+        } else {
+            employees = employeeRepository.findAll();
+            customers = customerRepository.findAll();
+            companies = companyRepository.findAll();
+        }
+
+        for (CatalogChangeListener listener : listeners) {
+            listener.rebuildEmployees(employees);
+            listener.rebuildCustomers(customers);
+            listener.rebuildCompanies(companies);
+        }
+
+        log.info("Built {} catalog indexes from {} employees, {} customers, {} companies in {}ms",
+                listeners.size(), employees.size(), customers.size(), companies.size(),
+                System.currentTimeMillis() - start);
+
+        built = true;
+        snapshotStore.save();
+    }
+
+    /**
+     * Identifies this replica's entries in the change log.
+     */
+    public String origin() {
+        return origin;
+    }
+
+    public boolean isBuilt() {
+        return built;
+    }
+
+    public void employeeSaved(Employee employee) {
+        recordChange(EntityType.EMPLOYEE, employee.getEmployeeId(), Operation.SAVED);
+        afterCommit(listener -> listener.onEmployeeSaved(employee));
+    }
+
+    public void employeeDeleted(Long employeeId) {
+        recordChange(EntityType.EMPLOYEE, employeeId, Operation.DELETED);
+        afterCommit(listener -> listener.onEmployeeDeleted(employeeId));
+    }
+
+    public void customerSaved(Customer customer) {
+        recordChange(EntityType.CUSTOMER, customer.getCustomerId(), Operation.SAVED);
+        afterCommit(listener -> listener.onCustomerSaved(customer));
+    }
+
+    public void customerDeleted(Long customerId) {
+        recordChange(EntityType.CUSTOMER, customerId, Operation.DELETED);
+        afterCommit(listener -> listener.onCustomerDeleted(customerId));
+    }
+
+    public void companySaved(ExternalCompany company) {
+        recordChange(EntityType.COMPANY, company.getCompanyId(), Operation.SAVED);
+        afterCommit(listener -> listener.onCompanySaved(company));
+    }
+
+    public void companyDeleted(Long companyId) {
+        recordChange(EntityType.COMPANY, companyId, Operation.DELETED);
+        afterCommit(listener -> listener.onCompanyDeleted(companyId));
+    }
+
+    /**
+     * A chunk of bulk-imported employees: the change log rows are inserted in one JDBC batch and
+     * each index applies the whole chunk at once after commit.
+     */
+    public void employeesSaved(List<Employee> employees) {
+        recordChanges(EntityType.EMPLOYEE, employees.stream().map(Employee::getEmployeeId).toList());
+        afterCommit(listener -> listener.onEmployeesSaved(employees));
+    }
+
+    public void customersSaved(List<Customer> customers) {
+        recordChanges(EntityType.CUSTOMER, customers.stream().map(Customer::getCustomerId).toList());
+        afterCommit(listener -> listener.onCustomersSaved(customers));
+    }
+
+    public void companiesSaved(List<ExternalCompany> companies) {
+        recordChanges(EntityType.COMPANY, companies.stream().map(ExternalCompany::getCompanyId).toList());
+        afterCommit(listener -> listener.onCompaniesSaved(companies));
+    }
+
+    /**
+     * Indexes only reflect committed writes, so a caller inside a write transaction
+     * has to read from the database to see its own changes.
+     */
+    public static boolean isWriteTransactionActive() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Brings saved rows up to date: drops IDs no longer in the table, then re-reads the rows the change log
+     * names after the snapshot together with any IDs the snapshot has never seen (e.g. rows written by the
+     * generator, which bypasses the change log, or after a database restore).
+     */
+    private static <R, E> List<E> replay(List<R> saved, Function<R, E> toEntity, Function<E, Long> idOf,
+                                         List<Long> currentIds, List<Long> changedIds,
+                                         Function<Collection<Long>, List<E>> fetch) {
+        Map<Long, E> byId = new LinkedHashMap<>();
+        saved.forEach(record -> {
+            E entity = toEntity.apply(record);
+            byId.put(idOf.apply(entity), entity);
+        });
+        Set<Long> live = new HashSet<>(currentIds);
+        byId.keySet().retainAll(live);
+
+        Set<Long> stale = new HashSet<>(changedIds);
+        stale.retainAll(live);
+        for (Long id : live) {
+            if (!byId.containsKey(id)) {
+                stale.add(id);
+            }
+        }
+        if (!stale.isEmpty()) {
+            fetch.apply(stale).forEach(entity -> byId.put(idOf.apply(entity), entity));
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    /**
+     * Appends to the change log inside the caller's transaction, so the entry commits or rolls back with the write.
+     */
+    private void recordChange(EntityType entityType, Long entityId, Operation operation) {
+        if (catalogProperties.getChangeLog().isEnabled() && entityId != null) {
+            changeLogRepository.save(new EntityChangeLog(entityType, entityId, operation, origin));
+        }
+    }
+
+    private void recordChanges(EntityType entityType, List<Long> entityIds) {
+        if (!catalogProperties.getChangeLog().isEnabled() || entityIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO entity_change_log (entity_type, entity_id, operation, origin, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)", entityIds, entityIds.size(), (statement, entityId) -> {
+            statement.setString(1, entityType.name());
+            statement.setLong(2, entityId);
+            statement.setString(3, Operation.SAVED.name());
+            statement.setString(4, origin);
+            statement.setTimestamp(5, now);
+        });
+    }
+
+    private void afterCommit(Consumer<CatalogChangeListener> change) {
+        Runnable apply = () -> listeners.forEach(change);
+
+        // Rolled-back writes must never reach the indexes
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.camunda.index;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.model.EntityChangeLog;
+import com.example.camunda.model.ExternalCompany;
+import com.example.camunda.readmodel.CatalogSnapshotStore;
+import com.example.camunda.repository.CustomerRepository;
+import com.example.camunda.repository.EmployeeRepository;
+import com.example.camunda.repository.EntityChangeLogRepository;
+import com.example.camunda.repository.ExternalCompanyRepository;
+import com.example.camunda.replica.ReadCopyRefresher;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Follows the entity change log and applies other replicas' catalog writes to the local indexes, in ID order.
+ * Each entry refreshes the entity from its current database row (or removes it if the row is gone), so
+ * re-applying or reordering entries is harmless. IDs skipped by the cursor may belong to transactions that
+ * have not committed yet; they are re-checked until {@code catalog.change-log.gap-timeout} has passed.
+ * The position reported to the {@link CatalogSnapshotStore} stops short of the oldest such ID, so a snapshot
+ * replays every entry that was still in flight when it was taken.
+ * On a replica the read copy is brought up to date first, since the refreshed rows are read from it;
+ * the entities' second-level cache entries and all cached query results are evicted before the reload.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeLogPoller {
+
+    // Larger jumps come from identity caching rather than in-flight transactions
+    private static final int MAX_TRACKED_GAP = 1_000;
+
+    private final List<CatalogChangeListener> listeners;
+    private final CatalogIndexManager catalogIndexManager;
+    private final EntityChangeLogRepository changeLogRepository;
+    private final EmployeeRepository employeeRepository;
+    private final CustomerRepository customerRepository;
+    private final ExternalCompanyRepository companyRepository;
+    private final CatalogProperties catalogProperties;
+    private final CatalogSnapshotStore snapshotStore;
+    private final Optional<ReadCopyRefresher> readCopy;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<Long, Instant> gaps = new LinkedHashMap<>();
+
+    private volatile long cursor = -1;
+
+    /**
+     * Starts following the log from its current end; runs before the indexes are built so that
+     * no change committed during the build is missed. IDs missing among the entries created within the
+     * gap timeout may belong to transactions still in flight, which the build cannot see yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void start() {
+        if (!catalogProperties.getChangeLog().isEnabled()) {
+            return;
+        }
+        cursor = changeLogRepository.findTopByOrderByIdDesc().map(EntityChangeLog::getId).orElse(0L);
+        List<Long> recent = changeLogRepository.findIdsCreatedSince(
+                LocalDateTime.now().minus(catalogProperties.getChangeLog().getGapTimeout()));
+        Instant now = Instant.now();
+        for (int i = 1; i < recent.size(); i++) {
+            trackGaps(recent.get(i - 1) + 1, recent.get(i), now);
+        }
+        snapshotStore.caughtUp(position());
+        log.info("Following the entity change log after entry {}", cursor);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.change-log.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!catalogProperties.getChangeLog().isEnabled() || cursor < 0 || !catalogIndexManager.isBuilt()) {
+            return;
+        }
+        List<EntityChangeLog> entries = new ArrayList<>(recheckGaps());
+        List<EntityChangeLog> next = changeLogRepository.findByIdGreaterThanOrderByIdAsc(cursor,
+                PageRequest.of(0, catalogProperties.getChangeLog().getBatchSize()));
+        Instant now = Instant.now();
+        long expected = cursor + 1;
+        for (EntityChangeLog entry : next) {
+            trackGaps(expected, entry.getId(), now);
+            expected = entry.getId() + 1;
+        }
+        entries.addAll(next);
+
+        readCopy.ifPresent(copy -> copy.apply(entries));
+        int applied = apply(entries);
+        if (!next.isEmpty()) {
+            cursor = next.get(next.size() - 1).getId();
+        }
+        snapshotStore.caughtUp(position());
+        if (applied > 0) {
+            log.debug("Applied {} change log entries from other replicas; cursor at {}", applied, cursor);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000) // Prune hourly
+    public void prune() {
+        if (!catalogProperties.getChangeLog().isEnabled()) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minus(catalogProperties.getChangeLog().getRetention());
+        int deleted = changeLogRepository.deleteCreatedBefore(before);
+        if (deleted > 0) {
+            log.debug("Pruned {} change log entries created before {}", deleted, before);
+        }
+    }
+
+    long cursor() {
+        return cursor;
+    }
+
+    /**
+     * The last entry up to which every entry has been applied: the cursor, or just before the oldest
+     * skipped ID that may still commit.
+     */
+    synchronized long position() {
+        return gaps.keySet().stream().min(Long::compare).map(id -> id - 1).orElse(cursor);
+    }
+
+    private void trackGaps(long from, long to, Instant seen) {
+        if (to - from <= MAX_TRACKED_GAP) {
+            for (long id = from; id < to; id++) {
+                gaps.put(id, seen);
+            }
+        }
+    }
+
+    private List<EntityChangeLog> recheckGaps() {
+        if (gaps.isEmpty()) {
+            return List.of();
+        }
+        List<EntityChangeLog> found = changeLogRepository.findAllById(new ArrayList<>(gaps.keySet()));
+        found.forEach(entry -> gaps.remove(entry.getId()));
+
+        Instant expired = Instant.now().minus(catalogProperties.getChangeLog().getGapTimeout());
+        Iterator<Instant> seen = gaps.values().iterator();
+        while (seen.hasNext()) {
+            if (seen.next().isBefore(expired)) {
+                seen.remove();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Refreshes each entity touched by another replica once, however many entries it has in this batch.
+     * Each entity type is loaded with one query and applied through the listeners' list variants;
+     * IDs whose rows are gone are deleted.
+     */
+    private int apply(List<EntityChangeLog> entries) {
+        Map<EntityChangeLog.EntityType, Set<Long>> changed = new EnumMap<>(EntityChangeLog.EntityType.class);
+        for (EntityChangeLog entry : entries) {
+            if (!catalogIndexManager.origin().equals(entry.getOrigin())) {
+                changed.computeIfAbsent(entry.getEntityType(), type -> new LinkedHashSet<>()).add(entry.getEntityId());
+            }
+        }
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        Cache secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        secondLevelCache.evictQueryRegions();
+        changed.forEach((entityType, ids) ->
+                ids.forEach(id -> secondLevelCache.evictEntityData(entityClass(entityType), id)));
+
+        refresh(changed.get(EntityChangeLog.EntityType.EMPLOYEE), employeeRepository::findAllById,
+                Employee::getEmployeeId, CatalogChangeListener::onEmployeesSaved,
+                CatalogChangeListener::onEmployeeDeleted);
+        refresh(changed.get(EntityChangeLog.EntityType.CUSTOMER), customerRepository::findAllById,
+                Customer::getCustomerId, CatalogChangeListener::onCustomersSaved,
+                CatalogChangeListener::onCustomerDeleted);
+        refresh(changed.get(EntityChangeLog.EntityType.COMPANY), companyRepository::findAllById,
+                ExternalCompany::getCompanyId, CatalogChangeListener::onCompaniesSaved,
+                CatalogChangeListener::onCompanyDeleted);
+        return changed.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private static Class<?> entityClass(EntityChangeLog.EntityType entityType) {
+        return switch (entityType) {
+            case EMPLOYEE -> Employee.class;
+            case CUSTOMER -> Customer.class;
+            case COMPANY -> ExternalCompany.class;
+        };
+    }
+
+    private <E> void refresh(Set<Long> ids, Function<Collection<Long>, List<E>> load, Function<E, Long> idOf,
+                             BiConsumer<CatalogChangeListener, List<E>> saved,
+                             BiConsumer<CatalogChangeListener, Long> deleted) {
+        if (ids == null) {
+            return;
+        }
+        List<E> current = load.apply(ids);
+        Set<Long> gone = new LinkedHashSet<>(ids);
+        current.forEach(entity -> gone.remove(idOf.apply(entity)));
+        if (!current.isEmpty()) {
+            listeners.forEach(listener -> saved.accept(listener, current));
+        }
+        for (Long id : gone) {
+            listeners.forEach(listener -> deleted.accept(listener, id));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.camunda.index;
+
+import com.example.camunda.dto.FacetCountsDTO;
+import com.example.camunda.model.ExternalCompany;
+import com.example.camunda.util.AddressParser;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap index over the city and state parsed from company addresses, used for facet counts.
+ */
+@Component
+@Slf4j
+public class CompanyBitmapIndex implements CatalogChangeListener {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RowIdMapping rows = new RowIdMapping();
+
+    private final DictionaryBitmapIndex cities = new DictionaryBitmapIndex();
+    private final DictionaryBitmapIndex states = new DictionaryBitmapIndex();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Company counts per city and per state among companies matching the exact filters.
+     */
+    public FacetCountsDTO facetCounts(String city, String state) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap scope = rows.liveRows();
+            Map<String, String> filters = new LinkedHashMap<>();
+            if (DictionaryBitmapIndex.normalize(city) != null) {
+                scope.and(cities.rowsEqualTo(city));
+                filters.put("city", city.trim());
+            }
+            if (DictionaryBitmapIndex.normalize(state) != null) {
+                scope.and(states.rowsEqualTo(state));
+                filters.put("state", state.trim());
+            }
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put("city", cities.countsWithin(scope));
+            facets.put("state", states.countsWithin(scope));
+            return new FacetCountsDTO(scope.getCardinality(), filters, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuildCompanies(List<ExternalCompany> companies) {
+        lock.writeLock().lock();
+        try {
+            rows.clear();
+            cities.clear();
+            states.clear();
+            companies.forEach(this::index);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Company bitmap index built for {} companies", companies.size());
+    }
+
+    @Override
+    public void onCompanySaved(ExternalCompany company) {
+        lock.writeLock().lock();
+        try {
+            index(company);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCompaniesSaved(List<ExternalCompany> companies) {
+        lock.writeLock().lock();
+        try {
+            companies.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCompanyDeleted(Long companyId) {
+        lock.writeLock().lock();
+        try {
+            int row = rows.release(companyId);
+            if (row >= 0) {
+                cities.remove(row);
+                states.remove(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(ExternalCompany company) {
+        if (company.getCompanyId() == null) {
+            return;
+        }
+        // Parse here rather than trusting the derived columns, which are only set once Hibernate flushes
+        AddressParser.ParsedAddress location = AddressParser.parse(company.getAddress());
+        int row = rows.acquire(company.getCompanyId());
+        cities.set(row, location.city());
+        states.set(row, location.state());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.camunda.index;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Dictionary-encodes a low-cardinality text column and keeps one compressed bitmap of row IDs per value.
+ * Values are compared case-insensitively. Not thread-safe; callers guard access.
+ */
+public class DictionaryBitmapIndex {
+
+    private static final int NO_VALUE = -1;
+
+    private final Map<String, Integer> codesByKey = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+    private final List<String> displayValues = new ArrayList<>();
+    private final List<RoaringBitmap> bitmaps = new ArrayList<>();
+    private int[] codesByRow = new int[0];
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String key = value.trim().toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    public void set(int row, String value) {
+        remove(row);
+        String key = normalize(value);
+        if (key == null) {
+            return;
+        }
+
+        Integer code = codesByKey.get(key);
+        if (code == null) {
+            code = keys.size();
+            codesByKey.put(key, code);
+            keys.add(key);
+            displayValues.add(value.trim());
+            bitmaps.add(new RoaringBitmap());
+        }
+
+        ensureCapacity(row);
+        codesByRow[row] = code;
+        bitmaps.get(code).add(row);
+    }
+
+    public void remove(int row) {
+        if (row < codesByRow.length && codesByRow[row] != NO_VALUE) {
+            bitmaps.get(codesByRow[row]).remove(row);
+            codesByRow[row] = NO_VALUE;
+        }
+    }
+
+    public void clear() {
+        codesByKey.clear();
+        keys.clear();
+        displayValues.clear();
+        bitmaps.clear();
+        codesByRow = new int[0];
+    }
+
+    /**
+     * Rows whose value equals the given one, ignoring case.
+     */
+    public RoaringBitmap rowsEqualTo(String value) {
+        Integer code = codesByKey.get(normalize(value));
+        return code == null ? new RoaringBitmap() : bitmaps.get(code).clone();
+    }
+
+    /**
+     * Union of the rows of every dictionary value whose lower-cased key satisfies the predicate.
+     * The predicate runs once per distinct value, not once per row.
+     */
+    public RoaringBitmap rowsMatching(Predicate<String> keyPredicate) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (int code = 0; code < keys.size(); code++) {
+            if (keyPredicate.test(keys.get(code))) {
+                result.or(bitmaps.get(code));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of rows per value within {@code scope}, largest first, omitting values with no rows.
+     * Each count is a bitmap intersection cardinality, so no rows are visited.
+     */
+    public Map<String, Integer> countsWithin(RoaringBitmap scope) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        for (int code = 0; code < keys.size(); code++) {
+            int count = RoaringBitmap.andCardinality(bitmaps.get(code), scope);
+            if (count > 0) {
+                counts.add(Map.entry(displayValues.get(code), count));
+            }
+        }
+        counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        counts.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private void ensureCapacity(int row) {
+        if (row >= codesByRow.length) {
+            int oldLength = codesByRow.length;
+            codesByRow = Arrays.copyOf(codesByRow, Math.max(row + 1, oldLength * 2));
+            Arrays.fill(codesByRow, oldLength, codesByRow.length, NO_VALUE);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.camunda.index;
+
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.readmodel.EmployeeRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Resolves a customer's DRI (directly responsible individual) with primitive ID lookups:
+ * customerId to employeeId through an open-addressing long map, then employeeId to an
+ * employee record slot. Lookups allocate nothing and never touch the database.
+ */
+@Component
+@Slf4j
+public class DriLookupIndex implements CatalogChangeListener {
+
+    public static final long NO_EMPLOYEE = -1L;
+
+    private static final long NO_ROW = -1L;
+
+    private final StampedLock lock = new StampedLock();
+
+    private final LongLongHashMap employeeIdsByCustomer = new LongLongHashMap(256, NO_EMPLOYEE);
+    private final LongLongHashMap rowsByEmployee = new LongLongHashMap(64, NO_ROW);
+    private EmployeeRecord[] employees = new EmployeeRecord[64];
+    private int[] freeRows = new int[0];
+    private int freeRowCount;
+    private int nextRow;
+
+    private volatile boolean customersLoaded;
+    private volatile boolean employeesLoaded;
+
+    public boolean isReady() {
+        return customersLoaded && employeesLoaded;
+    }
+
+    /**
+     * The employee ID assigned to the customer, or {@link #NO_EMPLOYEE}.
+     */
+    public long employeeIdOf(long customerId) {
+        long stamp = lock.readLock();
+        try {
+            return employeeIdsByCustomer.get(customerId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * The employee with the given ID, or null if unknown.
+     */
+    public EmployeeRecord employee(long employeeId) {
+        long stamp = lock.readLock();
+        try {
+            return employeeAt(rowsByEmployee.get(employeeId));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * The employee assigned to the customer, or null if either is unknown.
+     */
+    public EmployeeRecord driOf(long customerId) {
+        long stamp = lock.readLock();
+        try {
+            long employeeId = employeeIdsByCustomer.get(customerId);
+            return employeeId == NO_EMPLOYEE ? null : employeeAt(rowsByEmployee.get(employeeId));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void rebuildCustomers(List<Customer> customers) {
+        long stamp = lock.writeLock();
+        try {
+            employeeIdsByCustomer.clear();
+            customers.forEach(this::assign);
+            customersLoaded = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        log.debug("DRI index loaded {} customer assignments", customers.size());
+    }
+
+    @Override
+    public void rebuildEmployees(List<Employee> employees) {
+        long stamp = lock.writeLock();
+        try {
+            rowsByEmployee.clear();
+            this.employees = new EmployeeRecord[Math.max(64, employees.size())];
+            freeRowCount = 0;
+            nextRow = 0;
+            employees.forEach(this::store);
+            employeesLoaded = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        log.debug("DRI index loaded {} employees", employees.size());
+    }
+
+    @Override
+    public void onCustomerSaved(Customer customer) {
+        long stamp = lock.writeLock();
+        try {
+            assign(customer);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void onCustomersSaved(List<Customer> customers) {
+        long stamp = lock.writeLock();
+        try {
+            customers.forEach(this::assign);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void onCustomerDeleted(Long customerId) {
+        long stamp = lock.writeLock();
+        try {
+            employeeIdsByCustomer.remove(customerId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void onEmployeeSaved(Employee employee) {
+        long stamp = lock.writeLock();
+        try {
+            store(employee);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void onEmployeesSaved(List<Employee> employees) {
+        long stamp = lock.writeLock();
+        try {
+            employees.forEach(this::store);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void onEmployeeDeleted(Long employeeId) {
+        long stamp = lock.writeLock();
+        try {
+            long row = rowsByEmployee.get(employeeId);
+            if (row != NO_ROW) {
+                rowsByEmployee.remove(employeeId);
+                employees[(int) row] = null;
+                if (freeRowCount == freeRows.length) {
+                    freeRows = Arrays.copyOf(freeRows, Math.max(16, freeRowCount * 2));
+                }
+                freeRows[freeRowCount++] = (int) row;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void assign(Customer customer) {
+        if (customer.getCustomerId() == null) {
+            return;
+        }
+        if (customer.getEmployeeId() == null) {
+            employeeIdsByCustomer.remove(customer.getCustomerId());
+        } else {
+            employeeIdsByCustomer.put(customer.getCustomerId(), customer.getEmployeeId());
+        }
+    }
+
+    private void store(Employee employee) {
+        if (employee.getEmployeeId() == null) {
+            return;
+        }
+        long row = rowsByEmployee.get(employee.getEmployeeId());
+        if (row == NO_ROW) {
+            row = freeRowCount > 0 ? freeRows[--freeRowCount] : nextRow++;
+            if (row >= employees.length) {
+                employees = Arrays.copyOf(employees, employees.length * 2);
+            }
+            rowsByEmployee.put(employee.getEmployeeId(), row);
+        }
+        employees[(int) row] = EmployeeRecord.from(employee);
+    }
+
+    private EmployeeRecord employeeAt(long row) {
+        return row == NO_ROW ? null : employees[(int) row];
+    }
+}
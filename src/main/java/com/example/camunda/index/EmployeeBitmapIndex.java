@@ -0,0 +1,163 @@
+package com.example.camunda.index;
+
+import com.example.camunda.dto.FacetCountsDTO;
+import com.example.camunda.model.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Bitmap index over the employee department and job title columns.
+ * Each employee gets a dense row number; filters become bitmap intersections (AND)
+ * or unions (OR) and only the surviving employee IDs are loaded from the database.
+ */
+@Component
+@Slf4j
+public class EmployeeBitmapIndex implements CatalogChangeListener {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RowIdMapping rows = new RowIdMapping();
+
+    private final DictionaryBitmapIndex departments = new DictionaryBitmapIndex();
+    private final DictionaryBitmapIndex jobTitles = new DictionaryBitmapIndex();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Employees whose department equals {@code department} (ignoring case) and whose job title
+     * contains {@code jobTitleFragment}. A null criterion does not restrict the result.
+     */
+    public long[] findEmployeeIds(String department, String jobTitleFragment) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = rows.liveRows();
+            if (department != null) {
+                matches.and(departments.rowsEqualTo(department));
+            }
+            String fragment = DictionaryBitmapIndex.normalize(jobTitleFragment);
+            if (fragment != null) {
+                matches.and(jobTitles.rowsMatching(title -> title.contains(fragment)));
+            }
+            return rows.toIds(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Employees whose department or job title satisfies the given predicate.
+     * Predicates receive lower-cased values and run once per distinct value; a null predicate is skipped.
+     */
+    public long[] findEmployeeIdsMatchingAny(Predicate<String> departmentMatcher, Predicate<String> jobTitleMatcher) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = new RoaringBitmap();
+            if (departmentMatcher != null) {
+                matches.or(departments.rowsMatching(departmentMatcher));
+            }
+            if (jobTitleMatcher != null) {
+                matches.or(jobTitles.rowsMatching(jobTitleMatcher));
+            }
+            matches.and(rows.liveRows());
+            return rows.toIds(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Employee counts per department and per job title among employees matching the exact filters.
+     */
+    public FacetCountsDTO facetCounts(String department, String jobTitle) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap scope = rows.liveRows();
+            Map<String, String> filters = new LinkedHashMap<>();
+            if (DictionaryBitmapIndex.normalize(department) != null) {
+                scope.and(departments.rowsEqualTo(department));
+                filters.put("department", department.trim());
+            }
+            if (DictionaryBitmapIndex.normalize(jobTitle) != null) {
+                scope.and(jobTitles.rowsEqualTo(jobTitle));
+                filters.put("jobTitle", jobTitle.trim());
+            }
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put("department", departments.countsWithin(scope));
+            facets.put("jobTitle", jobTitles.countsWithin(scope));
+            return new FacetCountsDTO(scope.getCardinality(), filters, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuildEmployees(List<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            rows.clear();
+            departments.clear();
+            jobTitles.clear();
+            employees.forEach(this::index);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Employee bitmap index built for {} employees", employees.size());
+    }
+
+    @Override
+    public void onEmployeeSaved(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            index(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEmployeesSaved(List<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            employees.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEmployeeDeleted(Long employeeId) {
+        lock.writeLock().lock();
+        try {
+            int row = rows.release(employeeId);
+            if (row >= 0) {
+                departments.remove(row);
+                jobTitles.remove(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Employee employee) {
+        if (employee.getEmployeeId() == null) {
+            return;
+        }
+        int row = rows.acquire(employee.getEmployeeId());
+        departments.set(row, employee.getDepartment());
+        jobTitles.set(row, employee.getJobTitle());
+    }
+}
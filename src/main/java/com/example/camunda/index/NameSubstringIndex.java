@@ -0,0 +1,165 @@
+package com.example.camunda.index;
+
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case-insensitive "name contains" lookups for customers and employees,
+ * answered from suffix arrays instead of scanning every row.
+ */
+@Component
+@Slf4j
+public class NameSubstringIndex implements CatalogChangeListener {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final SegmentedSuffixIndex customerNames = new SegmentedSuffixIndex();
+    private final SegmentedSuffixIndex employeeNames = new SegmentedSuffixIndex();
+
+    private volatile boolean customersReady;
+    private volatile boolean employeesReady;
+
+    public boolean isReady() {
+        return customersReady && employeesReady;
+    }
+
+    /**
+     * IDs of customers whose name contains {@code fragment} ignoring case, in ascending order.
+     */
+    public long[] findCustomerIds(String fragment) {
+        return find(customerNames, fragment);
+    }
+
+    /**
+     * IDs of employees whose full name contains {@code fragment} ignoring case, in ascending order.
+     */
+    public long[] findEmployeeIds(String fragment) {
+        return find(employeeNames, fragment);
+    }
+
+    @Override
+    public void rebuildCustomers(List<Customer> customers) {
+        Map<Long, String> names = new LinkedHashMap<>();
+        customers.forEach(customer -> names.put(customer.getCustomerId(), normalize(customer.getCustomerName())));
+        rebuild(customerNames, names);
+        customersReady = true;
+        log.debug("Customer name index built for {} customers", customers.size());
+    }
+
+    @Override
+    public void rebuildEmployees(List<Employee> employees) {
+        Map<Long, String> names = new LinkedHashMap<>();
+        employees.forEach(employee -> names.put(employee.getEmployeeId(), normalize(employee.getFullName())));
+        rebuild(employeeNames, names);
+        employeesReady = true;
+        log.debug("Employee name index built for {} employees", employees.size());
+    }
+
+    @Override
+    public void onCustomerSaved(Customer customer) {
+        put(customerNames, customer.getCustomerId(), customer.getCustomerName());
+    }
+
+    @Override
+    public void onCustomersSaved(List<Customer> customers) {
+        Map<Long, String> names = new LinkedHashMap<>();
+        customers.forEach(customer -> names.put(customer.getCustomerId(), customer.getCustomerName()));
+        putAll(customerNames, names);
+    }
+
+    @Override
+    public void onCustomerDeleted(Long customerId) {
+        remove(customerNames, customerId);
+    }
+
+    @Override
+    public void onEmployeeSaved(Employee employee) {
+        put(employeeNames, employee.getEmployeeId(), employee.getFullName());
+    }
+
+    @Override
+    public void onEmployeesSaved(List<Employee> employees) {
+        Map<Long, String> names = new LinkedHashMap<>();
+        employees.forEach(employee -> names.put(employee.getEmployeeId(), employee.getFullName()));
+        putAll(employeeNames, names);
+    }
+
+    @Override
+    public void onEmployeeDeleted(Long employeeId) {
+        remove(employeeNames, employeeId);
+    }
+
+    private long[] find(SegmentedSuffixIndex index, String fragment) {
+        String pattern = normalize(fragment);
+        if (pattern == null || pattern.trim().isEmpty()) {
+            return new long[0];
+        }
+        lock.readLock().lock();
+        try {
+            return index.find(pattern.trim());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuild(SegmentedSuffixIndex index, Map<Long, String> names) {
+        lock.writeLock().lock();
+        try {
+            index.rebuild(names);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(SegmentedSuffixIndex index, Long id, String name) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.put(id, normalize(name));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putAll(SegmentedSuffixIndex index, Map<Long, String> names) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, String> normalized = new LinkedHashMap<>();
+            names.forEach((id, name) -> {
+                if (id != null) {
+                    normalized.put(id, normalize(name));
+                }
+            });
+            index.putAll(normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(SegmentedSuffixIndex index, Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String normalize(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+}
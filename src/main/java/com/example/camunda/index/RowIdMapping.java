@@ -0,0 +1,66 @@
+package com.example.camunda.index;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns dense int row numbers to entity IDs so they can be stored in bitmaps,
+ * and tracks which rows are currently live. Not thread-safe; callers guard access.
+ */
+public class RowIdMapping {
+
+    private final Map<Long, Integer> rowsById = new HashMap<>();
+    private long[] idsByRow = new long[0];
+    private final RoaringBitmap liveRows = new RoaringBitmap();
+
+    /**
+     * Returns the row of the given ID, allocating one on first sight, and marks it live.
+     */
+    public int acquire(long id) {
+        Integer row = rowsById.get(id);
+        if (row == null) {
+            row = rowsById.size();
+            if (row >= idsByRow.length) {
+                idsByRow = Arrays.copyOf(idsByRow, Math.max(16, row * 2));
+            }
+            idsByRow[row] = id;
+            rowsById.put(id, row);
+        }
+        liveRows.add(row);
+        return row;
+    }
+
+    /**
+     * Marks the row of the given ID as no longer live and returns it, or -1 if the ID is unknown.
+     */
+    public int release(long id) {
+        Integer row = rowsById.get(id);
+        if (row == null) {
+            return -1;
+        }
+        liveRows.remove(row);
+        return row;
+    }
+
+    public RoaringBitmap liveRows() {
+        return liveRows.clone();
+    }
+
+    public long[] toIds(RoaringBitmap rows) {
+        long[] ids = new long[rows.getCardinality()];
+        int i = 0;
+        for (int row : rows) {
+            ids[i++] = idsByRow[row];
+        }
+        return ids;
+    }
+
+    public void clear() {
+        rowsById.clear();
+        idsByRow = new long[0];
+        liveRows.clear();
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.camunda.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Exact substring index over short texts keyed by entity ID.
+ * Texts are concatenated into segments with a suffix array each, so a lookup is a binary search
+ * per segment. Writes go to a small unsorted buffer that is sealed into a new segment once full;
+ * replaced or deleted texts are tombstoned and dropped when the segments are merged.
+ * Segments are merged by size tier, newest first, so a steady stream of writes re-sorts each text
+ * a logarithmic number of times rather than rebuilding the whole index every few seals.
+ * Not thread-safe; callers guard access.
+ */
+public class SegmentedSuffixIndex {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final int BUFFER_LIMIT = 64;
+    private static final int MAX_SEGMENTS = 8;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<Long, Segment> segmentsById = new HashMap<>();
+    private final Map<Long, String> buffer = new LinkedHashMap<>();
+
+    /**
+     * Replaces the whole index with a single segment built from the given texts.
+     */
+    public void rebuild(Map<Long, String> textsById) {
+        clear();
+        Map<Long, String> texts = new LinkedHashMap<>();
+        textsById.forEach((id, text) -> {
+            if (id != null && text != null) {
+                texts.put(id, text);
+            }
+        });
+        addSegment(texts);
+    }
+
+    public void put(long id, String text) {
+        remove(id);
+        if (text == null) {
+            return;
+        }
+        buffer.put(id, text);
+        if (buffer.size() >= BUFFER_LIMIT) {
+            seal();
+        }
+    }
+
+    /**
+     * Puts a batch of texts and seals them into one segment, rather than one per {@code BUFFER_LIMIT} texts.
+     */
+    public void putAll(Map<Long, String> textsById) {
+        textsById.forEach((id, text) -> {
+            remove(id);
+            if (text != null) {
+                buffer.put(id, text);
+            }
+        });
+        if (buffer.size() >= BUFFER_LIMIT) {
+            seal();
+        }
+    }
+
+    public void remove(long id) {
+        buffer.remove(id);
+        Segment segment = segmentsById.remove(id);
+        if (segment != null) {
+            segment.delete(id);
+        }
+    }
+
+    public void clear() {
+        segments.clear();
+        segmentsById.clear();
+        buffer.clear();
+    }
+
+    /**
+     * IDs of all texts containing {@code pattern}, in ascending order. Matching is case-sensitive;
+     * callers normalize both sides.
+     */
+    public long[] find(String pattern) {
+        LongList matches = new LongList();
+        if (pattern.indexOf(SEPARATOR) < 0) {
+            for (Segment segment : segments) {
+                segment.find(pattern, matches::add);
+            }
+            buffer.forEach((id, text) -> {
+                if (text.contains(pattern)) {
+                    matches.add(id);
+                }
+            });
+        }
+        long[] ids = matches.toArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    public int size() {
+        return segmentsById.size() + buffer.size();
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private void seal() {
+        Map<Long, String> sealed = new LinkedHashMap<>(buffer);
+        buffer.clear();
+        addSegment(sealed);
+        // Merge the two newest segments, dropping tombstoned texts, while the newer one holds at least
+        // half as many live texts as the older one or there are too many segments
+        while (segments.size() > 1) {
+            Segment newer = segments.get(segments.size() - 1);
+            Segment older = segments.get(segments.size() - 2);
+            if (newer.liveCount() * 2 < older.liveCount() && segments.size() <= MAX_SEGMENTS) {
+                break;
+            }
+            Map<Long, String> live = new LinkedHashMap<>();
+            older.collectLive(live);
+            newer.collectLive(live);
+            segments.remove(segments.size() - 1);
+            segments.remove(segments.size() - 1);
+            addSegment(live);
+        }
+    }
+
+    private void addSegment(Map<Long, String> texts) {
+        if (texts.isEmpty()) {
+            return;
+        }
+        Segment segment = Segment.build(texts);
+        segments.add(segment);
+        texts.keySet().forEach(id -> segmentsById.put(id, segment));
+    }
+
+    private static final class Segment {
+
+        private final char[] text;
+        private final int[] docStarts;
+        private final long[] ids;
+        private final int[] suffixes;
+        private final Map<Long, Integer> ordinalsById;
+        private final BitSet deleted;
+
+        private Segment(char[] text, int[] docStarts, long[] ids, int[] suffixes) {
+            this.text = text;
+            this.docStarts = docStarts;
+            this.ids = ids;
+            this.suffixes = suffixes;
+            this.ordinalsById = new HashMap<>(ids.length * 2);
+            for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+                ordinalsById.put(ids[ordinal], ordinal);
+            }
+            this.deleted = new BitSet(ids.length);
+        }
+
+        static Segment build(Map<Long, String> texts) {
+            StringBuilder concatenated = new StringBuilder();
+            int[] docStarts = new int[texts.size()];
+            long[] ids = new long[texts.size()];
+            int ordinal = 0;
+            for (Map.Entry<Long, String> entry : texts.entrySet()) {
+                docStarts[ordinal] = concatenated.length();
+                ids[ordinal] = entry.getKey();
+                concatenated.append(entry.getValue()).append(SEPARATOR);
+                ordinal++;
+            }
+            char[] text = concatenated.toString().toCharArray();
+
+            // Suffixes starting at a separator can never match, so they are left out
+            List<Integer> starts = new ArrayList<>(text.length);
+            for (int position = 0; position < text.length; position++) {
+                if (text[position] != SEPARATOR) {
+                    starts.add(position);
+                }
+            }
+            starts.sort((a, b) -> compareSuffixes(text, a, b));
+            int[] suffixes = starts.stream().mapToInt(Integer::intValue).toArray();
+            return new Segment(text, docStarts, ids, suffixes);
+        }
+
+        /**
+         * Compares two suffixes up to the end of their own text. Patterns never span a separator,
+         * so this ordering is sufficient and keeps each comparison bounded by the text length.
+         */
+        private static int compareSuffixes(char[] text, int a, int b) {
+            while (true) {
+                char ca = text[a];
+                char cb = text[b];
+                if (ca != cb) {
+                    return Character.compare(ca, cb);
+                }
+                if (ca == SEPARATOR) {
+                    return Integer.compare(a, b);
+                }
+                a++;
+                b++;
+            }
+        }
+
+        void find(String pattern, LongConsumer matches) {
+            int from = lowerBound(pattern, false);
+            int to = lowerBound(pattern, true);
+            if (from >= to) {
+                return;
+            }
+            BitSet seen = new BitSet(ids.length);
+            for (int i = from; i < to; i++) {
+                int ordinal = ordinalOf(suffixes[i]);
+                if (!deleted.get(ordinal) && !seen.get(ordinal)) {
+                    seen.set(ordinal);
+                    matches.accept(ids[ordinal]);
+                }
+            }
+        }
+
+        int liveCount() {
+            return ids.length - deleted.cardinality();
+        }
+
+        void delete(long id) {
+            Integer ordinal = ordinalsById.get(id);
+            if (ordinal != null) {
+                deleted.set(ordinal);
+            }
+        }
+
+        void collectLive(Map<Long, String> live) {
+            for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+                if (!deleted.get(ordinal)) {
+                    int end = ordinal + 1 < docStarts.length ? docStarts[ordinal + 1] - 1 : text.length - 1;
+                    live.put(ids[ordinal], new String(text, docStarts[ordinal], end - docStarts[ordinal]));
+                }
+            }
+        }
+
+        /**
+         * First suffix whose prefix is not below the pattern, or with {@code upper} set,
+         * the first suffix whose prefix is above it.
+         */
+        private int lowerBound(String pattern, boolean upper) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int cmp = comparePrefix(suffixes[mid], pattern);
+                if (cmp < 0 || (upper && cmp == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int comparePrefix(int position, String pattern) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = text[position + i];
+                if (c == SEPARATOR) {
+                    return -1;
+                }
+                if (c != pattern.charAt(i)) {
+                    return Character.compare(c, pattern.charAt(i));
+                }
+            }
+            return 0;
+        }
+
+        private int ordinalOf(int position) {
+            int index = Arrays.binarySearch(docStarts, position);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+
+    private static final class LongList {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.camunda.model;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,7 +16,13 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "customers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
+@Table(name = "customers", indexes = {
+    @Index(name = "idx_customer_name", columnList = "customerName, customerId"),
+    @Index(name = "idx_customer_employee", columnList = "employeeId, customerId"),
+    @Index(name = "idx_customer_updated_at", columnList = "updatedAt, customerId")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Customer {
     @Id
@@ -42,6 +50,6 @@ public class Customer {
     // Lazy-loaded relationship to Employee
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employeeId", insertable = false, updatable = false)
-    @JsonBackReference
+    @JsonIgnore
     private Employee employee;
 }
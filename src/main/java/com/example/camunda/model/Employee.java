@@ -1,11 +1,13 @@
 package com.example.camunda.model;
 
-import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,7 +17,14 @@ import java.util.List;
 
 @Entity
 @Data
-@Table(name = "employees")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+@Table(name = "employees", indexes = {
+    @Index(name = "idx_employee_full_name", columnList = "fullName, employeeId"),
+    @Index(name = "idx_employee_department", columnList = "department, employeeId"),
+    @Index(name = "idx_employee_job_title", columnList = "jobTitle, employeeId"),
+    @Index(name = "idx_employee_updated_at", columnList = "updatedAt, employeeId")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Employee {
     @Id
@@ -47,6 +56,6 @@ public class Employee {
     
     // One-to-many relationship with Customers
     @OneToMany(mappedBy = "employee", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JsonManagedReference
+    @JsonIgnore
     private List<Customer> customers;
 }
@@ -0,0 +1,57 @@
+package com.example.camunda.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row recording that a catalog entity was saved or deleted, written in the same transaction
+ * as the change itself. Replicas follow the table by ID to refresh their local indexes.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "entity_change_log", indexes = {
+    @Index(name = "idx_change_log_created_at", columnList = "createdAt")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class EntityChangeLog {
+    
+    public enum EntityType { CUSTOMER, EMPLOYEE, COMPANY }
+    
+    public enum Operation { SAVED, DELETED }
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+    
+    @Column(nullable = false)
+    private Long entityId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Operation operation;
+    
+    // Replica that made the change; it has already applied the change locally
+    @Column(nullable = false, length = 36)
+    private String origin;
+    
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    public EntityChangeLog(EntityType entityType, Long entityId, Operation operation, String origin) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.origin = origin;
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.camunda.model;
 
+import com.example.camunda.util.AddressParser;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,7 +17,13 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "external_companies")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "external_companies")
+@Table(name = "external_companies", indexes = {
+    @Index(name = "idx_company_city_key", columnList = "cityKey"),
+    @Index(name = "idx_company_name", columnList = "companyName, companyId"),
+    @Index(name = "idx_company_updated_at", columnList = "updatedAt, companyId")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class ExternalCompany {
     @Id
@@ -29,6 +39,16 @@ public class ExternalCompany {
     private String contactPerson;
     private String phoneNumber;
     
+    // Location fields derived from the free-text address on every save
+    private String street;
+    private String city;
+    private String state;
+    private String zipCode;
+    
+    @Column(length = 100)
+    @JsonIgnore
+    private String cityKey;
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -36,4 +56,15 @@ public class ExternalCompany {
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    public void deriveLocationFields() {
+        AddressParser.ParsedAddress parsed = AddressParser.parse(address);
+        this.street = parsed.street();
+        this.city = parsed.city();
+        this.state = parsed.state();
+        this.zipCode = parsed.zipCode();
+        this.cityKey = parsed.cityKey();
+    }
 }
@@ -1,7 +1,10 @@
 package com.example.camunda.model;
 
+import com.example.camunda.util.VariablesCodec;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,12 +13,23 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "job_history")
+@Table(name = "job_history", indexes = {
+    @Index(name = "idx_job_history_created_at", columnList = "createdAt"),
+    @Index(name = "idx_job_history_updated_at", columnList = "updatedAt, id"),
+    @Index(name = "idx_job_history_status_execution_time", columnList = "status, executionTime"),
+    @Index(name = "idx_job_history_job_type_execution_time", columnList = "jobType, executionTime"),
+    @Index(name = "idx_job_history_execution_time", columnList = "executionTime"),
+    @Index(name = "idx_job_history_job_key", columnList = "jobKey")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class JobHistory {
     
+    // IDs are allocated from the sequence in blocks, so inserts need no round trip per row and can be batched
+    public static final int ID_BLOCK_SIZE = 50;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_history_seq")
+    @SequenceGenerator(name = "job_history_seq", sequenceName = "job_history_seq", allocationSize = ID_BLOCK_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -27,9 +41,25 @@ public class JobHistory {
     @Column(nullable = false)
     private String status;
     
-    @Column(columnDefinition = "TEXT")
+    // Variables JSON compressed by VariablesCodec; inflated only when getVariables() is called
+    @Column(name = "variables_data", columnDefinition = "VARBINARY")
+    @JsonIgnore
+    @ToString.Exclude
+    private byte[] variablesData;
+    
+    // Uncompressed variables of rows written before compression, until JobHistoryVariablesMigration moves them
+    @Column(name = "variables", columnDefinition = "TEXT")
+    @JsonIgnore
+    @ToString.Exclude
+    private String plainVariables;
+    
+    @Transient
     private String variables;
     
+    // Display summary (inputs and results) extracted from the variables when the entry is written, see JobHistorySummary
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+    
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
     
@@ -39,6 +69,26 @@ public class JobHistory {
     @Column
     private Long executionTimeMs;
     
+    // Phases of the job, see JobPhaseTimer.Timings; all but the broker wait add up to about executionTimeMs.
+    // Null for entries recorded before phases were timed
+    @Column
+    private Long brokerWaitMs;
+    
+    @Column
+    private Long deserializeMs;
+    
+    @Column
+    private Long searchDbMs;
+    
+    @Column
+    private Long searchMatchMs;
+    
+    @Column
+    private Long resultBuildMs;
+    
+    @Column
+    private Long completeMs;
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -46,4 +96,27 @@ public class JobHistory {
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+    
+    public String getVariables() {
+        if (variables == null && variablesData != null) {
+            variables = VariablesCodec.decode(variablesData);
+        }
+        return variables != null ? variables : plainVariables;
+    }
+    
+    /**
+     * Sets the variables JSON; it is compressed, with the dictionary of the job type, when the entry is inserted.
+     */
+    public void setVariables(String variables) {
+        this.variables = variables;
+        this.variablesData = null;
+        this.plainVariables = null;
+    }
+    
+    @PrePersist
+    void compressVariables() {
+        if (variables != null && variablesData == null) {
+            variablesData = VariablesCodec.encode(jobType, variables);
+        }
+    }
 }
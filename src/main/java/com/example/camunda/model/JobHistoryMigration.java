@@ -0,0 +1,23 @@
+package com.example.camunda.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Progress of a one-time job history migration: the last row ID it has visited and whether it reached the end
+ * of the table, so a restart resumes where it stopped and a finished migration is not run again.
+ */
+@Entity
+@Data
+@Table(name = "job_history_migration")
+public class JobHistoryMigration {
+    
+    public static final int VARIABLES = 1;
+    
+    @Id
+    private Integer id;
+    
+    private long lastId;
+    
+    private boolean completed;
+}
@@ -0,0 +1,92 @@
+package com.example.camunda.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Job executions counted per time bucket, job type and status. Rows are only ever incremented, in the same
+ * transaction as the job history entries they count, so the rollups survive job history retention.
+ */
+@Entity
+@Data
+@Table(name = "job_metrics_rollup", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_job_metrics_rollup_bucket", columnNames = {"granularity", "bucketStart", "jobType", "status"})
+})
+public class JobMetricsRollup {
+    
+    public enum Granularity {
+        MINUTE,
+        HOUR,
+        DAY,
+        // A single bucket holding every execution ever recorded
+        TOTAL;
+        
+        public static final LocalDateTime TOTAL_BUCKET = LocalDateTime.of(1970, 1, 1, 0, 0);
+        
+        public LocalDateTime bucketOf(LocalDateTime time) {
+            return switch (this) {
+                case MINUTE -> time.truncatedTo(ChronoUnit.MINUTES);
+                case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+                case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+                case TOTAL -> TOTAL_BUCKET;
+            };
+        }
+    }
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+    
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(nullable = false)
+    private String jobType;
+    
+    @Column(nullable = false)
+    private String status;
+    
+    @Column(nullable = false)
+    private long executions;
+    
+    @Column(nullable = false)
+    private long executionTimeMsSum;
+    
+    // Phase sums, see JobPhaseTimer.Timings, over the executions that were recorded with phase timings.
+    // Defaults fill the columns of rollups created before phases were timed
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long phasedExecutions;
+    
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long brokerWaitMsSum;
+    
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long deserializeMsSum;
+    
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long searchDbMsSum;
+    
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long searchMatchMsSum;
+    
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long resultBuildMsSum;
+    
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long completeMsSum;
+}
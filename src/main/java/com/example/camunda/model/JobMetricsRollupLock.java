@@ -0,0 +1,19 @@
+package com.example.camunda.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Marker row locked while the rollups are built from the existing job history, so that instances starting
+ * together build them once.
+ */
+@Entity
+@Data
+@Table(name = "job_metrics_rollup_lock")
+public class JobMetricsRollupLock {
+    
+    public static final int BACKFILL = 1;
+    
+    @Id
+    private Integer id;
+}
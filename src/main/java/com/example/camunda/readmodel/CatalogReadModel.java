@@ -0,0 +1,141 @@
+package com.example.camunda.readmodel;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.index.CatalogChangeListener;
+import com.example.camunda.index.CatalogIndexManager;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.model.ExternalCompany;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory read model of the catalog tables. Readers take the current immutable snapshot
+ * without locks or database access; every committed write swaps in a patched copy.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogReadModel implements CatalogChangeListener {
+
+    private final CatalogProperties catalogProperties;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+
+    private volatile boolean customersLoaded;
+    private volatile boolean employeesLoaded;
+    private volatile boolean companiesLoaded;
+
+    /**
+     * The current snapshot, or empty while the read model is disabled or still loading,
+     * in which case callers read from the repositories instead.
+     */
+    public Optional<CatalogSnapshot> current() {
+        if (!catalogProperties.getReadModel().isEnabled()
+                || !(customersLoaded && employeesLoaded && companiesLoaded)) {
+            return Optional.empty();
+        }
+        if (CatalogIndexManager.isWriteTransactionActive()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    /**
+     * The latest snapshot once every table is loaded, ignoring the enabled flag and the caller's
+     * transaction; used to persist the catalog rather than to answer reads.
+     */
+    public Optional<CatalogSnapshot> loaded() {
+        if (!(customersLoaded && employeesLoaded && companiesLoaded)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    @Override
+    public void rebuildCustomers(List<Customer> customers) {
+        List<CustomerRecord> records = customers.stream().map(CustomerRecord::from).toList();
+        update(current -> current.withCustomers(records));
+        customersLoaded = true;
+        log.debug("Read model loaded {} customers", records.size());
+    }
+
+    @Override
+    public void rebuildEmployees(List<Employee> employees) {
+        List<EmployeeRecord> records = employees.stream().map(EmployeeRecord::from).toList();
+        update(current -> current.withEmployees(records));
+        employeesLoaded = true;
+        log.debug("Read model loaded {} employees", records.size());
+    }
+
+    @Override
+    public void rebuildCompanies(List<ExternalCompany> companies) {
+        List<CompanyRecord> records = companies.stream().map(CompanyRecord::from).toList();
+        CatalogSnapshot loaded = update(current -> current.withCompanies(records));
+        companiesLoaded = true;
+        log.debug("Read model loaded {} companies; column storage holds about {} KB",
+                records.size(), loaded.footprintBytes() / 1024);
+    }
+
+    @Override
+    public void onCustomerSaved(Customer customer) {
+        CustomerRecord record = CustomerRecord.from(customer);
+        update(current -> current.withCustomer(record));
+    }
+
+    @Override
+    public void onCustomersSaved(List<Customer> customers) {
+        List<CustomerRecord> records = customers.stream().map(CustomerRecord::from).toList();
+        update(current -> current.withChangedCustomers(records));
+    }
+
+    @Override
+    public void onCustomerDeleted(Long customerId) {
+        update(current -> current.withoutCustomer(customerId));
+    }
+
+    @Override
+    public void onEmployeeSaved(Employee employee) {
+        EmployeeRecord record = EmployeeRecord.from(employee);
+        update(current -> current.withEmployee(record));
+    }
+
+    @Override
+    public void onEmployeesSaved(List<Employee> employees) {
+        List<EmployeeRecord> records = employees.stream().map(EmployeeRecord::from).toList();
+        update(current -> current.withChangedEmployees(records));
+    }
+
+    @Override
+    public void onEmployeeDeleted(Long employeeId) {
+        update(current -> current.withoutEmployee(employeeId));
+    }
+
+    @Override
+    public void onCompanySaved(ExternalCompany company) {
+        CompanyRecord record = CompanyRecord.from(company);
+        update(current -> current.withCompany(record));
+    }
+
+    @Override
+    public void onCompaniesSaved(List<ExternalCompany> companies) {
+        List<CompanyRecord> records = companies.stream().map(CompanyRecord::from).toList();
+        update(current -> current.withChangedCompanies(records));
+    }
+
+    @Override
+    public void onCompanyDeleted(Long companyId) {
+        update(current -> current.withoutCompany(companyId));
+    }
+
+    private CatalogSnapshot update(UnaryOperator<CatalogSnapshot> change) {
+        boolean offHeap = catalogProperties.getReadModel().isOffHeap();
+        return snapshot.updateAndGet(current -> change.apply(current != null ? current : CatalogSnapshot.empty(offHeap)));
+    }
+}
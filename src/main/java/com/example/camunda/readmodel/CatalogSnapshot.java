@@ -0,0 +1,217 @@
+package com.example.camunda.readmodel;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Point-in-time, immutable view of customers, employees and companies, stored column by column.
+ */
+public final class CatalogSnapshot {
+
+    private static final TableSchema<CustomerRecord> CUSTOMERS = TableSchema.builder(CustomerRecord::customerId)
+            .indexedText("customerName", CustomerRecord::customerName)
+            .longValue("employeeId", CustomerRecord::employeeId)
+            .timestamp("createdAt", CustomerRecord::createdAt)
+            .timestamp("updatedAt", CustomerRecord::updatedAt)
+            .build(row -> new CustomerRecord(row.id(), row.text("customerName"), row.longValue("employeeId"),
+                    row.timestamp("createdAt"), row.timestamp("updatedAt")));
+
+    private static final TableSchema<EmployeeRecord> EMPLOYEES = TableSchema.builder(EmployeeRecord::employeeId)
+            .indexedText("fullName", EmployeeRecord::fullName)
+            .dictionary("jobTitle", EmployeeRecord::jobTitle)
+            .dictionary("department", EmployeeRecord::department)
+            .text("phoneNumber", EmployeeRecord::phoneNumber)
+            .timestamp("createdAt", EmployeeRecord::createdAt)
+            .timestamp("updatedAt", EmployeeRecord::updatedAt)
+            .build(row -> new EmployeeRecord(row.id(), row.text("fullName"), row.text("jobTitle"),
+                    row.text("department"), row.text("phoneNumber"),
+                    row.timestamp("createdAt"), row.timestamp("updatedAt")));
+
+    private static final TableSchema<CompanyRecord> COMPANIES = TableSchema.builder(CompanyRecord::companyId)
+            .indexedText("companyName", CompanyRecord::companyName)
+            .text("address", CompanyRecord::address)
+            .text("contactPerson", CompanyRecord::contactPerson)
+            .text("phoneNumber", CompanyRecord::phoneNumber)
+            .text("street", CompanyRecord::street)
+            .dictionary("city", CompanyRecord::city)
+            .dictionary("state", CompanyRecord::state)
+            .dictionary("zipCode", CompanyRecord::zipCode)
+            .indexedDictionary("cityKey", CompanyRecord::cityKey)
+            .timestamp("createdAt", CompanyRecord::createdAt)
+            .timestamp("updatedAt", CompanyRecord::updatedAt)
+            .build(row -> new CompanyRecord(row.id(), row.text("companyName"), row.text("address"),
+                    row.text("contactPerson"), row.text("phoneNumber"), row.text("street"), row.text("city"),
+                    row.text("state"), row.text("zipCode"), row.text("cityKey"),
+                    row.timestamp("createdAt"), row.timestamp("updatedAt")));
+
+    private final boolean offHeap;
+    private final ColumnarTable<CustomerRecord> customers;
+    private final ColumnarTable<EmployeeRecord> employees;
+    private final ColumnarTable<CompanyRecord> companies;
+
+    private CatalogSnapshot(boolean offHeap, ColumnarTable<CustomerRecord> customers,
+                            ColumnarTable<EmployeeRecord> employees, ColumnarTable<CompanyRecord> companies) {
+        this.offHeap = offHeap;
+        this.customers = customers;
+        this.employees = employees;
+        this.companies = companies;
+    }
+
+    /**
+     * An empty snapshot whose text arenas are allocated off-heap when {@code offHeap} is set.
+     */
+    public static CatalogSnapshot empty(boolean offHeap) {
+        return new CatalogSnapshot(offHeap, ColumnarTable.of(CUSTOMERS, List.of(), offHeap),
+                ColumnarTable.of(EMPLOYEES, List.of(), offHeap), ColumnarTable.of(COMPANIES, List.of(), offHeap));
+    }
+
+    public Optional<CustomerRecord> customer(Long customerId) {
+        return customers.byId(customerId);
+    }
+
+    /**
+     * The customer with exactly this name; the lowest ID wins if the name is not unique.
+     */
+    public Optional<CustomerRecord> customerNamed(String customerName) {
+        return customers.byKey("customerName", customerName).stream().findFirst();
+    }
+
+    public List<CustomerRecord> customers() {
+        return customers.all();
+    }
+
+    /**
+     * The customers with the lowest IDs, at most {@code limit} of them.
+     */
+    public List<CustomerRecord> customers(int limit) {
+        return customers.first(limit);
+    }
+
+    public List<CustomerRecord> customers(long[] customerIds) {
+        return customers.byIds(customerIds);
+    }
+
+    public List<CustomerRecord> customersMatching(Predicate<String> nameMatcher) {
+        return customers.matchingAny(Map.of("customerName", nameMatcher));
+    }
+
+    public Optional<EmployeeRecord> employee(Long employeeId) {
+        return employees.byId(employeeId);
+    }
+
+    public Optional<EmployeeRecord> employeeNamed(String fullName) {
+        return employees.byKey("fullName", fullName).stream().findFirst();
+    }
+
+    public List<EmployeeRecord> employees() {
+        return employees.all();
+    }
+
+    public List<EmployeeRecord> employees(long[] employeeIds) {
+        return employees.byIds(employeeIds);
+    }
+
+    /**
+     * Employees whose name, department or job title satisfies its matcher; null matchers are skipped.
+     */
+    public List<EmployeeRecord> employeesMatchingAny(Predicate<String> nameMatcher, Predicate<String> departmentMatcher,
+                                                     Predicate<String> jobTitleMatcher) {
+        Map<String, Predicate<String>> predicates = new LinkedHashMap<>();
+        putIfPresent(predicates, "department", departmentMatcher);
+        putIfPresent(predicates, "jobTitle", jobTitleMatcher);
+        putIfPresent(predicates, "fullName", nameMatcher);
+        return employees.matchingAny(predicates);
+    }
+
+    public Optional<CompanyRecord> companyNamed(String companyName) {
+        return companies.byKey("companyName", companyName).stream().findFirst();
+    }
+
+    public List<CompanyRecord> companiesInCity(String cityKey) {
+        return companies.byKey("cityKey", cityKey);
+    }
+
+    public Collection<String> cityKeys() {
+        return companies.distinct("cityKey");
+    }
+
+    public List<CompanyRecord> companies() {
+        return companies.all();
+    }
+
+    /**
+     * Companies whose name or city key satisfies its matcher; null matchers are skipped.
+     */
+    public List<CompanyRecord> companiesMatchingAny(Predicate<String> nameMatcher, Predicate<String> cityKeyMatcher) {
+        Map<String, Predicate<String>> predicates = new LinkedHashMap<>();
+        putIfPresent(predicates, "cityKey", cityKeyMatcher);
+        putIfPresent(predicates, "companyName", nameMatcher);
+        return companies.matchingAny(predicates);
+    }
+
+    /**
+     * Approximate bytes held by the column storage of all three tables.
+     */
+    public long footprintBytes() {
+        return customers.footprintBytes() + employees.footprintBytes() + companies.footprintBytes();
+    }
+
+    CatalogSnapshot withCustomers(Collection<CustomerRecord> records) {
+        return new CatalogSnapshot(offHeap, ColumnarTable.of(CUSTOMERS, records, offHeap), employees, companies);
+    }
+
+    CatalogSnapshot withEmployees(Collection<EmployeeRecord> records) {
+        return new CatalogSnapshot(offHeap, customers, ColumnarTable.of(EMPLOYEES, records, offHeap), companies);
+    }
+
+    CatalogSnapshot withCompanies(Collection<CompanyRecord> records) {
+        return new CatalogSnapshot(offHeap, customers, employees, ColumnarTable.of(COMPANIES, records, offHeap));
+    }
+
+    CatalogSnapshot withCustomer(CustomerRecord record) {
+        return new CatalogSnapshot(offHeap, customers.with(record), employees, companies);
+    }
+
+    CatalogSnapshot withChangedCustomers(Collection<CustomerRecord> records) {
+        return new CatalogSnapshot(offHeap, customers.with(records), employees, companies);
+    }
+
+    CatalogSnapshot withoutCustomer(Long customerId) {
+        return new CatalogSnapshot(offHeap, customers.without(customerId), employees, companies);
+    }
+
+    CatalogSnapshot withEmployee(EmployeeRecord record) {
+        return new CatalogSnapshot(offHeap, customers, employees.with(record), companies);
+    }
+
+    CatalogSnapshot withChangedEmployees(Collection<EmployeeRecord> records) {
+        return new CatalogSnapshot(offHeap, customers, employees.with(records), companies);
+    }
+
+    CatalogSnapshot withoutEmployee(Long employeeId) {
+        return new CatalogSnapshot(offHeap, customers, employees.without(employeeId), companies);
+    }
+
+    CatalogSnapshot withCompany(CompanyRecord record) {
+        return new CatalogSnapshot(offHeap, customers, employees, companies.with(record));
+    }
+
+    CatalogSnapshot withChangedCompanies(Collection<CompanyRecord> records) {
+        return new CatalogSnapshot(offHeap, customers, employees, companies.with(records));
+    }
+
+    CatalogSnapshot withoutCompany(Long companyId) {
+        return new CatalogSnapshot(offHeap, customers, employees, companies.without(companyId));
+    }
+
+    private static void putIfPresent(Map<String, Predicate<String>> predicates, String column,
+                                     Predicate<String> predicate) {
+        if (predicate != null) {
+            predicates.put(column, predicate);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.camunda.readmodel;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Versioned binary file holding every catalog row, stamped with the last entity change log ID the rows reflect
+ * and the time they were saved. The header carries the format version, the stamp, the body length and a CRC32
+ * of the body; files that fail any of these checks are ignored. Files are written to a temporary sibling and moved into place,
+ * and read through a read-only memory mapping.
+ */
+public final class CatalogSnapshotFile {
+
+    public static final int FORMAT_VERSION = 2;
+
+    private static final int MAGIC = 0x43415453; // "CATS"
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 8 + 8;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int NULL_TEXT = -1;
+
+    private CatalogSnapshotFile() {
+    }
+
+    /**
+     * Rows read back from a snapshot file, with the last change log entry they include and when they were saved.
+     */
+    public record Contents(
+            long changeLogId,
+            LocalDateTime savedAt,
+            List<CustomerRecord> customers,
+            List<EmployeeRecord> employees,
+            List<CompanyRecord> companies) {
+    }
+
+    /**
+     * Writes the rows atomically, stamped with the last change log entry they reflect.
+     */
+    public static void write(Path file, long changeLogId, LocalDateTime savedAt,
+                             Collection<CustomerRecord> customers, Collection<EmployeeRecord> employees,
+                             Collection<CompanyRecord> companies) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            CheckedOutputStream checked = new CheckedOutputStream(Channels.newOutputStream(channel), crc);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked, 1 << 16));
+            writeCustomers(out, customers);
+            writeEmployees(out, employees);
+            writeCompanies(out, companies);
+            out.flush();
+            long bodyBytes = channel.position() - HEADER_BYTES;
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(changeLogId)
+                    .putLong(toNanos(savedAt))
+                    .putLong(bodyBytes)
+                    .putLong(crc.getValue())
+                    .flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * The file's rows, or empty if it is missing, from another format version, truncated or corrupt.
+     */
+    public static Optional<Contents> read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapped.getInt() != MAGIC || mapped.getInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            long changeLogId = mapped.getLong();
+            LocalDateTime savedAt = fromNanos(mapped.getLong());
+            long bodyBytes = mapped.getLong();
+            long checksum = mapped.getLong();
+            if (bodyBytes != size - HEADER_BYTES) {
+                return Optional.empty();
+            }
+            CRC32 crc = new CRC32();
+            crc.update(mapped.slice(HEADER_BYTES, (int) bodyBytes));
+            if (crc.getValue() != checksum) {
+                return Optional.empty();
+            }
+            return Optional.of(new Contents(changeLogId, savedAt, readCustomers(mapped), readEmployees(mapped),
+                    readCompanies(mapped)));
+        }
+    }
+
+    private static void writeCustomers(DataOutputStream out, Collection<CustomerRecord> customers) throws IOException {
+        out.writeInt(customers.size());
+        for (CustomerRecord customer : customers) {
+            writeLong(out, customer.customerId());
+            writeText(out, customer.customerName());
+            writeLong(out, customer.employeeId());
+            writeTimestamp(out, customer.createdAt());
+            writeTimestamp(out, customer.updatedAt());
+        }
+    }
+
+    private static List<CustomerRecord> readCustomers(ByteBuffer in) {
+        int count = in.getInt();
+        List<CustomerRecord> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customers.add(new CustomerRecord(readLong(in), readText(in), readLong(in),
+                    readTimestamp(in), readTimestamp(in)));
+        }
+        return customers;
+    }
+
+    private static void writeEmployees(DataOutputStream out, Collection<EmployeeRecord> employees) throws IOException {
+        out.writeInt(employees.size());
+        for (EmployeeRecord employee : employees) {
+            writeLong(out, employee.employeeId());
+            writeText(out, employee.fullName());
+            writeText(out, employee.jobTitle());
+            writeText(out, employee.department());
+            writeText(out, employee.phoneNumber());
+            writeTimestamp(out, employee.createdAt());
+            writeTimestamp(out, employee.updatedAt());
+        }
+    }
+
+    private static List<EmployeeRecord> readEmployees(ByteBuffer in) {
+        int count = in.getInt();
+        List<EmployeeRecord> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new EmployeeRecord(readLong(in), readText(in), readText(in), readText(in), readText(in),
+                    readTimestamp(in), readTimestamp(in)));
+        }
+        return employees;
+    }
+
+    private static void writeCompanies(DataOutputStream out, Collection<CompanyRecord> companies) throws IOException {
+        out.writeInt(companies.size());
+        for (CompanyRecord company : companies) {
+            writeLong(out, company.companyId());
+            writeText(out, company.companyName());
+            writeText(out, company.address());
+            writeText(out, company.contactPerson());
+            writeText(out, company.phoneNumber());
+            writeText(out, company.street());
+            writeText(out, company.city());
+            writeText(out, company.state());
+            writeText(out, company.zipCode());
+            writeText(out, company.cityKey());
+            writeTimestamp(out, company.createdAt());
+            writeTimestamp(out, company.updatedAt());
+        }
+    }
+
+    private static List<CompanyRecord> readCompanies(ByteBuffer in) {
+        int count = in.getInt();
+        List<CompanyRecord> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            companies.add(new CompanyRecord(readLong(in), readText(in), readText(in), readText(in), readText(in),
+                    readText(in), readText(in), readText(in), readText(in), readText(in),
+                    readTimestamp(in), readTimestamp(in)));
+        }
+        return companies;
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeLong(value == null ? NULL_LONG : value);
+    }
+
+    private static Long readLong(ByteBuffer in) {
+        long value = in.getLong();
+        return value == NULL_LONG ? null : value;
+    }
+
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_TEXT);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readText(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_TEXT) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(toNanos(value));
+    }
+
+    private static LocalDateTime readTimestamp(ByteBuffer in) {
+        return fromNanos(in.getLong());
+    }
+
+    private static long toNanos(LocalDateTime value) {
+        if (value == null) {
+            return NULL_LONG;
+        }
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + value.getNano();
+    }
+
+    private static LocalDateTime fromNanos(long nanos) {
+        if (nanos == NULL_LONG) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.camunda.readmodel;
+
+import com.example.camunda.config.CatalogProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Persists the loaded catalog to a {@link CatalogSnapshotFile} so a starting replica can warm up from
+ * the file and replay only the entity change log entries after its stamp instead of reading every row through JPA.
+ * The stamp is the change log position reported by the {@link com.example.camunda.index.ChangeLogPoller}, so
+ * snapshots are only written and read while the change log is enabled, and a file older than the change log
+ * retention is ignored, since the entries after its stamp may have been pruned.
+ * The file is rewritten periodically and on shutdown; failures are logged and never fatal.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogSnapshotStore {
+
+    private final CatalogProperties catalogProperties;
+    private final CatalogReadModel readModel;
+
+    private volatile long changeLogId = -1;
+
+    /**
+     * The rows of the last saved snapshot, or empty if snapshots are disabled or the file is unusable.
+     */
+    public Optional<CatalogSnapshotFile.Contents> load() {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Path file = file();
+        try {
+            Optional<CatalogSnapshotFile.Contents> contents = CatalogSnapshotFile.read(file);
+            if (contents.isEmpty()) {
+                log.info("No usable catalog snapshot at {}; loading the catalog from the database", file);
+                return contents;
+            }
+            // Entries can commit up to the gap timeout after the position that skipped them was taken
+            LocalDateTime covered = LocalDateTime.now().minus(catalogProperties.getChangeLog().getRetention())
+                    .plus(catalogProperties.getChangeLog().getGapTimeout());
+            if (contents.get().savedAt().isBefore(covered)) {
+                log.info("Catalog snapshot {} was saved at {}, before the change log retention; "
+                        + "loading the catalog from the database", file, contents.get().savedAt());
+                return Optional.empty();
+            }
+            return contents;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read catalog snapshot {}; loading the catalog from the database", file, e);
+            return Optional.empty();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${catalog.snapshot.write-interval-ms:300000}",
+            fixedDelayString = "${catalog.snapshot.write-interval-ms:300000}")
+    public void save() {
+        if (!isEnabled()) {
+            return;
+        }
+        // Taken before the rows, which then reflect at least every entry up to the position
+        LocalDateTime savedAt = LocalDateTime.now();
+        long position = changeLogId;
+        Optional<CatalogSnapshot> loaded = readModel.loaded();
+        if (position < 0 || loaded.isEmpty()) {
+            return;
+        }
+        CatalogSnapshot snapshot = loaded.get();
+        Path file = file();
+        try {
+            long start = System.currentTimeMillis();
+            CatalogSnapshotFile.write(file, position, savedAt, snapshot.customers(), snapshot.employees(),
+                    snapshot.companies());
+            log.debug("Wrote catalog snapshot {} at change log entry {} in {}ms", file, position,
+                    System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write catalog snapshot {}", file, e);
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void saveOnShutdown() {
+        save();
+    }
+
+    /**
+     * Records that the read model reflects every change log entry up to and including this ID.
+     */
+    public void caughtUp(long changeLogId) {
+        this.changeLogId = changeLogId;
+    }
+
+    private boolean isEnabled() {
+        return catalogProperties.getSnapshot().isEnabled() && catalogProperties.getChangeLog().isEnabled();
+    }
+
+    private Path file() {
+        return Path.of(catalogProperties.getSnapshot().getPath());
+    }
+}
@@ -0,0 +1,533 @@
+package com.example.camunda.readmodel;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, column-oriented table of records. IDs are a sorted {@code long[]}, repeated strings are
+ * dictionary-encoded into {@code int[]} codes, and free text sits in a shared UTF-8 arena, so a row costs
+ * a few dozen bytes instead of a full object graph. Records are only materialized for rows a caller asks for.
+ * <p>
+ * Changes return a new table that shares the columns with this one and records the change in a small
+ * overlay. Each change copies the overlay, so it is kept to an eighth of the table and at most
+ * 16,384 records; beyond that the columns are rebuilt.
+ */
+public final class ColumnarTable<R> {
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+    private static final int NULL_LENGTH = -1;
+    private static final int MIN_OVERLAY_LIMIT = 256;
+    private static final int MAX_OVERLAY_LIMIT = 16_384;
+
+    private final TableSchema<R> schema;
+    private final boolean offHeap;
+    private final Columns columns;
+    // Records changed since the columns were built; a null value marks a delete
+    private final Map<Long, R> overlay;
+    private final int size;
+
+    private ColumnarTable(TableSchema<R> schema, boolean offHeap, Columns columns, Map<Long, R> overlay, int size) {
+        this.schema = schema;
+        this.offHeap = offHeap;
+        this.columns = columns;
+        this.overlay = overlay;
+        this.size = size;
+    }
+
+    public static <R> ColumnarTable<R> of(TableSchema<R> schema, Collection<R> records, boolean offHeap) {
+        Columns columns = Columns.build(schema, records, offHeap);
+        return new ColumnarTable<>(schema, offHeap, columns, Map.of(), columns.ids.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Optional<R> byId(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (overlay.containsKey(id)) {
+            return Optional.ofNullable(overlay.get(id));
+        }
+        int row = Arrays.binarySearch(columns.ids, id);
+        return row >= 0 ? Optional.of(materialize(row)) : Optional.empty();
+    }
+
+    /**
+     * Records with the given IDs that exist, ordered by ID.
+     */
+    public List<R> byIds(long[] ids) {
+        long[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        List<R> result = new ArrayList<>(sorted.length);
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                byId(sorted[i]).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Records whose indexed column equals {@code value} exactly, ordered by ID.
+     */
+    public List<R> byKey(String column, String value) {
+        int position = schema.position(column);
+        TableSchema.Column<R> definition = schema.columns().get(position);
+        if (!definition.indexed()) {
+            throw new IllegalArgumentException("Column is not indexed: " + column);
+        }
+        if (value == null) {
+            return List.of();
+        }
+
+        List<R> result = new ArrayList<>();
+        Object data = columns.data[position];
+        if (data instanceof TextColumn text) {
+            text.rowsEqualTo(value, columns.arena, row -> addIfCurrent(row, result));
+        } else {
+            DictionaryColumn dictionary = (DictionaryColumn) data;
+            Integer code = dictionary.codesByValue.get(value);
+            if (code != null) {
+                for (int i = dictionary.postingStarts[code]; i < dictionary.postingStarts[code + 1]; i++) {
+                    addIfCurrent(dictionary.postingRows[i], result);
+                }
+            }
+        }
+        overlay.values().stream()
+                .filter(record -> record != null && value.equals(definition.getter().apply(record)))
+                .forEach(result::add);
+        return sortedIfChanged(result);
+    }
+
+    /**
+     * Distinct non-null values of a dictionary column among current rows.
+     */
+    public Set<String> distinct(String column) {
+        int position = schema.position(column);
+        if (!(columns.data[position] instanceof DictionaryColumn dictionary)) {
+            throw new IllegalArgumentException("Not a dictionary column: " + column);
+        }
+
+        boolean[] live = new boolean[dictionary.values.length];
+        for (int row = 0; row < dictionary.codes.length; row++) {
+            int code = dictionary.codes[row];
+            if (code != NULL_CODE && !live[code] && !overlay.containsKey(columns.ids[row])) {
+                live[code] = true;
+            }
+        }
+        Set<String> values = new LinkedHashSet<>();
+        for (int code = 0; code < live.length; code++) {
+            if (live[code]) {
+                values.add(dictionary.values[code]);
+            }
+        }
+        TableSchema.Column<R> definition = schema.columns().get(position);
+        overlay.values().stream()
+                .filter(Objects::nonNull)
+                .map(record -> (String) definition.getter().apply(record))
+                .filter(Objects::nonNull)
+                .forEach(values::add);
+        return values;
+    }
+
+    /**
+     * Records for which at least one of the column predicates holds; null values never match.
+     * Dictionary predicates run once per distinct value, text predicates once per row.
+     */
+    public List<R> matchingAny(Map<String, Predicate<String>> predicates) {
+        List<boolean[]> dictionaryMatches = new ArrayList<>();
+        List<DictionaryColumn> dictionaries = new ArrayList<>();
+        List<TextColumn> texts = new ArrayList<>();
+        List<Predicate<String>> textPredicates = new ArrayList<>();
+
+        predicates.forEach((column, predicate) -> {
+            Object data = columns.data[schema.position(column)];
+            if (data instanceof DictionaryColumn dictionary) {
+                boolean[] matches = new boolean[dictionary.values.length];
+                for (int code = 0; code < matches.length; code++) {
+                    matches[code] = predicate.test(dictionary.values[code]);
+                }
+                dictionaries.add(dictionary);
+                dictionaryMatches.add(matches);
+            } else if (data instanceof TextColumn text) {
+                texts.add(text);
+                textPredicates.add(predicate);
+            } else {
+                throw new IllegalArgumentException("Not a string column: " + column);
+            }
+        });
+
+        List<R> result = new ArrayList<>();
+        rows:
+        for (int row = 0; row < columns.ids.length; row++) {
+            if (overlay.containsKey(columns.ids[row])) {
+                continue;
+            }
+            for (int i = 0; i < dictionaries.size(); i++) {
+                int code = dictionaries.get(i).codes[row];
+                if (code != NULL_CODE && dictionaryMatches.get(i)[code]) {
+                    result.add(materialize(row));
+                    continue rows;
+                }
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                String value = texts.get(i).read(row, columns.arena);
+                if (value != null && textPredicates.get(i).test(value)) {
+                    result.add(materialize(row));
+                    continue rows;
+                }
+            }
+        }
+
+        for (R record : overlay.values()) {
+            if (record != null && predicates.entrySet().stream().anyMatch(entry -> {
+                Object value = schema.columns().get(schema.position(entry.getKey())).getter().apply(record);
+                return value != null && entry.getValue().test((String) value);
+            })) {
+                result.add(record);
+            }
+        }
+        return sortedIfChanged(result);
+    }
+
+    /**
+     * The records with the lowest IDs, at most {@code limit} of them.
+     */
+    public List<R> first(int limit) {
+        List<R> result = new ArrayList<>(limit);
+        for (int row = 0; row < columns.ids.length && result.size() < limit; row++) {
+            addIfCurrent(row, result);
+        }
+        overlay.values().stream().filter(Objects::nonNull).forEach(result::add);
+        List<R> sorted = sortedIfChanged(result);
+        return sorted.size() > limit ? List.copyOf(sorted.subList(0, limit)) : sorted;
+    }
+
+    /**
+     * Every record, ordered by ID. Materializes the whole table; prefer the narrower lookups.
+     */
+    public List<R> all() {
+        List<R> result = new ArrayList<>(size);
+        for (int row = 0; row < columns.ids.length; row++) {
+            addIfCurrent(row, result);
+        }
+        overlay.values().stream().filter(Objects::nonNull).forEach(result::add);
+        return sortedIfChanged(result);
+    }
+
+    public ColumnarTable<R> with(R record) {
+        return with(List.of(record));
+    }
+
+    /**
+     * Applies several changed records at once, copying the overlay only once.
+     */
+    public ColumnarTable<R> with(Collection<R> records) {
+        if (records.isEmpty()) {
+            return this;
+        }
+        Map<Long, R> changes = new HashMap<>(overlay);
+        int count = size;
+        for (R record : records) {
+            Long id = schema.idOf(record);
+            if (!contains(changes, id)) {
+                count++;
+            }
+            changes.put(id, record);
+        }
+        return withOverlay(changes, count);
+    }
+
+    public ColumnarTable<R> without(Long id) {
+        if (id == null || !contains(overlay, id)) {
+            return this;
+        }
+        Map<Long, R> changes = new HashMap<>(overlay);
+        if (Arrays.binarySearch(columns.ids, id) >= 0) {
+            changes.put(id, null);
+        } else {
+            changes.remove(id);
+        }
+        return withOverlay(changes, size - 1);
+    }
+
+    /**
+     * Approximate memory held by the columns and the arena, excluding the overlay.
+     */
+    public long footprintBytes() {
+        long bytes = 8L * columns.ids.length + columns.arena.size();
+        for (Object data : columns.data) {
+            if (data instanceof long[] values) {
+                bytes += 8L * values.length;
+            } else if (data instanceof TextColumn text) {
+                bytes += 8L * text.offsets.length + (text.hashes == null ? 0 : 8L * text.hashes.length + 4L * text.buckets.length);
+            } else if (data instanceof DictionaryColumn dictionary) {
+                bytes += 4L * dictionary.codes.length + (dictionary.postingRows == null ? 0 : 4L * dictionary.postingRows.length);
+            }
+        }
+        return bytes;
+    }
+
+    private ColumnarTable<R> withOverlay(Map<Long, R> changes, int count) {
+        ColumnarTable<R> changed = new ColumnarTable<>(schema, offHeap, columns, changes, count);
+        int limit = Math.min(MAX_OVERLAY_LIMIT, Math.max(MIN_OVERLAY_LIMIT, columns.ids.length / 8));
+        if (changes.size() > limit) {
+            return of(schema, changed.all(), offHeap);
+        }
+        return changed;
+    }
+
+    private boolean contains(Map<Long, R> changes, Long id) {
+        if (changes.containsKey(id)) {
+            return changes.get(id) != null;
+        }
+        return Arrays.binarySearch(columns.ids, id) >= 0;
+    }
+
+    private void addIfCurrent(int row, List<R> result) {
+        if (!overlay.containsKey(columns.ids[row])) {
+            result.add(materialize(row));
+        }
+    }
+
+    private List<R> sortedIfChanged(List<R> result) {
+        if (!overlay.isEmpty()) {
+            result.sort(Comparator.comparing(schema::idOf));
+        }
+        return result;
+    }
+
+    private R materialize(int row) {
+        return schema.assemble(new StoredRow(row));
+    }
+
+    private final class StoredRow implements TableSchema.Row {
+
+        private final int row;
+
+        private StoredRow(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public long id() {
+            return columns.ids[row];
+        }
+
+        @Override
+        public String text(String column) {
+            Object data = columns.data[schema.position(column)];
+            if (data instanceof DictionaryColumn dictionary) {
+                int code = dictionary.codes[row];
+                return code == NULL_CODE ? null : dictionary.values[code];
+            }
+            return ((TextColumn) data).read(row, columns.arena);
+        }
+
+        @Override
+        public Long longValue(String column) {
+            long value = ((long[]) columns.data[schema.position(column)])[row];
+            return value == NULL_LONG ? null : value;
+        }
+
+        @Override
+        public LocalDateTime timestamp(String column) {
+            long nanos = ((long[]) columns.data[schema.position(column)])[row];
+            if (nanos == NULL_LONG) {
+                return null;
+            }
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                    (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+        }
+    }
+
+    private static final class Columns {
+
+        private final long[] ids;
+        private final Object[] data;
+        private final Utf8Arena arena;
+
+        private Columns(long[] ids, Object[] data, Utf8Arena arena) {
+            this.ids = ids;
+            this.data = data;
+            this.arena = arena;
+        }
+
+        static <R> Columns build(TableSchema<R> schema, Collection<R> records, boolean offHeap) {
+            List<R> sorted = records.stream()
+                    .filter(record -> schema.idOf(record) != null)
+                    .sorted(Comparator.comparing(schema::idOf))
+                    .toList();
+            long[] ids = sorted.stream().mapToLong(schema::idOf).toArray();
+            Utf8Arena arena = new Utf8Arena(sorted.size() * 16, offHeap);
+
+            Object[] data = new Object[schema.columns().size()];
+            for (int position = 0; position < data.length; position++) {
+                TableSchema.Column<R> column = schema.columns().get(position);
+                data[position] = switch (column.kind()) {
+                    case TEXT -> TextColumn.build(values(sorted, column), arena, column.indexed());
+                    case DICTIONARY -> DictionaryColumn.build(values(sorted, column), column.indexed());
+                    case LONG -> sorted.stream()
+                            .mapToLong(record -> {
+                                Long value = (Long) column.getter().apply(record);
+                                return value == null ? NULL_LONG : value;
+                            })
+                            .toArray();
+                    case TIMESTAMP -> sorted.stream()
+                            .mapToLong(record -> {
+                                LocalDateTime value = (LocalDateTime) column.getter().apply(record);
+                                return value == null ? NULL_LONG
+                                        : value.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + value.getNano();
+                            })
+                            .toArray();
+                };
+            }
+            return new Columns(ids, data, arena);
+        }
+
+        private static <R> String[] values(List<R> records, TableSchema.Column<R> column) {
+            return records.stream().map(record -> (String) column.getter().apply(record)).toArray(String[]::new);
+        }
+    }
+
+    private static final class TextColumn {
+
+        private final int[] offsets;
+        private final int[] lengths;
+        // Exact-match hash index: bucket heads and per-row chain links hold row + 1, zero ends a chain
+        private final int[] hashes;
+        private final int[] buckets;
+        private final int[] next;
+
+        private TextColumn(int[] offsets, int[] lengths, int[] hashes, int[] buckets, int[] next) {
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.hashes = hashes;
+            this.buckets = buckets;
+            this.next = next;
+        }
+
+        static TextColumn build(String[] values, Utf8Arena arena, boolean indexed) {
+            int[] offsets = new int[values.length];
+            int[] lengths = new int[values.length];
+            for (int row = 0; row < values.length; row++) {
+                if (values[row] == null) {
+                    lengths[row] = NULL_LENGTH;
+                } else {
+                    byte[] utf8 = Utf8Arena.encode(values[row]);
+                    offsets[row] = arena.append(utf8);
+                    lengths[row] = utf8.length;
+                }
+            }
+            if (!indexed) {
+                return new TextColumn(offsets, lengths, null, null, null);
+            }
+
+            int[] hashes = new int[values.length];
+            int[] buckets = new int[Integer.highestOneBit(Math.max(2, values.length * 2) - 1) << 1];
+            int[] next = new int[values.length];
+            // Insert from the back so that each chain lists rows in ascending order
+            for (int row = values.length - 1; row >= 0; row--) {
+                if (values[row] != null) {
+                    hashes[row] = values[row].hashCode();
+                    int bucket = hashes[row] & (buckets.length - 1);
+                    next[row] = buckets[bucket];
+                    buckets[bucket] = row + 1;
+                }
+            }
+            return new TextColumn(offsets, lengths, hashes, buckets, next);
+        }
+
+        String read(int row, Utf8Arena arena) {
+            return lengths[row] == NULL_LENGTH ? null : arena.read(offsets[row], lengths[row]);
+        }
+
+        void rowsEqualTo(String value, Utf8Arena arena, IntConsumer rows) {
+            int hash = value.hashCode();
+            byte[] utf8 = Utf8Arena.encode(value);
+            for (int entry = buckets[hash & (buckets.length - 1)]; entry != 0; entry = next[entry - 1]) {
+                int row = entry - 1;
+                if (hashes[row] == hash && arena.equalsAt(offsets[row], lengths[row], utf8)) {
+                    rows.accept(row);
+                }
+            }
+        }
+    }
+
+    private static final class DictionaryColumn {
+
+        private final int[] codes;
+        private final String[] values;
+        private final Map<String, Integer> codesByValue;
+        // Rows per code, grouped by code, when the column is indexed
+        private final int[] postingStarts;
+        private final int[] postingRows;
+
+        private DictionaryColumn(int[] codes, String[] values, Map<String, Integer> codesByValue,
+                                 int[] postingStarts, int[] postingRows) {
+            this.codes = codes;
+            this.values = values;
+            this.codesByValue = codesByValue;
+            this.postingStarts = postingStarts;
+            this.postingRows = postingRows;
+        }
+
+        static DictionaryColumn build(String[] rowValues, boolean indexed) {
+            Map<String, Integer> codesByValue = new HashMap<>();
+            List<String> values = new ArrayList<>();
+            int[] codes = new int[rowValues.length];
+            for (int row = 0; row < rowValues.length; row++) {
+                String value = rowValues[row];
+                if (value == null) {
+                    codes[row] = NULL_CODE;
+                } else {
+                    Integer code = codesByValue.get(value);
+                    if (code == null) {
+                        code = values.size();
+                        codesByValue.put(value, code);
+                        values.add(value);
+                    }
+                    codes[row] = code;
+                }
+            }
+            if (!indexed) {
+                return new DictionaryColumn(codes, values.toArray(String[]::new), codesByValue, null, null);
+            }
+
+            // Counting sort of rows by code keeps each posting list in ascending row order
+            int[] postingStarts = new int[values.size() + 1];
+            for (int code : codes) {
+                if (code != NULL_CODE) {
+                    postingStarts[code + 1]++;
+                }
+            }
+            for (int code = 0; code < values.size(); code++) {
+                postingStarts[code + 1] += postingStarts[code];
+            }
+            int[] fill = Arrays.copyOf(postingStarts, values.size());
+            int[] postingRows = new int[postingStarts[values.size()]];
+            for (int row = 0; row < codes.length; row++) {
+                if (codes[row] != NULL_CODE) {
+                    postingRows[fill[codes[row]]++] = row;
+                }
+            }
+            return new DictionaryColumn(codes, values.toArray(String[]::new), codesByValue, postingStarts, postingRows);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.camunda.readmodel;
+
+import com.example.camunda.model.ExternalCompany;
+
+import java.time.LocalDateTime;
+
+public record CompanyRecord(
+        Long companyId,
+        String companyName,
+        String address,
+        String contactPerson,
+        String phoneNumber,
+        String street,
+        String city,
+        String state,
+        String zipCode,
+        String cityKey,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static CompanyRecord from(ExternalCompany company) {
+        return new CompanyRecord(company.getCompanyId(), company.getCompanyName(), company.getAddress(),
+                company.getContactPerson(), company.getPhoneNumber(), company.getStreet(), company.getCity(),
+                company.getState(), company.getZipCode(), company.getCityKey(),
+                company.getCreatedAt(), company.getUpdatedAt());
+    }
+
+    /**
+     * A detached copy for callers that work with entities; changes to it never reach the read model.
+     */
+    public ExternalCompany toEntity() {
+        ExternalCompany company = new ExternalCompany();
+        company.setCompanyId(companyId);
+        company.setCompanyName(companyName);
+        company.setAddress(address);
+        company.setContactPerson(contactPerson);
+        company.setPhoneNumber(phoneNumber);
+        company.setStreet(street);
+        company.setCity(city);
+        company.setState(state);
+        company.setZipCode(zipCode);
+        company.setCityKey(cityKey);
+        company.setCreatedAt(createdAt);
+        company.setUpdatedAt(updatedAt);
+        return company;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.camunda.readmodel;
+
+import com.example.camunda.model.Customer;
+
+import java.time.LocalDateTime;
+
+public record CustomerRecord(
+        Long customerId,
+        String customerName,
+        Long employeeId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static CustomerRecord from(Customer customer) {
+        return new CustomerRecord(customer.getCustomerId(), customer.getCustomerName(), customer.getEmployeeId(),
+                customer.getCreatedAt(), customer.getUpdatedAt());
+    }
+
+    /**
+     * A detached copy for callers that work with entities; changes to it never reach the read model.
+     */
+    public Customer toEntity() {
+        Customer customer = new Customer();
+        customer.setCustomerId(customerId);
+        customer.setCustomerName(customerName);
+        customer.setEmployeeId(employeeId);
+        customer.setCreatedAt(createdAt);
+        customer.setUpdatedAt(updatedAt);
+        return customer;
+    }
+}
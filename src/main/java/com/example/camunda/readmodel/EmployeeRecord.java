@@ -0,0 +1,35 @@
+package com.example.camunda.readmodel;
+
+import com.example.camunda.model.Employee;
+
+import java.time.LocalDateTime;
+
+public record EmployeeRecord(
+        Long employeeId,
+        String fullName,
+        String jobTitle,
+        String department,
+        String phoneNumber,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static EmployeeRecord from(Employee employee) {
+        return new EmployeeRecord(employee.getEmployeeId(), employee.getFullName(), employee.getJobTitle(),
+                employee.getDepartment(), employee.getPhoneNumber(), employee.getCreatedAt(), employee.getUpdatedAt());
+    }
+
+    /**
+     * A detached copy without the customer collection; changes to it never reach the read model.
+     */
+    public Employee toEntity() {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setFullName(fullName);
+        employee.setJobTitle(jobTitle);
+        employee.setDepartment(department);
+        employee.setPhoneNumber(phoneNumber);
+        employee.setCreatedAt(createdAt);
+        employee.setUpdatedAt(updatedAt);
+        return employee;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.camunda.readmodel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Describes how a record type is laid out in a {@link ColumnarTable}: which fields are free text
+ * (stored in a UTF-8 arena), which repeat often enough to be dictionary-encoded, and which carry
+ * an exact-match index.
+ */
+public final class TableSchema<R> {
+
+    enum Kind { TEXT, DICTIONARY, LONG, TIMESTAMP }
+
+    record Column<R>(String name, Kind kind, Function<R, ?> getter, boolean indexed) {
+    }
+
+    /**
+     * Field access for one stored row while it is turned back into a record.
+     */
+    public interface Row {
+
+        long id();
+
+        String text(String column);
+
+        Long longValue(String column);
+
+        LocalDateTime timestamp(String column);
+    }
+
+    private final Function<R, Long> idOf;
+    private final List<Column<R>> columns;
+    private final Map<String, Integer> positions;
+    private final Function<Row, R> assembler;
+
+    private TableSchema(Function<R, Long> idOf, List<Column<R>> columns, Function<Row, R> assembler) {
+        this.idOf = idOf;
+        this.columns = List.copyOf(columns);
+        this.assembler = assembler;
+        this.positions = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            positions.put(columns.get(i).name(), i);
+        }
+    }
+
+    public static <R> Builder<R> builder(Function<R, Long> idOf) {
+        return new Builder<>(idOf);
+    }
+
+    Long idOf(R record) {
+        return idOf.apply(record);
+    }
+
+    List<Column<R>> columns() {
+        return columns;
+    }
+
+    int position(String column) {
+        Integer position = positions.get(column);
+        if (position == null) {
+            throw new IllegalArgumentException("Unknown column: " + column);
+        }
+        return position;
+    }
+
+    R assemble(Row row) {
+        return assembler.apply(row);
+    }
+
+    public static final class Builder<R> {
+
+        private final Function<R, Long> idOf;
+        private final List<Column<R>> columns = new ArrayList<>();
+
+        private Builder(Function<R, Long> idOf) {
+            this.idOf = idOf;
+        }
+
+        public Builder<R> text(String name, Function<R, String> getter) {
+            return add(name, Kind.TEXT, getter, false);
+        }
+
+        public Builder<R> indexedText(String name, Function<R, String> getter) {
+            return add(name, Kind.TEXT, getter, true);
+        }
+
+        public Builder<R> dictionary(String name, Function<R, String> getter) {
+            return add(name, Kind.DICTIONARY, getter, false);
+        }
+
+        public Builder<R> indexedDictionary(String name, Function<R, String> getter) {
+            return add(name, Kind.DICTIONARY, getter, true);
+        }
+
+        public Builder<R> longValue(String name, Function<R, Long> getter) {
+            return add(name, Kind.LONG, getter, false);
+        }
+
+        public Builder<R> timestamp(String name, Function<R, LocalDateTime> getter) {
+            return add(name, Kind.TIMESTAMP, getter, false);
+        }
+
+        public TableSchema<R> build(Function<Row, R> assembler) {
+            return new TableSchema<>(idOf, columns, assembler);
+        }
+
+        private Builder<R> add(String name, Kind kind, Function<R, ?> getter, boolean indexed) {
+            columns.add(new Column<>(name, kind, getter, indexed));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.camunda.readmodel;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Append-only store of UTF-8 encoded strings in one contiguous buffer, addressed by offset and length.
+ * The buffer lives on the heap or, if requested, off-heap in a direct {@link ByteBuffer}.
+ * Appends are single-threaded during a build; reads are safe from any thread afterwards.
+ */
+public final class Utf8Arena {
+
+    private final boolean direct;
+    private ByteBuffer buffer;
+    private int size;
+
+    public Utf8Arena(int initialCapacity, boolean direct) {
+        this.direct = direct;
+        this.buffer = allocate(Math.max(64, initialCapacity));
+    }
+
+    /**
+     * Appends already encoded bytes and returns their offset.
+     */
+    public int append(byte[] utf8) {
+        ensureCapacity(size + utf8.length);
+        buffer.put(size, utf8);
+        int offset = size;
+        size += utf8.length;
+        return offset;
+    }
+
+    public String read(int offset, int length) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares the stored bytes with {@code utf8} without decoding them.
+     */
+    public boolean equalsAt(int offset, int length, byte[] utf8) {
+        if (length != utf8.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.capacity()) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(required, buffer.capacity() * 2L));
+            if (capacity < required) {
+                throw new IllegalStateException("Arena cannot hold more than " + capacity + " bytes");
+            }
+            ByteBuffer grown = allocate(capacity);
+            grown.put(0, buffer, 0, size);
+            buffer = grown;
+        }
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.camunda.replica;
+
+import com.example.camunda.config.CatalogProperties;
+import org.h2.tools.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary mode: keeps using the embedded file database and additionally serves it over H2's TCP
+ * protocol, so replicas can write to it and copy from it while this process holds the file lock.
+ * The server only accepts local connections unless {@code catalog.deployment.h2-tcp-allow-others} is set,
+ * and the primary refuses to start without a database password.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog.deployment.mode", havingValue = "primary")
+public class H2ServerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public Server h2TcpServer(CatalogProperties catalogProperties, DataSourceProperties dataSourceProperties)
+            throws SQLException {
+        if (!StringUtils.hasText(dataSourceProperties.getPassword())) {
+            throw new IllegalStateException("Primary mode serves the database over TCP; "
+                    + "set spring.datasource.password before starting it");
+        }
+        CatalogProperties.Deployment deployment = catalogProperties.getDeployment();
+        List<String> args = new ArrayList<>(List.of("-tcp", "-tcpPort", String.valueOf(deployment.getH2TcpPort())));
+        if (deployment.isH2TcpAllowOthers()) {
+            args.add("-tcpAllowOthers");
+        }
+        return Server.createTcpServer(args.toArray(String[]::new));
+    }
+}
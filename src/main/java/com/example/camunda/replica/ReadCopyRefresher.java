@@ -0,0 +1,271 @@
+package com.example.camunda.replica;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.EntityChangeLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Keeps a replica's read copy in step with the primary. At start-up the copy is loaded from an
+ * H2 {@code SCRIPT} snapshot of the primary's tables; afterwards catalog rows named in the entity
+ * change log are re-copied (or deleted), and new job history rows are copied by ID. Job history IDs are
+ * allocated in blocks by each instance, so a row can commit after rows with higher IDs; rows created within
+ * {@code catalog.change-log.gap-timeout} are re-checked and copied if the cursor passed them. Job history rows
+ * rewritten after their insert, such as by the variables migration, are re-copied by {@code updated_at}, and
+ * rows removed by the primary's retention are dropped from the copy too. Read-only traffic is routed to the copy only once it has been loaded.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.deployment.mode", havingValue = "replica")
+@RequiredArgsConstructor
+@Slf4j
+public class ReadCopyRefresher {
+
+    private static final String JOB_HISTORY = "job_history";
+    private static final CopiedTable JOB_HISTORY_TABLE = new CopiedTable(JOB_HISTORY, "id");
+
+    private static final Map<EntityChangeLog.EntityType, CopiedTable> CATALOG_TABLES = Map.of(
+            EntityChangeLog.EntityType.CUSTOMER, new CopiedTable("customers", "customer_id"),
+            EntityChangeLog.EntityType.EMPLOYEE, new CopiedTable("employees", "employee_id"),
+            EntityChangeLog.EntityType.COMPANY, new CopiedTable("external_companies", "company_id"));
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final CatalogProperties catalogProperties;
+
+    private long jobHistoryCursor;
+    private Timestamp jobHistoryUpdatedAt = new Timestamp(0);
+    private long jobHistoryUpdatedId;
+
+    private record CopiedTable(String name, String idColumn) {
+    }
+
+    /**
+     * Loads the copy after the change log cursor has been taken and before the catalog indexes
+     * are built from it, so no change falls between the snapshot and the log.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public synchronized void load() throws SQLException {
+        long start = System.currentTimeMillis();
+        int statements = 0;
+        try (Connection primary = routingDataSource.primary().getConnection();
+             Connection copy = routingDataSource.readCopy().getConnection();
+             Statement snapshot = primary.createStatement();
+             Statement target = copy.createStatement()) {
+            target.execute("DROP ALL OBJECTS");
+            // The primary enforces integrity; rows may reach the copy in any order
+            target.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            try (ResultSet script = snapshot.executeQuery("SCRIPT NOPASSWORDS NOSETTINGS NOVERSION TABLE "
+                    + "customers, employees, external_companies, " + JOB_HISTORY)) {
+                while (script.next()) {
+                    String sql = script.getString(1);
+                    if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                        target.execute(sql);
+                        statements++;
+                    }
+                }
+            }
+            try (ResultSet max = target.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + JOB_HISTORY)) {
+                max.next();
+                jobHistoryCursor = max.getLong(1);
+            }
+            try (ResultSet last = target.executeQuery("SELECT updated_at, id FROM " + JOB_HISTORY
+                    + " ORDER BY updated_at DESC, id DESC LIMIT 1")) {
+                if (last.next()) {
+                    jobHistoryUpdatedAt = last.getTimestamp(1);
+                    jobHistoryUpdatedId = last.getLong(2);
+                }
+            }
+        }
+        routingDataSource.setReadCopyReady(true);
+        log.info("Loaded the read copy from a snapshot of the primary ({} statements) in {}ms",
+                statements, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Re-copies every catalog row named in the entries, including this replica's own writes,
+     * which went to the primary.
+     */
+    public synchronized void apply(List<EntityChangeLog> entries) {
+        if (!routingDataSource.isReadCopyReady() || entries.isEmpty()) {
+            return;
+        }
+        Map<String, EntityChangeLog> latest = new LinkedHashMap<>();
+        entries.forEach(entry -> latest.put(entry.getEntityType() + ":" + entry.getEntityId(), entry));
+        try (Connection primary = routingDataSource.primary().getConnection();
+             Connection copy = routingDataSource.readCopy().getConnection()) {
+            for (EntityChangeLog entry : latest.values()) {
+                copyRow(primary, copy, CATALOG_TABLES.get(entry.getEntityType()), entry.getEntityId());
+            }
+        } catch (SQLException e) {
+            // The rows are re-copied at the next start-up at the latest
+            log.warn("Could not apply {} change log entries to the read copy", latest.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.change-log.poll-interval-ms:1000}")
+    public synchronized void copyNewJobHistory() {
+        if (!routingDataSource.isReadCopyReady()) {
+            return;
+        }
+        try (Connection primary = routingDataSource.primary().getConnection();
+             Connection copy = routingDataSource.readCopy().getConnection();
+             PreparedStatement select = primary.prepareStatement(
+                     "SELECT * FROM " + JOB_HISTORY + " WHERE id > ? ORDER BY id LIMIT 1000")) {
+            // Recent rows the copy lacks that are behind the cursor committed after it moved past them
+            Timestamp recent = Timestamp.valueOf(
+                    LocalDateTime.now().minus(catalogProperties.getChangeLog().getGapTimeout()));
+            Set<Long> late = recentIds(primary, recent);
+            late.removeAll(recentIds(copy, recent));
+            long copiedUpTo = jobHistoryCursor;
+            select.setLong(1, jobHistoryCursor);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    merge(copy, JOB_HISTORY, "id", rows);
+                    jobHistoryCursor = rows.getLong("id");
+                }
+            }
+            for (Long id : late) {
+                if (id <= copiedUpTo) {
+                    copyRow(primary, copy, JOB_HISTORY_TABLE, id);
+                }
+            }
+            copyUpdatedJobHistory(primary, copy);
+        } catch (SQLException e) {
+            log.warn("Could not copy new job history to the read copy", e);
+        }
+    }
+
+    /**
+     * Retention removes every row of a status executed before some cutoff, so the oldest execution time
+     * the primary still has for a status tells which of the copy's rows are gone.
+     */
+    @Scheduled(initialDelayString = "${job-history.retention.interval-ms:600000}",
+            fixedDelayString = "${job-history.retention.interval-ms:600000}")
+    public synchronized void pruneJobHistory() {
+        if (!routingDataSource.isReadCopyReady()) {
+            return;
+        }
+        try (Connection primary = routingDataSource.primary().getConnection();
+             Connection copy = routingDataSource.readCopy().getConnection();
+             Statement statuses = copy.createStatement();
+             PreparedStatement oldest = primary.prepareStatement(
+                     "SELECT MIN(execution_time) FROM " + JOB_HISTORY + " WHERE status = ?");
+             PreparedStatement delete = copy.prepareStatement(
+                     "DELETE FROM " + JOB_HISTORY + " WHERE status = ? AND (? IS NULL OR execution_time < ?)")) {
+            int deleted = 0;
+            try (ResultSet rows = statuses.executeQuery("SELECT DISTINCT status FROM " + JOB_HISTORY)) {
+                while (rows.next()) {
+                    String status = rows.getString(1);
+                    oldest.setString(1, status);
+                    Timestamp kept;
+                    try (ResultSet min = oldest.executeQuery()) {
+                        min.next();
+                        kept = min.getTimestamp(1);
+                    }
+                    delete.setString(1, status);
+                    delete.setTimestamp(2, kept);
+                    delete.setTimestamp(3, kept);
+                    deleted += delete.executeUpdate();
+                }
+            }
+            if (deleted > 0) {
+                log.debug("Dropped {} job history rows the primary no longer has from the read copy", deleted);
+            }
+        } catch (SQLException e) {
+            log.warn("Could not drop removed job history from the read copy", e);
+        }
+    }
+
+    /**
+     * Re-copies rows the cursor has passed that were updated after their insert, in {@code (updated_at, id)}
+     * order from where the previous poll stopped. Inserts stamp both timestamps alike and are copied by ID.
+     */
+    private void copyUpdatedJobHistory(Connection primary, Connection copy) throws SQLException {
+        try (PreparedStatement select = primary.prepareStatement("SELECT * FROM " + JOB_HISTORY
+                + " WHERE (updated_at > ? OR (updated_at = ? AND id > ?)) AND updated_at > created_at AND id <= ?"
+                + " ORDER BY updated_at, id LIMIT 1000")) {
+            select.setTimestamp(1, jobHistoryUpdatedAt);
+            select.setTimestamp(2, jobHistoryUpdatedAt);
+            select.setLong(3, jobHistoryUpdatedId);
+            select.setLong(4, jobHistoryCursor);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    merge(copy, JOB_HISTORY, "id", rows);
+                    jobHistoryUpdatedAt = rows.getTimestamp("updated_at");
+                    jobHistoryUpdatedId = rows.getLong("id");
+                }
+            }
+        }
+    }
+
+    private static Set<Long> recentIds(Connection connection, Timestamp since) throws SQLException {
+        Set<Long> ids = new LinkedHashSet<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id FROM " + JOB_HISTORY + " WHERE created_at >= ?")) {
+            select.setTimestamp(1, since);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    ids.add(rows.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void copyRow(Connection primary, Connection copy, CopiedTable table, Long id) throws SQLException {
+        try (PreparedStatement select = primary.prepareStatement(
+                "SELECT * FROM " + table.name() + " WHERE " + table.idColumn() + " = ?")) {
+            select.setLong(1, id);
+            try (ResultSet row = select.executeQuery()) {
+                if (row.next()) {
+                    merge(copy, table.name(), table.idColumn(), row);
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement delete = copy.prepareStatement(
+                "DELETE FROM " + table.name() + " WHERE " + table.idColumn() + " = ?")) {
+            delete.setLong(1, id);
+            delete.executeUpdate();
+        }
+    }
+
+    private static void merge(Connection copy, String table, String idColumn, ResultSet row) throws SQLException {
+        ResultSetMetaData columns = row.getMetaData();
+        StringJoiner names = new StringJoiner(", ");
+        StringJoiner placeholders = new StringJoiner(", ");
+        for (int i = 1; i <= columns.getColumnCount(); i++) {
+            names.add(columns.getColumnName(i));
+            placeholders.add("?");
+        }
+        try (PreparedStatement merge = copy.prepareStatement("MERGE INTO " + table + " (" + names + ") KEY ("
+                + idColumn + ") VALUES (" + placeholders + ")")) {
+            for (int i = 1; i <= columns.getColumnCount(); i++) {
+                merge.setObject(i, row.getObject(i));
+            }
+            merge.executeUpdate();
+        }
+    }
+}
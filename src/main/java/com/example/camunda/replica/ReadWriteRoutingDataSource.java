@@ -0,0 +1,52 @@
+package com.example.camunda.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica's local read copy once it has been loaded,
+ * and everything else to the primary. Wrapped in a lazy connection proxy so that the
+ * transaction's read-only flag is known by the time a connection is actually fetched.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target { PRIMARY, READ_COPY }
+
+    private final DataSource primary;
+    private final DataSource readCopy;
+
+    private volatile boolean readCopyReady;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource readCopy) {
+        this.primary = primary;
+        this.readCopy = readCopy;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.READ_COPY, readCopy));
+        setDefaultTargetDataSource(primary);
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public DataSource readCopy() {
+        return readCopy;
+    }
+
+    public boolean isReadCopyReady() {
+        return readCopyReady;
+    }
+
+    void setReadCopyReady(boolean readCopyReady) {
+        this.readCopyReady = readCopyReady;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return readCopyReady && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Target.READ_COPY
+                : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.camunda.replica;
+
+import com.example.camunda.config.CatalogProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replica mode: {@code spring.datasource.*} points at the primary's H2 TCP server, and read-only
+ * transactions are served from an in-process read copy instead (see {@link ReadCopyRefresher}).
+ * Services are unaware of the routing; it follows their {@code @Transactional(readOnly = true)}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog.deployment.mode", havingValue = "replica")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties,
+                                                        CatalogProperties catalogProperties) {
+        DataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        DataSource readCopy = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(catalogProperties.getDeployment().getReadCopyUrl())
+                .username("sa")
+                .password("")
+                .build();
+        return new ReadWriteRoutingDataSource(primary, readCopy);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
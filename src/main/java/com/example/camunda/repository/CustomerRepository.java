@@ -1,11 +1,52 @@
 package com.example.camunda.repository;
 
+import com.example.camunda.dto.CustomerDTO;
 import com.example.camunda.model.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Customer> findByCustomerId(Long customerId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Customer> findByCustomerName(String customerName);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Customer> findByCustomerIdOrCustomerName(Long customerId, String customerName);
+    
+    List<Customer> findByEmployeeIdIn(Collection<Long> employeeIds);
+    
+    @Query("SELECT c.customerId FROM Customer c")
+    List<Long> findAllIds();
+
+    boolean existsByCustomerNameIgnoreCase(String customerName);
+
+    @Query("SELECT COALESCE(MAX(c.customerId), 0) FROM Customer c")
+    long findMaxCustomerId();
+    
+    /**
+     * Unmanaged rows for export, read in batches from an open cursor; must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.camunda.dto.CustomerDTO(c.customerId, c.customerName, c.employeeId, " +
+           "c.createdAt, c.updatedAt) FROM Customer c WHERE " +
+           "(:namePattern IS NULL OR LOWER(c.customerName) LIKE :namePattern ESCAPE '\\') AND " +
+           "(:employeeId IS NULL OR c.employeeId = :employeeId) ORDER BY c.customerId")
+    Stream<CustomerDTO> streamForExport(@Param("namePattern") String namePattern,
+                                        @Param("employeeId") Long employeeId);
 }
@@ -1,21 +1,33 @@
 package com.example.camunda.repository;
 
+import com.example.camunda.dto.EmployeeDTO;
+import com.example.camunda.dto.EmployeeSummary;
 import com.example.camunda.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Employee> findByFullName(String fullName);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Employee> findByFullNameContainingIgnoreCase(String fullName);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Employee> findByDepartment(String department);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Employee> findByJobTitle(String jobTitle);
     
     @Query("SELECT e FROM Employee e WHERE " +
@@ -25,4 +37,32 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     List<Employee> searchEmployees(@Param("fullName") String fullName, 
                                   @Param("department") String department, 
                                   @Param("jobTitle") String jobTitle);
+    
+    @Query("SELECT e.employeeId FROM Employee e")
+    List<Long> findAllIds();
+    
+    @Query("SELECT e.employeeId FROM Employee e WHERE e.employeeId IN :employeeIds")
+    List<Long> findExistingIds(@Param("employeeIds") Collection<Long> employeeIds);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.camunda.dto.EmployeeSummary(e.employeeId, e.fullName, e.jobTitle, " +
+           "e.department, e.phoneNumber) FROM Employee e WHERE e.employeeId IN :employeeIds")
+    List<EmployeeSummary> findSummariesByEmployeeIdIn(@Param("employeeIds") Collection<Long> employeeIds);
+    
+    /**
+     * Unmanaged rows for export, read in batches from an open cursor; must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.camunda.dto.EmployeeDTO(e.employeeId, e.fullName, e.jobTitle, e.department, " +
+           "e.phoneNumber, e.createdAt, e.updatedAt) FROM Employee e WHERE " +
+           "(:namePattern IS NULL OR LOWER(e.fullName) LIKE :namePattern ESCAPE '\\') AND " +
+           "(:department IS NULL OR e.department = :department) AND " +
+           "(:jobTitlePattern IS NULL OR LOWER(e.jobTitle) LIKE :jobTitlePattern ESCAPE '\\') ORDER BY e.employeeId")
+    Stream<EmployeeDTO> streamForExport(@Param("namePattern") String namePattern,
+                                        @Param("department") String department,
+                                        @Param("jobTitlePattern") String jobTitlePattern);
 }
@@ -0,0 +1,46 @@
+package com.example.camunda.repository;
+
+import com.example.camunda.model.EntityChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EntityChangeLogRepository extends JpaRepository<EntityChangeLog, Long> {
+    
+    // Reads are not read-only transactions: replicas route those to their read copy, which has no change log
+    
+    @Transactional
+    List<EntityChangeLog> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    @Transactional
+    Optional<EntityChangeLog> findTopByOrderByIdDesc();
+    
+    @Override
+    @Transactional
+    List<EntityChangeLog> findAllById(Iterable<Long> ids);
+    
+    @Transactional
+    @Query("SELECT c.id FROM EntityChangeLog c WHERE c.createdAt >= :since ORDER BY c.id")
+    List<Long> findIdsCreatedSince(@Param("since") LocalDateTime since);
+    
+    // Called while the catalog is built inside a read-only transaction, so it needs its own
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("SELECT DISTINCT c.entityId FROM EntityChangeLog c WHERE c.entityType = :entityType AND c.id > :after")
+    List<Long> findEntityIdsChangedAfter(@Param("entityType") EntityChangeLog.EntityType entityType,
+                                         @Param("after") long after);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EntityChangeLog c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,10 +1,52 @@
 package com.example.camunda.repository;
 
+import com.example.camunda.dto.CompanyDTO;
 import com.example.camunda.model.ExternalCompany;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ExternalCompanyRepository extends JpaRepository<ExternalCompany, Long> {
+public interface ExternalCompanyRepository extends JpaRepository<ExternalCompany, Long>, JpaSpecificationExecutor<ExternalCompany> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ExternalCompany> findByCompanyId(Long companyId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ExternalCompany> findByCompanyName(String companyName);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ExternalCompany> findByCityKey(String cityKey);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ExternalCompany> findByCityKeyIn(Collection<String> cityKeys);
+    
+    @Query("SELECT DISTINCT c.cityKey FROM ExternalCompany c WHERE c.cityKey IS NOT NULL")
+    List<String> findDistinctCityKeys();
+    
+    List<ExternalCompany> findByCityKeyIsNullAndAddressIsNotNull();
+    
+    @Query("SELECT c.companyId FROM ExternalCompany c")
+    List<Long> findAllIds();
+    
+    /**
+     * Unmanaged rows for export, read in batches from an open cursor; must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("SELECT new com.example.camunda.dto.CompanyDTO(c.companyId, c.companyName, c.address, c.contactPerson, " +
+           "c.phoneNumber, c.street, c.city, c.state, c.zipCode, c.createdAt, c.updatedAt) FROM ExternalCompany c WHERE " +
+           "(:namePattern IS NULL OR LOWER(c.companyName) LIKE :namePattern ESCAPE '\\') AND " +
+           "(:cityKey IS NULL OR c.cityKey = :cityKey) ORDER BY c.companyId")
+    Stream<CompanyDTO> streamForExport(@Param("namePattern") String namePattern, @Param("cityKey") String cityKey);
 }
@@ -1,18 +1,37 @@
 package com.example.camunda.repository;
 
 import com.example.camunda.model.JobHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface JobHistoryRepository extends JpaRepository<JobHistory, Long> {
+public interface JobHistoryRepository extends JpaRepository<JobHistory, Long>, JpaSpecificationExecutor<JobHistory> {
     
-    long countByExecutionTimeAfter(LocalDateTime startTime);
+    /**
+     * The row count and the highest ID, read in one query that needs neither a scan nor a sort.
+     */
+    interface Extent {
+        long getEntries();
+        
+        long getLastId();
+    }
     
-    @Query("SELECT j.jobType as jobType, COUNT(j) as count FROM JobHistory j GROUP BY j.jobType")
-    Map<String, Long> countJobsByType();
+    @Query("SELECT COUNT(*) AS entries, COALESCE(MAX(j.id), 0) AS lastId FROM JobHistory j")
+    Extent findExtent();
+    
+    List<JobHistory> findByStatusAndExecutionTimeBeforeOrderByExecutionTimeAsc(String status, LocalDateTime before,
+                                                                                Pageable pageable);
+    
+    List<JobHistory> findByExecutionTimeBeforeOrderByExecutionTimeAsc(LocalDateTime before, Pageable pageable);
+    
+    List<JobHistory> findByStatusNotInAndExecutionTimeBeforeOrderByExecutionTimeAsc(Collection<String> statuses,
+                                                                                   LocalDateTime before,
+                                                                                   Pageable pageable);
 }
@@ -0,0 +1,20 @@
+package com.example.camunda.repository;
+
+import com.example.camunda.model.JobMetricsRollup;
+import com.example.camunda.model.JobMetricsRollup.Granularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobMetricsRollupRepository extends JpaRepository<JobMetricsRollup, Long> {
+    
+    List<JobMetricsRollup> findByGranularity(Granularity granularity);
+    
+    List<JobMetricsRollup> findByGranularityAndBucketStart(Granularity granularity, LocalDateTime bucketStart);
+    
+    List<JobMetricsRollup> findByGranularityAndBucketStartGreaterThanEqualOrderByBucketStartAsc(
+            Granularity granularity, LocalDateTime from);
+}
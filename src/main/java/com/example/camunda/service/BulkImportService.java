@@ -0,0 +1,450 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.dto.CompanyDTO;
+import com.example.camunda.dto.CustomerDTO;
+import com.example.camunda.dto.EmployeeDTO;
+import com.example.camunda.exception.ImportJobNotFoundException;
+import com.example.camunda.importer.ImportFormat;
+import com.example.camunda.importer.ImportJob;
+import com.example.camunda.importer.ImportRow;
+import com.example.camunda.importer.ImportTable;
+import com.example.camunda.importer.RowReader;
+import com.example.camunda.index.CatalogIndexManager;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.model.ExternalCompany;
+import com.example.camunda.repository.CustomerRepository;
+import com.example.camunda.repository.EmployeeRepository;
+import com.example.camunda.repository.ExternalCompanyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Loads catalog tables from CSV or NDJSON without going through the per-entity save path.
+ * Rows are read as a stream and handled a chunk at a time: the chunk is validated in parallel against the
+ * entities' bean validation constraints, upserted with one batched JDBC {@code MERGE} in its own transaction,
+ * recorded in the change log in one batch, and handed to the indexes and the read model as a whole after commit.
+ * Rejected rows, including rows replaced by a later row with the same ID in their chunk, are counted and
+ * reported by input line once their chunk's outcome is known; they never abort the import.
+ * Uploaded files are spooled to disk and imported one at a time in the background.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportService {
+
+    private static final long PROGRESS_LOG_INTERVAL_MS = 10_000;
+
+    private static final String MERGE_EMPLOYEE = "MERGE INTO employees t USING (VALUES (CAST(? AS BIGINT), "
+            + "CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS TIMESTAMP(6)))) "
+            + "AS s (employee_id, full_name, job_title, department, phone_number, ts) ON t.employee_id = s.employee_id "
+            + "WHEN MATCHED THEN UPDATE SET full_name = s.full_name, job_title = s.job_title, "
+            + "department = s.department, phone_number = s.phone_number, updated_at = s.ts "
+            + "WHEN NOT MATCHED THEN INSERT (employee_id, full_name, job_title, department, phone_number, "
+            + "created_at, updated_at) VALUES (s.employee_id, s.full_name, s.job_title, s.department, "
+            + "s.phone_number, s.ts, s.ts)";
+
+    private static final String MERGE_CUSTOMER = "MERGE INTO customers t USING (VALUES (CAST(? AS BIGINT), "
+            + "CAST(? AS VARCHAR), CAST(? AS BIGINT), CAST(? AS TIMESTAMP(6)))) "
+            + "AS s (customer_id, customer_name, employee_id, ts) ON t.customer_id = s.customer_id "
+            + "WHEN MATCHED THEN UPDATE SET customer_name = s.customer_name, employee_id = s.employee_id, "
+            + "updated_at = s.ts "
+            + "WHEN NOT MATCHED THEN INSERT (customer_id, customer_name, employee_id, created_at, updated_at) "
+            + "VALUES (s.customer_id, s.customer_name, s.employee_id, s.ts, s.ts)";
+
+    private static final String MERGE_COMPANY = "MERGE INTO external_companies t USING (VALUES (CAST(? AS BIGINT), "
+            + "CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), "
+            + "CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS TIMESTAMP(6)))) "
+            + "AS s (company_id, company_name, address, contact_person, phone_number, street, city, state, zip_code, "
+            + "city_key, ts) ON t.company_id = s.company_id "
+            + "WHEN MATCHED THEN UPDATE SET company_name = s.company_name, address = s.address, "
+            + "contact_person = s.contact_person, phone_number = s.phone_number, street = s.street, city = s.city, "
+            + "state = s.state, zip_code = s.zip_code, city_key = s.city_key, updated_at = s.ts "
+            + "WHEN NOT MATCHED THEN INSERT (company_id, company_name, address, contact_person, phone_number, street, "
+            + "city, state, zip_code, city_key, created_at, updated_at) VALUES (s.company_id, s.company_name, "
+            + "s.address, s.contact_person, s.phone_number, s.street, s.city, s.state, s.zip_code, s.city_key, "
+            + "s.ts, s.ts)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CatalogIndexManager catalogIndexManager;
+    private final CatalogProperties catalogProperties;
+    private final EmployeeRepository employeeRepository;
+    private final CustomerRepository customerRepository;
+    private final ExternalCompanyRepository companyRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Imports compete for the same tables and indexes, so they run one after another
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bulk-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    /**
+     * How one table's rows become entities and reach the database.
+     */
+    private record TableWriter<R, E>(
+            Class<E> entityType,
+            Function<R, E> toEntity,
+            Function<E, Long> idOf,
+            String mergeSql,
+            ParameterizedPreparedStatementSetter<E> parameters,
+            // Rows rejected for referring to missing data, by ID, with the reason
+            Function<List<E>, Map<Long, String>> missingReferences,
+            Function<List<Long>, List<E>> reload,
+            Consumer<List<E>> saved) {
+    }
+
+    private record Checked<E>(long line, E entity, String error) {
+    }
+
+    /**
+     * IDs written by a chunk's transaction, and the rows it left out for referring to missing data.
+     */
+    private record Written(List<Long> ids, Map<Long, String> missing) {
+    }
+
+    /**
+     * Copies the upload to a temporary file and queues its import; the returned job reports progress.
+     */
+    public ImportJob submit(ImportTable table, ImportFormat format, InputStream body, boolean gzip) throws IOException {
+        Path spool = Files.createTempFile("catalog-import-" + table.path() + "-", "." + format.extension());
+        try (body) {
+            Files.copy(body, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+        ImportJob job = register(table, format);
+        log.info("Queued {} import {} ({} bytes spooled)", table.path(), job.id(), Files.size(spool));
+        executor.execute(() -> {
+            try {
+                run(job, spool, gzip);
+            } finally {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    log.warn("Could not delete spooled import {}", spool, e);
+                }
+            }
+        });
+        return job;
+    }
+
+    /**
+     * Imports a file in the calling thread; a {@code .gz} file is decompressed on the fly.
+     */
+    public ImportJob importFile(ImportTable table, ImportFormat format, Path file) {
+        ImportJob job = register(table, format);
+        run(job, file, file.getFileName().toString().toLowerCase().endsWith(".gz"));
+        return job;
+    }
+
+    public ImportJob getJob(String jobId) {
+        synchronized (jobs) {
+            ImportJob job = jobs.get(jobId);
+            if (job == null) {
+                throw new ImportJobNotFoundException("Import job not found with ID: " + jobId);
+            }
+            return job;
+        }
+    }
+
+    /**
+     * Known jobs, most recent first.
+     */
+    public List<ImportJob> getJobs() {
+        synchronized (jobs) {
+            List<ImportJob> recent = new ArrayList<>(jobs.values());
+            Collections.reverse(recent);
+            return recent;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ImportJob register(ImportTable table, ImportFormat format) {
+        ImportJob job = new ImportJob(table, format, catalogProperties.getBulkImport().getMaxReportedErrors());
+        synchronized (jobs) {
+            jobs.put(job.id(), job);
+            int excess = jobs.size() - catalogProperties.getBulkImport().getRetainedJobs();
+            Iterator<ImportJob> oldest = jobs.values().iterator();
+            while (excess > 0 && oldest.hasNext()) {
+                if (oldest.next().isFinished()) {
+                    oldest.remove();
+                    excess--;
+                }
+            }
+        }
+        return job;
+    }
+
+    private void run(ImportJob job, Path file, boolean gzip) {
+        job.started();
+        try (InputStream in = open(file, gzip)) {
+            switch (job.table()) {
+                case EMPLOYEES -> run(job, in, EmployeeDTO.class, employeeWriter());
+                case CUSTOMERS -> run(job, in, CustomerDTO.class, customerWriter());
+                case COMPANIES -> run(job, in, CompanyDTO.class, companyWriter());
+            }
+            job.completed();
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} of {} failed", job.id(), job.table().path(), e);
+            job.failed(e.getMessage());
+        }
+        log.info("Import {} of {} {}: {} rows imported, {} rejected, {} rows/s", job.id(), job.table().path(),
+                job.status().name().toLowerCase(), job.rowsImported(), job.rowsRejected(),
+                job.progress().rowsPerSecond());
+    }
+
+    private static InputStream open(Path file, boolean gzip) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        return gzip ? new GZIPInputStream(in, 1 << 16) : in;
+    }
+
+    private <R extends Record, E> void run(ImportJob job, InputStream in, Class<R> rowType,
+                                           TableWriter<R, E> writer) throws IOException {
+        int chunkSize = catalogProperties.getBulkImport().getChunkSize();
+        long lastLogged = System.currentTimeMillis();
+        try (RowReader<R> reader = job.format().open(in, rowType, objectMapper)) {
+            List<ImportRow<R>> chunk = new ArrayList<>(chunkSize);
+            ImportRow<R> row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, writer);
+                    chunk = new ArrayList<>(chunkSize);
+                    if (System.currentTimeMillis() - lastLogged >= PROGRESS_LOG_INTERVAL_MS) {
+                        lastLogged = System.currentTimeMillis();
+                        log.info("Import {} of {}: {} rows imported, {} rejected so far", job.id(),
+                                job.table().path(), job.rowsImported(), job.rowsRejected());
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, writer);
+            }
+        }
+    }
+
+    private <R, E> void importChunk(ImportJob job, List<ImportRow<R>> rows, TableWriter<R, E> writer) {
+        job.read(rows.size());
+        List<Checked<E>> checked = rows.parallelStream()
+                .map(row -> check(row, writer))
+                .toList();
+        // The last row for an ID wins, as if the rows had been saved one by one
+        Map<Long, Checked<E>> valid = new LinkedHashMap<>();
+        for (Checked<E> row : checked) {
+            if (row.error() != null) {
+                job.rejected(row.line(), row.error());
+                continue;
+            }
+            Checked<E> replaced = valid.remove(writer.idOf().apply(row.entity()));
+            if (replaced != null) {
+                job.rejected(replaced.line(), "Superseded by line " + row.line() + ", which has the same ID");
+            }
+            valid.put(writer.idOf().apply(row.entity()), row);
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Written written;
+        try {
+            written = transactionTemplate.execute(status -> writeChunk(valid, writer));
+        } catch (DataAccessException e) {
+            long first = valid.values().iterator().next().line();
+            log.warn("Import {} could not write the chunk starting at line {}", job.id(), first, e);
+            valid.values().forEach(row -> job.rejected(row.line(), "Chunk rejected by the database: "
+                    + e.getMostSpecificCause().getMessage()));
+            return;
+        }
+        written.missing().forEach((id, reason) -> job.rejected(valid.get(id).line(), reason));
+        // Rows read concurrently between the write and the commit may have been cached with their old values
+        evict(writer.entityType(), written.ids());
+        job.imported(written.ids().size());
+    }
+
+    private <R, E> Checked<E> check(ImportRow<R> row, TableWriter<R, E> writer) {
+        if (row.error() != null) {
+            return new Checked<>(row.line(), null, row.error());
+        }
+        E entity = writer.toEntity().apply(row.value());
+        Set<ConstraintViolation<E>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return new Checked<>(row.line(), null, message);
+        }
+        return new Checked<>(row.line(), entity, null);
+    }
+
+    private <R, E> Written writeChunk(Map<Long, Checked<E>> valid, TableWriter<R, E> writer) {
+        List<E> entities = valid.values().stream().map(Checked::entity).toList();
+        Map<Long, String> missing = writer.missingReferences().apply(entities);
+        if (!missing.isEmpty()) {
+            entities = entities.stream().filter(entity -> !missing.containsKey(writer.idOf().apply(entity))).toList();
+        }
+        if (entities.isEmpty()) {
+            return new Written(List.of(), missing);
+        }
+
+        jdbcTemplate.batchUpdate(writer.mergeSql(), entities, entities.size(), writer.parameters());
+        List<Long> ids = entities.stream().map(writer.idOf()).toList();
+        evict(writer.entityType(), ids);
+        // Read back so the indexes see the stored rows, including creation times kept by the merge
+        List<E> stored = writer.reload().apply(ids);
+        writer.saved().accept(stored);
+        return new Written(ids, missing);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+
+    private void evict(Class<?> entityType, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Cache secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        ids.forEach(id -> secondLevelCache.evictEntityData(entityType, id));
+        secondLevelCache.evictQueryRegions();
+    }
+
+    private TableWriter<EmployeeDTO, Employee> employeeWriter() {
+        return new TableWriter<>(Employee.class,
+                row -> {
+                    Employee employee = new Employee();
+                    employee.setEmployeeId(row.employeeId());
+                    employee.setFullName(row.fullName());
+                    employee.setJobTitle(row.jobTitle());
+                    employee.setDepartment(row.department());
+                    employee.setPhoneNumber(row.phoneNumber());
+                    return employee;
+                },
+                Employee::getEmployeeId,
+                MERGE_EMPLOYEE,
+                (statement, employee) -> {
+                    statement.setLong(1, employee.getEmployeeId());
+                    statement.setString(2, employee.getFullName());
+                    statement.setString(3, employee.getJobTitle());
+                    statement.setString(4, employee.getDepartment());
+                    statement.setString(5, employee.getPhoneNumber());
+                    statement.setTimestamp(6, now());
+                },
+                employees -> Map.of(),
+                employeeRepository::findAllById,
+                catalogIndexManager::employeesSaved);
+    }
+
+    private TableWriter<CustomerDTO, Customer> customerWriter() {
+        return new TableWriter<>(Customer.class,
+                row -> {
+                    Customer customer = new Customer();
+                    customer.setCustomerId(row.customerId());
+                    customer.setCustomerName(row.customerName());
+                    customer.setEmployeeId(row.employeeId());
+                    return customer;
+                },
+                Customer::getCustomerId,
+                MERGE_CUSTOMER,
+                (statement, customer) -> {
+                    statement.setLong(1, customer.getCustomerId());
+                    statement.setString(2, customer.getCustomerName());
+                    statement.setLong(3, customer.getEmployeeId());
+                    statement.setTimestamp(4, now());
+                },
+                this::customersWithoutEmployee,
+                customerRepository::findAllById,
+                catalogIndexManager::customersSaved);
+    }
+
+    private TableWriter<CompanyDTO, ExternalCompany> companyWriter() {
+        return new TableWriter<>(ExternalCompany.class,
+                row -> {
+                    ExternalCompany company = new ExternalCompany();
+                    company.setCompanyId(row.companyId());
+                    company.setCompanyName(row.companyName());
+                    company.setAddress(row.address());
+                    company.setContactPerson(row.contactPerson());
+                    company.setPhoneNumber(row.phoneNumber());
+                    // Location fields are derived from the address, as on every save
+                    company.deriveLocationFields();
+                    return company;
+                },
+                ExternalCompany::getCompanyId,
+                MERGE_COMPANY,
+                (statement, company) -> {
+                    statement.setLong(1, company.getCompanyId());
+                    statement.setString(2, company.getCompanyName());
+                    statement.setString(3, company.getAddress());
+                    statement.setString(4, company.getContactPerson());
+                    statement.setString(5, company.getPhoneNumber());
+                    statement.setString(6, company.getStreet());
+                    statement.setString(7, company.getCity());
+                    statement.setString(8, company.getState());
+                    statement.setString(9, company.getZipCode());
+                    statement.setString(10, company.getCityKey());
+                    statement.setTimestamp(11, now());
+                },
+                companies -> Map.of(),
+                companyRepository::findAllById,
+                catalogIndexManager::companiesSaved);
+    }
+
+    private Map<Long, String> customersWithoutEmployee(List<Customer> customers) {
+        Set<Long> employeeIds = customers.stream().map(Customer::getEmployeeId).collect(Collectors.toSet());
+        Set<Long> existing = new HashSet<>(employeeRepository.findExistingIds(employeeIds));
+        return customers.stream()
+                .filter(customer -> !existing.contains(customer.getEmployeeId()))
+                .sorted(Comparator.comparing(Customer::getCustomerId))
+                .collect(Collectors.toMap(Customer::getCustomerId,
+                        customer -> "Employee not found with ID: " + customer.getEmployeeId(),
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+}
@@ -1,29 +1,80 @@
 package com.example.camunda.service;
 
+import com.example.camunda.dto.CompanyDTO;
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.PageParams;
+import com.example.camunda.export.RowWriter;
+import com.example.camunda.index.CatalogIndexManager;
 import com.example.camunda.model.ExternalCompany;
+import com.example.camunda.readmodel.CatalogReadModel;
+import com.example.camunda.readmodel.CatalogSnapshot;
+import com.example.camunda.readmodel.CompanyRecord;
 import com.example.camunda.repository.ExternalCompanyRepository;
 import com.example.camunda.exception.CompanyNotFoundException;
+import com.example.camunda.util.AddressParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class CompanyService {
     
     private final ExternalCompanyRepository companyRepository;
+    private final CatalogIndexManager catalogIndexManager;
+    private final FuzzyMatcher fuzzyMatcher;
+    private final CatalogReadModel readModel;
+
+    private static final KeysetPaging<ExternalCompany> COMPANY_PAGING = KeysetPaging.<ExternalCompany>byId("companyId")
+        .sortable("companyName", value -> value)
+        .sortable("updatedAt", LocalDateTime::parse);
 
     public List<ExternalCompany> getAllCompanies() {
         log.debug("Fetching all external companies");
         return companyRepository.findAll();
     }
 
+    /**
+     * A page of companies, optionally filtered by a name substring and a city, matched like in {@link #findCompany}.
+     */
+    public CursorPage<ExternalCompany> getCompanyPage(String companyName, String city, PageParams page) {
+        log.debug("Fetching company page - Name: '{}', City: '{}', {}", companyName, city, page);
+        Specification<ExternalCompany> filter = Specification
+            .where(KeysetPaging.<ExternalCompany>containsIgnoreCase("companyName", companyName))
+            .and(KeysetPaging.equalTo("cityKey", AddressParser.normalizeCity(city)));
+        return COMPANY_PAGING.page(companyRepository, filter, page);
+    }
+
+    /**
+     * Writes every company matching the filters to the writer as it is read, in ID order, without holding the
+     * rows in memory; opens its own read-only transaction to keep the cursor open. Returns the row count.
+     */
+    @Transactional(readOnly = true)
+    public long exportCompanies(String companyName, String city, RowWriter<? super CompanyDTO> writer)
+            throws IOException {
+        log.debug("Exporting companies - Name: '{}', City: '{}'", companyName, city);
+        try (Stream<CompanyDTO> rows = companyRepository.streamForExport(KeysetPaging.likePattern(companyName),
+                AddressParser.normalizeCity(city))) {
+            return writer.writeAll(rows);
+        }
+    }
+
     public List<ExternalCompany> findCompany(String companyName, String industry, String city, Long revenue) {
         log.debug("Finding companies by name: {}, industry: {}, city: {}, revenue: {}", 
                   companyName, industry, city, revenue);
@@ -38,10 +89,20 @@ public class CompanyService {
         }
         
         // For now, use simple name-based search since we only have basic fields in ExternalCompany
+        Optional<CatalogSnapshot> snapshot = readModel.current();
         if (companyName != null && !companyName.trim().isEmpty()) {
-            return companyRepository.findByCompanyName(companyName)
-                    .map(List::of)
-                    .orElse(List.of());
+            Optional<ExternalCompany> company = snapshot.isPresent()
+                    ? snapshot.get().companyNamed(companyName).map(CompanyRecord::toEntity)
+                    : companyRepository.findByCompanyName(companyName);
+            return company.map(List::of).orElse(List.of());
+        }
+        
+        // City is parsed out of the address on save, so an exact lookup hits the city index
+        String cityKey = AddressParser.normalizeCity(city);
+        if (cityKey != null) {
+            return snapshot.isPresent()
+                    ? snapshot.get().companiesInCity(cityKey).stream().map(CompanyRecord::toEntity).toList()
+                    : companyRepository.findByCityKey(cityKey);
         }
         
         // If no name provided but other parameters exist, return all companies
@@ -62,34 +123,63 @@ public class CompanyService {
             return List.of();
         }
         
-        List<ExternalCompany> allCompanies = companyRepository.findAll();
-        
         String lowerCompanyName = companyName != null ? companyName.toLowerCase().trim() : null;
         String lowerIndustry = industry != null ? industry.toLowerCase().trim() : null;
-        String lowerCity = city != null ? city.toLowerCase().trim() : null;
+        Set<String> matchingCityKeys = findMatchingCityKeys(city);
+        
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        
+        // Without a name to match, the city index alone answers the query
+        if (lowerCompanyName == null || lowerCompanyName.isEmpty()) {
+            List<ExternalCompany> cityResults;
+            if (matchingCityKeys.isEmpty()) {
+                cityResults = List.of();
+            } else if (snapshot.isPresent()) {
+                cityResults = matchingCityKeys.stream()
+                        .flatMap(cityKey -> snapshot.get().companiesInCity(cityKey).stream())
+                        .sorted(Comparator.comparing(CompanyRecord::companyId))
+                        .map(CompanyRecord::toEntity)
+                        .toList();
+            } else {
+                cityResults = companyRepository.findByCityKeyIn(matchingCityKeys).stream()
+                        .sorted(Comparator.comparing(ExternalCompany::getCompanyId))
+                        .toList();
+            }
+            log.info("Fuzzy company search returned {} results", cityResults.size());
+            return cityResults;
+        }
+        
+        Predicate<String> nameMatcher = fuzzyMatcher.matcher(lowerCompanyName);
+        if (snapshot.isPresent()) {
+            List<ExternalCompany> columnResults = snapshot.get().companiesMatchingAny(
+                        name -> nameMatcher.test(name.toLowerCase()), matchingCityKeys::contains).stream()
+                    .map(CompanyRecord::toEntity)
+                    .toList();
+            log.info("Fuzzy company search returned {} results", columnResults.size());
+            return columnResults;
+        }
+        
+        List<ExternalCompany> allCompanies = companyRepository.findAll();
         
         List<ExternalCompany> fuzzyResults = allCompanies.stream()
             .filter(company -> {
                 boolean matches = false;
                 
                 // Fuzzy match on company name
-                if (lowerCompanyName != null && company.getCompanyName() != null) {
+                if (company.getCompanyName() != null) {
                     String compName = company.getCompanyName().toLowerCase();
-                    if (isFuzzyMatch(lowerCompanyName, compName)) {
+                    if (nameMatcher.test(compName)) {
                         matches = true;
                     }
                 }
                 
-                // Fuzzy match on address for city (since we don't have separate city field)
-                if (lowerCity != null && company.getAddress() != null) {
-                    String address = company.getAddress().toLowerCase();
-                    if (isFuzzyMatch(lowerCity, address)) {
-                        matches = true;
-                    }
+                // City was already matched against the short distinct city list
+                if (company.getCityKey() != null && matchingCityKeys.contains(company.getCityKey())) {
+                    matches = true;
                 }
                 
                 // Note: Industry and revenue matching would require additional fields in ExternalCompany
-                // For now, we're focusing on name and city (via address) matching
+                // For now, we're focusing on name and city matching
                 
                 return matches;
             })
@@ -99,67 +189,31 @@ public class CompanyService {
         return fuzzyResults;
     }
     
-    private boolean isFuzzyMatch(String searchTerm, String fieldValue) {
-        if (searchTerm == null || fieldValue == null) return false;
-        
-        // Exact match (highest priority)
-        if (fieldValue.equals(searchTerm)) return true;
-        
-        // Contains match
-        if (fieldValue.contains(searchTerm) || searchTerm.contains(fieldValue)) return true;
-        
-        // Word-based matching
-        String[] searchWords = searchTerm.split("\\s+");
-        String[] fieldWords = fieldValue.split("\\s+");
-        
-        for (String searchWord : searchWords) {
-            for (String fieldWord : fieldWords) {
-                // Exact word match
-                if (searchWord.equals(fieldWord)) return true;
-                
-                // Partial word match (at least 3 characters and 70% similarity)
-                if (searchWord.length() >= 3 && fieldWord.length() >= 3) {
-                    double similarity = calculateStringSimilarity(searchWord, fieldWord);
-                    if (similarity > 0.7) return true;
-                }
-            }
-        }
-        
-        return false;
-    }
-    
-    private double calculateStringSimilarity(String s1, String s2) {
-        // Simple Levenshtein distance-based similarity
-        int maxLen = Math.max(s1.length(), s2.length());
-        if (maxLen == 0) return 1.0;
-        
-        int distance = levenshteinDistance(s1, s2);
-        return 1.0 - ((double) distance / maxLen);
-    }
-    
-    private int levenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-        
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
-        }
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
+    /**
+     * Resolves a requested city to the set of known city keys it matches, either exactly or fuzzily.
+     * Only the distinct city values are compared, never the full address of every company.
+     */
+    private Set<String> findMatchingCityKeys(String city) {
+        String cityKey = AddressParser.normalizeCity(city);
+        if (cityKey == null) {
+            return Set.of();
         }
         
-        for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    dp[i][j] = 1 + Math.min(Math.min(dp[i - 1][j], dp[i][j - 1]), dp[i - 1][j - 1]);
-                }
+        Predicate<String> cityMatcher = fuzzyMatcher.matcher(cityKey);
+        Set<String> matches = new HashSet<>();
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        Collection<String> knownCities = snapshot.isPresent()
+                ? snapshot.get().cityKeys()
+                : companyRepository.findDistinctCityKeys();
+        for (String knownCity : knownCities) {
+            if (cityMatcher.test(knownCity)) {
+                matches.add(knownCity);
             }
         }
-        
-        return dp[s1.length()][s2.length()];
+        log.debug("City '{}' matched known cities: {}", city, matches);
+        return matches;
     }
-
+    
     public Optional<ExternalCompany> findCompany(Long companyId, String companyName) {
         log.debug("Finding company by ID: {} or name: {}", companyId, companyName);
         
@@ -187,7 +241,9 @@ public class CompanyService {
     @Transactional
     public ExternalCompany saveCompany(ExternalCompany company) {
         log.info("Saving company: {}", company.getCompanyName());
-        return companyRepository.save(company);
+        ExternalCompany saved = companyRepository.save(company);
+        catalogIndexManager.companySaved(saved);
+        return saved;
     }
 
     @Transactional
@@ -197,5 +253,6 @@ public class CompanyService {
             throw new CompanyNotFoundException("Company not found with ID: " + companyId);
         }
         companyRepository.deleteById(companyId);
+        catalogIndexManager.companyDeleted(companyId);
     }
 }
@@ -1,33 +1,111 @@
 package com.example.camunda.service;
 
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.CustomerDTO;
+import com.example.camunda.dto.CustomerDriView;
+import com.example.camunda.dto.EmployeeSummary;
+import com.example.camunda.dto.PageParams;
+import com.example.camunda.export.RowWriter;
+import com.example.camunda.index.CatalogIndexManager;
+import com.example.camunda.index.DriLookupIndex;
+import com.example.camunda.index.NameSubstringIndex;
 import com.example.camunda.model.Customer;
 import com.example.camunda.model.Employee;
+import com.example.camunda.readmodel.CatalogReadModel;
+import com.example.camunda.readmodel.CatalogSnapshot;
+import com.example.camunda.readmodel.CustomerRecord;
+import com.example.camunda.readmodel.EmployeeRecord;
 import com.example.camunda.repository.CustomerRepository;
 import com.example.camunda.repository.EmployeeRepository;
 import com.example.camunda.exception.CustomerNotFoundException;
 import com.example.camunda.exception.EmployeeNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
+// Reads do not open a transaction of their own: the read model answers most of them from memory,
+// and repository calls run in the repository's own read-only transaction
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class CustomerService {
     
     private final CustomerRepository customerRepository;
     private final EmployeeRepository employeeRepository;
+    private final NameSubstringIndex nameIndex;
+    private final CatalogReadModel readModel;
+    private final DriLookupIndex driIndex;
+    private final CatalogIndexManager catalogIndexManager;
+    private final FuzzyMatcher fuzzyMatcher;
+
+    private static final KeysetPaging<Customer> CUSTOMER_PAGING = KeysetPaging.<Customer>byId("customerId")
+        .sortable("customerName", value -> value)
+        .sortable("employeeId", Long::valueOf)
+        .sortable("updatedAt", LocalDateTime::parse);
 
     public List<Customer> getAllCustomers() {
         log.debug("Fetching all customers");
         return customerRepository.findAll();
     }
 
+    /**
+     * A page of customers, optionally filtered by a name substring and DRI employee.
+     */
+    public CursorPage<Customer> getCustomerPage(String customerName, Long employeeId, PageParams page) {
+        log.debug("Fetching customer page - Name: '{}', Employee: {}, {}", customerName, employeeId, page);
+        Specification<Customer> filter = Specification
+            .where(KeysetPaging.<Customer>containsIgnoreCase("customerName", customerName))
+            .and(KeysetPaging.equalTo("employeeId", employeeId));
+        return CUSTOMER_PAGING.page(customerRepository, filter, page);
+    }
+
+    /**
+     * Writes every customer matching the filters to the writer as it is read, in ID order, without holding the
+     * rows in memory; opens its own read-only transaction to keep the cursor open. Returns the row count.
+     */
+    @Transactional(readOnly = true)
+    public long exportCustomers(String customerName, Long employeeId, RowWriter<? super CustomerDTO> writer)
+            throws IOException {
+        log.debug("Exporting customers - Name: '{}', Employee: {}", customerName, employeeId);
+        try (Stream<CustomerDTO> rows = customerRepository.streamForExport(
+                KeysetPaging.likePattern(customerName), employeeId)) {
+            return writer.writeAll(rows);
+        }
+    }
+
+    /**
+     * The customers of the given employees grouped by employee ID, read in one query rather than one per employee.
+     * The read model has no index by employee, so this reads from the database even when the model is loaded.
+     */
+    public Map<Long, List<Customer>> getCustomersByEmployee(Collection<Long> employeeIds) {
+        log.debug("Fetching customers of {} employees", employeeIds.size());
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+        return customerRepository.findByEmployeeIdIn(employeeIds).stream()
+            .sorted(Comparator.comparing(Customer::getCustomerId))
+            .collect(Collectors.groupingBy(Customer::getEmployeeId));
+    }
+
     public Optional<Customer> findCustomer(Long customerId, String customerName) {
         log.debug("Finding customer by ID: {} or name: '{}'", customerId, customerName);
         
@@ -41,22 +119,18 @@ public class CustomerService {
         
         if (customerId != null && customerName != null && !customerName.trim().isEmpty()) {
             log.debug("Searching by both ID and name: {} / '{}'", customerId, customerName);
-            result = customerRepository.findByCustomerIdOrCustomerName(customerId, customerName);
+            result = customerByIdOrName(customerId, customerName);
         } else if (customerId != null) {
             log.debug("Searching by ID only: {}", customerId);
-            result = customerRepository.findByCustomerId(customerId);
+            result = customerById(customerId);
         } else if (customerName != null && !customerName.trim().isEmpty()) {
             log.debug("Searching by name only: '{}'", customerName);
-            result = customerRepository.findByCustomerName(customerName);
+            result = customerByName(customerName);
             
             // If exact match fails, try partial matching as fallback
             if (result.isEmpty()) {
                 log.debug("Exact name match failed, trying partial match for: '{}'", customerName);
-                List<Customer> allCustomers = customerRepository.findAll();
-                result = allCustomers.stream()
-                    .filter(customer -> customer.getCustomerName() != null && 
-                           customer.getCustomerName().toLowerCase().contains(customerName.toLowerCase().trim()))
-                    .findFirst();
+                result = findByPartialName(customerName).stream().findFirst();
                 
                 if (result.isPresent()) {
                     log.info("Found customer by partial name match: '{}' matched '{}'", 
@@ -71,16 +145,16 @@ public class CustomerService {
             log.warn("No customer found with search criteria - ID: {}, Name: '{}'", customerId, customerName);
             
             // Log some existing customers for debugging
-            List<Customer> allCustomers = customerRepository.findAll();
+            List<Customer> sampleCustomers = sampleCustomers(6);
             log.debug("Available customers in database: {}", 
-                allCustomers.stream()
+                sampleCustomers.stream()
                     .limit(5)  // Show first 5 customers
                     .map(c -> String.format("%s (ID: %d)", c.getCustomerName(), c.getCustomerId()))
                     .reduce((a, b) -> a + ", " + b)
                     .orElse("none"));
             
-            if (allCustomers.size() > 5) {
-                log.debug("... and {} more customers", allCustomers.size() - 5);
+            if (sampleCustomers.size() > 5) {
+                log.debug("... and more customers");
             }
         }
         
@@ -101,27 +175,23 @@ public class CustomerService {
         if (customerId != null && customerName != null && !customerName.trim().isEmpty()) {
             log.debug("Searching by both ID and name: {} / '{}'", customerId, customerName);
             // For exact match, still return single customer
-            Optional<Customer> exactMatch = customerRepository.findByCustomerIdOrCustomerName(customerId, customerName);
+            Optional<Customer> exactMatch = customerByIdOrName(customerId, customerName);
             results = exactMatch.map(List::of).orElse(List.of());
         } else if (customerId != null) {
             log.debug("Searching by ID only: {}", customerId);
-            Optional<Customer> exactMatch = customerRepository.findByCustomerId(customerId);
+            Optional<Customer> exactMatch = customerById(customerId);
             results = exactMatch.map(List::of).orElse(List.of());
         } else if (customerName != null && !customerName.trim().isEmpty()) {
             log.debug("Searching by name: '{}'", customerName);
             
             // First try exact match
-            Optional<Customer> exactMatch = customerRepository.findByCustomerName(customerName);
+            Optional<Customer> exactMatch = customerByName(customerName);
             if (exactMatch.isPresent()) {
                 results = List.of(exactMatch.get());
             } else {
                 // If exact match fails, try partial matching to get multiple results
                 log.debug("Exact name match failed, trying partial match for: '{}'", customerName);
-                List<Customer> allCustomers = customerRepository.findAll();
-                results = allCustomers.stream()
-                    .filter(customer -> customer.getCustomerName() != null && 
-                           customer.getCustomerName().toLowerCase().contains(customerName.toLowerCase().trim()))
-                    .toList();
+                results = findByPartialName(customerName);
                 
                 if (!results.isEmpty()) {
                     log.info("Found {} customers by partial name match for: '{}'", results.size(), customerName);
@@ -146,18 +216,14 @@ public class CustomerService {
         }
         
         // First try exact match
-        Optional<Customer> exactMatch = customerRepository.findByCustomerName(customerName.trim());
+        Optional<Customer> exactMatch = customerByName(customerName.trim());
         if (exactMatch.isPresent()) {
             return List.of(exactMatch.get());
         }
         
         // If no exact match and multiple results allowed, do partial search
         if (allowMultiple != null && allowMultiple) {
-            List<Customer> allCustomers = customerRepository.findAll();
-            List<Customer> partialMatches = allCustomers.stream()
-                .filter(customer -> customer.getCustomerName() != null && 
-                       customer.getCustomerName().toLowerCase().contains(customerName.toLowerCase().trim()))
-                .toList();
+            List<Customer> partialMatches = findByPartialName(customerName);
             
             log.debug("Partial search for '{}' returned {} results", customerName, partialMatches.size());
             return partialMatches;
@@ -181,7 +247,7 @@ public class CustomerService {
         if (customerId != null && customerName != null && !customerName.trim().isEmpty()) {
             log.debug("Searching by both ID and name: {} / '{}'", customerId, customerName);
             // For exact match, still return single customer
-            Optional<Customer> exactMatch = customerRepository.findByCustomerIdOrCustomerName(customerId, customerName);
+            Optional<Customer> exactMatch = customerByIdOrName(customerId, customerName);
             results = exactMatch.map(List::of).orElse(List.of());
             
             // If no exact match and fuzzy matching is enabled, try fuzzy search by name only
@@ -190,13 +256,13 @@ public class CustomerService {
             }
         } else if (customerId != null) {
             log.debug("Searching by ID only: {}", customerId);
-            Optional<Customer> exactMatch = customerRepository.findByCustomerId(customerId);
+            Optional<Customer> exactMatch = customerById(customerId);
             results = exactMatch.map(List::of).orElse(List.of());
         } else if (customerName != null && !customerName.trim().isEmpty()) {
             log.debug("Searching by name: '{}'", customerName);
             
             // First try exact match
-            Optional<Customer> exactMatch = customerRepository.findByCustomerName(customerName);
+            Optional<Customer> exactMatch = customerByName(customerName);
             if (exactMatch.isPresent()) {
                 results = List.of(exactMatch.get());
             } else if (fuzzyMatching != null && fuzzyMatching) {
@@ -205,11 +271,7 @@ public class CustomerService {
             } else {
                 // Standard partial matching (existing behavior)
                 log.debug("Exact name match failed, trying partial match for: '{}'", customerName);
-                List<Customer> allCustomers = customerRepository.findAll();
-                results = allCustomers.stream()
-                    .filter(customer -> customer.getCustomerName() != null && 
-                           customer.getCustomerName().toLowerCase().contains(customerName.toLowerCase().trim()))
-                    .toList();
+                results = findByPartialName(customerName);
                 
                 if (!results.isEmpty()) {
                     log.info("Found {} customers by partial name match for: '{}'", results.size(), customerName);
@@ -226,88 +288,101 @@ public class CustomerService {
         return results;
     }
     
-    private List<Customer> performFuzzyCustomerSearch(String searchName) {
-        log.debug("Performing fuzzy search for customer name: '{}'", searchName);
-        
-        List<Customer> allCustomers = customerRepository.findAll();
-        String lowerSearchName = searchName.toLowerCase().trim();
+    private List<Customer> findByPartialName(String customerName) {
+        // Substring lookups are answered by the suffix index; the table scan is only needed until it is built
+        if (nameIndex.isReady()) {
+            return customersByIds(nameIndex.findCustomerIds(customerName));
+        }
         
-        // Implement simple fuzzy matching logic
-        List<Customer> fuzzyResults = allCustomers.stream()
-            .filter(customer -> {
-                if (customer.getCustomerName() == null) return false;
-                
-                String customerName = customer.getCustomerName().toLowerCase();
-                
-                // Exact match (highest priority)
-                if (customerName.equals(lowerSearchName)) return true;
-                
-                // Contains match
-                if (customerName.contains(lowerSearchName) || lowerSearchName.contains(customerName)) return true;
-                
-                // Word-based matching (check if any words match)
-                String[] searchWords = lowerSearchName.split("\\s+");
-                String[] customerWords = customerName.split("\\s+");
-                
-                for (String searchWord : searchWords) {
-                    for (String customerWord : customerWords) {
-                        // Exact word match
-                        if (searchWord.equals(customerWord)) return true;
-                        
-                        // Partial word match (at least 3 characters and 70% similarity)
-                        if (searchWord.length() >= 3 && customerWord.length() >= 3) {
-                            double similarity = calculateStringSimilarity(searchWord, customerWord);
-                            if (similarity > 0.7) return true;
-                        }
-                    }
-                }
-                
-                return false;
-            })
+        String fragment = customerName.toLowerCase().trim();
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().customersMatching(name -> name.toLowerCase().contains(fragment)).stream()
+                .map(CustomerRecord::toEntity)
+                .toList();
+        }
+        return customerRepository.findAll().stream()
+            .filter(customer -> customer.getCustomerName() != null && 
+                   customer.getCustomerName().toLowerCase().contains(fragment))
             .toList();
-        
-        log.info("Fuzzy search for '{}' returned {} results", searchName, fuzzyResults.size());
-        return fuzzyResults;
     }
     
-    private double calculateStringSimilarity(String s1, String s2) {
-        // Simple Levenshtein distance-based similarity
-        int maxLen = Math.max(s1.length(), s2.length());
-        if (maxLen == 0) return 1.0;
-        
-        int distance = levenshteinDistance(s1, s2);
-        return 1.0 - ((double) distance / maxLen);
+    // Catalog reads come from the in-memory read model when it is available
+    
+    private Optional<Customer> customerById(Long customerId) {
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().customer(customerId).map(CustomerRecord::toEntity);
+        }
+        return customerRepository.findByCustomerId(customerId);
     }
     
-    private int levenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-        
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
+    private Optional<Customer> customerByName(String customerName) {
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().customerNamed(customerName).map(CustomerRecord::toEntity);
         }
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
+        return customerRepository.findByCustomerName(customerName);
+    }
+    
+    private Optional<Customer> customerByIdOrName(Long customerId, String customerName) {
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().customer(customerId)
+                .or(() -> snapshot.get().customerNamed(customerName))
+                .map(CustomerRecord::toEntity);
         }
-        
-        for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    dp[i][j] = 1 + Math.min(Math.min(dp[i - 1][j], dp[i][j - 1]), dp[i - 1][j - 1]);
-                }
-            }
+        return customerRepository.findByCustomerIdOrCustomerName(customerId, customerName);
+    }
+    
+    private List<Customer> sampleCustomers(int limit) {
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().customers(limit).stream().map(CustomerRecord::toEntity).toList();
         }
+        return customerRepository.findAll().stream().limit(limit).toList();
+    }
+    
+    private List<Customer> customersByIds(long[] customerIds) {
+        if (customerIds.length == 0) {
+            return List.of();
+        }
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().customers(customerIds).stream().map(CustomerRecord::toEntity).toList();
+        }
+        return customerRepository.findAllById(Arrays.stream(customerIds).boxed().toList()).stream()
+            .sorted(Comparator.comparing(Customer::getCustomerId))
+            .toList();
+    }
+    
+    private List<Customer> performFuzzyCustomerSearch(String searchName) {
+        log.debug("Performing fuzzy search for customer name: '{}'", searchName);
         
-        return dp[s1.length()][s2.length()];
+        String lowerSearchName = searchName.toLowerCase().trim();
+        Predicate<String> nameMatcher = fuzzyMatcher.matcher(lowerSearchName);
+        
+        // The read model scans its name column and only materializes the matches
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        List<Customer> fuzzyResults = snapshot.isPresent()
+            ? snapshot.get().customersMatching(name -> nameMatcher.test(name.toLowerCase())).stream()
+                .map(CustomerRecord::toEntity)
+                .toList()
+            : customerRepository.findAll().stream()
+                .filter(customer -> customer.getCustomerName() != null && 
+                       nameMatcher.test(customer.getCustomerName().toLowerCase()))
+                .toList();
+        
+        log.info("Fuzzy search for '{}' returned {} results", searchName, fuzzyResults.size());
+        return fuzzyResults;
     }
-
+    
     public List<Customer> getCustomersWithEmployees(Long customerId, String customerName) {
         List<Customer> customers = findCustomers(customerId, customerName);
         
         if (customers.isEmpty()) {
             // Get a few example customer names for the error message
-            List<Customer> sampleCustomers = customerRepository.findAll().stream().limit(3).toList();
+            List<Customer> sampleCustomers = sampleCustomers(3);
             String examples = sampleCustomers.stream()
                 .map(Customer::getCustomerName)
                 .reduce((a, b) -> a + ", " + b)
@@ -325,7 +400,7 @@ public class CustomerService {
         
         if (customers.isEmpty()) {
             // Get a few example customer names for the error message
-            List<Customer> sampleCustomers = customerRepository.findAll().stream().limit(3).toList();
+            List<Customer> sampleCustomers = sampleCustomers(3);
             String examples = sampleCustomers.stream()
                 .map(Customer::getCustomerName)
                 .reduce((a, b) -> a + ", " + b)
@@ -343,7 +418,7 @@ public class CustomerService {
         
         if (customers.isEmpty()) {
             // Get a few example customer names for the error message
-            List<Customer> sampleCustomers = customerRepository.findAll().stream().limit(3).toList();
+            List<Customer> sampleCustomers = sampleCustomers(3);
             String examples = sampleCustomers.stream()
                 .map(Customer::getCustomerName)
                 .reduce((a, b) -> a + ", " + b)
@@ -366,7 +441,7 @@ public class CustomerService {
         
         if (customerOpt.isEmpty()) {
             // Get a few example customer names for the error message
-            List<Customer> sampleCustomers = customerRepository.findAll().stream().limit(3).toList();
+            List<Customer> sampleCustomers = sampleCustomers(3);
             String examples = sampleCustomers.stream()
                 .map(Customer::getCustomerName)
                 .reduce((a, b) -> a + ", " + b)
@@ -385,16 +460,77 @@ public class CustomerService {
     }
 
     public Employee getEmployeeForCustomer(Customer customer) {
-        return employeeRepository.findById(customer.getEmployeeId())
+        // Primitive ID lookups first; only trust them while they agree with the customer we were handed
+        if (customer.getCustomerId() != null && driIndex.isReady() && !CatalogIndexManager.isWriteTransactionActive()) {
+            EmployeeRecord dri = driIndex.driOf(customer.getCustomerId());
+            if (dri != null && dri.employeeId().equals(customer.getEmployeeId())) {
+                return dri.toEntity();
+            }
+        }
+        
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        Optional<Employee> employee = snapshot.isPresent()
+                ? snapshot.get().employee(customer.getEmployeeId()).map(EmployeeRecord::toEntity)
+                : employeeRepository.findById(customer.getEmployeeId());
+        return employee
                 .orElseThrow(() -> new EmployeeNotFoundException(
                     String.format("Employee not found with ID: %s for customer: %s", 
                         customer.getEmployeeId(), customer.getCustomerName())));
     }
 
+    /**
+     * Pairs each customer with its DRI employee, in the order given. Employees come from the DRI index or
+     * the read model, falling back to a single projection query for all of them rather than one per customer.
+     */
+    public List<CustomerDriView> getDriViews(List<Customer> customers) {
+        Map<Long, EmployeeSummary> employees = employeeSummaries(customers.stream()
+                .map(Customer::getEmployeeId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+        return customers.stream()
+            .map(customer -> {
+                EmployeeSummary employee = employees.get(customer.getEmployeeId());
+                if (employee == null) {
+                    throw new EmployeeNotFoundException(
+                        String.format("Employee not found with ID: %s for customer: %s", 
+                            customer.getEmployeeId(), customer.getCustomerName()));
+                }
+                return CustomerDriView.of(customer, employee);
+            })
+            .toList();
+    }
+
+    private Map<Long, EmployeeSummary> employeeSummaries(List<Long> employeeIds) {
+        Map<Long, EmployeeSummary> found = new HashMap<>();
+        boolean indexed = driIndex.isReady() && !CatalogIndexManager.isWriteTransactionActive();
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        List<Long> unresolved = new ArrayList<>();
+        for (Long employeeId : employeeIds) {
+            EmployeeRecord employee = indexed ? driIndex.employee(employeeId) : null;
+            if (employee == null && snapshot.isPresent()) {
+                employee = snapshot.get().employee(employeeId).orElse(null);
+            }
+            if (employee != null) {
+                found.put(employeeId, EmployeeSummary.from(employee));
+            } else {
+                // Not in the read model yet, such as an employee saved since its last refresh
+                unresolved.add(employeeId);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            employeeRepository.findSummariesByEmployeeIdIn(unresolved)
+                .forEach(employee -> found.put(employee.employeeId(), employee));
+        }
+        return found;
+    }
+
     @Transactional
     public Customer saveCustomer(Customer customer) {
         log.info("Saving customer: {}", customer.getCustomerName());
-        return customerRepository.save(customer);
+        Customer saved = customerRepository.save(customer);
+        catalogIndexManager.customerSaved(saved);
+        return saved;
     }
 
     @Transactional
@@ -404,5 +540,6 @@ public class CustomerService {
             throw new CustomerNotFoundException("Customer not found with ID: " + customerId);
         }
         customerRepository.deleteById(customerId);
+        catalogIndexManager.customerDeleted(customerId);
     }
 }
@@ -12,6 +12,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -46,6 +47,9 @@ public class DataSeedingService implements CommandLineRunner {
             seedExternalCompanies();
         }
         
+        // Companies stored before address parsing existed have no structured location yet
+        backfillCompanyLocations();
+        
         log.info("Data seeding completed. Employees: {}, Customers: {}, Companies: {}", 
                 employeeRepository.count(), customerRepository.count(), externalCompanyRepository.count());
     }
@@ -87,6 +91,7 @@ public class DataSeedingService implements CommandLineRunner {
             "DevOps Engineer", "Sales Manager", "Content Marketing Manager", "Legal Counsel"
         };
 
+        List<Employee> employees = new ArrayList<>();
         for (long i = 1; i <= 50; i++) {
             Employee employee = new Employee();
             employee.setEmployeeId(i);
@@ -95,8 +100,9 @@ public class DataSeedingService implements CommandLineRunner {
             employee.setDepartment(getRandomElement(departments));
             employee.setPhoneNumber(generatePhoneNumber());
             
-            employeeRepository.save(employee);
+            employees.add(employee);
         }
+        employeeRepository.saveAll(employees);
         
         log.info("Seeded 50 employees");
     }
@@ -105,9 +111,7 @@ public class DataSeedingService implements CommandLineRunner {
         log.info("Seeding customers...");
         
         // Get all employee IDs to assign customers to them
-        List<Long> employeeIds = employeeRepository.findAll().stream()
-                .map(Employee::getEmployeeId)
-                .toList();
+        List<Long> employeeIds = employeeRepository.findAllIds();
         
         // Always seed "Johnathan Doe" as the first customer
         Customer johnathanDoe = new Customer();
@@ -146,6 +150,7 @@ public class DataSeedingService implements CommandLineRunner {
             "Payne", "Kelley", "Dunn", "Pierce", "Arnold", "Tran", "Spencer", "Peters", "Hawkins", "Grant"
         };
 
+        List<Customer> customers = new ArrayList<>();
         for (long i = 2; i <= 100; i++) {
             Customer customer = new Customer();
             customer.setCustomerId(i);
@@ -153,8 +158,9 @@ public class DataSeedingService implements CommandLineRunner {
             // Randomly assign to an employee
             customer.setEmployeeId(getRandomElement(employeeIds));
             
-            customerRepository.save(customer);
+            customers.add(customer);
         }
+        customerRepository.saveAll(customers);
         
         log.info("Seeded 100 customers");
     }
@@ -162,22 +168,13 @@ public class DataSeedingService implements CommandLineRunner {
     private void ensureJohnathanDoeExists() {
         log.info("Ensuring Johnathan Doe exists in customer database...");
         
-        // Check if Johnathan Doe already exists
-        List<Customer> existingCustomers = customerRepository.findAll();
-        boolean johnathanExists = existingCustomers.stream()
-                .anyMatch(customer -> "Johnathan Doe".equalsIgnoreCase(customer.getCustomerName()));
-        
-        if (!johnathanExists) {
+        // Check if Johnathan Doe already exists without loading the customer table
+        if (!customerRepository.existsByCustomerNameIgnoreCase("Johnathan Doe")) {
             // Find the next available customer ID
-            Long maxId = existingCustomers.stream()
-                    .mapToLong(Customer::getCustomerId)
-                    .max()
-                    .orElse(0L);
+            long maxId = customerRepository.findMaxCustomerId();
             
             // Get a random employee ID to assign
-            List<Long> availableEmployeeIds = employeeRepository.findAll().stream()
-                    .map(Employee::getEmployeeId)
-                    .toList();
+            List<Long> availableEmployeeIds = employeeRepository.findAllIds();
             
             Customer johnathanDoe = new Customer();
             johnathanDoe.setCustomerId(maxId + 1);
@@ -236,6 +233,7 @@ public class DataSeedingService implements CommandLineRunner {
         
 
 
+        List<ExternalCompany> companies = new ArrayList<>();
         for (long i = 1; i <= 100; i++) {
             ExternalCompany company = new ExternalCompany();
             company.setCompanyId(i);
@@ -248,12 +246,24 @@ public class DataSeedingService implements CommandLineRunner {
             company.setContactPerson(generateContactPerson());
             company.setPhoneNumber(generatePhoneNumber());
             
-            externalCompanyRepository.save(company);
+            companies.add(company);
         }
+        externalCompanyRepository.saveAll(companies);
         
         log.info("Seeded 100 external companies");
     }
 
+    private void backfillCompanyLocations() {
+        List<ExternalCompany> unparsed = externalCompanyRepository.findByCityKeyIsNullAndAddressIsNotNull();
+        if (unparsed.isEmpty()) {
+            return;
+        }
+        
+        log.info("Parsing addresses of {} companies into location fields...", unparsed.size());
+        unparsed.forEach(ExternalCompany::deriveLocationFields);
+        externalCompanyRepository.saveAll(unparsed);
+    }
+
     private String getRandomElement(String[] array) {
         return array[random.nextInt(array.length)];
     }
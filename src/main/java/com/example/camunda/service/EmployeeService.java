@@ -1,30 +1,91 @@
 package com.example.camunda.service;
 
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.EmployeeDTO;
+import com.example.camunda.dto.PageParams;
+import com.example.camunda.export.RowWriter;
+import com.example.camunda.index.CatalogIndexManager;
+import com.example.camunda.index.EmployeeBitmapIndex;
+import com.example.camunda.index.NameSubstringIndex;
 import com.example.camunda.model.Employee;
+import com.example.camunda.readmodel.CatalogReadModel;
+import com.example.camunda.readmodel.CatalogSnapshot;
+import com.example.camunda.readmodel.EmployeeRecord;
 import com.example.camunda.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class EmployeeService {
     
     private final EmployeeRepository employeeRepository;
+    private final EmployeeBitmapIndex employeeIndex;
+    private final NameSubstringIndex nameIndex;
+    private final CatalogIndexManager catalogIndexManager;
+    private final FuzzyMatcher fuzzyMatcher;
+    private final CatalogReadModel readModel;
+
+    private static final KeysetPaging<Employee> EMPLOYEE_PAGING = KeysetPaging.<Employee>byId("employeeId")
+        .sortable("fullName", value -> value)
+        .sortable("jobTitle", value -> value)
+        .sortable("department", value -> value)
+        .sortable("updatedAt", LocalDateTime::parse);
 
     public List<Employee> getAllEmployees() {
         log.debug("Fetching all employees");
         return employeeRepository.findAll();
     }
 
+    /**
+     * A page of employees, optionally filtered by name and job title substrings and an exact department.
+     */
+    public CursorPage<Employee> getEmployeePage(String fullName, String department, String jobTitle, PageParams page) {
+        log.debug("Fetching employee page - Name: '{}', Department: '{}', JobTitle: '{}', {}",
+                 fullName, department, jobTitle, page);
+        Specification<Employee> filter = Specification
+            .where(KeysetPaging.<Employee>containsIgnoreCase("fullName", fullName))
+            .and(KeysetPaging.equalTo("department", department != null && !department.isBlank() ? department.trim() : null))
+            .and(KeysetPaging.containsIgnoreCase("jobTitle", jobTitle));
+        return EMPLOYEE_PAGING.page(employeeRepository, filter, page);
+    }
+
+    /**
+     * Writes every employee matching the filters to the writer as it is read, in ID order, without holding the
+     * rows in memory; opens its own read-only transaction to keep the cursor open. Returns the row count.
+     */
+    @Transactional(readOnly = true)
+    public long exportEmployees(String fullName, String department, String jobTitle,
+                                RowWriter<? super EmployeeDTO> writer) throws IOException {
+        log.debug("Exporting employees - Name: '{}', Department: '{}', JobTitle: '{}'", fullName, department, jobTitle);
+        try (Stream<EmployeeDTO> rows = employeeRepository.streamForExport(KeysetPaging.likePattern(fullName),
+                department != null && !department.isBlank() ? department.trim() : null,
+                KeysetPaging.likePattern(jobTitle))) {
+            return writer.writeAll(rows);
+        }
+    }
+
     public Optional<Employee> findEmployeeById(Long employeeId) {
         log.debug("Finding employee by ID: {}", employeeId);
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().employee(employeeId).map(EmployeeRecord::toEntity);
+        }
         return employeeRepository.findById(employeeId);
     }
 
@@ -39,6 +100,10 @@ public class EmployeeService {
         if (fullName == null || fullName.trim().isEmpty()) {
             return Optional.empty();
         }
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().employeeNamed(fullName.trim()).map(EmployeeRecord::toEntity);
+        }
         return employeeRepository.findByFullName(fullName.trim());
     }
 
@@ -47,6 +112,9 @@ public class EmployeeService {
         if (fullName == null || fullName.trim().isEmpty()) {
             return List.of();
         }
+        if (nameIndex.isReady()) {
+            return loadEmployees(nameIndex.findEmployeeIds(fullName));
+        }
         return employeeRepository.findByFullNameContainingIgnoreCase(fullName.trim());
     }
 
@@ -62,11 +130,28 @@ public class EmployeeService {
             return List.of();
         }
         
-        return employeeRepository.searchEmployees(
-            fullName != null && !fullName.trim().isEmpty() ? fullName.trim() : null,
-            department != null && !department.trim().isEmpty() ? department.trim() : null,
-            jobTitle != null && !jobTitle.trim().isEmpty() ? jobTitle.trim() : null
-        );
+        String name = fullName != null && !fullName.trim().isEmpty() ? fullName.trim() : null;
+        String dept = department != null && !department.trim().isEmpty() ? department.trim() : null;
+        String title = jobTitle != null && !jobTitle.trim().isEmpty() ? jobTitle.trim() : null;
+        
+        // Department/job title filters are bitmap intersections; only the survivors are name-matched
+        if ((dept != null || title != null) && employeeIndex.isReady()) {
+            long[] candidateIds = employeeIndex.findEmployeeIds(dept, title);
+            log.debug("Bitmap index narrowed employee search to {} candidates", candidateIds.length);
+            
+            String lowerName = name != null ? name.toLowerCase() : null;
+            return loadEmployees(candidateIds).stream()
+                .filter(employee -> lowerName == null || 
+                       (employee.getFullName() != null && employee.getFullName().toLowerCase().contains(lowerName)))
+                .toList();
+        }
+        
+        // Name-only searches are substring lookups in the suffix index
+        if (dept == null && title == null && nameIndex.isReady()) {
+            return loadEmployees(nameIndex.findEmployeeIds(name));
+        }
+        
+        return employeeRepository.searchEmployees(name, dept, title);
     }
 
     public List<Employee> searchEmployeesFuzzy(String fullName, String department, String jobTitle) {
@@ -81,36 +166,64 @@ public class EmployeeService {
             return List.of();
         }
         
-        List<Employee> allEmployees = employeeRepository.findAll();
-        
         String lowerFullName = fullName != null ? fullName.toLowerCase().trim() : null;
         String lowerDepartment = department != null ? department.toLowerCase().trim() : null;
         String lowerJobTitle = jobTitle != null ? jobTitle.toLowerCase().trim() : null;
         
+        // Without a name, fuzzy matching only needs to look at the distinct departments and titles
+        if ((lowerFullName == null || lowerFullName.isEmpty()) && employeeIndex.isReady()) {
+            Predicate<String> departmentMatcher = lowerDepartment != null && !lowerDepartment.isEmpty()
+                    ? fuzzyMatcher.matcher(lowerDepartment) : null;
+            Predicate<String> jobTitleMatcher = lowerJobTitle != null && !lowerJobTitle.isEmpty()
+                    ? fuzzyMatcher.matcher(lowerJobTitle) : null;
+            
+            List<Employee> indexedResults = loadEmployees(
+                    employeeIndex.findEmployeeIdsMatchingAny(departmentMatcher, jobTitleMatcher));
+            log.info("Fuzzy search returned {} employees", indexedResults.size());
+            return indexedResults;
+        }
+        
+        Predicate<String> nameMatcher = lowerFullName != null ? fuzzyMatcher.matcher(lowerFullName) : null;
+        Predicate<String> departmentMatcher = lowerDepartment != null ? fuzzyMatcher.matcher(lowerDepartment) : null;
+        Predicate<String> jobTitleMatcher = lowerJobTitle != null ? fuzzyMatcher.matcher(lowerJobTitle) : null;
+        
+        // Department and title matchers run once per dictionary value, the name matcher once per row
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            List<Employee> columnResults = snapshot.get().employeesMatchingAny(
+                    lowercased(nameMatcher), lowercased(departmentMatcher), lowercased(jobTitleMatcher)).stream()
+                .map(EmployeeRecord::toEntity)
+                .toList();
+            log.info("Fuzzy search returned {} employees", columnResults.size());
+            return columnResults;
+        }
+        
+        List<Employee> allEmployees = employeeRepository.findAll();
+        
         List<Employee> fuzzyResults = allEmployees.stream()
             .filter(employee -> {
                 boolean matches = false;
                 
                 // Fuzzy match on full name
-                if (lowerFullName != null && employee.getFullName() != null) {
+                if (nameMatcher != null && employee.getFullName() != null) {
                     String empName = employee.getFullName().toLowerCase();
-                    if (isFuzzyMatch(lowerFullName, empName)) {
+                    if (nameMatcher.test(empName)) {
                         matches = true;
                     }
                 }
                 
                 // Fuzzy match on department
-                if (lowerDepartment != null && employee.getDepartment() != null) {
+                if (departmentMatcher != null && employee.getDepartment() != null) {
                     String empDept = employee.getDepartment().toLowerCase();
-                    if (isFuzzyMatch(lowerDepartment, empDept)) {
+                    if (departmentMatcher.test(empDept)) {
                         matches = true;
                     }
                 }
                 
                 // Fuzzy match on job title
-                if (lowerJobTitle != null && employee.getJobTitle() != null) {
+                if (jobTitleMatcher != null && employee.getJobTitle() != null) {
                     String empTitle = employee.getJobTitle().toLowerCase();
-                    if (isFuzzyMatch(lowerJobTitle, empTitle)) {
+                    if (jobTitleMatcher.test(empTitle)) {
                         matches = true;
                     }
                 }
@@ -123,71 +236,29 @@ public class EmployeeService {
         return fuzzyResults;
     }
     
-    private boolean isFuzzyMatch(String searchTerm, String fieldValue) {
-        if (searchTerm == null || fieldValue == null) return false;
-        
-        // Exact match (highest priority)
-        if (fieldValue.equals(searchTerm)) return true;
-        
-        // Contains match
-        if (fieldValue.contains(searchTerm) || searchTerm.contains(fieldValue)) return true;
-        
-        // Word-based matching
-        String[] searchWords = searchTerm.split("\\s+");
-        String[] fieldWords = fieldValue.split("\\s+");
-        
-        for (String searchWord : searchWords) {
-            for (String fieldWord : fieldWords) {
-                // Exact word match
-                if (searchWord.equals(fieldWord)) return true;
-                
-                // Partial word match (at least 3 characters and 70% similarity)
-                if (searchWord.length() >= 3 && fieldWord.length() >= 3) {
-                    double similarity = calculateStringSimilarity(searchWord, fieldWord);
-                    if (similarity > 0.7) return true;
-                }
-            }
-        }
-        
-        return false;
-    }
-    
-    private double calculateStringSimilarity(String s1, String s2) {
-        // Simple Levenshtein distance-based similarity
-        int maxLen = Math.max(s1.length(), s2.length());
-        if (maxLen == 0) return 1.0;
-        
-        int distance = levenshteinDistance(s1, s2);
-        return 1.0 - ((double) distance / maxLen);
-    }
-    
-    private int levenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-        
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
+    private List<Employee> loadEmployees(long[] employeeIds) {
+        if (employeeIds.length == 0) {
+            return List.of();
         }
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
+        Optional<CatalogSnapshot> snapshot = readModel.current();
+        if (snapshot.isPresent()) {
+            return snapshot.get().employees(employeeIds).stream().map(EmployeeRecord::toEntity).toList();
         }
-        
-        for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    dp[i][j] = 1 + Math.min(Math.min(dp[i - 1][j], dp[i][j - 1]), dp[i - 1][j - 1]);
-                }
-            }
-        }
-        
-        return dp[s1.length()][s2.length()];
+        return employeeRepository.findAllById(Arrays.stream(employeeIds).boxed().toList()).stream()
+            .sorted(Comparator.comparing(Employee::getEmployeeId))
+            .toList();
+    }
+
+    private static Predicate<String> lowercased(Predicate<String> matcher) {
+        return matcher != null ? value -> matcher.test(value.toLowerCase()) : null;
     }
 
     @Transactional
     public Employee saveEmployee(Employee employee) {
         log.info("Saving employee: {}", employee.getFullName());
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        catalogIndexManager.employeeSaved(saved);
+        return saved;
     }
 
     @Transactional
@@ -197,5 +268,6 @@ public class EmployeeService {
             throw new com.example.camunda.exception.EmployeeNotFoundException("Employee not found with ID: " + employeeId);
         }
         employeeRepository.deleteById(employeeId);
+        catalogIndexManager.employeeDeleted(employeeId);
     }
 }
@@ -0,0 +1,37 @@
+package com.example.camunda.service;
+
+import com.example.camunda.dto.FacetCountsDTO;
+import com.example.camunda.exception.IndexNotReadyException;
+import com.example.camunda.index.CompanyBitmapIndex;
+import com.example.camunda.index.EmployeeBitmapIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers facet count queries from the in-memory bitmap indexes; never touches the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FacetService {
+
+    private final EmployeeBitmapIndex employeeIndex;
+    private final CompanyBitmapIndex companyIndex;
+
+    public FacetCountsDTO getEmployeeFacets(String department, String jobTitle) {
+        log.debug("Computing employee facets - Department: '{}', JobTitle: '{}'", department, jobTitle);
+        if (!employeeIndex.isReady()) {
+            throw new IndexNotReadyException("Employee index is still being built");
+        }
+        return employeeIndex.facetCounts(department, jobTitle);
+    }
+
+    public FacetCountsDTO getCompanyFacets(String city, String state) {
+        log.debug("Computing company facets - City: '{}', State: '{}'", city, state);
+        if (!companyIndex.isReady()) {
+            throw new IndexNotReadyException("Company index is still being built");
+        }
+        return companyIndex.facetCounts(city, state);
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.camunda.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Fuzzy matching shared by the customer, employee and company searches.
+ * A field matches a search term when they are equal, either contains the other, or any pair of
+ * their words is equal or (for words of three or more characters) more than 70% similar by
+ * Levenshtein distance. Word pairs that cannot reach the threshold are rejected by cheap
+ * lower bounds on the edit distance (length difference, character signatures, shared bigrams)
+ * before the distance itself is computed. Both sides are expected to be lower-cased already.
+ */
+@Component
+public class FuzzyMatcher implements MeterBinder {
+
+    private static final double SIMILARITY_THRESHOLD = 0.7;
+    private static final int MIN_SIMILAR_WORD_LENGTH = 3;
+    private static final int MAX_CACHED_FIELDS = 10_000;
+
+    private final Map<String, Word[]> fieldWords = new ConcurrentHashMap<>();
+
+    private final LongAdder pairs = new LongAdder();
+    private final LongAdder prunedByLength = new LongAdder();
+    private final LongAdder prunedBySignature = new LongAdder();
+    private final LongAdder prunedByBigrams = new LongAdder();
+    private final LongAdder verified = new LongAdder();
+
+    public boolean matches(String searchTerm, String fieldValue) {
+        return searchTerm != null && matcher(searchTerm).test(fieldValue);
+    }
+
+    /**
+     * Prepares {@code searchTerm} once for testing against many field values.
+     */
+    public Predicate<String> matcher(String searchTerm) {
+        Word[] searchWords = tokenize(searchTerm);
+        return fieldValue -> {
+            if (fieldValue == null) return false;
+            if (fieldValue.equals(searchTerm)) return true;
+            if (fieldValue.contains(searchTerm) || searchTerm.contains(fieldValue)) return true;
+            return anyWordsMatch(searchWords, wordsOf(fieldValue));
+        };
+    }
+
+    /**
+     * Word pairs checked for similarity, and how many of them each stage disposed of.
+     */
+    public Map<String, Long> pruningStats() {
+        return Map.of(
+                "pairs", pairs.sum(),
+                "prunedByLength", prunedByLength.sum(),
+                "prunedBySignature", prunedBySignature.sum(),
+                "prunedByBigrams", prunedByBigrams.sum(),
+                "verified", verified.sum());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindStage(registry, "length", prunedByLength);
+        bindStage(registry, "signature", prunedBySignature);
+        bindStage(registry, "bigrams", prunedByBigrams);
+        bindStage(registry, "levenshtein", verified);
+    }
+
+    private void bindStage(MeterRegistry registry, String stage, LongAdder counter) {
+        FunctionCounter.builder("search.fuzzy.word.pairs", counter, LongAdder::sum)
+                .description("Word pairs rejected by each fuzzy pre-filter, or verified with the full distance")
+                .tag("stage", stage)
+                .register(registry);
+    }
+
+    private boolean anyWordsMatch(Word[] searchWords, Word[] fieldWords) {
+        for (Word searchWord : searchWords) {
+            for (Word fieldWord : fieldWords) {
+                if (searchWord.text.equals(fieldWord.text)) return true;
+                if (searchWord.length() >= MIN_SIMILAR_WORD_LENGTH && fieldWord.length() >= MIN_SIMILAR_WORD_LENGTH
+                        && isSimilar(searchWord, fieldWord)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isSimilar(Word a, Word b) {
+        pairs.increment();
+        int maxLength = Math.max(a.length(), b.length());
+        int maxDistance = maxDistance(maxLength);
+
+        // Every lower bound below must stay within the largest distance that still passes
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            prunedByLength.increment();
+            return false;
+        }
+        // Each character missing from the other word needs its own edit
+        int missing = Math.max(Long.bitCount(a.signature & ~b.signature), Long.bitCount(b.signature & ~a.signature));
+        if (missing > maxDistance) {
+            prunedBySignature.increment();
+            return false;
+        }
+        // Each edit destroys at most two bigrams (Ukkonen's q-gram lemma)
+        if (sharedBigrams(a.bigrams, b.bigrams) < maxLength - 1 - 2 * maxDistance) {
+            prunedByBigrams.increment();
+            return false;
+        }
+
+        verified.increment();
+        return similarity(a.text, b.text, maxLength) > SIMILARITY_THRESHOLD;
+    }
+
+    /**
+     * Largest edit distance whose similarity still exceeds the threshold, using the same arithmetic.
+     */
+    private static int maxDistance(int maxLength) {
+        int distance = 0;
+        while (similarity(distance + 1, maxLength) > SIMILARITY_THRESHOLD) {
+            distance++;
+        }
+        return distance;
+    }
+
+    private static double similarity(String s1, String s2, int maxLength) {
+        return similarity(levenshteinDistance(s1, s2), maxLength);
+    }
+
+    private static double similarity(int distance, int maxLength) {
+        return 1.0 - ((double) distance / maxLength);
+    }
+
+    private static int levenshteinDistance(String s1, String s2) {
+        int[] previous = new int[s2.length() + 1];
+        int[] current = new int[s2.length() + 1];
+        for (int j = 0; j <= s2.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= s1.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= s2.length(); j++) {
+                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
+                    current[j] = previous[j - 1];
+                } else {
+                    current[j] = 1 + Math.min(Math.min(previous[j], current[j - 1]), previous[j - 1]);
+                }
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[s2.length()];
+    }
+
+    private static int sharedBigrams(int[] a, int[] b) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private Word[] wordsOf(String fieldValue) {
+        Word[] words = fieldWords.get(fieldValue);
+        if (words == null) {
+            words = tokenize(fieldValue);
+            if (fieldWords.size() >= MAX_CACHED_FIELDS) {
+                fieldWords.clear();
+            }
+            fieldWords.put(fieldValue, words);
+        }
+        return words;
+    }
+
+    private static Word[] tokenize(String value) {
+        return Arrays.stream(value.split("\\s+")).map(Word::new).toArray(Word[]::new);
+    }
+
+    /**
+     * A word with its character-presence signature and sorted bigram codes, computed once.
+     */
+    private static final class Word {
+
+        private final String text;
+        private final long signature;
+        private final int[] bigrams;
+
+        Word(String text) {
+            this.text = text;
+            long bits = 0;
+            for (int i = 0; i < text.length(); i++) {
+                bits |= 1L << (text.charAt(i) & 63);
+            }
+            this.signature = bits;
+            int[] codes = new int[Math.max(0, text.length() - 1)];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = (text.charAt(i) << 16) | text.charAt(i + 1);
+            }
+            Arrays.sort(codes);
+            this.bigrams = codes;
+        }
+
+        int length() {
+            return text.length();
+        }
+    }
+}
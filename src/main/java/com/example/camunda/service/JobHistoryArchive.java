@@ -0,0 +1,75 @@
+package com.example.camunda.service;
+
+import com.example.camunda.model.JobHistory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Appends job history rows to gzip-compressed NDJSON files, one per day of execution time. Every append adds a
+ * complete gzip member, which {@code zcat} and {@link java.util.zip.GZIPInputStream} read as one stream, and is
+ * forced to disk before it returns; a failed append is cut off again so the file stays readable.
+ */
+class JobHistoryArchive {
+
+    private final Path directory;
+    private final ObjectWriter writer;
+
+    JobHistoryArchive(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    void append(List<JobHistory> rows) throws IOException {
+        Files.createDirectories(directory);
+        Map<LocalDate, List<JobHistory>> byDay = new TreeMap<>();
+        for (JobHistory row : rows) {
+            byDay.computeIfAbsent(row.getExecutionTime().toLocalDate(), day -> new ArrayList<>()).add(row);
+        }
+        for (Map.Entry<LocalDate, List<JobHistory>> day : byDay.entrySet()) {
+            append(file(day.getKey()), day.getValue());
+        }
+    }
+
+    Path file(LocalDate day) {
+        return directory.resolve("job-history-" + day + ".ndjson.gz");
+    }
+
+    private void append(Path path, List<JobHistory> rows) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long end = channel.size();
+            channel.position(end);
+            try {
+                BufferedOutputStream file = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+                GZIPOutputStream gzip = new GZIPOutputStream(file, 1 << 16);
+                for (JobHistory row : rows) {
+                    writer.writeValue(gzip, row);
+                    gzip.write('\n');
+                }
+                // Not closed: that would close the channel before it is forced
+                gzip.finish();
+                file.flush();
+                channel.force(true);
+            } catch (IOException | RuntimeException e) {
+                channel.truncate(end);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.JobHistoryProperties;
+import com.example.camunda.dto.JobHistorySummary;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Records job executions off the job completion path. Entries go into a bounded ring buffer that one writer
+ * thread drains in batches of up to {@code job-history.recorder.batch-size}, each inserted in one transaction.
+ * Job history IDs come from a pooled sequence, so Hibernate batches the inserts instead of running one
+ * identity insert per row. When the buffer is full, {@code job-history.recorder.overflow-policy} decides which
+ * entry is dropped, or whether the job inserts its own entry. The buffer is written out on shutdown; entries
+ * recorded after that are inserted directly. The writer extracts each entry's display summary before inserting
+ * it, and every insert also adds the entries to the {@link JobMetricsRollups}, which are built from the existing
+ * history before the recorder accepts its first entry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobHistoryRecorder implements MeterBinder {
+
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long DROP_LOG_INTERVAL_MS = 10_000;
+
+    private final JobHistoryRepository jobHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final JobHistoryProperties jobHistoryProperties;
+    private final JobMetricsRollups jobMetricsRollups;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong lastDropLogged = new AtomicLong();
+    // Held from taking entries out of the buffer until they are committed, so a flush sees no batch in flight
+    private final ReentrantLock writeLock = new ReentrantLock(true);
+    // Released for every buffered entry; the writer waits on it without holding the lock
+    private final Semaphore available = new Semaphore(0);
+
+    private BlockingQueue<JobHistory> buffer;
+    private Thread writer;
+    private volatile boolean closed;
+
+    @PostConstruct
+    public void start() {
+        // Before any entry can be written, by the writer or by a caller writing through
+        alignSequence();
+        jobMetricsRollups.backfill();
+        buffer = new ArrayBlockingQueue<>(jobHistoryProperties.getRecorder().getCapacity());
+        writer = new Thread(this::drain, "job-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void recordSuccess(String jobType, String jobKey, String variables, long executionTimeMs) {
+        recordSuccess(jobType, jobKey, variables, executionTimeMs, null);
+    }
+
+    public void recordSuccess(String jobType, String jobKey, String variables, long executionTimeMs,
+                              JobPhaseTimer.Timings phases) {
+        record(entry(jobType, jobKey, "COMPLETED", variables, null, executionTimeMs, phases));
+    }
+
+    public void recordFailure(String jobType, String jobKey, String variables, String errorMessage,
+                              long executionTimeMs) {
+        recordFailure(jobType, jobKey, variables, errorMessage, executionTimeMs, null);
+    }
+
+    public void recordFailure(String jobType, String jobKey, String variables, String errorMessage,
+                              long executionTimeMs, JobPhaseTimer.Timings phases) {
+        record(entry(jobType, jobKey, "FAILED", variables, errorMessage, executionTimeMs, phases));
+    }
+
+    void record(JobHistory entry) {
+        if (closed) {
+            write(List.of(entry));
+            return;
+        }
+        while (!buffer.offer(entry)) {
+            switch (jobHistoryProperties.getRecorder().getOverflowPolicy()) {
+                case DROP_OLDEST -> {
+                    if (buffer.poll() != null) {
+                        dropped();
+                    }
+                }
+                case DROP_NEWEST -> {
+                    dropped();
+                    return;
+                }
+                case WRITE_THROUGH -> {
+                    write(List.of(entry));
+                    return;
+                }
+            }
+        }
+        available.release();
+        if (closed) {
+            // Shutdown began after the check above; the writer may already have stopped
+            flush();
+        }
+    }
+
+    /**
+     * Writes everything recorded so far; returns once it is committed.
+     */
+    public void flush() {
+        int batchSize = jobHistoryProperties.getRecorder().getBatchSize();
+        List<JobHistory> batch = new ArrayList<>(batchSize);
+        writeLock.lock();
+        try {
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        closed = true;
+        // The writer is never interrupted: an interrupt during an insert would close the database file channel
+        writer.join(jobHistoryProperties.getRecorder().getShutdownTimeout().toMillis());
+        if (writer.isAlive()) {
+            log.warn("Job history writer did not finish within {}; {} buffered entries are lost",
+                    jobHistoryProperties.getRecorder().getShutdownTimeout(), buffer.size());
+            return;
+        }
+        flush();
+        log.info("Job history recorder stopped: {} entries written, {} dropped, {} failed",
+                written.sum(), dropped.sum(), failed.sum());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("job.history.buffered", this, recorder -> recorder.buffer.size())
+                .description("Job history entries waiting to be written")
+                .register(registry);
+        bindOutcome(registry, "written", written);
+        bindOutcome(registry, "dropped", dropped);
+        bindOutcome(registry, "failed", failed);
+    }
+
+    private void bindOutcome(MeterRegistry registry, String outcome, LongAdder counter) {
+        FunctionCounter.builder("job.history.entries", counter, LongAdder::sum)
+                .description("Job history entries written, dropped because the buffer was full, or lost to a failed insert")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private void drain() {
+        int batchSize = jobHistoryProperties.getRecorder().getBatchSize();
+        List<JobHistory> batch = new ArrayList<>(batchSize);
+        while (!closed || !buffer.isEmpty()) {
+            try {
+                if (!available.tryAcquire(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            writeLock.lock();
+            try {
+                // Entries that arrived while the previous batch was written go into this one; permits left by
+                // entries a flush or a dropped oldest entry took are stale
+                available.drainPermits();
+                if (buffer.drainTo(batch, batchSize) > 0) {
+                    write(batch);
+                    batch.clear();
+                }
+                if (!buffer.isEmpty()) {
+                    available.release();
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private void write(List<JobHistory> batch) {
+        try {
+            for (JobHistory entry : batch) {
+                if (entry.getSummary() == null) {
+                    entry.setSummary(JobHistorySummary.extract(entry.getJobType(), entry.getVariables()).toJson());
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jobHistoryRepository.saveAll(batch);
+                jobMetricsRollups.add(batch);
+            });
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.error("Could not write {} job history entries", batch.size(), e);
+        }
+    }
+
+    private void dropped() {
+        dropped.increment();
+        long now = System.currentTimeMillis();
+        long logged = lastDropLogged.get();
+        if (now - logged >= DROP_LOG_INTERVAL_MS && lastDropLogged.compareAndSet(logged, now)) {
+            log.warn("Job history buffer is full ({} entries); {} entries dropped so far",
+                    jobHistoryProperties.getRecorder().getCapacity(), dropped.sum());
+        }
+    }
+
+    /**
+     * Rows written while job history IDs came from the identity column may be ahead of the sequence; it is
+     * moved past them once, before the first insert. The pooled optimizer uses the block that ends at the first
+     * value it reads, so the restart value leaves room for one block above the highest ID.
+     */
+    void alignSequence() {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM job_history", Long.class);
+            Long next = jdbcTemplate.queryForObject("SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES "
+                    + "WHERE SEQUENCE_NAME = 'JOB_HISTORY_SEQ'", Long.class);
+            if (maxId != null && next != null && next <= maxId) {
+                jdbcTemplate.execute("ALTER SEQUENCE job_history_seq RESTART WITH " + (maxId + JobHistory.ID_BLOCK_SIZE));
+                log.info("Moved the job history ID sequence past existing ID {}", maxId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not align the job history ID sequence with existing rows", e);
+        }
+    }
+
+    private static JobHistory entry(String jobType, String jobKey, String status, String variables,
+                                    String errorMessage, long executionTimeMs, JobPhaseTimer.Timings phases) {
+        JobHistory jobHistory = new JobHistory();
+        jobHistory.setJobType(jobType);
+        jobHistory.setJobKey(jobKey);
+        jobHistory.setStatus(status);
+        jobHistory.setVariables(variables);
+        jobHistory.setErrorMessage(errorMessage);
+        jobHistory.setExecutionTime(LocalDateTime.now());
+        jobHistory.setExecutionTimeMs(executionTimeMs);
+        if (phases != null) {
+            jobHistory.setBrokerWaitMs(phases.brokerWaitMs());
+            jobHistory.setDeserializeMs(phases.deserializeMs());
+            jobHistory.setSearchDbMs(phases.searchDbMs());
+            jobHistory.setSearchMatchMs(phases.searchMatchMs());
+            jobHistory.setResultBuildMs(phases.resultBuildMs());
+            jobHistory.setCompleteMs(phases.completeMs());
+        }
+        return jobHistory;
+    }
+}
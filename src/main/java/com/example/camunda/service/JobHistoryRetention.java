@@ -0,0 +1,111 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.JobHistoryProperties;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keeps {@code job_history} small: rows older than the TTL of their status are written to the
+ * {@link JobHistoryArchive} and deleted, oldest first, in transactions of {@code job-history.retention.batch-size}
+ * rows and at most {@code max-batches-per-run} per run. A row is deleted only once its archive write is on disk;
+ * if the delete then fails, the row is archived again by the next run, so archives can hold a row twice.
+ * Only the instance that owns the database should run this; replicas turn it off.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobHistoryRetention {
+
+    private final JobHistoryRepository jobHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobHistoryProperties jobHistoryProperties;
+    private final ObjectMapper objectMapper;
+
+    @Scheduled(initialDelayString = "${job-history.retention.interval-ms:600000}",
+            fixedDelayString = "${job-history.retention.interval-ms:600000}")
+    public void run() {
+        JobHistoryProperties.Retention retention = jobHistoryProperties.getRetention();
+        if (!retention.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int batches = 0;
+        long removed = 0;
+        try {
+            for (Function<Pageable, List<JobHistory>> expired : expiredQueries(LocalDateTime.now())) {
+                int rows;
+                do {
+                    if (batches == retention.getMaxBatchesPerRun()) {
+                        log.info("Job history retention stopped after {} batches; the rest waits for the next run",
+                                batches);
+                        return;
+                    }
+                    rows = transactionTemplate.execute(status -> removeBatch(expired));
+                    removed += rows;
+                    batches++;
+                } while (rows == retention.getBatchSize());
+            }
+        } catch (UncheckedIOException | DataAccessException e) {
+            log.warn("Job history retention failed after removing {} rows", removed, e);
+        } finally {
+            if (removed > 0) {
+                log.info("Removed {} expired job history rows in {}ms", removed, System.currentTimeMillis() - start);
+            }
+        }
+    }
+
+    /**
+     * One query per status with its own TTL, and one for every other status with the default TTL.
+     */
+    private List<Function<Pageable, List<JobHistory>>> expiredQueries(LocalDateTime now) {
+        JobHistoryProperties.Retention retention = jobHistoryProperties.getRetention();
+        List<Function<Pageable, List<JobHistory>>> queries = new ArrayList<>();
+        for (String status : retention.getTtl().keySet()) {
+            LocalDateTime before = now.minus(retention.ttlFor(status));
+            queries.add(page -> jobHistoryRepository.findByStatusAndExecutionTimeBeforeOrderByExecutionTimeAsc(
+                    status, before, page));
+        }
+        LocalDateTime before = now.minus(retention.getDefaultTtl());
+        if (retention.getTtl().isEmpty()) {
+            queries.add(page -> jobHistoryRepository.findByExecutionTimeBeforeOrderByExecutionTimeAsc(before, page));
+        } else {
+            queries.add(page -> jobHistoryRepository.findByStatusNotInAndExecutionTimeBeforeOrderByExecutionTimeAsc(
+                    retention.getTtl().keySet(), before, page));
+        }
+        return queries;
+    }
+
+    private int removeBatch(Function<Pageable, List<JobHistory>> expired) {
+        JobHistoryProperties.Retention retention = jobHistoryProperties.getRetention();
+        List<JobHistory> rows = expired.apply(PageRequest.of(0, retention.getBatchSize()));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        if (retention.isArchive()) {
+            try {
+                new JobHistoryArchive(Path.of(retention.getArchivePath()), objectMapper).append(rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not archive " + rows.size() + " job history rows", e);
+            }
+        }
+        jobHistoryRepository.deleteAllByIdInBatch(rows.stream().map(JobHistory::getId).toList());
+        return rows.size();
+    }
+}
@@ -1,16 +1,23 @@
 package com.example.camunda.service;
 
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.JobHistoryDTO;
+import com.example.camunda.dto.JobHistoryFilter;
+import com.example.camunda.dto.PageParams;
 import com.example.camunda.model.JobHistory;
 import com.example.camunda.repository.JobHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Service
@@ -20,6 +27,16 @@ import java.util.Map;
 public class JobHistoryService {
     
     private final JobHistoryRepository jobHistoryRepository;
+    
+    private static final KeysetPaging<JobHistory> JOB_HISTORY_PAGING = KeysetPaging.<JobHistory>byId("id")
+        .sortable("executionTime", LocalDateTime::parse);
+    
+    private volatile RecentHistory recentHistory;
+    
+    // The DTOs of the last response, never handed out themselves, and the table extent they were built at
+    private record RecentHistory(int limit, long lastId, long rows, List<JobHistoryDTO> items,
+                                 Map<Long, JobHistoryDTO> byId) {
+    }
 
     public List<JobHistory> getRecentJobHistory(int limit) {
         log.debug("Fetching recent job history, limit: {}", limit);
@@ -27,47 +44,63 @@ public class JobHistoryService {
         return jobHistoryRepository.findAll(pageRequest).getContent();
     }
 
-    public List<JobHistory> getAllJobHistory() {
-        return jobHistoryRepository.findAll(Sort.by("executionTime").descending());
-    }
-
-    public long getTotalJobsProcessed() {
-        return jobHistoryRepository.count();
-    }
-
-    public long getJobsProcessedToday() {
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-        return jobHistoryRepository.countByExecutionTimeAfter(startOfDay);
-    }
-
-    public Map<String, Long> getJobCountsByType() {
-        return jobHistoryRepository.countJobsByType();
+    /**
+     * The most recent job history as DTOs. Until an entry is added or removed the previous list is copied;
+     * otherwise the rows are read again but only entries not in the previous list are mapped. Callers get
+     * copies, so changing a returned DTO never reaches the cache or another response.
+     */
+    public List<JobHistoryDTO> getRecentJobHistoryDtos(int limit) {
+        // The row count catches entries removed by retention and entries that commit after a higher ID
+        JobHistoryRepository.Extent extent = jobHistoryRepository.findExtent();
+        long lastId = extent.getLastId();
+        long rows = extent.getEntries();
+        RecentHistory cached = recentHistory;
+        if (cached != null && cached.limit() == limit && cached.lastId() == lastId && cached.rows() == rows) {
+            return copies(cached.items());
+        }
+        Map<Long, JobHistoryDTO> known = cached != null ? cached.byId() : Map.of();
+        Map<Long, JobHistoryDTO> byId = new HashMap<>();
+        List<JobHistoryDTO> items = getRecentJobHistory(limit).stream()
+                .map(entry -> {
+                    JobHistoryDTO dto = known.get(entry.getId());
+                    if (dto == null) {
+                        dto = JobHistoryDTO.fromJobHistory(entry);
+                    }
+                    byId.put(entry.getId(), dto);
+                    return dto;
+                })
+                .toList();
+        recentHistory = new RecentHistory(limit, lastId, rows, items, byId);
+        return copies(items);
     }
 
-    @Transactional
-    public JobHistory recordJobExecution(String jobType, String jobKey, String status, 
-                                       String variables, String errorMessage, long executionTimeMs) {
-        log.debug("Recording job execution: type={}, key={}, status={}", jobType, jobKey, status);
-        
-        JobHistory jobHistory = new JobHistory();
-        jobHistory.setJobType(jobType);
-        jobHistory.setJobKey(jobKey);
-        jobHistory.setStatus(status);
-        jobHistory.setVariables(variables);
-        jobHistory.setErrorMessage(errorMessage);
-        jobHistory.setExecutionTime(LocalDateTime.now());
-        jobHistory.setExecutionTimeMs(executionTimeMs);
-        
-        return jobHistoryRepository.save(jobHistory);
+    private static List<JobHistoryDTO> copies(List<JobHistoryDTO> items) {
+        return items.stream().map(JobHistoryDTO::copy).toList();
     }
 
-    @Transactional
-    public void recordJobSuccess(String jobType, String jobKey, String variables, long executionTimeMs) {
-        recordJobExecution(jobType, jobKey, "COMPLETED", variables, null, executionTimeMs);
+    /**
+     * A page of job history matching the filters, newest first unless the page asks for another order.
+     * Job type and status filters are served by their indexes on (column, execution time), so a page
+     * reads only the rows it returns.
+     */
+    public CursorPage<JobHistory> searchJobHistory(JobHistoryFilter filter, PageParams page) {
+        log.debug("Searching job history - {}, {}", filter, page);
+        Specification<JobHistory> spec = Specification
+            .where(KeysetPaging.<JobHistory>equalTo("jobType", blankToNull(filter.jobType())))
+            // Statuses are stored upper-case
+            .and(KeysetPaging.equalTo("status", filter.status() != null && !filter.status().isBlank()
+                ? filter.status().trim().toUpperCase(Locale.ROOT) : null))
+            .and(KeysetPaging.equalTo("jobKey", blankToNull(filter.jobKey())))
+            .and(KeysetPaging.atLeast("executionTime", filter.from()))
+            .and(KeysetPaging.lessThan("executionTime", filter.to()))
+            .and(KeysetPaging.atLeast("executionTimeMs", filter.minDurationMs()));
+        PageParams newestFirst = new PageParams(page.cursor(), page.limit(),
+                page.sort() != null ? page.sort() : "executionTime",
+                page.direction() != null ? page.direction() : "desc");
+        return JOB_HISTORY_PAGING.page(jobHistoryRepository, spec, newestFirst);
     }
 
-    @Transactional
-    public void recordJobFailure(String jobType, String jobKey, String variables, String errorMessage, long executionTimeMs) {
-        recordJobExecution(jobType, jobKey, "FAILED", variables, errorMessage, executionTimeMs);
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 }
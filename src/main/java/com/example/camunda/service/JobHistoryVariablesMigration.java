@@ -0,0 +1,144 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.JobHistoryProperties;
+import com.example.camunda.dto.JobHistorySummary;
+import com.example.camunda.model.JobHistoryMigration;
+import com.example.camunda.util.VariablesCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compresses the variables of job history rows written before they were stored with {@link VariablesCodec},
+ * and extracts the {@link JobHistorySummary} of rows written before summaries were stored.
+ * Rows are visited once, in ID order, a few batches per run until the end of the table is reached; entries
+ * inserted since then are compressed and summarized on insert. Rows whose stored variables cannot be decoded
+ * are logged and left as they are. The last visited ID is saved in {@link JobHistoryMigration} with each batch,
+ * so a restart resumes from it and, once the end was reached, skips the migration. Only the instance that owns
+ * the database runs the migration.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobHistoryVariablesMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobHistoryProperties jobHistoryProperties;
+
+    private boolean resumed;
+    private long cursor;
+    private long migrated;
+    private volatile boolean done;
+
+    private record MigratedRow(long id, byte[] data, String summary) {
+    }
+
+    private record Batch(int scanned, long lastId, int compressed) {
+    }
+
+    @Scheduled(initialDelayString = "${job-history.variables-migration.interval-ms:1000}",
+            fixedDelayString = "${job-history.variables-migration.interval-ms:1000}")
+    public synchronized void run() {
+        JobHistoryProperties.VariablesMigration settings = jobHistoryProperties.getVariablesMigration();
+        if (!settings.isEnabled() || done) {
+            return;
+        }
+        try {
+            if (!resumed) {
+                resume();
+                if (done) {
+                    return;
+                }
+            }
+            for (int i = 0; i < settings.getBatchesPerRun(); i++) {
+                Batch batch = transactionTemplate.execute(status -> {
+                    Batch compressed = compressBatch(settings.getBatchSize());
+                    jdbcTemplate.update("UPDATE job_history_migration SET last_id = ?, completed = ? WHERE id = ?",
+                            compressed.lastId(), compressed.scanned() < settings.getBatchSize(),
+                            JobHistoryMigration.VARIABLES);
+                    return compressed;
+                });
+                cursor = batch.lastId();
+                migrated += batch.compressed();
+                if (batch.scanned() < settings.getBatchSize()) {
+                    done = true;
+                    if (migrated > 0) {
+                        log.info("Compressed and summarized {} existing job history rows", migrated);
+                    }
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not migrate job history rows after ID {}; retrying in the next run", cursor, e);
+        }
+    }
+
+    boolean isDone() {
+        return done;
+    }
+
+    private void resume() {
+        try {
+            jdbcTemplate.update("INSERT INTO job_history_migration (id, last_id, completed) SELECT ?, 0, FALSE "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM job_history_migration WHERE id = ?)",
+                    JobHistoryMigration.VARIABLES, JobHistoryMigration.VARIABLES);
+        } catch (DuplicateKeyException e) {
+            // Another instance created it first
+        }
+        jdbcTemplate.query("SELECT last_id, completed FROM job_history_migration WHERE id = ?", resultSet -> {
+            cursor = resultSet.getLong("last_id");
+            done = resultSet.getBoolean("completed");
+        }, JobHistoryMigration.VARIABLES);
+        resumed = true;
+        if (cursor > 0 && !done) {
+            log.info("Resuming the job history migration after ID {}", cursor);
+        }
+    }
+
+    /**
+     * Migrates the next batch of rows by ID, whether or not they still need it, so that every batch reads
+     * a range of the primary key instead of searching the table for remaining rows.
+     */
+    private Batch compressBatch(int batchSize) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM job_history WHERE id > ? ORDER BY id LIMIT ?", Long.class, cursor, batchSize);
+        if (ids.isEmpty()) {
+            return new Batch(0, cursor, 0);
+        }
+        long last = ids.get(ids.size() - 1);
+        List<MigratedRow> rows = jdbcTemplate.query("SELECT id, job_type, variables, variables_data FROM job_history "
+                        + "WHERE id > ? AND id <= ? "
+                        + "AND (summary IS NULL OR (variables IS NOT NULL AND variables_data IS NULL))",
+                (resultSet, rowNum) -> {
+                    long id = resultSet.getLong("id");
+                    String jobType = resultSet.getString("job_type");
+                    byte[] data = resultSet.getBytes("variables_data");
+                    try {
+                        String variables = data != null
+                                ? VariablesCodec.decode(data)
+                                : resultSet.getString("variables");
+                        return new MigratedRow(id, data != null ? data : VariablesCodec.encode(jobType, variables),
+                                JobHistorySummary.extract(jobType, variables).toJson());
+                    } catch (IllegalArgumentException e) {
+                        log.warn("Skipping job history row {}, whose variables cannot be decoded", id, e);
+                        return null;
+                    }
+                },
+                cursor, last);
+        rows.removeIf(Objects::isNull);
+        jdbcTemplate.batchUpdate(
+                "UPDATE job_history SET variables_data = ?, variables = NULL, summary = ?, "
+                        + "updated_at = LOCALTIMESTAMP WHERE id = ?",
+                rows.stream().map(row -> new Object[] {row.data(), row.summary(), row.id()}).toList());
+        return new Batch(ids.size(), last, rows.size());
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.JobHistoryProperties;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.model.JobMetricsRollup.Granularity;
+import com.example.camunda.model.JobMetricsRollupLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains {@code job_metrics_rollup}: every batch of job history entries adds its counts and execution times
+ * and their phase timings to one row per granularity, bucket, job type and status, inside the transaction that
+ * inserts the entries.
+ * Increments are single UPDATE statements, applied in key order, so instances writing at the same time neither
+ * lose counts nor deadlock. Minute and hour buckets are pruned after their retention; days and the total stay.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobMetricsRollups {
+
+    private static final String INCREMENT = "UPDATE job_metrics_rollup "
+            + "SET executions = executions + ?, execution_time_ms_sum = execution_time_ms_sum + ?, "
+            + "phased_executions = phased_executions + ?, broker_wait_ms_sum = broker_wait_ms_sum + ?, "
+            + "deserialize_ms_sum = deserialize_ms_sum + ?, search_db_ms_sum = search_db_ms_sum + ?, "
+            + "search_match_ms_sum = search_match_ms_sum + ?, result_build_ms_sum = result_build_ms_sum + ?, "
+            + "complete_ms_sum = complete_ms_sum + ? "
+            + "WHERE granularity = ? AND bucket_start = ? AND job_type = ? AND status = ?";
+    private static final String INSERT = "INSERT INTO job_metrics_rollup "
+            + "(executions, execution_time_ms_sum, phased_executions, broker_wait_ms_sum, deserialize_ms_sum, "
+            + "search_db_ms_sum, search_match_ms_sum, result_build_ms_sum, complete_ms_sum, "
+            + "granularity, bucket_start, job_type, status) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::granularity)
+            .thenComparing(Key::bucketStart)
+            .thenComparing(Key::jobType)
+            .thenComparing(Key::status);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobHistoryProperties jobHistoryProperties;
+
+    private record Key(Granularity granularity, LocalDateTime bucketStart, String jobType, String status) {
+    }
+
+    private static final class Delta {
+        long executions;
+        long executionTimeMs;
+        long phasedExecutions;
+        long brokerWaitMs;
+        long deserializeMs;
+        long searchDbMs;
+        long searchMatchMs;
+        long resultBuildMs;
+        long completeMs;
+
+        void add(JobHistory entry) {
+            executions++;
+            executionTimeMs += valueOf(entry.getExecutionTimeMs());
+            // Entries carry all phases or none
+            if (entry.getBrokerWaitMs() != null) {
+                phasedExecutions++;
+                brokerWaitMs += entry.getBrokerWaitMs();
+                deserializeMs += valueOf(entry.getDeserializeMs());
+                searchDbMs += valueOf(entry.getSearchDbMs());
+                searchMatchMs += valueOf(entry.getSearchMatchMs());
+                resultBuildMs += valueOf(entry.getResultBuildMs());
+                completeMs += valueOf(entry.getCompleteMs());
+            }
+        }
+
+        private static long valueOf(Long value) {
+            return value != null ? value : 0;
+        }
+    }
+
+    /**
+     * Adds the entries to the rollups; must run in the transaction that inserts them.
+     */
+    public void add(List<JobHistory> entries) {
+        Map<Key, Delta> deltas = new TreeMap<>(KEY_ORDER);
+        for (JobHistory entry : entries) {
+            for (Granularity granularity : Granularity.values()) {
+                Key key = new Key(granularity, granularity.bucketOf(entry.getExecutionTime()), entry.getJobType(),
+                        entry.getStatus());
+                deltas.computeIfAbsent(key, k -> new Delta()).add(entry);
+            }
+        }
+        List<Object[]> increments = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> increments.add(row(key, delta)));
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT, increments);
+
+        int i = 0;
+        for (Map.Entry<Key, Delta> bucket : deltas.entrySet()) {
+            if (updated[i++] == 0) {
+                insert(bucket.getKey(), bucket.getValue());
+            }
+        }
+    }
+
+    /**
+     * Builds the rollups from the existing job history when the table is still empty, which it is only
+     * on the first start after the table was added. Runs before the first batch is recorded. The check and
+     * the inserts run in one transaction holding the lock row, so instances starting together wait for the
+     * first one's rollups instead of adding the history twice.
+     */
+    public void backfill() {
+        try {
+            createLockRow();
+            Integer rows = transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForObject("SELECT id FROM job_metrics_rollup_lock WHERE id = ? FOR UPDATE",
+                        Integer.class, JobMetricsRollupLock.BACKFILL);
+                Long rollups = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_metrics_rollup", Long.class);
+                if (rollups != null && rollups > 0) {
+                    return 0;
+                }
+                int inserted = 0;
+                for (Granularity granularity : Granularity.values()) {
+                    inserted += backfill(granularity);
+                }
+                return inserted;
+            });
+            if (rows != null && rows > 0) {
+                log.info("Built {} job metrics rollups from the existing job history", rows);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not build job metrics rollups from the existing job history", e);
+        }
+    }
+
+    private void createLockRow() {
+        try {
+            jdbcTemplate.update("INSERT INTO job_metrics_rollup_lock (id) SELECT ? WHERE NOT EXISTS "
+                    + "(SELECT 1 FROM job_metrics_rollup_lock WHERE id = ?)",
+                    JobMetricsRollupLock.BACKFILL, JobMetricsRollupLock.BACKFILL);
+        } catch (DuplicateKeyException e) {
+            // Another instance created it first
+        }
+    }
+
+    private int backfill(Granularity granularity) {
+        String bucket = granularity == Granularity.TOTAL
+                ? "TIMESTAMP '1970-01-01 00:00:00'"
+                : "DATE_TRUNC('" + granularity.name() + "', execution_time)";
+        return jdbcTemplate.update("INSERT INTO job_metrics_rollup "
+                + "(granularity, bucket_start, job_type, status, executions, execution_time_ms_sum, "
+                + "phased_executions, broker_wait_ms_sum, deserialize_ms_sum, search_db_ms_sum, "
+                + "search_match_ms_sum, result_build_ms_sum, complete_ms_sum) "
+                + "SELECT '" + granularity.name() + "', " + bucket + ", job_type, status, COUNT(*), "
+                + "COALESCE(SUM(execution_time_ms), 0), COUNT(broker_wait_ms), "
+                + "COALESCE(SUM(broker_wait_ms), 0), COALESCE(SUM(deserialize_ms), 0), "
+                + "COALESCE(SUM(search_db_ms), 0), COALESCE(SUM(search_match_ms), 0), "
+                + "COALESCE(SUM(result_build_ms), 0), COALESCE(SUM(complete_ms), 0) FROM job_history "
+                + "GROUP BY " + bucket + ", job_type, status");
+    }
+
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000) // Prune hourly
+    public void prune() {
+        JobHistoryProperties.Rollups rollups = jobHistoryProperties.getRollups();
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = prune(Granularity.MINUTE, now.minus(rollups.getMinuteRetention()))
+                + prune(Granularity.HOUR, now.minus(rollups.getHourRetention()));
+        if (deleted > 0) {
+            log.debug("Pruned {} expired minute and hour job metrics rollups", deleted);
+        }
+    }
+
+    private int prune(Granularity granularity, LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM job_metrics_rollup WHERE granularity = ? AND bucket_start < ?",
+                granularity.name(), Timestamp.valueOf(before));
+    }
+
+    private void insert(Key key, Delta delta) {
+        try {
+            jdbcTemplate.update(INSERT, row(key, delta));
+        } catch (DuplicateKeyException e) {
+            // Another instance created the bucket since the increment found none
+            jdbcTemplate.update(INCREMENT, row(key, delta));
+        }
+    }
+
+    private static Object[] row(Key key, Delta delta) {
+        return new Object[] {delta.executions, delta.executionTimeMs, delta.phasedExecutions, delta.brokerWaitMs,
+                delta.deserializeMs, delta.searchDbMs, delta.searchMatchMs, delta.resultBuildMs, delta.completeMs,
+                key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.jobType(), key.status()};
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.camunda.service;
+
+import com.example.camunda.dto.JobMetricsBucket;
+import com.example.camunda.dto.JobPhaseBreakdown;
+import com.example.camunda.exception.InvalidMetricsRequestException;
+import com.example.camunda.model.JobMetricsRollup;
+import com.example.camunda.model.JobMetricsRollup.Granularity;
+import com.example.camunda.repository.JobMetricsRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Job metrics read from the {@link JobMetricsRollups}, so each read touches a handful of rows however long
+ * the job history is. Transactions are not read-only: the rollups are not part of a replica's read copy
+ * and are read from the primary.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class JobMetricsService {
+
+    private static final String FAILED = "FAILED";
+    private static final int MAX_TIMELINE_BUCKETS = 1_440;
+
+    private final JobMetricsRollupRepository jobMetricsRollupRepository;
+
+    public long getTotalJobsProcessed() {
+        return totals().stream().mapToLong(JobMetricsRollup::getExecutions).sum();
+    }
+
+    public long getJobsProcessedToday() {
+        LocalDateTime today = Granularity.DAY.bucketOf(LocalDateTime.now());
+        return jobMetricsRollupRepository.findByGranularityAndBucketStart(Granularity.DAY, today).stream()
+                .mapToLong(JobMetricsRollup::getExecutions)
+                .sum();
+    }
+
+    public long getFailedJobs() {
+        return totals().stream()
+                .filter(rollup -> FAILED.equals(rollup.getStatus()))
+                .mapToLong(JobMetricsRollup::getExecutions)
+                .sum();
+    }
+
+    public Map<String, Long> getJobCountsByType() {
+        return totals().stream().collect(Collectors.groupingBy(JobMetricsRollup::getJobType, TreeMap::new,
+                Collectors.summingLong(JobMetricsRollup::getExecutions)));
+    }
+
+    public Map<String, Long> getFailedJobCountsByType() {
+        return totals().stream()
+                .filter(rollup -> FAILED.equals(rollup.getStatus()))
+                .collect(Collectors.groupingBy(JobMetricsRollup::getJobType, TreeMap::new,
+                        Collectors.summingLong(JobMetricsRollup::getExecutions)));
+    }
+
+    public Map<String, Long> getAverageExecutionTimeMsByType() {
+        Map<String, long[]> sums = new TreeMap<>();
+        for (JobMetricsRollup rollup : totals()) {
+            long[] sum = sums.computeIfAbsent(rollup.getJobType(), type -> new long[2]);
+            sum[0] += rollup.getExecutionTimeMsSum();
+            sum[1] += rollup.getExecutions();
+        }
+        Map<String, Long> averages = new TreeMap<>();
+        sums.forEach((type, sum) -> averages.put(type, sum[1] > 0 ? sum[0] / sum[1] : 0));
+        return averages;
+    }
+
+    /**
+     * The average time of each phase per job type, over every execution recorded with phase timings.
+     */
+    public List<JobPhaseBreakdown> getPhaseBreakdownByType() {
+        Map<String, long[]> sums = new TreeMap<>();
+        for (JobMetricsRollup rollup : totals()) {
+            long[] sum = sums.computeIfAbsent(rollup.getJobType(), type -> new long[7]);
+            sum[0] += rollup.getPhasedExecutions();
+            sum[1] += rollup.getBrokerWaitMsSum();
+            sum[2] += rollup.getDeserializeMsSum();
+            sum[3] += rollup.getSearchDbMsSum();
+            sum[4] += rollup.getSearchMatchMsSum();
+            sum[5] += rollup.getResultBuildMsSum();
+            sum[6] += rollup.getCompleteMsSum();
+        }
+        return sums.entrySet().stream()
+                .filter(type -> type.getValue()[0] > 0)
+                .map(type -> {
+                    long[] sum = type.getValue();
+                    long jobs = sum[0];
+                    return new JobPhaseBreakdown(type.getKey(), jobs, sum[1] / jobs, sum[2] / jobs, sum[3] / jobs,
+                            sum[4] / jobs, sum[5] / jobs, sum[6] / jobs);
+                })
+                .toList();
+    }
+
+    /**
+     * Executions per job type and status in the last {@code buckets} minutes, hours or days, oldest first.
+     */
+    public List<JobMetricsBucket> getJobTimeline(String granularity, int buckets) {
+        Granularity unit = timelineGranularity(granularity);
+        if (buckets < 1 || buckets > MAX_TIMELINE_BUCKETS) {
+            throw new InvalidMetricsRequestException("buckets must be between 1 and " + MAX_TIMELINE_BUCKETS);
+        }
+        LocalDateTime current = unit.bucketOf(LocalDateTime.now());
+        LocalDateTime from = switch (unit) {
+            case MINUTE -> current.minusMinutes(buckets - 1L);
+            case HOUR -> current.minusHours(buckets - 1L);
+            default -> current.minusDays(buckets - 1L);
+        };
+        return jobMetricsRollupRepository
+                .findByGranularityAndBucketStartGreaterThanEqualOrderByBucketStartAsc(unit, from).stream()
+                .map(JobMetricsBucket::from)
+                .toList();
+    }
+
+    private List<JobMetricsRollup> totals() {
+        return jobMetricsRollupRepository.findByGranularity(Granularity.TOTAL);
+    }
+
+    private static Granularity timelineGranularity(String granularity) {
+        for (Granularity candidate : List.of(Granularity.MINUTE, Granularity.HOUR, Granularity.DAY)) {
+            if (candidate.name().equalsIgnoreCase(granularity)) {
+                return candidate;
+            }
+        }
+        throw new InvalidMetricsRequestException("Unsupported granularity '" + granularity
+                + "'; use minute, hour or day");
+    }
+}
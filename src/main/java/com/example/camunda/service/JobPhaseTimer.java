@@ -0,0 +1,95 @@
+package com.example.camunda.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the phases of the job handled on the current thread. The polling service opens a timer per job and
+ * times the handler and the complete command; workers time variable deserialization and their search with
+ * {@link #time}, and {@link com.example.camunda.config.JdbcTimingListener} adds the JDBC time spent during the
+ * search. Without an open timer, as in worker unit tests, {@link #time} just runs the work.
+ */
+public final class JobPhaseTimer implements AutoCloseable {
+
+    public enum Phase {
+        DESERIALIZE, SEARCH, HANDLER, COMPLETE
+    }
+
+    /**
+     * Where a job's time went, in milliseconds. Broker wait runs from the job's activation, derived from its
+     * deadline and activation timeout, to the start of its handling; it includes the time the job queued
+     * behind the others of its batch and any difference between the broker's and this host's clocks.
+     * Search matching is the search time outside JDBC: fuzzy matching, index and read model lookups, and ORM
+     * and transaction work. Result building is the handler time outside deserialization and search.
+     */
+    public record Timings(long brokerWaitMs, long deserializeMs, long searchDbMs, long searchMatchMs,
+                          long resultBuildMs, long completeMs) {
+    }
+
+    private static final ThreadLocal<JobPhaseTimer> CURRENT = new ThreadLocal<>();
+
+    private final long brokerWaitMs;
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private boolean searching;
+    private long searchDbNanos;
+
+    private JobPhaseTimer(long brokerWaitMs) {
+        this.brokerWaitMs = brokerWaitMs;
+    }
+
+    /**
+     * Opens a timer for a job activated at the given time on the current thread.
+     */
+    public static JobPhaseTimer start(long activatedAtMillis) {
+        JobPhaseTimer timer = new JobPhaseTimer(Math.max(0, System.currentTimeMillis() - activatedAtMillis));
+        CURRENT.set(timer);
+        return timer;
+    }
+
+    public static <T> T time(Phase phase, Supplier<T> work) {
+        JobPhaseTimer timer = CURRENT.get();
+        if (timer == null) {
+            return work.get();
+        }
+        boolean wasSearching = timer.searching;
+        timer.searching = wasSearching || phase == Phase.SEARCH;
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            timer.phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+            timer.searching = wasSearching;
+        }
+    }
+
+    /**
+     * Adds JDBC time spent on the current thread; counted only while a search is timed.
+     */
+    public static void addDatabaseNanos(long nanos) {
+        JobPhaseTimer timer = CURRENT.get();
+        if (timer != null && timer.searching) {
+            timer.searchDbNanos += nanos;
+        }
+    }
+
+    public Timings timings() {
+        long deserialize = nanos(Phase.DESERIALIZE);
+        long search = nanos(Phase.SEARCH);
+        long searchDb = Math.min(searchDbNanos, search);
+        return new Timings(brokerWaitMs, millis(deserialize), millis(searchDb), millis(search - searchDb),
+                millis(Math.max(0, nanos(Phase.HANDLER) - deserialize - search)), millis(nanos(Phase.COMPLETE)));
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+    }
+
+    private long nanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
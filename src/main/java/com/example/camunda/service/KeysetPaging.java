@@ -0,0 +1,173 @@
+package com.example.camunda.service;
+
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.PageParams;
+import com.example.camunda.exception.InvalidPageRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cursor pagination over one entity type. Each page is read with a keyset predicate on the sort column
+ * and the ID rather than an offset, so a page deep into the table costs the same as the first one.
+ * Cursors are opaque to clients; they name the sort column and direction and carry the last row's keys.
+ */
+final class KeysetPaging<T> {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private static final String SEPARATOR = "\n";
+
+    private final String idProperty;
+    private final Map<String, Function<String, Object>> sortable;
+
+    private KeysetPaging(String idProperty, Map<String, Function<String, Object>> sortable) {
+        this.idProperty = idProperty;
+        this.sortable = sortable;
+    }
+
+    static <T> KeysetPaging<T> byId(String idProperty) {
+        Map<String, Function<String, Object>> sortable = new LinkedHashMap<>();
+        sortable.put(idProperty, Long::valueOf);
+        return new KeysetPaging<>(idProperty, sortable);
+    }
+
+    /**
+     * Allows sorting by a non-null column whose cursor values are parsed back with the given function.
+     */
+    KeysetPaging<T> sortable(String property, Function<String, Object> parser) {
+        Map<String, Function<String, Object>> extended = new LinkedHashMap<>(sortable);
+        extended.put(property, parser);
+        return new KeysetPaging<>(idProperty, extended);
+    }
+
+    CursorPage<T> page(JpaSpecificationExecutor<T> repository, Specification<T> filter, PageParams params) {
+        String property = params.sort() != null ? params.sort() : idProperty;
+        if (!sortable.containsKey(property)) {
+            throw new InvalidPageRequestException(
+                    "Cannot sort by '" + property + "'; sortable columns are " + sortable.keySet());
+        }
+        Sort.Direction direction = direction(params.direction());
+        int limit = params.limit() != null ? params.limit() : DEFAULT_LIMIT;
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidPageRequestException("Page limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        Sort order = property.equals(idProperty)
+                ? Sort.by(direction, idProperty)
+                : Sort.by(direction, property).and(Sort.by(direction, idProperty));
+        ScrollPosition position = params.cursor() != null
+                ? decode(params.cursor(), property, direction)
+                : ScrollPosition.keyset();
+        Window<T> window = repository.findBy(filter, query -> query.sortBy(order).limit(limit).scroll(position));
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode(property, direction, (KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        Long total = params.cursor() == null ? repository.count(filter) : null;
+        return new CursorPage<>(window.getContent(), nextCursor, total);
+    }
+
+    /**
+     * Case-insensitive substring match, or no restriction for a blank value.
+     */
+    static <T> Specification<T> containsIgnoreCase(String property, String value) {
+        String pattern = likePattern(value);
+        if (pattern == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.like(cb.lower(root.get(property)), pattern, '\\');
+    }
+
+    /**
+     * The lower-cased LIKE pattern for a substring, with wildcards escaped by a backslash, or null for a blank value.
+     */
+    static String likePattern(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return "%" + value.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+
+    /**
+     * Exact match, or no restriction for a null value.
+     */
+    static <T> Specification<T> equalTo(String property, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(property), value);
+    }
+
+    /**
+     * Values at or above the bound, or no restriction for a null bound.
+     */
+    static <T, V extends Comparable<? super V>> Specification<T> atLeast(String property, V bound) {
+        if (bound == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(property), bound);
+    }
+
+    /**
+     * Values below the bound, or no restriction for a null bound.
+     */
+    static <T, V extends Comparable<? super V>> Specification<T> lessThan(String property, V bound) {
+        if (bound == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(root.get(property), bound);
+    }
+
+    private String encode(String property, Sort.Direction direction, KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        String value = property.equals(idProperty) ? "" : String.valueOf(keys.get(property));
+        String cursor = String.join(SEPARATOR, property, direction.name(), String.valueOf(keys.get(idProperty)), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ScrollPosition decode(String cursor, String property, Sort.Direction direction) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("Malformed cursor", e);
+        }
+        if (parts.length != 4 || !parts[0].equals(property) || !parts[1].equals(direction.name())) {
+            throw new InvalidPageRequestException("Cursor does not belong to a listing sorted by "
+                    + property + " " + direction.name().toLowerCase());
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            if (!property.equals(idProperty)) {
+                keys.put(property, sortable.get(property).apply(parts[3]));
+            }
+            keys.put(idProperty, Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidPageRequestException("Malformed cursor", e);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Sort.Direction direction(String direction) {
+        if (direction == null) {
+            return Sort.Direction.ASC;
+        }
+        return Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new InvalidPageRequestException(
+                        "Sort direction must be 'asc' or 'desc', not '" + direction + "'"));
+    }
+}
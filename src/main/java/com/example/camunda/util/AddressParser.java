@@ -0,0 +1,91 @@
+package com.example.camunda.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits free-text company addresses of the form
+ * "&lt;n&gt; &lt;street&gt;, &lt;city&gt;, &lt;state&gt; &lt;zip&gt;" into structured parts.
+ * Missing trailing parts are tolerated, so "1 Main St, Metropolis" yields a street and a city.
+ */
+public final class AddressParser {
+
+    private static final Pattern STATE_ZIP = Pattern.compile("^([A-Za-z]{2})\\s+(\\d{5}(?:-\\d{4})?)$");
+    private static final Pattern STATE_ONLY = Pattern.compile("^[A-Za-z]{2}$");
+    private static final Pattern ZIP_ONLY = Pattern.compile("^\\d{5}(?:-\\d{4})?$");
+
+    private AddressParser() {
+    }
+
+    public record ParsedAddress(String street, String city, String state, String zipCode) {
+
+        public static final ParsedAddress EMPTY = new ParsedAddress(null, null, null, null);
+
+        /**
+         * Lower-cased city used as the indexed lookup key, or null when no city was found.
+         */
+        public String cityKey() {
+            return normalizeCity(city);
+        }
+    }
+
+    public static ParsedAddress parse(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            return ParsedAddress.EMPTY;
+        }
+
+        List<String> parts = new ArrayList<>();
+        for (String part : address.split(",")) {
+            String trimmed = part.trim().replaceAll("\\s+", " ");
+            if (!trimmed.isEmpty()) {
+                parts.add(trimmed);
+            }
+        }
+        if (parts.isEmpty()) {
+            return ParsedAddress.EMPTY;
+        }
+
+        String state = null;
+        String zipCode = null;
+
+        // Trailing "<state> <zip>", "<state>" or "<zip>" segment
+        if (parts.size() > 1) {
+            String last = parts.get(parts.size() - 1);
+            Matcher stateZip = STATE_ZIP.matcher(last);
+            if (stateZip.matches()) {
+                state = stateZip.group(1).toUpperCase(Locale.ROOT);
+                zipCode = stateZip.group(2);
+                parts.remove(parts.size() - 1);
+            } else if (STATE_ONLY.matcher(last).matches()) {
+                state = last.toUpperCase(Locale.ROOT);
+                parts.remove(parts.size() - 1);
+            } else if (ZIP_ONLY.matcher(last).matches()) {
+                zipCode = last;
+                parts.remove(parts.size() - 1);
+            }
+        }
+
+        String street = parts.get(0);
+        String city = null;
+        if (parts.size() > 1) {
+            city = parts.get(parts.size() - 1);
+            if (parts.size() > 2) {
+                // Extra segments (suite, building, ...) belong to the street line
+                street = String.join(", ", parts.subList(0, parts.size() - 1));
+            }
+        }
+
+        return new ParsedAddress(street, city, state, zipCode);
+    }
+
+    public static String normalizeCity(String city) {
+        if (city == null) {
+            return null;
+        }
+        String normalized = city.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.camunda.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses job variables JSON for storage. Payloads are raw deflate primed with a preset dictionary of the
+ * keys and values that recur in the job type's variables, so even a payload of a few hundred bytes shrinks
+ * several times. The first byte is the format, the second the dictionary used; dictionaries are identified
+ * by their position in {@link #DICTIONARIES} and must never change once released, only be appended to.
+ */
+public final class VariablesCodec {
+
+    private static final byte FORMAT_DEFLATE = 1;
+    private static final int HEADER_LENGTH = 2;
+    private static final byte NO_DICTIONARY = 0;
+
+    // Shared by every job type: the process passes each worker's output on to the next worker
+    private static final String COMMON = "{\"timestamp\":\"2025-01-01T00:00:00.000\",\"status\":\"SUCCESS\","
+            + "\"message\":\"\",\"error\":null,\"errorDetails\":null,\"searchParameters\":{},"
+            + "\"employeeSearchResult\":{\"status\":\"NOT_FOUND\",\"employeeCount\":0,\"employees\":[]},"
+            + "\"companySearchResult\":{\"status\":\"VALIDATION_ERROR\",\"companies\":[]},"
+            + "\"matchingResult\":{\"status\":\"MATCHED\",\"customer\":{},\"employee\":{}},"
+            + "\"searchStatus\":\"MULTIPLE_FOUND\",\"matchStatus\":\"SINGLE_MATCH\",\"allowMultiple\":false,"
+            + "\"fuzzyMatching\":true,\"exactMatch\":false,";
+
+    private static final String CUSTOMER = "\"customers\":[],\"customerCount\":1,\"customerId\":\"\","
+            + "\"customerName\":\"\",\"employeeId\":1,\"employeeName\":\"\",\"employeeTitle\":\"\","
+            + "\"employeeDepartment\":\"\",\"employeePhone\":\"\",\"fullName\":\"\",\"phoneNumber\":\"\"}";
+
+    private static final String COMPANY = "\"companies\":[{\"companyId\":1,\"companyName\":\"\",\"industry\":\"\","
+            + "\"city\":\"\",\"address\":\"\",\"revenue\":0,\"contactPerson\":\"\",\"phoneNumber\":\"\"}],"
+            + "\"companyName\":\"\",\"industry\":null,\"city\":null,\"revenue\":null}";
+
+    private static final String EMPLOYEE = "\"employees\":[{\"employeeId\":1,\"fullName\":\"\",\"jobTitle\":\"\","
+            + "\"department\":\"\",\"phoneNumber\":\"\"}],\"employeeCount\":1,\"employeeName\":\"\","
+            + "\"department\":null,\"jobTitle\":null,\"employeeId\":1,\"employeeTitle\":\"\","
+            + "\"employeeDepartment\":\"\",\"employeePhone\":\"\"}";
+
+    // Index 0 is no dictionary; the most likely matches go last, where deflate reaches them with the shortest distance
+    private static final List<Dictionary> DICTIONARIES = List.of(
+            new Dictionary(null, new byte[0]),
+            Dictionary.of("match-customer-with-dri", COMMON + CUSTOMER),
+            Dictionary.of("query-for-company", COMMON + COMPANY),
+            Dictionary.of("search-employee", COMMON + EMPLOYEE));
+
+    private record Dictionary(String jobType, byte[] bytes) {
+
+        static Dictionary of(String jobType, String text) {
+            return new Dictionary(jobType, text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private VariablesCodec() {
+    }
+
+    public static byte[] encode(String jobType, String variables) {
+        if (variables == null) {
+            return null;
+        }
+        byte dictionary = dictionaryFor(jobType);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            if (dictionary != NO_DICTIONARY) {
+                deflater.setDictionary(DICTIONARIES.get(dictionary).bytes());
+            }
+            deflater.setInput(variables.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64 + variables.length() / 4);
+            out.write(FORMAT_DEFLATE);
+            out.write(dictionary);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decode(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < HEADER_LENGTH || data[0] != FORMAT_DEFLATE || data[1] < 0 || data[1] >= DICTIONARIES.size()) {
+            throw new IllegalArgumentException("Unknown variables encoding");
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            if (data[1] != NO_DICTIONARY) {
+                inflater.setDictionary(DICTIONARIES.get(data[1]).bytes());
+            }
+            inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated variables data");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt variables data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte dictionaryFor(String jobType) {
+        for (int i = 1; i < DICTIONARIES.size(); i++) {
+            if (DICTIONARIES.get(i).jobType().equals(jobType)) {
+                return (byte) i;
+            }
+        }
+        return NO_DICTIONARY;
+    }
+}
@@ -2,6 +2,8 @@ package com.example.camunda.worker;
 
 import com.example.camunda.model.Employee;
 import com.example.camunda.service.EmployeeService;
+import com.example.camunda.service.JobPhaseTimer;
+import com.example.camunda.service.JobPhaseTimer.Phase;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +24,7 @@ public class EmployeeSearchWorker {
     public Map<String, Object> handleJob(final ActivatedJob job) {
         log.debug("Processing search-employee job: {}", job.getKey());
         
-        Map<String, Object> variables = job.getVariablesAsMap();
+        Map<String, Object> variables = JobPhaseTimer.time(Phase.DESERIALIZE, job::getVariablesAsMap);
         log.debug("Raw variables received: {}", variables);
         
         String employeeName = extractString(variables.get("employeeName"));
@@ -54,20 +56,20 @@ public class EmployeeSearchWorker {
         }
 
         try {
-            List<Employee> employees;
-            
-            if (exactMatch != null && exactMatch && !isEmpty(employeeName)) {
-                // Exact name match
-                employees = employeeService.findEmployeeByName(employeeName)
-                    .map(List::of)
-                    .orElse(List.of());
-            } else if (fuzzyMatching != null && fuzzyMatching) {
-                // Fuzzy search using all provided parameters
-                employees = employeeService.searchEmployeesFuzzy(employeeName, department, jobTitle);
-            } else {
-                // Flexible search using all provided parameters (existing behavior)
-                employees = employeeService.searchEmployees(employeeName, department, jobTitle);
-            }
+            List<Employee> employees = JobPhaseTimer.time(Phase.SEARCH, () -> {
+                if (exactMatch != null && exactMatch && !isEmpty(employeeName)) {
+                    // Exact name match
+                    return employeeService.findEmployeeByName(employeeName)
+                        .map(List::of)
+                        .orElse(List.of());
+                } else if (fuzzyMatching != null && fuzzyMatching) {
+                    // Fuzzy search using all provided parameters
+                    return employeeService.searchEmployeesFuzzy(employeeName, department, jobTitle);
+                } else {
+                    // Flexible search using all provided parameters (existing behavior)
+                    return employeeService.searchEmployees(employeeName, department, jobTitle);
+                }
+            });
             
             if (employees.isEmpty()) {
                 log.info("No employees found with search criteria - Name: '{}', Department: '{}', JobTitle: '{}'", 
@@ -1,8 +1,10 @@
 package com.example.camunda.worker;
 
+import com.example.camunda.dto.CustomerDriView;
 import com.example.camunda.model.Customer;
-import com.example.camunda.model.Employee;
 import com.example.camunda.service.CustomerService;
+import com.example.camunda.service.JobPhaseTimer;
+import com.example.camunda.service.JobPhaseTimer.Phase;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +25,7 @@ public class MatchCustomerWithDriWorker {
     public Map<String, Object> handleJob(final ActivatedJob job) {
         log.debug("Processing match-customer-with-dri job: {}", job.getKey());
         
-        Map<String, Object> variables = job.getVariablesAsMap();
+        Map<String, Object> variables = JobPhaseTimer.time(Phase.DESERIALIZE, job::getVariablesAsMap);
         log.debug("Raw variables received: {}", variables);
         
         Long customerId = extractLong(variables.get("customerId"));
@@ -64,20 +66,8 @@ public class MatchCustomerWithDriWorker {
         log.info("Searching for customer with - customerId: {}, customerName: '{}'", customerId, customerName);
         
         try {
-            List<Customer> customers;
-            
-            if (allowMultiple != null && allowMultiple) {
-                // Allow multiple customer matches
-                customers = customerService.getCustomersWithEmployees(customerId, customerName, fuzzyMatching);
-            } else {
-                // Single customer match (backward compatibility)
-                try {
-                    Customer customer = customerService.getCustomerWithEmployee(customerId, customerName, fuzzyMatching);
-                    customers = List.of(customer);
-                } catch (Exception e) {
-                    customers = List.of();
-                }
-            }
+            List<Customer> customers = JobPhaseTimer.time(Phase.SEARCH,
+                    () -> findCustomers(customerId, customerName, allowMultiple, fuzzyMatching));
             
             if (customers.isEmpty()) {
                 log.info("No customer record found with parameters - ID: {}, Name: '{}'. Returning 'not found' response.", 
@@ -112,23 +102,23 @@ public class MatchCustomerWithDriWorker {
                 return result;
             }
             
-            // Process all found customers and their employees
+            // Resolve all DRI employees in one pass rather than one lookup per customer
+            List<CustomerDriView> driViews = JobPhaseTimer.time(Phase.SEARCH,
+                    () -> customerService.getDriViews(customers));
             List<Map<String, Object>> customerEmployeePairs = new ArrayList<>();
             
-            for (Customer customer : customers) {
-                Employee employee = customerService.getEmployeeForCustomer(customer);
-                
+            for (CustomerDriView view : driViews) {
                 Map<String, Object> customerData = new HashMap<>();
-                customerData.put("customerId", customer.getCustomerId());
-                customerData.put("customerName", customer.getCustomerName());
-                customerData.put("employeeId", customer.getEmployeeId());
+                customerData.put("customerId", view.customerId());
+                customerData.put("customerName", view.customerName());
+                customerData.put("employeeId", view.employeeId());
                 
                 Map<String, Object> employeeData = new HashMap<>();
-                employeeData.put("employeeId", employee.getEmployeeId());
-                employeeData.put("fullName", employee.getFullName());
-                employeeData.put("jobTitle", employee.getJobTitle());
-                employeeData.put("department", employee.getDepartment());
-                employeeData.put("phoneNumber", employee.getPhoneNumber() != null ? employee.getPhoneNumber() : "");
+                employeeData.put("employeeId", view.employeeId());
+                employeeData.put("fullName", view.employeeName());
+                employeeData.put("jobTitle", view.employeeTitle());
+                employeeData.put("department", view.employeeDepartment());
+                employeeData.put("phoneNumber", view.employeePhone() != null ? view.employeePhone() : "");
                 
                 Map<String, Object> pair = new HashMap<>();
                 pair.put("customer", customerData);
@@ -160,16 +150,15 @@ public class MatchCustomerWithDriWorker {
             
             // If only one customer found, add individual fields for easy access (backward compatibility)
             if (customers.size() == 1) {
-                Customer customer = customers.get(0);
-                Employee employee = customerService.getEmployeeForCustomer(customer);
+                CustomerDriView view = driViews.get(0);
                 
-                result.put("customerId", customer.getCustomerId());
-                result.put("customerName", customer.getCustomerName());
-                result.put("employeeId", employee.getEmployeeId());
-                result.put("employeeName", employee.getFullName());
-                result.put("employeeTitle", employee.getJobTitle());
-                result.put("employeeDepartment", employee.getDepartment());
-                result.put("employeePhone", employee.getPhoneNumber() != null ? employee.getPhoneNumber() : "");
+                result.put("customerId", view.customerId());
+                result.put("customerName", view.customerName());
+                result.put("employeeId", view.employeeId());
+                result.put("employeeName", view.employeeName());
+                result.put("employeeTitle", view.employeeTitle());
+                result.put("employeeDepartment", view.employeeDepartment());
+                result.put("employeePhone", view.employeePhone() != null ? view.employeePhone() : "");
             } else {
                 // Multiple customers found - clear individual fields
                 result.put("customerId", null);
@@ -209,6 +198,20 @@ public class MatchCustomerWithDriWorker {
         }
     }
     
+    private List<Customer> findCustomers(Long customerId, String customerName, Boolean allowMultiple,
+                                         Boolean fuzzyMatching) {
+        if (allowMultiple != null && allowMultiple) {
+            // Allow multiple customer matches
+            return customerService.getCustomersWithEmployees(customerId, customerName, fuzzyMatching);
+        }
+        // Single customer match (backward compatibility)
+        try {
+            return List.of(customerService.getCustomerWithEmployee(customerId, customerName, fuzzyMatching));
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+    
     private Long extractLong(Object value) {
         if (value == null) {
             log.trace("extractLong: value is null");
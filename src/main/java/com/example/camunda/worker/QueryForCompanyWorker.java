@@ -2,6 +2,8 @@ package com.example.camunda.worker;
 
 import com.example.camunda.model.ExternalCompany;
 import com.example.camunda.service.CompanyService;
+import com.example.camunda.service.JobPhaseTimer;
+import com.example.camunda.service.JobPhaseTimer.Phase;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +24,7 @@ public class QueryForCompanyWorker {
     public Map<String, Object> handleJob(final ActivatedJob job) {
         log.debug("Processing query-for-company job: {}", job.getKey());
         
-        Map<String, Object> variables = job.getVariablesAsMap();
+        Map<String, Object> variables = JobPhaseTimer.time(Phase.DESERIALIZE, job::getVariablesAsMap);
         String companyName = extractString(variables.get("companyName"));
         String industry = extractString(variables.get("industry"));
         String city = extractString(variables.get("city"));
@@ -41,13 +43,12 @@ public class QueryForCompanyWorker {
         }
         
         // Find companies using enhanced service layer
-        List<ExternalCompany> companies;
-        
-        if (fuzzyMatching != null && fuzzyMatching) {
-            companies = companyService.findCompanyFuzzy(companyName, industry, city, revenue);
-        } else {
-            companies = companyService.findCompany(companyName, industry, city, revenue);
-        }
+        List<ExternalCompany> companies = JobPhaseTimer.time(Phase.SEARCH, () -> {
+            if (fuzzyMatching != null && fuzzyMatching) {
+                return companyService.findCompanyFuzzy(companyName, industry, city, revenue);
+            }
+            return companyService.findCompany(companyName, industry, city, revenue);
+        });
         
         // Create consolidated result object
         Map<String, Object> queryResult = new HashMap<>();
@@ -0,0 +1,159 @@
+package com.example.camunda;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.dto.ImportProgress;
+import com.example.camunda.importer.ImportFormat;
+import com.example.camunda.importer.ImportJob;
+import com.example.camunda.importer.ImportTable;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.readmodel.CatalogReadModel;
+import com.example.camunda.repository.CustomerRepository;
+import com.example.camunda.repository.EmployeeRepository;
+import com.example.camunda.repository.EntityChangeLogRepository;
+import com.example.camunda.service.BulkImportService;
+import com.example.camunda.service.CustomerService;
+import com.example.camunda.service.EmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test for chunked bulk imports; not transactional, since every chunk commits on its own
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "camunda.zeebe.enabled=false",
+    "logging.level.com.example.camunda=ERROR"
+})
+class BulkImportIntegrationTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private CatalogProperties catalogProperties;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private CatalogReadModel readModel;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        catalogProperties.getBulkImport().setChunkSize(1000);
+        for (long id = 93_001L; id <= 93_004L; id++) {
+            if (customerRepository.existsById(id)) {
+                customerService.deleteCustomer(id);
+            }
+        }
+        for (long id = 93_001L; id <= 93_003L; id++) {
+            if (employeeRepository.existsById(id)) {
+                employeeService.deleteEmployee(id);
+            }
+        }
+    }
+
+    @Test
+    void importFile_CsvInSeveralChunks_ShouldStoreValidRowsAndReportRejectedOnes() throws IOException {
+        // Arrange
+        catalogProperties.getBulkImport().setChunkSize(2);
+        Path file = write("employees.csv",
+                "department,employeeId,fullName,jobTitle,unused\n"
+                        + "Import,93001,\"Importer, Ada\",Analyst,x\n"
+                        + "Import,93002,Bea Importer,Analyst,x\n"
+                        + ",93003,No Department,Analyst,x\n"
+                        + "Import,abc,Bad Id,Analyst,x\n");
+
+        // Act
+        ImportJob job = bulkImportService.importFile(ImportTable.EMPLOYEES, ImportFormat.CSV, file);
+
+        // Assert
+        ImportProgress progress = job.progress();
+        assertThat(progress.status()).isEqualTo("COMPLETED");
+        assertThat(progress.rowsRead()).isEqualTo(4);
+        assertThat(progress.rowsImported()).isEqualTo(2);
+        assertThat(progress.errors()).extracting(ImportProgress.RowError::line).containsExactly(4L, 5L);
+        assertThat(progress.errors().get(0).message()).isEqualTo("Department is required");
+        assertThat(employeeService.getEmployeeById(93_001L).getFullName()).isEqualTo("Importer, Ada");
+        assertThat(readModel.current().orElseThrow().employee(93_002L)).isPresent();
+        assertThat(employeeService.searchEmployees("bea import", null, null))
+                .extracting(Employee::getEmployeeId).containsExactly(93_002L);
+    }
+
+    @Test
+    void importFile_NdjsonReimport_ShouldUpdateRowsKeepCreationTimeAndRejectMissingEmployees() throws IOException {
+        // Arrange
+        bulkImportService.importFile(ImportTable.EMPLOYEES, ImportFormat.NDJSON, write("employees.ndjson",
+                "{\"employeeId\":93001,\"fullName\":\"Cara Import\",\"jobTitle\":\"Lead\",\"department\":\"Import\"}\n"));
+        LocalDateTime created = employeeService.getEmployeeById(93_001L).getCreatedAt();
+        long changeLogBefore = changeLogRepository.count();
+        Path customers = write("customers.ndjson",
+                "{\"customerId\":93001,\"customerName\":\"First Import\",\"employeeId\":93001}\n"
+                        + "\n"
+                        + "{\"customerId\":93002,\"customerName\":\"Orphan\",\"employeeId\":999999}\n"
+                        + "{\"customerId\":93003,\"customerName\":\n"
+                        + "{\"customerId\":93001,\"customerName\":\"Second Import\",\"employeeId\":93001}\n");
+
+        // Act
+        ImportJob employees = bulkImportService.importFile(ImportTable.EMPLOYEES, ImportFormat.NDJSON,
+                write("employees-again.ndjson",
+                        "{\"employeeId\":93001,\"fullName\":\"Cara Renamed\",\"jobTitle\":\"Lead\",\"department\":\"Import\"}\n"));
+        ImportJob job = bulkImportService.importFile(ImportTable.CUSTOMERS, ImportFormat.NDJSON, customers);
+
+        // Assert
+        assertThat(employees.rowsImported()).isEqualTo(1);
+        Employee renamed = employeeService.getEmployeeById(93_001L);
+        assertThat(renamed.getFullName()).isEqualTo("Cara Renamed");
+        assertThat(renamed.getCreatedAt()).isEqualTo(created);
+        assertThat(renamed.getUpdatedAt()).isAfterOrEqualTo(created);
+
+        assertThat(job.rowsImported()).isEqualTo(1);
+        assertThat(job.progress().errors()).extracting(ImportProgress.RowError::line)
+                .containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(job.progress().errors()).extracting(ImportProgress.RowError::message)
+                .contains("Superseded by line 5, which has the same ID", "Employee not found with ID: 999999");
+        List<Customer> stored = customerService.getCustomersByEmployee(List.of(93_001L)).get(93_001L);
+        assertThat(stored).extracting(Customer::getCustomerName).containsExactly("Second Import");
+        assertThat(customerService.getDriViews(stored)).singleElement()
+                .satisfies(view -> assertThat(view.employeeName()).isEqualTo("Cara Renamed"));
+        assertThat(changeLogRepository.count() - changeLogBefore).isEqualTo(2);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.camunda;
+
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.CustomerDTO;
+import com.example.camunda.dto.PageParams;
+import com.example.camunda.exception.InvalidPageRequestException;
+import com.example.camunda.export.RowWriter;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.service.CustomerService;
+import com.example.camunda.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test for keyset pagination and streamed export of the catalog listings
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "camunda.zeebe.enabled=false",
+    "logging.level.com.example.camunda=ERROR"
+})
+@Transactional
+class CatalogPagingIntegrationTest {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        Employee employee = new Employee();
+        employee.setEmployeeId(91_001L);
+        employee.setFullName("Paging Owner");
+        employee.setJobTitle("Account Manager");
+        employee.setDepartment("Paging");
+        employeeService.saveEmployee(employee);
+
+        // Two customers share a name so the ID has to break the tie
+        String[] names = {"Paging Delta", "Paging Alpha", "Paging Charlie", "Paging Bravo", "Paging Alpha"};
+        for (int i = 0; i < names.length; i++) {
+            Customer customer = new Customer();
+            customer.setCustomerId(91_001L + i);
+            customer.setCustomerName(names[i]);
+            customer.setEmployeeId(91_001L);
+            customerService.saveCustomer(customer);
+        }
+    }
+
+    @Test
+    void getCustomerPage_WalkingCursors_ShouldVisitEveryRowOnceInSortOrder() {
+        // Arrange
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        // Act
+        do {
+            CursorPage<Customer> page = customerService.getCustomerPage("paging", null,
+                    new PageParams(cursor, 2, "customerName", "desc"));
+            page.items().forEach(customer -> visited.add(customer.getCustomerId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertThat(pages).isEqualTo(3);
+        assertThat(visited).containsExactly(91_001L, 91_003L, 91_004L, 91_005L, 91_002L);
+    }
+
+    @Test
+    void getCustomerPage_FirstPage_ShouldCountMatchingRows() {
+        // Act
+        CursorPage<Customer> page = customerService.getCustomerPage("ALPHA", 91_001L, PageParams.first(10));
+
+        // Assert
+        assertThat(page.items()).extracting(Customer::getCustomerId).containsExactly(91_002L, 91_005L);
+        assertThat(page.total()).isEqualTo(2L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getEmployeePage_WithDepartmentFilter_ShouldOnlyReturnThatDepartment() {
+        // Act
+        CursorPage<Employee> page = employeeService.getEmployeePage(null, "Paging", null, PageParams.first(10));
+
+        // Assert
+        assertThat(page.items()).extracting(Employee::getFullName).containsExactly("Paging Owner");
+    }
+
+    @Test
+    void getCustomerPage_WithCursorFromAnotherSort_ShouldBeRejected() {
+        // Arrange
+        String cursor = customerService.getCustomerPage("paging", null, PageParams.first(2)).nextCursor();
+
+        // Act & Assert
+        assertThatThrownBy(() -> customerService.getCustomerPage("paging", null,
+                new PageParams(cursor, 2, "customerName", null)))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> customerService.getCustomerPage(null, null, new PageParams(null, 501, null, null)))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> customerService.getCustomerPage(null, null, new PageParams(null, 10, "createdBy", null)))
+                .isInstanceOf(InvalidPageRequestException.class);
+    }
+
+    @Test
+    void exportCustomers_WithFilters_ShouldStreamMatchingRowsInIdOrder() throws IOException {
+        // Arrange
+        List<CustomerDTO> exported = new ArrayList<>();
+        RowWriter<CustomerDTO> writer = new RowWriter<>() {
+            @Override
+            public void write(CustomerDTO row) {
+                exported.add(row);
+            }
+
+            @Override
+            public void finish() {
+            }
+        };
+
+        // Act
+        long rows = customerService.exportCustomers("PAGING a", 91_001L, writer);
+        long none = customerService.exportCustomers("paging_", null, writer);
+
+        // Assert
+        assertThat(rows).isEqualTo(2);
+        assertThat(exported).extracting(CustomerDTO::customerId).containsExactly(91_002L, 91_005L);
+        assertThat(none).as("underscore is matched literally, as in the listings").isZero();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.camunda;
+
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import com.example.camunda.service.JobHistoryRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test for batched job history inserts; not transactional, since the recorder commits its own batches
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "camunda.zeebe.enabled=false",
+    "logging.level.com.example.camunda=ERROR"
+})
+class JobHistoryRecorderIntegrationTest {
+
+    @Autowired
+    private JobHistoryRecorder recorder;
+
+    @Autowired
+    private JobHistoryRepository jobHistoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        jobHistoryRepository.deleteAll(jobHistoryRepository.findAll().stream()
+                .filter(entry -> entry.getJobKey().startsWith("recorder-it-"))
+                .toList());
+    }
+
+    @Test
+    void recordSuccessAndFailure_ShouldBeInsertedWithSequenceIds() {
+        // Act
+        recorder.recordSuccess("search-employee", "recorder-it-1", "{\"employeeName\":\"Alice\"}", 12);
+        recorder.recordFailure("query-for-company", "recorder-it-2", "{}", "Company not found", 7);
+        recorder.flush();
+
+        // Assert
+        List<JobHistory> recorded = jobHistoryRepository.findAll().stream()
+                .filter(entry -> entry.getJobKey().startsWith("recorder-it-"))
+                .toList();
+        assertThat(recorded).extracting(JobHistory::getStatus).containsExactlyInAnyOrder("COMPLETED", "FAILED");
+        assertThat(recorded).extracting(JobHistory::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(recorded).extracting(JobHistory::getCreatedAt).doesNotContainNull();
+        assertThat(recorded).extracting(JobHistory::getVariables)
+                .containsExactlyInAnyOrder("{\"employeeName\":\"Alice\"}", "{}");
+        assertThat(recorded).extracting(JobHistory::getVariablesData).doesNotContainNull();
+        assertThat(recorded).extracting(JobHistory::getPlainVariables).containsOnlyNulls();
+        assertThat(recorded).extracting(JobHistory::getSummary).doesNotContainNull();
+        JobHistoryRepository.Extent extent = jobHistoryRepository.findExtent();
+        assertThat(extent.getEntries()).isEqualTo(jobHistoryRepository.count());
+        assertThat(extent.getLastId()).isGreaterThanOrEqualTo(recorded.get(1).getId());
+    }
+}
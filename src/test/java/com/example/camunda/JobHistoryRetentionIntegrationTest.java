@@ -0,0 +1,110 @@
+package com.example.camunda;
+
+import com.example.camunda.config.JobHistoryProperties;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import com.example.camunda.service.JobHistoryRetention;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test for job history retention; not transactional, since every batch commits on its own
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "camunda.zeebe.enabled=false",
+    "logging.level.com.example.camunda=ERROR"
+})
+class JobHistoryRetentionIntegrationTest {
+
+    @Autowired
+    private JobHistoryRetention retention;
+
+    @Autowired
+    private JobHistoryRepository jobHistoryRepository;
+
+    @Autowired
+    private JobHistoryProperties jobHistoryProperties;
+
+    @TempDir
+    private Path archiveDirectory;
+
+    @BeforeEach
+    void setUp() {
+        jobHistoryProperties.getRetention().setArchivePath(archiveDirectory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobHistoryProperties.setRetention(new JobHistoryProperties.Retention());
+        jobHistoryRepository.deleteAll(retentionRows());
+    }
+
+    @Test
+    void run_ShouldArchiveAndDeleteOnlyExpiredRows() throws IOException {
+        // Arrange
+        LocalDateTime day = LocalDateTime.now().minusDays(10).withHour(12);
+        jobHistoryRepository.saveAll(List.of(
+                row("retention-it-old-completed", "COMPLETED", day),
+                row("retention-it-old-failed", "FAILED", day),
+                row("retention-it-old-other", "TIMED_OUT", day.minusDays(30)),
+                row("retention-it-new-completed", "COMPLETED", LocalDateTime.now())));
+
+        // Act
+        retention.run();
+
+        // Assert
+        assertThat(retentionRows()).extracting(JobHistory::getJobKey)
+                .containsExactlyInAnyOrder("retention-it-old-failed", "retention-it-new-completed");
+        assertThat(archive(day)).contains("retention-it-old-completed").doesNotContain("retention-it-old-failed");
+        assertThat(archive(day.minusDays(30))).contains("retention-it-old-other");
+    }
+
+    private String archive(LocalDateTime day) throws IOException {
+        Path file = archiveDirectory.resolve("job-history-" + day.toLocalDate() + ".ndjson.gz");
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            in.transferTo(text);
+            return text.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<JobHistory> retentionRows() {
+        return jobHistoryRepository.findAll().stream()
+                .filter(entry -> entry.getJobKey().startsWith("retention-it-"))
+                .toList();
+    }
+
+    private static JobHistory row(String jobKey, String status, LocalDateTime executionTime) {
+        JobHistory row = new JobHistory();
+        row.setJobType("search-employee");
+        row.setJobKey(jobKey);
+        row.setStatus(status);
+        row.setVariables("{}");
+        row.setExecutionTime(executionTime);
+        return row;
+    }
+}
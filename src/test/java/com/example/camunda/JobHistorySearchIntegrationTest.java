@@ -0,0 +1,110 @@
+package com.example.camunda;
+
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.JobHistoryFilter;
+import com.example.camunda.dto.PageParams;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import com.example.camunda.service.JobHistoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test for the filtered, keyset-paginated job history search
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "camunda.zeebe.enabled=false",
+    "logging.level.com.example.camunda=ERROR"
+})
+@Transactional
+class JobHistorySearchIntegrationTest {
+
+    private static final String JOB_TYPE = "search-it-job";
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 3, 2, 12, 0);
+
+    @Autowired
+    private JobHistoryService jobHistoryService;
+
+    @Autowired
+    private JobHistoryRepository jobHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Two failures share an execution time so the ID has to break the tie
+        jobHistoryRepository.saveAll(List.of(
+                row("search-it-1", "FAILED", NOON.minusMinutes(90), 40L),
+                row("search-it-2", "FAILED", NOON.minusMinutes(30), 5_000L),
+                row("search-it-3", "COMPLETED", NOON.minusMinutes(20), 12_000L),
+                row("search-it-4", "FAILED", NOON.minusMinutes(10), 80L),
+                row("search-it-5", "FAILED", NOON.minusMinutes(10), 9_000L)));
+    }
+
+    @Test
+    void searchJobHistory_WalkingCursors_ShouldVisitMatchingRowsNewestFirst() {
+        // Arrange
+        JobHistoryFilter failedLastHour = new JobHistoryFilter(JOB_TYPE, "failed", null, NOON.minusHours(1), NOON,
+                null);
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        Long total = null;
+
+        // Act
+        do {
+            CursorPage<JobHistory> page = jobHistoryService.searchJobHistory(failedLastHour,
+                    new PageParams(cursor, 2, null, null));
+            page.items().forEach(entry -> visited.add(entry.getJobKey()));
+            if (pages == 0) {
+                total = page.total();
+            }
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertThat(visited).containsExactly("search-it-5", "search-it-4", "search-it-2");
+        assertThat(pages).isEqualTo(2);
+        assertThat(total).isEqualTo(3L);
+    }
+
+    @Test
+    void searchJobHistory_ByJobKeyAndMinimumDuration_ShouldOnlyReturnMatches() {
+        // Act
+        CursorPage<JobHistory> byKey = jobHistoryService.searchJobHistory(
+                new JobHistoryFilter(null, null, "search-it-3", null, null, null), PageParams.first(10));
+        CursorPage<JobHistory> slow = jobHistoryService.searchJobHistory(
+                new JobHistoryFilter(JOB_TYPE, null, null, null, null, 5_000L), PageParams.first(10));
+
+        // Assert
+        assertThat(byKey.items()).extracting(JobHistory::getJobKey).containsExactly("search-it-3");
+        assertThat(slow.items()).extracting(JobHistory::getJobKey)
+                .containsExactly("search-it-5", "search-it-3", "search-it-2");
+    }
+
+    private static JobHistory row(String jobKey, String status, LocalDateTime executionTime, Long executionTimeMs) {
+        JobHistory row = new JobHistory();
+        row.setJobType(JOB_TYPE);
+        row.setJobKey(jobKey);
+        row.setStatus(status);
+        row.setExecutionTime(executionTime);
+        row.setExecutionTimeMs(executionTimeMs);
+        return row;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.camunda;
+
+import com.example.camunda.dto.JobMetricsBucket;
+import com.example.camunda.dto.JobPhaseBreakdown;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import com.example.camunda.service.JobHistoryRecorder;
+import com.example.camunda.service.JobMetricsRollups;
+import com.example.camunda.service.JobMetricsService;
+import com.example.camunda.service.JobPhaseTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test for the job metrics rollups; not transactional, since the recorder commits its own batches
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "camunda.zeebe.enabled=false",
+    "logging.level.com.example.camunda=ERROR"
+})
+class JobMetricsRollupsIntegrationTest {
+
+    private static final String RECORDED = "rollup-it-recorded";
+    private static final String BACKFILLED = "rollup-it-backfilled";
+
+    @Autowired
+    private JobHistoryRecorder recorder;
+
+    @Autowired
+    private JobMetricsRollups rollups;
+
+    @Autowired
+    private JobMetricsService jobMetricsService;
+
+    @Autowired
+    private JobHistoryRepository jobHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM job_history WHERE job_type IN (?, ?)", RECORDED, BACKFILLED);
+        jdbcTemplate.update("DELETE FROM job_metrics_rollup WHERE job_type IN (?, ?)", RECORDED, BACKFILLED);
+    }
+
+    @Test
+    void recordedJobs_ShouldBeCountedInEveryRollup() {
+        // Arrange
+        long today = jobMetricsService.getJobsProcessedToday();
+
+        // Act
+        recorder.recordSuccess(RECORDED, "rollup-it-1", "{}", 10);
+        recorder.recordSuccess(RECORDED, "rollup-it-2", "{}", 20);
+        recorder.recordFailure(RECORDED, "rollup-it-3", "{}", "boom", 30);
+        recorder.flush();
+
+        // Assert
+        assertThat(jobMetricsService.getJobCountsByType()).containsEntry(RECORDED, 3L);
+        assertThat(jobMetricsService.getFailedJobCountsByType()).containsEntry(RECORDED, 1L);
+        assertThat(jobMetricsService.getAverageExecutionTimeMsByType()).containsEntry(RECORDED, 20L);
+        assertThat(jobMetricsService.getJobsProcessedToday()).isGreaterThanOrEqualTo(today + 3);
+        List<JobMetricsBucket> lastHour = jobMetricsService.getJobTimeline("minute", 60).stream()
+                .filter(bucket -> bucket.jobType().equals(RECORDED))
+                .toList();
+        assertThat(lastHour).extracting(JobMetricsBucket::status).containsOnly("COMPLETED", "FAILED");
+        assertThat(lastHour.stream().mapToLong(JobMetricsBucket::executions).sum()).isEqualTo(3L);
+    }
+
+    @Test
+    void recordedPhases_ShouldBeAveragedPerJobType() {
+        // Act
+        recorder.recordSuccess(RECORDED, "rollup-it-7", "{}", 60, new JobPhaseTimer.Timings(100, 2, 20, 10, 4, 24));
+        recorder.recordFailure(RECORDED, "rollup-it-8", "{}", "boom", 30,
+                new JobPhaseTimer.Timings(300, 4, 10, 6, 2, 8));
+        recorder.recordSuccess(RECORDED, "rollup-it-9", "{}", 90);
+        recorder.flush();
+
+        // Assert
+        assertThat(jobMetricsService.getPhaseBreakdownByType())
+                .filteredOn(breakdown -> breakdown.jobType().equals(RECORDED))
+                .containsExactly(new JobPhaseBreakdown(RECORDED, 2, 200, 3, 15, 8, 3, 16));
+        assertThat(jobMetricsService.getAverageExecutionTimeMsByType()).containsEntry(RECORDED, 60L);
+    }
+
+    @Test
+    void backfill_WithEmptyRollups_ShouldCountTheExistingHistory() {
+        // Arrange
+        LocalDateTime yesterday = LocalDate.now().minusDays(1).atTime(9, 30);
+        jobHistoryRepository.saveAll(List.of(
+                entry("rollup-it-4", "COMPLETED", yesterday, 100L),
+                entry("rollup-it-5", "COMPLETED", yesterday.plusMinutes(5), 300L),
+                entry("rollup-it-6", "FAILED", yesterday, null)));
+        jdbcTemplate.update("DELETE FROM job_metrics_rollup");
+
+        // Act
+        rollups.backfill();
+        rollups.backfill();
+
+        // Assert
+        assertThat(jobMetricsService.getJobCountsByType()).containsEntry(BACKFILLED, 3L);
+        assertThat(jobMetricsService.getAverageExecutionTimeMsByType()).containsEntry(BACKFILLED, 133L);
+        assertThat(jdbcTemplate.queryForObject("SELECT executions FROM job_metrics_rollup WHERE granularity = 'DAY' "
+                        + "AND job_type = ? AND status = 'COMPLETED' AND bucket_start = ?", Long.class, BACKFILLED,
+                Timestamp.valueOf(yesterday.toLocalDate().atStartOfDay()))).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_metrics_rollup WHERE granularity = 'MINUTE' "
+                + "AND job_type = ?", Long.class, BACKFILLED)).isEqualTo(3L);
+    }
+
+    @Test
+    void backfill_FromTwoInstancesAtOnce_ShouldCountTheHistoryOnce() {
+        // Arrange
+        LocalDateTime yesterday = LocalDate.now().minusDays(1).atTime(11, 0);
+        jobHistoryRepository.saveAll(List.of(
+                entry("rollup-it-7", "COMPLETED", yesterday, 100L),
+                entry("rollup-it-8", "COMPLETED", yesterday, 200L)));
+        jdbcTemplate.update("DELETE FROM job_metrics_rollup");
+
+        // Act
+        CompletableFuture.allOf(CompletableFuture.runAsync(rollups::backfill),
+                CompletableFuture.runAsync(rollups::backfill)).join();
+
+        // Assert
+        assertThat(jobMetricsService.getJobCountsByType()).containsEntry(BACKFILLED, 2L);
+    }
+
+    private static JobHistory entry(String jobKey, String status, LocalDateTime executionTime, Long executionTimeMs) {
+        JobHistory entry = new JobHistory();
+        entry.setJobType(BACKFILLED);
+        entry.setJobKey(jobKey);
+        entry.setStatus(status);
+        entry.setVariables("{}");
+        entry.setExecutionTime(executionTime);
+        entry.setExecutionTimeMs(executionTimeMs);
+        return entry;
+    }
+}
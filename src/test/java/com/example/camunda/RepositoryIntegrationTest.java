@@ -1,13 +1,18 @@
 package com.example.camunda;
 
+import com.example.camunda.dto.EmployeeSummary;
 import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
 import com.example.camunda.repository.CustomerRepository;
+import com.example.camunda.repository.EmployeeRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -30,6 +35,9 @@ public class RepositoryIntegrationTest {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
     @Test
     public void testCustomerRepositoryFunctionality() {
         // Test saving a customer
@@ -58,4 +66,18 @@ public class RepositoryIntegrationTest {
     public void testRepositoryIsNotNull() {
         assertNotNull(customerRepository, "Customer repository should be injected");
     }
+
+    @Test
+    public void testProjectionQueries() {
+        Employee employee = new Employee();
+        employee.setEmployeeId(9001L);
+        employee.setFullName("Projection Employee");
+        employee.setJobTitle("Analyst");
+        employee.setDepartment("Finance");
+        employeeRepository.saveAndFlush(employee);
+        
+        // Projection queries run with manual flush, so they only see flushed rows
+        List<EmployeeSummary> summaries = employeeRepository.findSummariesByEmployeeIdIn(List.of(9001L));
+        assertEquals(List.of(new EmployeeSummary(9001L, "Projection Employee", "Analyst", "Finance", null)), summaries);
+    }
 }
@@ -0,0 +1,86 @@
+package com.example.camunda;
+
+import com.example.camunda.model.Employee;
+import com.example.camunda.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test for the Hibernate second-level and query caches
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver", 
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "camunda.zeebe.enabled=false",
+    "logging.level.com.example.camunda=ERROR"
+})
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findById_SecondLookup_ShouldBeServedWithoutJdbc() {
+        // Arrange
+        Employee employee = employeeRepository.save(employee(90_001L, "Cache Test Employee"));
+        entityManagerFactory.getCache().evict(Employee.class);
+        employeeRepository.findById(employee.getEmployeeId());
+        statistics.clear();
+
+        // Act
+        Employee cached = employeeRepository.findById(employee.getEmployeeId()).orElseThrow();
+
+        // Assert
+        assertThat(cached.getFullName()).isEqualTo("Cache Test Employee");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void findByFullName_RepeatedQuery_ShouldHitTheQueryCache() {
+        // Arrange
+        employeeRepository.save(employee(90_002L, "Query Cache Employee"));
+        employeeRepository.findByFullName("Query Cache Employee");
+        statistics.clear();
+
+        // Act
+        Employee found = employeeRepository.findByFullName("Query Cache Employee").orElseThrow();
+
+        // Assert
+        assertThat(found.getEmployeeId()).isEqualTo(90_002L);
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private static Employee employee(Long id, String fullName) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setFullName(fullName);
+        employee.setJobTitle("Engineer");
+        employee.setDepartment("IT");
+        return employee;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.camunda;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.generator.SyntheticDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration test for synthetic dataset generation; not transactional, since every batch commits on its own
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "camunda.zeebe.enabled=false",
+    "logging.level.com.example.camunda=ERROR"
+})
+class SyntheticDataIntegrationTest {
+
+    private static final long FIRST_ID = 94_000_000L;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private CatalogProperties catalogProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        CatalogProperties.Generator settings = catalogProperties.getGenerator();
+        settings.setFirstId(FIRST_ID);
+        settings.setEmployees(5);
+        settings.setCustomers(40);
+        settings.setCompanies(10);
+        settings.setBatchSize(7);
+        settings.setThreads(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogProperties.setGenerator(new CatalogProperties.Generator());
+        jdbcTemplate.update("DELETE FROM customers WHERE customer_id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM employees WHERE employee_id >= ?", FIRST_ID);
+        jdbcTemplate.update("DELETE FROM external_companies WHERE company_id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void generate_RunTwice_ShouldWriteTheSameRowsOnce() {
+        // Act
+        SyntheticDataGenerator.Report report = generator.generate();
+        List<String> firstRun = customerRows();
+        generator.generate();
+        List<String> secondRun = customerRows();
+
+        // Assert
+        assertThat(report.employees()).isEqualTo(5);
+        assertThat(report.customers()).isEqualTo(40);
+        assertThat(report.companies()).isEqualTo(10);
+        assertThat(firstRun).hasSize(40).isEqualTo(secondRun);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customers c JOIN employees e "
+                + "ON e.employee_id = c.employee_id WHERE c.customer_id >= ?", Long.class, FIRST_ID)).isEqualTo(40L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM external_companies "
+                + "WHERE company_id >= ? AND city_key IS NOT NULL", Long.class, FIRST_ID)).isEqualTo(10L);
+    }
+
+    @Test
+    void generate_CustomersWithoutEmployees_ShouldBeRefused() {
+        // Arrange
+        catalogProperties.getGenerator().setEmployees(0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> generator.generate()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(customerRows()).isEmpty();
+    }
+
+    private List<String> customerRows() {
+        return jdbcTemplate.queryForList("SELECT customer_id || ':' || customer_name || ':' || employee_id "
+                + "FROM customers WHERE customer_id >= ? ORDER BY customer_id", String.class, FIRST_ID);
+    }
+}
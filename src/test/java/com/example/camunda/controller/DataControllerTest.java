@@ -1,12 +1,22 @@
 package com.example.camunda.controller;
 
+import com.example.camunda.dto.CursorPage;
+import com.example.camunda.dto.CustomerDriView;
+import com.example.camunda.dto.EmployeeSummary;
+import com.example.camunda.dto.JobHistoryFilter;
+import com.example.camunda.dto.JobPhaseBreakdown;
+import com.example.camunda.dto.PageParams;
+import com.example.camunda.exception.InvalidMetricsRequestException;
+import com.example.camunda.exception.InvalidPageRequestException;
 import com.example.camunda.model.Customer;
 import com.example.camunda.model.Employee;
+import com.example.camunda.model.JobHistory;
 import com.example.camunda.model.ExternalCompany;
 import com.example.camunda.service.CustomerService;
 import com.example.camunda.service.EmployeeService;
 import com.example.camunda.service.CompanyService;
 import com.example.camunda.service.JobHistoryService;
+import com.example.camunda.service.JobMetricsService;
 import com.example.camunda.service.ZeebeConnectionService;
 import com.example.camunda.ZeebeJobPollingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,6 +38,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -53,6 +64,9 @@ class DataControllerTest {
     @MockBean
     private JobHistoryService jobHistoryService;
 
+    @MockBean
+    private JobMetricsService jobMetricsService;
+
     @MockBean
     private ZeebeConnectionService zeebeConnectionService;
 
@@ -90,51 +104,149 @@ class DataControllerTest {
     }
 
     @Test
-    void getCustomers_ShouldReturnCustomersList() throws Exception {
+    void getCustomers_ShouldReturnFirstPage() throws Exception {
         // Arrange
-        when(customerService.getAllCustomers()).thenReturn(List.of(testCustomer));
+        PageParams page = new PageParams(null, null, null, null);
+        when(customerService.getCustomerPage(null, null, page))
+                .thenReturn(new CursorPage<>(List.of(testCustomer), "next", 7L));
 
         // Act & Assert
         mockMvc.perform(get("/api/customers"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].customerId").value(1))
-                .andExpect(jsonPath("$[0].customerName").value("Test Customer"));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items[0].customerId").value(1))
+                .andExpect(jsonPath("$.items[0].customerName").value("Test Customer"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.total").value(7));
 
-        verify(customerService).getAllCustomers();
+        verify(customerService).getCustomerPage(null, null, page);
     }
 
     @Test
-    void getEmployees_ShouldReturnEmployeesList() throws Exception {
+    void getCustomers_ShouldPassPagingSortingAndFilters() throws Exception {
         // Arrange
-        when(employeeService.getAllEmployees()).thenReturn(List.of(testEmployee));
+        PageParams page = new PageParams("abc", 25, "customerName", "desc");
+        when(customerService.getCustomerPage("acme", 3L, page))
+                .thenReturn(new CursorPage<>(List.of(), null, null));
 
         // Act & Assert
-        mockMvc.perform(get("/api/employees"))
+        mockMvc.perform(get("/api/customers")
+                        .param("cursor", "abc").param("limit", "25")
+                        .param("sort", "customerName").param("direction", "desc")
+                        .param("name", "acme").param("employeeId", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.total").doesNotExist());
+
+        verify(customerService).getCustomerPage("acme", 3L, page);
+    }
+
+    @Test
+    void getCustomers_WithInvalidPageRequest_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(customerService.getCustomerPage(any(), any(), any()))
+                .thenThrow(new InvalidPageRequestException("Page limit must be between 1 and 500"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/customers").param("limit", "5000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page limit must be between 1 and 500"));
+    }
+
+    @Test
+    void getEmployees_ShouldReturnEmployeesPage() throws Exception {
+        // Arrange
+        when(employeeService.getEmployeePage(any(), any(), any(), any()))
+                .thenReturn(new CursorPage<>(List.of(testEmployee), null, 1L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees").param("department", "IT"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].employeeId").value(1))
-                .andExpect(jsonPath("$[0].fullName").value("John Doe"));
+                .andExpect(jsonPath("$.items[0].employeeId").value(1))
+                .andExpect(jsonPath("$.items[0].fullName").value("John Doe"))
+                .andExpect(jsonPath("$.items[0].customers").doesNotExist());
+
+        verify(employeeService).getEmployeePage(eq(null), eq("IT"), eq(null), any());
+        verify(customerService, never()).getCustomersByEmployee(any());
+    }
+
+    @Test
+    void getEmployees_WithIncludeCustomers_ShouldAttachCustomersFromOneBatch() throws Exception {
+        // Arrange
+        when(employeeService.getEmployeePage(any(), any(), any(), any()))
+                .thenReturn(new CursorPage<>(List.of(testEmployee), null, 1L));
+        when(customerService.getCustomersByEmployee(List.of(1L))).thenReturn(Map.of(1L, List.of(testCustomer)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees").param("include", "customers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].employeeId").value(1))
+                .andExpect(jsonPath("$.items[0].customers[0].customerId").value(1))
+                .andExpect(jsonPath("$.items[0].customers[0].customerName").value("Test Customer"));
+
+        verify(customerService).getCustomersByEmployee(List.of(1L));
+    }
+
+    @Test
+    void getEmployee_ShouldReturnSingleEmployee() throws Exception {
+        // Arrange
+        when(employeeService.getEmployeeById(1L)).thenReturn(testEmployee);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullName").value("John Doe"));
+    }
+
+    @Test
+    void getCustomerDriViews_ShouldReturnTheViewsOfOneCustomerPage() throws Exception {
+        // Arrange
+        PageParams page = new PageParams(null, 1, null, null);
+        when(customerService.getCustomerPage(null, null, page))
+                .thenReturn(new CursorPage<>(List.of(testCustomer), "next", 2L));
+        when(customerService.getDriViews(List.of(testCustomer))).thenReturn(List.of(CustomerDriView.of(testCustomer,
+                new EmployeeSummary(1L, "John Doe", "Software Engineer", "IT", null))));
 
-        verify(employeeService).getAllEmployees();
+        // Act & Assert
+        mockMvc.perform(get("/api/customers/dri-views").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].customerName").value("Test Customer"))
+                .andExpect(jsonPath("$.items[0].employeeName").value("John Doe"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.total").value(2));
+    }
+
+    @Test
+    void getEmployeeSummaries_ShouldReturnAPageOfSummaryFieldsOnly() throws Exception {
+        // Arrange
+        when(employeeService.getEmployeePage(eq("John"), eq(null), eq(null), any()))
+                .thenReturn(new CursorPage<>(List.of(testEmployee), "next", 3L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/summaries").param("name", "John").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].employeeId").value(1))
+                .andExpect(jsonPath("$.items[0].fullName").value("John Doe"))
+                .andExpect(jsonPath("$.items[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
     }
 
     @Test
-    void getCompanies_ShouldReturnCompaniesList() throws Exception {
+    void getCompanies_ShouldReturnCompaniesPage() throws Exception {
         // Arrange
-        when(companyService.getAllCompanies()).thenReturn(List.of(testCompany));
+        when(companyService.getCompanyPage(eq("Test"), eq(null), any()))
+                .thenReturn(new CursorPage<>(List.of(testCompany), null, 1L));
 
         // Act & Assert
-        mockMvc.perform(get("/api/companies"))
+        mockMvc.perform(get("/api/companies").param("name", "Test"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].companyId").value(1))
-                .andExpect(jsonPath("$[0].companyName").value("Test Company"));
+                .andExpect(jsonPath("$.items[0].companyId").value(1))
+                .andExpect(jsonPath("$.items[0].companyName").value("Test Company"));
 
-        verify(companyService).getAllCompanies();
+        verify(companyService).getCompanyPage(eq("Test"), eq(null), any());
     }
 
     @Test
@@ -183,6 +295,55 @@ class DataControllerTest {
         verify(pollingService).isPollingActive();
     }
 
+    @Test
+    void getJobMetrics_ShouldReturnRollupTotals() throws Exception {
+        // Arrange
+        when(jobMetricsService.getTotalJobsProcessed()).thenReturn(12L);
+        when(jobMetricsService.getJobsProcessedToday()).thenReturn(3L);
+        when(jobMetricsService.getFailedJobs()).thenReturn(2L);
+        when(jobMetricsService.getJobCountsByType()).thenReturn(Map.of("search-employee", 9L, "query-for-company", 3L));
+        when(jobMetricsService.getFailedJobCountsByType()).thenReturn(Map.of("query-for-company", 2L));
+        when(jobMetricsService.getAverageExecutionTimeMsByType()).thenReturn(Map.of("search-employee", 40L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/job-metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalJobs").value(12))
+                .andExpect(jsonPath("$.jobsToday").value(3))
+                .andExpect(jsonPath("$.failedJobs").value(2))
+                .andExpect(jsonPath("$.jobsByType.['search-employee']").value(9))
+                .andExpect(jsonPath("$.failedJobsByType.['query-for-company']").value(2))
+                .andExpect(jsonPath("$.averageExecutionTimeMsByType.['search-employee']").value(40));
+    }
+
+    @Test
+    void getJobTimeline_WithUnknownGranularity_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(jobMetricsService.getJobTimeline("week", 24))
+                .thenThrow(new InvalidMetricsRequestException("Unsupported granularity 'week'; use minute, hour or day"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/job-metrics/timeline").param("granularity", "week"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Metrics Request"));
+    }
+
+    @Test
+    void getJobPhases_ShouldReturnTheBreakdownPerJobType() throws Exception {
+        // Arrange
+        when(jobMetricsService.getPhaseBreakdownByType())
+                .thenReturn(List.of(new JobPhaseBreakdown("search-employee", 12, 150, 1, 8, 30, 2, 25)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/job-metrics/phases"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].jobType").value("search-employee"))
+                .andExpect(jsonPath("$[0].jobs").value(12))
+                .andExpect(jsonPath("$[0].searchDbMs").value(8))
+                .andExpect(jsonPath("$[0].searchMatchMs").value(30))
+                .andExpect(jsonPath("$[0].completeMs").value(25));
+    }
+
     @Test
     void createCustomer_WithValidData_ShouldCreateCustomer() throws Exception {
         // Arrange
@@ -244,4 +405,34 @@ class DataControllerTest {
 
         verify(customerService).deleteCustomer(1L);
     }
+
+    @Test
+    void searchJobHistory_ShouldPassFiltersAndPaging() throws Exception {
+        // Arrange
+        JobHistory failure = new JobHistory();
+        failure.setId(42L);
+        failure.setJobType("query-for-company");
+        failure.setJobKey("2251799813685249");
+        failure.setStatus("FAILED");
+        failure.setExecutionTime(LocalDateTime.of(2026, 3, 2, 11, 45));
+        failure.setExecutionTimeMs(1_500L);
+        JobHistoryFilter filter = new JobHistoryFilter("query-for-company", "FAILED", null,
+                LocalDateTime.of(2026, 3, 2, 11, 0), null, 1_000L);
+        PageParams page = new PageParams(null, 20, null, null);
+        when(jobHistoryService.searchJobHistory(filter, page))
+                .thenReturn(new CursorPage<>(List.of(failure), "next", 1L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/job-history/search")
+                        .param("jobType", "query-for-company").param("status", "FAILED")
+                        .param("from", "2026-03-02T11:00:00").param("minDurationMs", "1000")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(42))
+                .andExpect(jsonPath("$.items[0].duration").value("1.5 s"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.total").value(1));
+
+        verify(jobHistoryService).searchJobHistory(filter, page);
+    }
 }
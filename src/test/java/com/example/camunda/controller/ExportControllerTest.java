@@ -0,0 +1,138 @@
+package com.example.camunda.controller;
+
+import com.example.camunda.dto.CustomerDTO;
+import com.example.camunda.dto.EmployeeDTO;
+import com.example.camunda.export.RowWriter;
+import com.example.camunda.service.CompanyService;
+import com.example.camunda.service.CustomerService;
+import com.example.camunda.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+@ActiveProfiles("test")
+class ExportControllerTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 15, 9, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CustomerService customerService;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private CompanyService companyService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportCustomers_AsNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // Arrange
+        when(customerService.exportCustomers(eq("acme"), eq(7L), any())).thenAnswer(invocation ->
+                invocation.<RowWriter<CustomerDTO>>getArgument(2).writeAll(Stream.of(
+                        new CustomerDTO(1L, "Acme Corp", 7L, CREATED, CREATED),
+                        new CustomerDTO(2L, "Acme Labs", 7L, CREATED, CREATED))));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/export/customers").param("name", "acme").param("employeeId", "7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"customers.ndjson\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n")).hasSize(2);
+        assertThat(body).startsWith("{\"customerId\":1,\"customerName\":\"Acme Corp\",\"employeeId\":7,");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportEmployees_AsCsv_ShouldQuoteFieldsAndLeaveOutCustomers() throws Exception {
+        // Arrange
+        when(employeeService.exportEmployees(isNull(), eq("Sales"), isNull(), any())).thenAnswer(invocation ->
+                invocation.<RowWriter<EmployeeDTO>>getArgument(3).writeAll(Stream.of(
+                        new EmployeeDTO(3L, "Doe, Jane", "Lead \"A\"", "Sales", null, CREATED, CREATED))));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/export/employees").param("format", "CSV")
+                        .param("department", "Sales"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).isEqualTo(
+                "employeeId,fullName,jobTitle,department,phoneNumber,createdAt,updatedAt\r\n"
+                        + "3,\"Doe, Jane\",\"Lead \"\"A\"\"\",Sales,,2024-01-15T09:30,2024-01-15T09:30\r\n");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportCustomers_WhenGzipAccepted_ShouldCompressBody() throws Exception {
+        // Arrange
+        when(customerService.exportCustomers(isNull(), isNull(), any())).thenAnswer(invocation ->
+                invocation.<RowWriter<CustomerDTO>>getArgument(2).writeAll(Stream.of(
+                        new CustomerDTO(1L, "Acme Corp", 7L, CREATED, CREATED))));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/export/customers").param("format", "csv")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(
+                    "customerId,customerName,employeeId,createdAt,updatedAt\r\n"
+                            + "1,Acme Corp,7,2024-01-15T09:30,2024-01-15T09:30\r\n");
+        }
+    }
+
+    @Test
+    void exportCompanies_WithUnknownFormat_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/export/companies").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Export Request"));
+
+        verifyNoInteractions(companyService);
+    }
+}
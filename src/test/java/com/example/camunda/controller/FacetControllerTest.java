@@ -0,0 +1,60 @@
+package com.example.camunda.controller;
+
+import com.example.camunda.dto.FacetCountsDTO;
+import com.example.camunda.exception.IndexNotReadyException;
+import com.example.camunda.service.FacetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(FacetController.class)
+@ActiveProfiles("test")
+class FacetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FacetService facetService;
+
+    @Test
+    void getEmployeeFacets_WithDepartment_ShouldReturnCounts() throws Exception {
+        // Arrange
+        FacetCountsDTO counts = new FacetCountsDTO(3, Map.of("department", "Sales"), Map.of(
+                "department", Map.of("Sales", 3),
+                "jobTitle", Map.of("Account Manager", 2, "Sales Manager", 1)));
+        when(facetService.getEmployeeFacets("Sales", null)).thenReturn(counts);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/facets/employees").param("department", "Sales"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.facets.jobTitle.['Account Manager']").value(2));
+
+        verify(facetService).getEmployeeFacets("Sales", null);
+    }
+
+    @Test
+    void getCompanyFacets_WhenIndexNotReady_ShouldReturnServiceUnavailable() throws Exception {
+        // Arrange
+        when(facetService.getCompanyFacets(null, null))
+                .thenThrow(new IndexNotReadyException("Company index is still being built"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/facets/companies"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value("Company index is still being built"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.camunda.controller;
+
+import com.example.camunda.exception.ImportJobNotFoundException;
+import com.example.camunda.importer.ImportFormat;
+import com.example.camunda.importer.ImportJob;
+import com.example.camunda.importer.ImportTable;
+import com.example.camunda.service.BulkImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+@ActiveProfiles("test")
+class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BulkImportService bulkImportService;
+
+    @Test
+    void startImport_ShouldQueueJobAndPointToItsProgress() throws Exception {
+        // Arrange
+        ImportJob job = new ImportJob(ImportTable.CUSTOMERS, ImportFormat.CSV, 10);
+        when(bulkImportService.submit(eq(ImportTable.CUSTOMERS), eq(ImportFormat.CSV), any(InputStream.class), eq(true)))
+                .thenReturn(job);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/import/customers")
+                        .contentType("text/csv")
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(new byte[] {31, -117}))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/import/jobs/" + job.id()))
+                .andExpect(jsonPath("$.jobId").value(job.id()))
+                .andExpect(jsonPath("$.table").value("customers"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(bulkImportService).submit(eq(ImportTable.CUSTOMERS), eq(ImportFormat.CSV), any(InputStream.class), eq(true));
+    }
+
+    @Test
+    void startImport_WithUnknownTable_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/import/orders").contentType("application/x-ndjson").content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Import Request"));
+
+        verifyNoInteractions(bulkImportService);
+    }
+
+    @Test
+    void startImport_WithFormEncodedBody_ShouldBeRefused() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/import/customers").param("format", "csv")
+                        .contentType("application/x-www-form-urlencoded")
+                        .content("customerId,customerName"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(bulkImportService);
+    }
+
+    @Test
+    void getJob_WhenUnknown_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(bulkImportService.getJob("missing")).thenThrow(new ImportJobNotFoundException("Import job not found with ID: missing"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/import/jobs/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Import Job Not Found"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.camunda.generator;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.ExternalCompany;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SyntheticCatalogTest {
+
+    private static CatalogProperties.Generator settings() {
+        CatalogProperties.Generator settings = new CatalogProperties.Generator();
+        settings.setFirstId(1_000L);
+        settings.setEmployees(1_000);
+        return settings;
+    }
+
+    @Test
+    void customer_WithSameSeed_ShouldBeIdenticalInAnyOrder() {
+        // Arrange
+        SyntheticCatalog first = new SyntheticCatalog(settings());
+        SyntheticCatalog second = new SyntheticCatalog(settings());
+        CatalogProperties.Generator reseeded = settings();
+        reseeded.setSeed(7);
+
+        // Act
+        Customer forward = first.customer(12_345);
+        second.customer(99);
+        Customer later = second.customer(12_345);
+        Customer other = new SyntheticCatalog(reseeded).customer(12_345);
+
+        // Assert
+        assertThat(later.getCustomerId()).isEqualTo(13_345L);
+        assertThat(later.getCustomerName()).isEqualTo(forward.getCustomerName());
+        assertThat(later.getEmployeeId()).isEqualTo(forward.getEmployeeId());
+        assertThat(other.getCustomerName()).isNotEqualTo(forward.getCustomerName());
+    }
+
+    @Test
+    void customer_WithDriSkew_ShouldConcentrateCustomersOnFewEmployees() {
+        // Arrange
+        CatalogProperties.Generator uniform = settings();
+        uniform.setDriSkew(0);
+
+        // Act
+        double skewedShare = topOnePercentShare(new SyntheticCatalog(settings()));
+        double uniformShare = topOnePercentShare(new SyntheticCatalog(uniform));
+
+        // Assert
+        assertThat(skewedShare).isGreaterThan(0.3);
+        assertThat(uniformShare).isLessThan(0.03);
+    }
+
+    @Test
+    void customer_WithDuplicateAndTypoRates_ShouldRepeatAndMisspellNames() {
+        // Arrange
+        CatalogProperties.Generator clean = settings();
+        clean.setDuplicateNameRate(0);
+        clean.setTypoRate(0);
+        CatalogProperties.Generator duplicated = settings();
+        duplicated.setDuplicateNameRate(0.2);
+        duplicated.setTypoRate(0);
+        CatalogProperties.Generator misspelled = settings();
+        misspelled.setDuplicateNameRate(0);
+        misspelled.setTypoRate(1);
+
+        // Act
+        Set<String> cleanNames = names(new SyntheticCatalog(clean));
+        Set<String> duplicatedNames = names(new SyntheticCatalog(duplicated));
+        long misspelledRows = LongStream.range(0, 10_000)
+                .filter(i -> !new SyntheticCatalog(misspelled).customer(i).getCustomerName()
+                        .equals(new SyntheticCatalog(clean).customer(i).getCustomerName()))
+                .count();
+
+        // Assert
+        assertThat(cleanNames).hasSizeGreaterThan(9_700);
+        assertThat(duplicatedNames).hasSizeLessThan(8_500);
+        assertThat(misspelledRows).isGreaterThan(9_500);
+    }
+
+    @Test
+    void company_WithoutDuplicatesOrTypos_ShouldNeverRepeatAName() {
+        // Arrange
+        CatalogProperties.Generator clean = settings();
+        clean.setDuplicateNameRate(0);
+        clean.setTypoRate(0);
+        SyntheticCatalog catalog = new SyntheticCatalog(clean);
+        Set<String> names = new HashSet<>();
+
+        // Act
+        // Past 50^3 rows, where the words gain a fourth syllable
+        long repeated = LongStream.range(0, 300_000)
+                .filter(i -> !names.add(catalog.company(i).getCompanyName()))
+                .count();
+
+        // Assert
+        assertThat(repeated).isZero();
+    }
+
+    @Test
+    void company_ShouldHaveParsableAddress() {
+        // Act
+        ExternalCompany company = new SyntheticCatalog(settings()).company(3);
+
+        // Assert
+        assertThat(company.getCompanyId()).isEqualTo(1_003L);
+        assertThat(company.getCompanyName()).isNotBlank();
+        assertThat(company.getCity()).isNotBlank();
+        assertThat(company.getState()).hasSize(2);
+        assertThat(company.getZipCode()).hasSize(5);
+        assertThat(company.getCityKey()).isEqualTo(company.getCity().toLowerCase());
+    }
+
+    private static double topOnePercentShare(SyntheticCatalog catalog) {
+        Map<Long, Integer> customersPerEmployee = new HashMap<>();
+        for (long i = 0; i < 100_000; i++) {
+            customersPerEmployee.merge(catalog.customer(i).getEmployeeId(), 1, Integer::sum);
+        }
+        long top = customersPerEmployee.values().stream()
+                .sorted((a, b) -> b - a)
+                .limit(10)
+                .mapToLong(Integer::longValue)
+                .sum();
+        return top / 100_000.0;
+    }
+
+    private static Set<String> names(SyntheticCatalog catalog) {
+        Set<String> names = new HashSet<>();
+        for (long i = 0; i < 10_000; i++) {
+            names.add(catalog.customer(i).getCustomerName());
+        }
+        return names;
+    }
+}
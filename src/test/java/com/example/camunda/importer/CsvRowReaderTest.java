@@ -0,0 +1,72 @@
+package com.example.camunda.importer;
+
+import com.example.camunda.dto.EmployeeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CsvRowReaderTest {
+
+    @Test
+    void next_ShouldBindColumnsByHeaderNameAndUnquoteFields() throws IOException {
+        // Arrange
+        String csv = "FULLNAME,employeeId,createdAt,jobTitle,department,ignored\r\n"
+                + "\"Doe, Jane\",3,2024-01-15T09:30,\"Lead \"\"A\"\"\",Sales,x\r\n";
+
+        // Act
+        List<ImportRow<EmployeeDTO>> rows = readAll(csv);
+
+        // Assert
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.line()).isEqualTo(2);
+            assertThat(row.value()).isEqualTo(new EmployeeDTO(3L, "Doe, Jane", "Lead \"A\"", "Sales", null,
+                    LocalDateTime.of(2024, 1, 15, 9, 30), null));
+        });
+    }
+
+    @Test
+    void next_QuotedFieldAcrossLines_ShouldReportTheLineTheRowStartsOn() throws IOException {
+        // Arrange
+        String csv = "employeeId,fullName\n1,\"Two\nLines\"\n\n2,Next\n";
+
+        // Act
+        List<ImportRow<EmployeeDTO>> rows = readAll(csv);
+
+        // Assert
+        assertThat(rows).extracting(ImportRow::line).containsExactly(2L, 5L);
+        assertThat(rows.get(0).value().fullName()).isEqualTo("Two\nLines");
+    }
+
+    @Test
+    void next_MalformedRows_ShouldBeRejectedWithoutStoppingTheReader() throws IOException {
+        // Arrange
+        String csv = "employeeId,fullName\nabc,Bad Id\n1\n2,Fine\n";
+
+        // Act
+        List<ImportRow<EmployeeDTO>> rows = readAll(csv);
+
+        // Assert
+        assertThat(rows).extracting(ImportRow::error)
+                .containsExactly("Invalid employeeId 'abc'", "Expected 2 fields but found 1", null);
+        assertThat(rows.get(2).value().employeeId()).isEqualTo(2L);
+    }
+
+    private static List<ImportRow<EmployeeDTO>> readAll(String csv) throws IOException {
+        List<ImportRow<EmployeeDTO>> rows = new ArrayList<>();
+        try (RowReader<EmployeeDTO> reader = new CsvRowReader<>(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeDTO.class)) {
+            ImportRow<EmployeeDTO> row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.camunda.index;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.Employee;
+import com.example.camunda.model.EntityChangeLog;
+import com.example.camunda.model.EntityChangeLog.EntityType;
+import com.example.camunda.model.EntityChangeLog.Operation;
+import com.example.camunda.readmodel.CatalogSnapshotStore;
+import com.example.camunda.repository.CustomerRepository;
+import com.example.camunda.repository.EmployeeRepository;
+import com.example.camunda.repository.EntityChangeLogRepository;
+import com.example.camunda.repository.ExternalCompanyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeLogPollerTest {
+
+    @Mock
+    private CatalogChangeListener listener;
+
+    @Mock
+    private CatalogIndexManager catalogIndexManager;
+
+    @Mock
+    private EntityChangeLogRepository changeLogRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ExternalCompanyRepository companyRepository;
+
+    @Mock
+    private CatalogSnapshotStore snapshotStore;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private ChangeLogPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new ChangeLogPoller(List.of(listener), catalogIndexManager, changeLogRepository,
+                employeeRepository, customerRepository, companyRepository, new CatalogProperties(), snapshotStore,
+                Optional.empty(), entityManagerFactory);
+        lenient().when(entityManagerFactory.getCache().unwrap(Cache.class)).thenReturn(secondLevelCache);
+        lenient().when(catalogIndexManager.isBuilt()).thenReturn(true);
+        lenient().when(catalogIndexManager.origin()).thenReturn("this-replica");
+        when(changeLogRepository.findTopByOrderByIdDesc()).thenReturn(Optional.of(entry(10L, EntityType.CUSTOMER, 0L, "x")));
+        poller.start();
+    }
+
+    @Test
+    void poll_ShouldApplyOtherReplicasChangesFromCurrentRows() {
+        // Arrange
+        Customer acme = new Customer();
+        acme.setCustomerId(1L);
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).thenReturn(List.of(
+                entry(11L, EntityType.CUSTOMER, 1L, "other-replica"),
+                entry(12L, EntityType.CUSTOMER, 2L, "this-replica"),
+                entry(13L, EntityType.EMPLOYEE, 5L, "other-replica"),
+                entry(14L, EntityType.CUSTOMER, 1L, "other-replica")));
+        when(customerRepository.findAllById(Set.of(1L))).thenReturn(List.of(acme));
+        when(employeeRepository.findAllById(Set.of(5L))).thenReturn(List.of());
+
+        // Act
+        poller.poll();
+
+        // Assert
+        verify(listener, times(1)).onCustomersSaved(List.of(acme));
+        verify(listener).onEmployeeDeleted(5L);
+        verify(listener, never()).onEmployeesSaved(any());
+        verify(secondLevelCache).evictEntityData(Customer.class, 1L);
+        verify(secondLevelCache).evictEntityData(Employee.class, 5L);
+        verify(secondLevelCache, never()).evictEntityData(Customer.class, 2L);
+        verify(customerRepository, times(1)).findAllById(any());
+        verifyNoInteractions(companyRepository);
+        assertThat(poller.cursor()).isEqualTo(14L);
+    }
+
+    @Test
+    void poll_WhenAnIdIsSkipped_ShouldApplyItOnceItsTransactionCommits() {
+        // Arrange
+        Customer acme = new Customer();
+        acme.setCustomerId(1L);
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any()))
+                .thenReturn(List.of(entry(12L, EntityType.COMPANY, 3L, "this-replica")));
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(12L), any())).thenReturn(List.of());
+        when(changeLogRepository.findAllById(List.of(11L)))
+                .thenReturn(List.of(entry(11L, EntityType.CUSTOMER, 1L, "other-replica")));
+        when(customerRepository.findAllById(Set.of(1L))).thenReturn(List.of(acme));
+
+        // Act
+        poller.poll();
+        long whileSkipped = poller.position();
+        poller.poll();
+        poller.poll();
+
+        // Assert
+        verify(listener, times(1)).onCustomersSaved(List.of(acme));
+        verify(changeLogRepository, times(1)).findAllById(any());
+        assertThat(poller.cursor()).isEqualTo(12L);
+        assertThat(whileSkipped).isEqualTo(10L);
+        assertThat(poller.position()).isEqualTo(12L);
+        verify(snapshotStore, atLeastOnce()).caughtUp(12L);
+    }
+
+    @Test
+    void start_WhenRecentIdsAreMissing_ShouldReportThePositionBeforeTheOldest() {
+        // Arrange
+        when(changeLogRepository.findIdsCreatedSince(any())).thenReturn(List.of(6L, 8L, 10L));
+
+        // Act
+        poller.start();
+
+        // Assert
+        assertThat(poller.cursor()).isEqualTo(10L);
+        assertThat(poller.position()).isEqualTo(6L);
+        verify(snapshotStore).caughtUp(6L);
+    }
+
+    private static EntityChangeLog entry(Long id, EntityType entityType, Long entityId, String origin) {
+        EntityChangeLog entry = new EntityChangeLog(entityType, entityId, Operation.SAVED, origin);
+        entry.setId(id);
+        return entry;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.camunda.index;
+
+import com.example.camunda.dto.FacetCountsDTO;
+import com.example.camunda.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EmployeeBitmapIndexTest {
+
+    private EmployeeBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeBitmapIndex();
+        index.rebuildEmployees(List.of(
+                employee(1L, "Sales", "Account Manager"),
+                employee(2L, "Sales", "Sales Representative"),
+                employee(3L, "Engineering", "Software Engineer"),
+                employee(4L, "Engineering", "Engineering Manager")));
+    }
+
+    @Test
+    void findEmployeeIds_ShouldIntersectDepartmentAndJobTitle() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.findEmployeeIds("sales", null)).containsExactly(1L, 2L);
+        assertThat(index.findEmployeeIds(null, "manager")).containsExactly(1L, 4L);
+        assertThat(index.findEmployeeIds("Engineering", "Manager")).containsExactly(4L);
+        assertThat(index.findEmployeeIds("Legal", null)).isEmpty();
+    }
+
+    @Test
+    void findEmployeeIdsMatchingAny_ShouldUnionMatchingValues() {
+        long[] ids = index.findEmployeeIdsMatchingAny(
+                department -> department.equals("sales"),
+                title -> title.startsWith("software"));
+
+        assertThat(ids).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void onEmployeeSaved_ShouldMoveEmployeeBetweenValues() {
+        index.onEmployeeSaved(employee(2L, "Engineering", "QA Engineer"));
+        index.onEmployeeSaved(employee(5L, "Sales", "Sales Manager"));
+
+        assertThat(index.findEmployeeIds("Sales", null)).containsExactly(1L, 5L);
+        assertThat(index.findEmployeeIds("Engineering", "engineer")).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void onEmployeeDeleted_ShouldRemoveEmployeeFromAllBitmaps() {
+        index.onEmployeeDeleted(1L);
+
+        assertThat(index.findEmployeeIds("Sales", null)).containsExactly(2L);
+        assertThat(index.findEmployeeIds(null, "Manager")).containsExactly(4L);
+    }
+
+    @Test
+    void facetCounts_ShouldCountPerValueWithinFilters() {
+        FacetCountsDTO all = index.facetCounts(null, null);
+        assertThat(all.getTotal()).isEqualTo(4);
+        assertThat(all.getFacets().get("department")).containsExactly(entry("Engineering", 2), entry("Sales", 2));
+
+        FacetCountsDTO sales = index.facetCounts("sales", null);
+        assertThat(sales.getTotal()).isEqualTo(2);
+        assertThat(sales.getFilters()).containsEntry("department", "sales");
+        assertThat(sales.getFacets().get("department")).containsExactly(entry("Sales", 2));
+        assertThat(sales.getFacets().get("jobTitle"))
+                .containsOnly(entry("Account Manager", 1), entry("Sales Representative", 1));
+    }
+
+    @Test
+    void facetCounts_ShouldFollowIncrementalUpdates() {
+        index.onEmployeeDeleted(3L);
+        index.onEmployeeSaved(employee(1L, "Engineering", "Account Manager"));
+
+        FacetCountsDTO counts = index.facetCounts(null, null);
+        assertThat(counts.getTotal()).isEqualTo(3);
+        assertThat(counts.getFacets().get("department")).containsExactly(entry("Engineering", 2), entry("Sales", 1));
+        assertThat(counts.getFacets().get("jobTitle")).doesNotContainKey("Software Engineer");
+    }
+
+    private Employee employee(Long id, String department, String jobTitle) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setFullName("Employee " + id);
+        employee.setDepartment(department);
+        employee.setJobTitle(jobTitle);
+        return employee;
+    }
+}
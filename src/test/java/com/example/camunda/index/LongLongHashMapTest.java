@@ -0,0 +1,53 @@
+package com.example.camunda.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongLongHashMapTest {
+
+    @Test
+    void getPutRemove_ShouldBehaveLikeHashMap() {
+        // Arrange
+        LongLongHashMap map = new LongLongHashMap(4, -1L);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        // Act & Assert
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(500) - 10;
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                long value = random.nextLong();
+                map.put(key, value);
+                expected.put(key, value);
+            }
+            long probe = random.nextInt(500) - 10;
+            assertThat(map.get(probe)).isEqualTo(expected.getOrDefault(probe, -1L));
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    void clear_ShouldRemoveAllEntriesIncludingZeroKey() {
+        // Arrange
+        LongLongHashMap map = new LongLongHashMap(16, -1L);
+        map.put(0L, 5L);
+        map.put(42L, 7L);
+
+        // Act
+        map.clear();
+
+        // Assert
+        assertThat(map.size()).isZero();
+        assertThat(map.get(0L)).isEqualTo(-1L);
+        assertThat(map.get(42L)).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.camunda.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SegmentedSuffixIndexTest {
+
+    private SegmentedSuffixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SegmentedSuffixIndex();
+        index.rebuild(Map.of(
+                1L, "acme corporation",
+                2L, "globex",
+                3L, "initech corp",
+                4L, "banana"));
+    }
+
+    @Test
+    void find_ShouldReturnEveryTextContainingPattern() {
+        assertThat(index.find("corp")).containsExactly(1L, 3L);
+        assertThat(index.find("ana")).containsExactly(4L);
+        assertThat(index.find("a")).containsExactly(1L, 4L);
+        assertThat(index.find("missing")).isEmpty();
+    }
+
+    @Test
+    void find_ShouldNotMatchAcrossTextBoundaries() {
+        // "globex" is followed by "initech corp" in the concatenated text
+        assertThat(index.find("xini")).isEmpty();
+    }
+
+    @Test
+    void find_ShouldFollowIncrementalUpdates() {
+        // Act
+        index.put(2L, "globex corp");
+        index.remove(3L);
+        index.put(5L, "corpus");
+
+        // Assert
+        assertThat(index.find("corp")).containsExactly(1L, 2L, 5L);
+        assertThat(index.find("initech")).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void put_ManyTexts_ShouldSealAndMergeSegments() {
+        // Act
+        for (long id = 100; id < 1000; id++) {
+            index.put(id, "customer " + id);
+        }
+        index.remove(500L);
+
+        // Assert
+        assertThat(index.segmentCount()).isLessThanOrEqualTo(9);
+        assertThat(index.find("customer 50")).containsExactly(501L, 502L, 503L, 504L, 505L, 506L, 507L, 508L, 509L);
+        assertThat(index.find("customer")).hasSize(899);
+        assertThat(index.find("corp")).containsExactly(1L, 3L);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.camunda.readmodel;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.Customer;
+import com.example.camunda.model.ExternalCompany;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogReadModelTest {
+
+    private CatalogProperties properties;
+    private CatalogReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CatalogProperties();
+        readModel = new CatalogReadModel(properties);
+    }
+
+    @Test
+    void current_BeforeAllTablesAreLoaded_ShouldBeEmpty() {
+        // Act
+        readModel.rebuildCustomers(List.of(customer(1L, "Acme")));
+        readModel.rebuildEmployees(List.of());
+
+        // Assert
+        assertThat(readModel.current()).isEmpty();
+    }
+
+    @Test
+    void current_WhenDisabled_ShouldBeEmpty() {
+        // Arrange
+        loadAll();
+        properties.getReadModel().setEnabled(false);
+
+        // Act & Assert
+        assertThat(readModel.current()).isEmpty();
+    }
+
+    @Test
+    void writes_ShouldSwapInNewSnapshotWithoutChangingOldOne() {
+        // Arrange
+        loadAll();
+        CatalogSnapshot before = readModel.current().orElseThrow();
+
+        // Act
+        readModel.onCustomerSaved(customer(1L, "Acme Renamed"));
+        readModel.onCustomerSaved(customer(3L, "Initech"));
+        readModel.onCustomerDeleted(2L);
+        CatalogSnapshot after = readModel.current().orElseThrow();
+
+        // Assert
+        assertThat(before.customers()).extracting(CustomerRecord::customerName).containsExactly("Acme", "Globex");
+        assertThat(after.customers()).extracting(CustomerRecord::customerName).containsExactly("Acme Renamed", "Initech");
+        assertThat(after.customerNamed("Acme")).isEmpty();
+        assertThat(after.customerNamed("Initech")).map(CustomerRecord::customerId).contains(3L);
+        assertThat(after.customers(new long[] {3L, 2L, 1L})).extracting(CustomerRecord::customerId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void companies_ShouldBeLookedUpByCityKey() {
+        // Arrange
+        loadAll();
+
+        // Act
+        readModel.onCompanySaved(company(10L, "Acme Industries", "12 Main St, Boston, MA 02110"));
+        CatalogSnapshot snapshot = readModel.current().orElseThrow();
+
+        // Assert
+        assertThat(snapshot.cityKeys()).containsExactly("boston");
+        assertThat(snapshot.companiesInCity("boston")).extracting(CompanyRecord::companyName)
+                .containsExactly("Acme Industries");
+        assertThat(snapshot.companiesInCity("denver")).isEmpty();
+    }
+
+    private void loadAll() {
+        readModel.rebuildCustomers(List.of(customer(2L, "Globex"), customer(1L, "Acme")));
+        readModel.rebuildEmployees(List.of());
+        readModel.rebuildCompanies(List.of());
+    }
+
+    private static Customer customer(Long id, String name) {
+        Customer customer = new Customer();
+        customer.setCustomerId(id);
+        customer.setCustomerName(name);
+        customer.setEmployeeId(1L);
+        return customer;
+    }
+
+    private static ExternalCompany company(Long id, String name, String address) {
+        ExternalCompany company = new ExternalCompany();
+        company.setCompanyId(id);
+        company.setCompanyName(name);
+        company.setAddress(address);
+        company.deriveLocationFields();
+        return company;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.camunda.readmodel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogSnapshotFileTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 600_000_000);
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 6, 7, 8, 9, 10, 123_456_789);
+    private static final LocalDateTime SAVED = LocalDateTime.of(2024, 6, 7, 9, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeThenRead_ShouldRoundTripRowsAndChangeLogStamp() throws IOException {
+        // Arrange
+        Path file = directory.resolve("catalog.snapshot");
+        List<CustomerRecord> customers = List.of(
+                new CustomerRecord(1L, "Acme Corporation", 7L, CREATED, CREATED),
+                new CustomerRecord(2L, "Zoë's Bäckerei", 7L, CREATED, UPDATED));
+        List<EmployeeRecord> employees = List.of(
+                new EmployeeRecord(7L, "Ada Lovelace", "Engineer", "R&D", null, CREATED, CREATED));
+        List<CompanyRecord> companies = List.of(
+                new CompanyRecord(10L, "Globex", "1 Main St, Boston, MA 02110", null, "555-0100", "1 Main St",
+                        "Boston", "MA", "02110", "boston", CREATED, null));
+
+        // Act
+        CatalogSnapshotFile.write(file, 42L, SAVED, customers, employees, companies);
+        CatalogSnapshotFile.Contents contents = CatalogSnapshotFile.read(file).orElseThrow();
+
+        // Assert
+        assertThat(contents.changeLogId()).isEqualTo(42L);
+        assertThat(contents.savedAt()).isEqualTo(SAVED);
+        assertThat(contents.customers()).isEqualTo(customers);
+        assertThat(contents.employees()).isEqualTo(employees);
+        assertThat(contents.companies()).isEqualTo(companies);
+    }
+
+    @Test
+    void read_WhenBodyIsCorrupt_ShouldBeEmpty() throws IOException {
+        // Arrange
+        Path file = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(file, 42L, SAVED, List.of(new CustomerRecord(1L, "Acme", 7L, CREATED, UPDATED)),
+                List.of(), List.of());
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(raw.length() - 1);
+            int last = raw.read();
+            raw.seek(raw.length() - 1);
+            raw.write(last ^ 0xFF);
+        }
+
+        // Act & Assert
+        assertThat(CatalogSnapshotFile.read(file)).isEmpty();
+    }
+
+    @Test
+    void read_WhenFileIsMissingOrTruncated_ShouldBeEmpty() throws IOException {
+        // Arrange
+        Path truncated = directory.resolve("truncated.snapshot");
+        Files.write(truncated, new byte[] {0x43, 0x41});
+
+        // Act & Assert
+        assertThat(CatalogSnapshotFile.read(directory.resolve("missing.snapshot"))).isEmpty();
+        assertThat(CatalogSnapshotFile.read(truncated)).isEmpty();
+    }
+}
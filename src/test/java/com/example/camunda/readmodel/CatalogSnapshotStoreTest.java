@@ -0,0 +1,57 @@
+package com.example.camunda.readmodel;
+
+import com.example.camunda.config.CatalogProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private CatalogSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("catalog.snapshot");
+        CatalogProperties properties = new CatalogProperties();
+        properties.getSnapshot().setPath(file.toString());
+        CatalogReadModel readModel = new CatalogReadModel(properties);
+        readModel.rebuildCustomers(List.of());
+        readModel.rebuildEmployees(List.of());
+        readModel.rebuildCompanies(List.of());
+        store = new CatalogSnapshotStore(properties, readModel);
+    }
+
+    @Test
+    void save_ShouldStampTheFileWithTheLastChangeLogPositionReported() {
+        // Act
+        store.save();
+        boolean writtenWithoutPosition = Files.exists(file);
+        store.caughtUp(42L);
+        store.save();
+
+        // Assert
+        assertThat(writtenWithoutPosition).isFalse();
+        assertThat(store.load()).get().extracting(CatalogSnapshotFile.Contents::changeLogId).isEqualTo(42L);
+    }
+
+    @Test
+    void load_WhenSavedBeforeTheChangeLogRetention_ShouldBeEmpty() throws IOException {
+        // Arrange
+        CatalogSnapshotFile.write(file, 42L, LocalDateTime.now().minusDays(2), List.of(), List.of(), List.of());
+
+        // Act & Assert
+        assertThat(store.load()).isEmpty();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.camunda.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarTableTest {
+
+    private record Person(long id, String name, String team, Long managerId, LocalDateTime joinedAt) {
+    }
+
+    private static final TableSchema<Person> PEOPLE = TableSchema.builder(Person::id)
+            .indexedText("name", Person::name)
+            .indexedDictionary("team", Person::team)
+            .longValue("managerId", Person::managerId)
+            .timestamp("joinedAt", Person::joinedAt)
+            .build(row -> new Person(row.id(), row.text("name"), row.text("team"), row.longValue("managerId"),
+                    row.timestamp("joinedAt")));
+
+    private static final LocalDateTime JOINED = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_789);
+
+    @Test
+    void of_ShouldRoundTripEveryColumnIncludingNulls() {
+        // Arrange
+        List<Person> people = List.of(
+                new Person(2L, "Zoë Ångström", "Sales", null, null),
+                new Person(1L, "Ada", "Engineering", 7L, JOINED));
+
+        // Act
+        ColumnarTable<Person> table = ColumnarTable.of(PEOPLE, people, true);
+
+        // Assert
+        assertThat(table.size()).isEqualTo(2);
+        assertThat(table.all()).containsExactly(people.get(1), people.get(0));
+        assertThat(table.byId(3L)).isEmpty();
+    }
+
+    @Test
+    void byKey_ShouldUseIndexesForTextAndDictionaryColumns() {
+        // Arrange
+        ColumnarTable<Person> table = ColumnarTable.of(PEOPLE, List.of(
+                person(3L, "Ada", "Sales"), person(1L, "Ada", "Engineering"), person(2L, "Grace", "Sales")), false);
+
+        // Act & Assert
+        assertThat(table.byKey("name", "Ada")).extracting(Person::id).containsExactly(1L, 3L);
+        assertThat(table.byKey("team", "Sales")).extracting(Person::id).containsExactly(2L, 3L);
+        assertThat(table.byKey("team", "Marketing")).isEmpty();
+        assertThat(table.distinct("team")).containsExactlyInAnyOrder("Sales", "Engineering");
+    }
+
+    @Test
+    void withAndWithout_ShouldLeaveOriginalTableUnchanged() {
+        // Arrange
+        ColumnarTable<Person> before = ColumnarTable.of(PEOPLE, List.of(
+                person(1L, "Ada", "Engineering"), person(2L, "Grace", "Sales")), false);
+
+        // Act
+        ColumnarTable<Person> after = before
+                .with(person(1L, "Ada", "Sales"))
+                .with(person(3L, "Linus", "Kernel"))
+                .without(2L);
+
+        // Assert
+        assertThat(before.byKey("team", "Sales")).extracting(Person::id).containsExactly(2L);
+        assertThat(after.byKey("team", "Sales")).extracting(Person::id).containsExactly(1L);
+        assertThat(after.byKey("team", "Kernel")).extracting(Person::id).containsExactly(3L);
+        assertThat(after.all()).extracting(Person::id).containsExactly(1L, 3L);
+        assertThat(after.first(1)).extracting(Person::id).containsExactly(1L);
+        assertThat(after.byIds(new long[] {3L, 2L})).extracting(Person::id).containsExactly(3L);
+    }
+
+    @Test
+    void with_ManyChanges_ShouldCompactIntoColumns() {
+        // Arrange
+        ColumnarTable<Person> table = ColumnarTable.of(PEOPLE, List.of(), false);
+
+        // Act
+        for (long id = 1; id <= 1_000; id++) {
+            table = table.with(person(id, "Person " + id, id % 2 == 0 ? "Even" : "Odd"));
+        }
+        table = table.without(500L);
+
+        // Assert
+        assertThat(table.size()).isEqualTo(999);
+        assertThat(table.byKey("name", "Person 999")).extracting(Person::id).containsExactly(999L);
+        assertThat(table.byKey("team", "Even")).hasSize(499);
+        assertThat(table.byId(500L)).isEmpty();
+    }
+
+    @Test
+    void withAndWithout_ShouldCountRowsFromEachChange() {
+        // Arrange
+        ColumnarTable<Person> table = ColumnarTable.of(PEOPLE, List.of(
+                person(1L, "Ada", "Engineering"), person(2L, "Grace", "Sales")), false);
+
+        // Act
+        table = table.with(List.of(person(1L, "Ada", "Sales"), person(3L, "Linus", "Kernel"),
+                person(3L, "Linus", "Sales")));
+        table = table.without(2L).without(2L).without(3L).with(person(2L, "Grace", "Sales"));
+
+        // Assert
+        assertThat(table.size()).isEqualTo(2);
+        assertThat(table.all()).extracting(Person::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void matchingAny_ShouldTestEachDictionaryValueOnce() {
+        // Arrange
+        List<Person> people = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            people.add(person(id, "Person " + id, id <= 50 ? "Sales" : "Engineering"));
+        }
+        ColumnarTable<Person> table = ColumnarTable.of(PEOPLE, people, false);
+        AtomicInteger teamTests = new AtomicInteger();
+
+        // Act
+        List<Person> matches = table.matchingAny(Map.of(
+                "team", team -> teamTests.incrementAndGet() > 0 && team.equals("Sales"),
+                "name", name -> name.equals("Person 77")));
+
+        // Assert
+        assertThat(matches).hasSize(51);
+        assertThat(matches).extracting(Person::id).contains(1L, 50L, 77L).doesNotContain(51L);
+        assertThat(teamTests).hasValue(2);
+    }
+
+    private static Person person(long id, String name, String team) {
+        return new Person(id, name, team, null, null);
+    }
+}
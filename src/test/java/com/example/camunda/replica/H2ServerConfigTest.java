@@ -0,0 +1,43 @@
+package com.example.camunda.replica;
+
+import com.example.camunda.config.CatalogProperties;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class H2ServerConfigTest {
+
+    private final CatalogProperties catalogProperties = new CatalogProperties();
+    private final DataSourceProperties dataSourceProperties = new DataSourceProperties();
+
+    @Test
+    void h2TcpServer_WithoutPassword_ShouldRefuseToStart() {
+        // Arrange
+        dataSourceProperties.setPassword("");
+
+        // Act & Assert
+        assertThatThrownBy(() -> new H2ServerConfig().h2TcpServer(catalogProperties, dataSourceProperties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.datasource.password");
+    }
+
+    @Test
+    void h2TcpServer_ByDefault_ShouldOnlyAcceptLocalConnections() throws SQLException {
+        // Arrange
+        dataSourceProperties.setPassword("secret");
+        catalogProperties.getDeployment().setH2TcpPort(0);
+
+        // Act
+        Server local = new H2ServerConfig().h2TcpServer(catalogProperties, dataSourceProperties);
+        catalogProperties.getDeployment().setH2TcpAllowOthers(true);
+        Server open = new H2ServerConfig().h2TcpServer(catalogProperties, dataSourceProperties);
+
+        // Assert
+        assertThat(local.getService().getAllowOthers()).isFalse();
+        assertThat(open.getService().getAllowOthers()).isTrue();
+    }
+}
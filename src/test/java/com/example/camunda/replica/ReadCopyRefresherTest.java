@@ -0,0 +1,181 @@
+package com.example.camunda.replica;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.model.EntityChangeLog;
+import com.example.camunda.model.EntityChangeLog.EntityType;
+import com.example.camunda.model.EntityChangeLog.Operation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReadCopyRefresherTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate copy;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private ReadCopyRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        DriverManagerDataSource primaryDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1", "sa", "");
+        DriverManagerDataSource copyDataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:copy-" + suffix + ";DB_CLOSE_DELAY=-1", "sa", "");
+        primary = new JdbcTemplate(primaryDataSource);
+        copy = new JdbcTemplate(copyDataSource);
+        routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, copyDataSource);
+        refresher = new ReadCopyRefresher(routingDataSource, new CatalogProperties());
+
+        primary.execute("CREATE TABLE employees (employee_id BIGINT PRIMARY KEY, full_name VARCHAR(255))");
+        primary.execute("CREATE TABLE customers (customer_id BIGINT PRIMARY KEY, customer_name VARCHAR(255), "
+                + "employee_id BIGINT REFERENCES employees(employee_id))");
+        primary.execute("CREATE TABLE external_companies (company_id BIGINT PRIMARY KEY, company_name VARCHAR(255))");
+        primary.execute("CREATE TABLE job_history (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "job_type VARCHAR(255), status VARCHAR(255) DEFAULT 'COMPLETED', "
+                + "execution_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP, created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, "
+                + "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        primary.update("INSERT INTO employees VALUES (1, 'Ada Lovelace')");
+        primary.update("INSERT INTO customers VALUES (10, 'Acme', 1), (11, 'Globex', 1)");
+        primary.update("INSERT INTO job_history (job_type) VALUES ('search-employee')");
+    }
+
+    @Test
+    void load_ShouldCopyTablesAndOnlyThenRouteReadOnlyTraffic() throws SQLException {
+        // Arrange
+        assertThat(routingDataSource.isReadCopyReady()).isFalse();
+
+        // Act
+        refresher.load();
+
+        // Assert
+        assertThat(routingDataSource.isReadCopyReady()).isTrue();
+        assertThat(copy.queryForList("SELECT customer_name FROM customers ORDER BY customer_id", String.class))
+                .containsExactly("Acme", "Globex");
+        assertThat(copy.queryForObject("SELECT COUNT(*) FROM job_history", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void apply_ShouldRecopyChangedRowsAndDropDeletedOnes() throws SQLException {
+        // Arrange
+        refresher.load();
+        primary.update("INSERT INTO employees VALUES (2, 'Grace Hopper')");
+        primary.update("INSERT INTO customers VALUES (12, 'Initech', 2)");
+        primary.update("UPDATE customers SET customer_name = 'Acme Renamed' WHERE customer_id = 10");
+        primary.update("DELETE FROM customers WHERE customer_id = 11");
+
+        // Act
+        refresher.apply(List.of(
+                entry(EntityType.CUSTOMER, 12L, Operation.SAVED),
+                entry(EntityType.EMPLOYEE, 2L, Operation.SAVED),
+                entry(EntityType.CUSTOMER, 10L, Operation.SAVED),
+                entry(EntityType.CUSTOMER, 11L, Operation.DELETED)));
+
+        // Assert
+        assertThat(copy.queryForList("SELECT customer_name FROM customers ORDER BY customer_id", String.class))
+                .containsExactly("Acme Renamed", "Initech");
+        assertThat(copy.queryForObject("SELECT full_name FROM employees WHERE employee_id = 2", String.class))
+                .isEqualTo("Grace Hopper");
+    }
+
+    @Test
+    void copyNewJobHistory_ShouldAppendRowsAddedSinceTheSnapshot() throws SQLException {
+        // Arrange
+        refresher.load();
+        primary.update("INSERT INTO job_history (job_type) VALUES ('query-for-company'), ('match-customer-with-dri')");
+
+        // Act
+        refresher.copyNewJobHistory();
+        refresher.copyNewJobHistory();
+
+        // Assert
+        assertThat(copy.queryForList("SELECT job_type FROM job_history ORDER BY id", String.class))
+                .containsExactly("search-employee", "query-for-company", "match-customer-with-dri");
+    }
+
+    @Test
+    void copyNewJobHistory_RowCommittedBehindTheCursor_ShouldStillBeCopied() throws SQLException {
+        // Arrange
+        refresher.load();
+        primary.update("INSERT INTO job_history (id, job_type) VALUES (100, 'search-employee')");
+        refresher.copyNewJobHistory();
+        // Another instance's ID block: allocated earlier, committed later
+        primary.update("INSERT INTO job_history (id, job_type) VALUES (60, 'query-for-company')");
+
+        // Act
+        refresher.copyNewJobHistory();
+
+        // Assert
+        assertThat(copy.queryForList("SELECT id FROM job_history ORDER BY id", Long.class))
+                .containsExactly(1L, 60L, 100L);
+    }
+
+    @Test
+    void copyNewJobHistory_RowUpdatedOnThePrimary_ShouldBeRecopied() throws SQLException {
+        // Arrange
+        refresher.load();
+        primary.update("UPDATE job_history SET status = 'FAILED', updated_at = DATEADD(SECOND, 1, created_at) "
+                + "WHERE id = 1");
+
+        // Act
+        refresher.copyNewJobHistory();
+
+        // Assert
+        assertThat(copy.queryForObject("SELECT status FROM job_history WHERE id = 1", String.class))
+                .isEqualTo("FAILED");
+    }
+
+    @Test
+    void pruneJobHistory_ShouldDropRowsTheRetentionRemovedFromThePrimary() throws SQLException {
+        // Arrange
+        primary.update("INSERT INTO job_history (id, job_type, status, execution_time) VALUES "
+                + "(20, 'search-employee', 'COMPLETED', TIMESTAMP '2026-01-01 10:00:00'), "
+                + "(21, 'search-employee', 'COMPLETED', TIMESTAMP '2026-02-01 10:00:00'), "
+                + "(22, 'query-for-company', 'FAILED', TIMESTAMP '2026-01-01 10:00:00'), "
+                + "(23, 'query-for-company', 'TIMED_OUT', TIMESTAMP '2026-01-01 10:00:00')");
+        refresher.load();
+        primary.update("DELETE FROM job_history WHERE id IN (20, 23)");
+
+        // Act
+        refresher.pruneJobHistory();
+
+        // Assert
+        assertThat(copy.queryForList("SELECT id FROM job_history ORDER BY id", Long.class))
+                .containsExactly(1L, 21L, 22L);
+    }
+
+    @Test
+    void routing_ShouldSendOnlyReadOnlyTransactionsToTheLoadedCopy() throws SQLException {
+        // Arrange
+        refresher.load();
+        routingDataSource.afterPropertiesSet();
+        JdbcTemplate routed = new JdbcTemplate(routingDataSource);
+        primary.update("INSERT INTO external_companies VALUES (5, 'Not Yet Copied')");
+
+        // Act
+        long fromPrimary = routed.queryForObject("SELECT COUNT(*) FROM external_companies", Long.class);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        long fromCopy;
+        try {
+            fromCopy = routed.queryForObject("SELECT COUNT(*) FROM external_companies", Long.class);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // Assert
+        assertThat(fromPrimary).isEqualTo(1L);
+        assertThat(fromCopy).isZero();
+    }
+
+    private static EntityChangeLog entry(EntityType entityType, Long entityId, Operation operation) {
+        return new EntityChangeLog(entityType, entityId, operation, "other-replica");
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.index.CatalogIndexManager;
+import com.example.camunda.model.ExternalCompany;
+import com.example.camunda.readmodel.CatalogReadModel;
+import com.example.camunda.repository.ExternalCompanyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyServiceTest {
+
+    @Mock
+    private ExternalCompanyRepository companyRepository;
+
+    @Mock
+    private CatalogIndexManager catalogIndexManager;
+
+    @Spy
+    private FuzzyMatcher fuzzyMatcher = new FuzzyMatcher();
+
+    @Spy
+    private CatalogReadModel readModel = new CatalogReadModel(new CatalogProperties());
+
+    @InjectMocks
+    private CompanyService companyService;
+
+    private ExternalCompany bostonCompany;
+    private ExternalCompany denverCompany;
+
+    @BeforeEach
+    void setUp() {
+        bostonCompany = new ExternalCompany();
+        bostonCompany.setCompanyId(1L);
+        bostonCompany.setCompanyName("Acme Industries");
+        bostonCompany.setAddress("12 Main St, Boston, MA 02110");
+        bostonCompany.deriveLocationFields();
+
+        denverCompany = new ExternalCompany();
+        denverCompany.setCompanyId(2L);
+        denverCompany.setCompanyName("Zenith Corp");
+        denverCompany.setAddress("99 Boston Ave, Denver, CO 80202");
+        denverCompany.deriveLocationFields();
+    }
+
+    @Test
+    void findCompany_WithCityOnly_ShouldUseCityIndex() {
+        // Arrange
+        when(companyRepository.findByCityKey("boston")).thenReturn(List.of(bostonCompany));
+
+        // Act
+        List<ExternalCompany> result = companyService.findCompany(null, null, " Boston ", null);
+
+        // Assert
+        assertThat(result).containsExactly(bostonCompany);
+        verify(companyRepository, never()).findAll();
+    }
+
+    @Test
+    void findCompanyFuzzy_WithMisspelledCity_ShouldMatchDistinctCityOnly() {
+        // Arrange
+        when(companyRepository.findDistinctCityKeys()).thenReturn(List.of("boston", "denver"));
+        when(companyRepository.findByCityKeyIn(Set.of("boston"))).thenReturn(List.of(bostonCompany));
+
+        // Act
+        List<ExternalCompany> result = companyService.findCompanyFuzzy(null, null, "Bostn", null);
+
+        // Assert
+        assertThat(result).containsExactly(bostonCompany);
+        verify(companyRepository, never()).findAll();
+    }
+
+    @Test
+    void findCompanyFuzzy_WithCity_ShouldNotMatchStreetNames() {
+        // Arrange
+        when(companyRepository.findDistinctCityKeys()).thenReturn(List.of("boston", "denver"));
+        when(companyRepository.findAll()).thenReturn(List.of(bostonCompany, denverCompany));
+
+        // Act
+        List<ExternalCompany> result = companyService.findCompanyFuzzy("Unknown Name", null, "Boston", null);
+
+        // Assert
+        assertThat(result).containsExactly(bostonCompany);
+    }
+
+    @Test
+    void findCompanyFuzzy_WithUnknownCity_ShouldReturnEmpty() {
+        // Arrange
+        when(companyRepository.findDistinctCityKeys()).thenReturn(List.of("boston", "denver"));
+
+        // Act
+        List<ExternalCompany> result = companyService.findCompanyFuzzy(null, null, "Tokyo", null);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(companyRepository, never()).findByCityKeyIn(any());
+    }
+
+    @Test
+    void saveCompany_ShouldNotifyIndexes() {
+        // Arrange
+        when(companyRepository.save(bostonCompany)).thenReturn(bostonCompany);
+
+        // Act
+        companyService.saveCompany(bostonCompany);
+
+        // Assert
+        verify(catalogIndexManager).companySaved(bostonCompany);
+    }
+
+    @Test
+    void deleteCompany_ShouldNotifyIndexes() {
+        // Arrange
+        when(companyRepository.existsById(2L)).thenReturn(true);
+
+        // Act
+        companyService.deleteCompany(2L);
+
+        // Assert
+        verify(companyRepository).deleteById(2L);
+        verify(catalogIndexManager).companyDeleted(2L);
+    }
+
+    @Test
+    void deriveLocationFields_ShouldPopulateStructuredColumns() {
+        assertThat(denverCompany.getStreet()).isEqualTo("99 Boston Ave");
+        assertThat(denverCompany.getCity()).isEqualTo("Denver");
+        assertThat(denverCompany.getState()).isEqualTo("CO");
+        assertThat(denverCompany.getZipCode()).isEqualTo("80202");
+        assertThat(denverCompany.getCityKey()).isEqualTo("denver");
+    }
+}
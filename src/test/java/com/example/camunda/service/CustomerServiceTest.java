@@ -1,19 +1,30 @@
 package com.example.camunda.service;
 
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.dto.CustomerDriView;
+import com.example.camunda.dto.EmployeeSummary;
+import com.example.camunda.index.CatalogIndexManager;
+import com.example.camunda.index.DriLookupIndex;
+import com.example.camunda.index.NameSubstringIndex;
 import com.example.camunda.model.Customer;
 import com.example.camunda.model.Employee;
+import com.example.camunda.readmodel.CatalogReadModel;
+import com.example.camunda.readmodel.EmployeeRecord;
 import com.example.camunda.repository.CustomerRepository;
 import com.example.camunda.repository.EmployeeRepository;
 import com.example.camunda.exception.CustomerNotFoundException;
+import com.example.camunda.exception.EmployeeNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -28,6 +39,21 @@ class CustomerServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private NameSubstringIndex nameIndex;
+
+    @Mock
+    private CatalogIndexManager catalogIndexManager;
+
+    @Mock
+    private DriLookupIndex driIndex;
+
+    @Spy
+    private FuzzyMatcher fuzzyMatcher = new FuzzyMatcher();
+
+    @Spy
+    private CatalogReadModel readModel = new CatalogReadModel(new CatalogProperties());
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -95,6 +121,25 @@ class CustomerServiceTest {
         verify(customerRepository).findByCustomerName("Test Customer");
     }
 
+    @Test
+    void findCustomers_WithPartialName_ShouldUseSubstringIndex() {
+        // Arrange
+        Customer otherCustomer = new Customer();
+        otherCustomer.setCustomerId(7L);
+        otherCustomer.setCustomerName("Another Test Account");
+        when(customerRepository.findByCustomerName("test")).thenReturn(Optional.empty());
+        when(nameIndex.isReady()).thenReturn(true);
+        when(nameIndex.findCustomerIds("test")).thenReturn(new long[] {1L, 7L});
+        when(customerRepository.findAllById(List.of(1L, 7L))).thenReturn(List.of(otherCustomer, testCustomer));
+
+        // Act
+        List<Customer> result = customerService.findCustomers(null, "test");
+
+        // Assert
+        assertThat(result).containsExactly(testCustomer, otherCustomer);
+        verify(customerRepository, never()).findAll();
+    }
+
     @Test
     void getCustomerWithEmployee_WithValidData_ShouldReturnCustomer() {
         // Arrange
@@ -134,6 +179,7 @@ class CustomerServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getCustomerName()).isEqualTo("Test Customer");
         verify(customerRepository).save(testCustomer);
+        verify(catalogIndexManager).customerSaved(testCustomer);
     }
 
     @Test
@@ -147,6 +193,7 @@ class CustomerServiceTest {
         // Assert
         verify(customerRepository).existsById(1L);
         verify(customerRepository).deleteById(1L);
+        verify(catalogIndexManager).customerDeleted(1L);
     }
 
     @Test
@@ -176,4 +223,118 @@ class CustomerServiceTest {
         assertThat(result.getFullName()).isEqualTo("John Doe");
         verify(employeeRepository).findById(1L);
     }
+
+    @Test
+    void findCustomers_WithReadModelLoaded_ShouldNotQueryRepositories() {
+        // Arrange
+        readModel.rebuildCustomers(List.of(testCustomer));
+        readModel.rebuildEmployees(List.of(testEmployee));
+        readModel.rebuildCompanies(List.of());
+
+        // Act
+        List<Customer> result = customerService.findCustomers(null, "Test Customer", false);
+        Employee employee = customerService.getEmployeeForCustomer(result.get(0));
+
+        // Assert
+        assertThat(result).extracting(Customer::getCustomerId).containsExactly(1L);
+        assertThat(result.get(0)).isNotSameAs(testCustomer);
+        assertThat(employee.getFullName()).isEqualTo("John Doe");
+        verifyNoInteractions(customerRepository, employeeRepository);
+    }
+
+    @Test
+    void getEmployeeForCustomer_WithDriIndexReady_ShouldResolveByIdWithoutRepository() {
+        // Arrange
+        when(driIndex.isReady()).thenReturn(true);
+        when(driIndex.driOf(1L)).thenReturn(EmployeeRecord.from(testEmployee));
+
+        // Act
+        Employee result = customerService.getEmployeeForCustomer(testCustomer);
+
+        // Assert
+        assertThat(result.getEmployeeId()).isEqualTo(1L);
+        assertThat(result.getFullName()).isEqualTo("John Doe");
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void getEmployeeForCustomer_WhenDriIndexDisagrees_ShouldFallBackToRepository() {
+        // Arrange
+        testCustomer.setEmployeeId(2L);
+        Employee reassigned = new Employee();
+        reassigned.setEmployeeId(2L);
+        reassigned.setFullName("Jane Roe");
+        when(driIndex.isReady()).thenReturn(true);
+        when(driIndex.driOf(1L)).thenReturn(EmployeeRecord.from(testEmployee));
+        when(employeeRepository.findById(2L)).thenReturn(Optional.of(reassigned));
+
+        // Act
+        Employee result = customerService.getEmployeeForCustomer(testCustomer);
+
+        // Assert
+        assertThat(result.getFullName()).isEqualTo("Jane Roe");
+    }
+
+    @Test
+    void getDriViews_WithoutIndexOrReadModel_ShouldQueryEachEmployeeOnce() {
+        // Arrange
+        Customer secondCustomer = new Customer();
+        secondCustomer.setCustomerId(2L);
+        secondCustomer.setCustomerName("Second Customer");
+        secondCustomer.setEmployeeId(1L);
+        when(employeeRepository.findSummariesByEmployeeIdIn(List.of(1L))).thenReturn(
+                List.of(new EmployeeSummary(1L, "John Doe", "Manager", "Sales", null)));
+
+        // Act
+        List<CustomerDriView> result = customerService.getDriViews(List.of(secondCustomer, testCustomer));
+
+        // Assert
+        assertThat(result).extracting(CustomerDriView::customerId).containsExactly(2L, 1L);
+        assertThat(result).extracting(CustomerDriView::employeeName).containsOnly("John Doe");
+        verify(employeeRepository).findSummariesByEmployeeIdIn(List.of(1L));
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    void getCustomersByEmployee_WhenReadModelIsLoaded_ShouldReadOnlyTheEmployeesCustomers() {
+        // Arrange
+        readModel.rebuildCustomers(List.of(testCustomer));
+        readModel.rebuildEmployees(List.of(testEmployee));
+        readModel.rebuildCompanies(List.of());
+        when(customerRepository.findByEmployeeIdIn(List.of(1L))).thenReturn(List.of(testCustomer));
+
+        // Act
+        Map<Long, List<Customer>> result = customerService.getCustomersByEmployee(List.of(1L));
+
+        // Assert
+        assertThat(result).containsEntry(1L, List.of(testCustomer));
+        verify(readModel, never()).current();
+    }
+
+    @Test
+    void getDriViews_WhenReadModelLacksTheEmployee_ShouldFallBackToRepository() {
+        // Arrange
+        readModel.rebuildCustomers(List.of(testCustomer));
+        readModel.rebuildEmployees(List.of());
+        readModel.rebuildCompanies(List.of());
+        when(employeeRepository.findSummariesByEmployeeIdIn(List.of(1L))).thenReturn(
+                List.of(new EmployeeSummary(1L, "John Doe", "Manager", "Sales", null)));
+
+        // Act
+        List<CustomerDriView> result = customerService.getDriViews(List.of(testCustomer));
+
+        // Assert
+        assertThat(result).extracting(CustomerDriView::employeeName).containsExactly("John Doe");
+    }
+
+    @Test
+    void getDriViews_WhenEmployeeIsMissing_ShouldThrowEmployeeNotFoundException() {
+        // Arrange
+        when(employeeRepository.findSummariesByEmployeeIdIn(List.of(1L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> customerService.getDriViews(List.of(testCustomer)))
+                .isInstanceOf(EmployeeNotFoundException.class)
+                .hasMessageContaining("Test Customer");
+    }
 }
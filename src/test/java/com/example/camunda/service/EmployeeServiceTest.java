@@ -0,0 +1,161 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.CatalogProperties;
+import com.example.camunda.exception.EmployeeNotFoundException;
+import com.example.camunda.index.CatalogIndexManager;
+import com.example.camunda.index.EmployeeBitmapIndex;
+import com.example.camunda.index.NameSubstringIndex;
+import com.example.camunda.model.Employee;
+import com.example.camunda.readmodel.CatalogReadModel;
+import com.example.camunda.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeBitmapIndex employeeIndex;
+
+    @Mock
+    private NameSubstringIndex nameIndex;
+
+    @Mock
+    private CatalogIndexManager catalogIndexManager;
+
+    @Spy
+    private FuzzyMatcher fuzzyMatcher = new FuzzyMatcher();
+
+    @Spy
+    private CatalogReadModel readModel = new CatalogReadModel(new CatalogProperties());
+
+    @InjectMocks
+    private EmployeeService employeeService;
+
+    private Employee alice;
+    private Employee bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = new Employee();
+        alice.setEmployeeId(1L);
+        alice.setFullName("Alice Smith");
+        alice.setDepartment("Sales");
+        alice.setJobTitle("Account Manager");
+
+        bob = new Employee();
+        bob.setEmployeeId(2L);
+        bob.setFullName("Bob Jones");
+        bob.setDepartment("Sales");
+        bob.setJobTitle("Sales Manager");
+    }
+
+    @Test
+    void searchEmployees_WithDepartment_ShouldMatchNamesOnBitmapCandidatesOnly() {
+        // Arrange
+        when(employeeIndex.isReady()).thenReturn(true);
+        when(employeeIndex.findEmployeeIds("Sales", "Manager")).thenReturn(new long[] {2L, 1L});
+        when(employeeRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(bob, alice));
+
+        // Act
+        List<Employee> result = employeeService.searchEmployees("smith", "Sales", "Manager");
+
+        // Assert
+        assertThat(result).containsExactly(alice);
+        verify(employeeRepository, never()).searchEmployees(any(), any(), any());
+    }
+
+    @Test
+    void searchEmployees_WithNameOnly_ShouldUseSubstringIndex() {
+        // Arrange
+        when(nameIndex.isReady()).thenReturn(true);
+        when(nameIndex.findEmployeeIds("Smith")).thenReturn(new long[] {1L});
+        when(employeeRepository.findAllById(List.of(1L))).thenReturn(List.of(alice));
+
+        // Act
+        List<Employee> result = employeeService.searchEmployees(" Smith ", null, null);
+
+        // Assert
+        assertThat(result).containsExactly(alice);
+        verify(employeeRepository, never()).searchEmployees(any(), any(), any());
+    }
+
+    @Test
+    void searchEmployees_WithNameOnlyAndIndexNotReady_ShouldUseRepositoryQuery() {
+        // Arrange
+        when(employeeRepository.searchEmployees("Alice", null, null)).thenReturn(List.of(alice));
+
+        // Act
+        List<Employee> result = employeeService.searchEmployees("Alice", null, null);
+
+        // Assert
+        assertThat(result).containsExactly(alice);
+        verify(employeeIndex, never()).findEmployeeIds(any(), any());
+    }
+
+    @Test
+    void searchEmployees_WhenIndexNotReady_ShouldFallBackToRepository() {
+        // Arrange
+        when(employeeIndex.isReady()).thenReturn(false);
+        when(employeeRepository.searchEmployees(null, "Sales", null)).thenReturn(List.of(alice, bob));
+
+        // Act
+        List<Employee> result = employeeService.searchEmployees(null, "Sales", null);
+
+        // Assert
+        assertThat(result).containsExactly(alice, bob);
+    }
+
+    @Test
+    void searchEmployees_WithNoMatchingCandidates_ShouldNotQueryDatabase() {
+        // Arrange
+        when(employeeIndex.isReady()).thenReturn(true);
+        when(employeeIndex.findEmployeeIds("Legal", null)).thenReturn(new long[0]);
+
+        // Act
+        List<Employee> result = employeeService.searchEmployees(null, "Legal", null);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void saveEmployee_ShouldNotifyIndexes() {
+        // Arrange
+        when(employeeRepository.save(alice)).thenReturn(alice);
+
+        // Act
+        employeeService.saveEmployee(alice);
+
+        // Assert
+        verify(catalogIndexManager).employeeSaved(alice);
+    }
+
+    @Test
+    void deleteEmployee_WithInvalidId_ShouldThrowException() {
+        // Arrange
+        when(employeeRepository.existsById(999L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> employeeService.deleteEmployee(999L))
+                .isInstanceOf(EmployeeNotFoundException.class)
+                .hasMessageContaining("Employee not found with ID: 999");
+
+        verify(catalogIndexManager, never()).employeeDeleted(any());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.camunda.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FuzzyMatcherTest {
+
+    private final FuzzyMatcher fuzzyMatcher = new FuzzyMatcher();
+
+    @Test
+    void matches_ShouldKeepContainsAndWordRules() {
+        assertThat(fuzzyMatcher.matches("acme", "acme corporation")).isTrue();
+        assertThat(fuzzyMatcher.matches("acme corporation inc", "acme corporation")).isTrue();
+        assertThat(fuzzyMatcher.matches("jon smith", "john smyth")).isTrue();
+        assertThat(fuzzyMatcher.matches("engineering", "engneering")).isTrue();
+        assertThat(fuzzyMatcher.matches("sales", "marketing")).isFalse();
+        assertThat(fuzzyMatcher.matches("ab", "ac")).isFalse();
+        assertThat(fuzzyMatcher.matches("acme", null)).isFalse();
+    }
+
+    @Test
+    void matches_ShouldAgreeWithUnfilteredLevenshtein() {
+        // Arrange
+        Random random = new Random(42);
+        List<String> words = List.of("smith", "smyth", "johnson", "jonson", "engineering", "marketing",
+                "sales", "boston", "bostn", "denver", "acme", "corp", "industries", "finance", "analyst");
+
+        // Act & Assert
+        for (int i = 0; i < 2_000; i++) {
+            String search = words.get(random.nextInt(words.size())) + mutation(random);
+            String field = words.get(random.nextInt(words.size())) + " " + words.get(random.nextInt(words.size()));
+            assertThat(fuzzyMatcher.matches(search, field))
+                    .as("'%s' vs '%s'", search, field)
+                    .isEqualTo(referenceMatch(search, field));
+        }
+    }
+
+    @Test
+    void pruningStats_ShouldCountRejectedPairsPerStage() {
+        // Act
+        fuzzyMatcher.matches("abc", "abcdefgh xyz");
+        fuzzyMatcher.matches("zzzzzz", "abcdef");
+        fuzzyMatcher.matches("smith", "smyth");
+
+        // Assert
+        assertThat(fuzzyMatcher.pruningStats())
+                .containsEntry("prunedByLength", 0L)
+                .containsEntry("prunedBySignature", 1L)
+                .containsEntry("verified", 1L);
+    }
+
+    private static String mutation(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> "";
+            case 1 -> "s";
+            case 2 -> "x" + (char) ('a' + random.nextInt(26));
+            default -> String.valueOf((char) ('a' + random.nextInt(26)));
+        };
+    }
+
+    /**
+     * The matching rules as they were before the pre-filters were introduced.
+     */
+    private static boolean referenceMatch(String searchTerm, String fieldValue) {
+        if (fieldValue.equals(searchTerm)) return true;
+        if (fieldValue.contains(searchTerm) || searchTerm.contains(fieldValue)) return true;
+        for (String searchWord : searchTerm.split("\\s+")) {
+            for (String fieldWord : fieldValue.split("\\s+")) {
+                if (searchWord.equals(fieldWord)) return true;
+                if (searchWord.length() >= 3 && fieldWord.length() >= 3) {
+                    int maxLen = Math.max(searchWord.length(), fieldWord.length());
+                    double similarity = 1.0 - ((double) levenshtein(searchWord, fieldWord) / maxLen);
+                    if (similarity > 0.7) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int levenshtein(String s1, String s2) {
+        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+        for (int i = 0; i <= s1.length(); i++) dp[i][0] = i;
+        for (int j = 0; j <= s2.length(); j++) dp[0][j] = j;
+        for (int i = 1; i <= s1.length(); i++) {
+            for (int j = 1; j <= s2.length(); j++) {
+                dp[i][j] = s1.charAt(i - 1) == s2.charAt(j - 1)
+                        ? dp[i - 1][j - 1]
+                        : 1 + Math.min(Math.min(dp[i - 1][j], dp[i][j - 1]), dp[i - 1][j - 1]);
+            }
+        }
+        return dp[s1.length()][s2.length()];
+    }
+}
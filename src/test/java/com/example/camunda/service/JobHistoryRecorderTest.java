@@ -0,0 +1,213 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.JobHistoryProperties;
+import com.example.camunda.config.JobHistoryProperties.OverflowPolicy;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JobHistoryRecorderTest {
+
+    @Mock
+    private JobHistoryRepository jobHistoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JobMetricsRollups jobMetricsRollups;
+
+    private final JobHistoryProperties properties = new JobHistoryProperties();
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> writerThreads = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+
+    private JobHistoryRecorder recorder;
+    private boolean started;
+
+    @BeforeEach
+    void setUp() {
+        properties.getRecorder().setCapacity(3);
+        properties.getRecorder().setBatchSize(2);
+        when(jobHistoryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<JobHistory> batch = invocation.getArgument(0);
+            writerThreads.add(Thread.currentThread().getName());
+            if (batch.get(0).getJobKey().equals("hold")) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            }
+            batch.forEach(entry -> written.add(entry.getJobKey()));
+            return batch;
+        });
+        recorder = new JobHistoryRecorder(jobHistoryRepository, new TransactionTemplate(transactionManager),
+                jdbcTemplate, properties, jobMetricsRollups);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseFirstBatch.countDown();
+        if (started) {
+            recorder.shutdown();
+        }
+    }
+
+    @Test
+    void recordSuccess_ShouldInsertOnTheWriterThreadInBatches() throws InterruptedException {
+        // Arrange
+        properties.getRecorder().setCapacity(10);
+        start();
+
+        // Act
+        for (int i = 1; i <= 5; i++) {
+            recorder.recordSuccess("search-employee", "job-" + i, "{}", 10);
+        }
+        recorder.shutdown();
+
+        // Assert
+        assertThat(written).containsExactly("job-1", "job-2", "job-3", "job-4", "job-5");
+        assertThat(writerThreads).isNotEmpty().allMatch("job-history-writer"::equals);
+        verify(jobHistoryRepository, never()).saveAll(argThat(batch -> ((List<?>) batch).size() > 2));
+        verify(jobMetricsRollups).backfill();
+        verify(jobMetricsRollups, atLeastOnce()).add(anyList());
+    }
+
+    @Test
+    void record_WhenBufferIsFullAndPolicyIsDropOldest_ShouldKeepTheNewestEntries() throws InterruptedException {
+        // Arrange
+        properties.getRecorder().setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        holdWriter();
+
+        // Act
+        for (int i = 1; i <= 5; i++) {
+            recorder.recordSuccess("search-employee", "job-" + i, "{}", 10);
+        }
+        releaseFirstBatch.countDown();
+        recorder.shutdown();
+
+        // Assert
+        assertThat(written).containsExactly("hold", "job-3", "job-4", "job-5");
+    }
+
+    @Test
+    void record_WhenBufferIsFullAndPolicyIsDropNewest_ShouldKeepTheFirstEntries() throws InterruptedException {
+        // Arrange
+        properties.getRecorder().setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+        holdWriter();
+
+        // Act
+        for (int i = 1; i <= 5; i++) {
+            recorder.recordSuccess("search-employee", "job-" + i, "{}", 10);
+        }
+        releaseFirstBatch.countDown();
+        recorder.shutdown();
+
+        // Assert
+        assertThat(written).containsExactly("hold", "job-1", "job-2", "job-3");
+    }
+
+    @Test
+    void record_WhenBufferIsFullAndPolicyIsWriteThrough_ShouldInsertOnTheCallerThread() throws InterruptedException {
+        // Arrange
+        properties.getRecorder().setOverflowPolicy(OverflowPolicy.WRITE_THROUGH);
+        holdWriter();
+        for (int i = 1; i <= 3; i++) {
+            recorder.recordSuccess("search-employee", "job-" + i, "{}", 10);
+        }
+
+        // Act
+        recorder.recordFailure("search-employee", "job-4", "{}", "boom", 10);
+
+        // Assert
+        assertThat(written).containsExactly("job-4");
+        assertThat(writerThreads).contains(Thread.currentThread().getName());
+        releaseFirstBatch.countDown();
+        recorder.shutdown();
+        assertThat(written).containsExactlyInAnyOrder("job-4", "hold", "job-1", "job-2", "job-3");
+    }
+
+    @Test
+    void start_ShouldBuildRollupsBeforeAnEntryCanBeWritten() {
+        // Arrange
+        properties.getRecorder().setOverflowPolicy(OverflowPolicy.WRITE_THROUGH);
+
+        // Act
+        start();
+        recorder.flush();
+
+        // Assert
+        verify(jobMetricsRollups).backfill();
+        verify(jobMetricsRollups, never()).add(anyList());
+    }
+
+    @Test
+    void flush_WhileTheWriterWaitsForEntries_ShouldWriteThemWithoutWaitingForIt() {
+        // Arrange
+        properties.getRecorder().setCapacity(10);
+        start();
+
+        // Act
+        for (int i = 1; i <= 4; i++) {
+            recorder.recordSuccess("search-employee", "job-" + i, "{}", 10);
+        }
+        recorder.flush();
+
+        // Assert
+        assertThat(written).containsExactlyInAnyOrder("job-1", "job-2", "job-3", "job-4");
+    }
+
+    @Test
+    void alignSequence_WhenIdentityRowsAreAheadOfTheSequence_ShouldRestartItAboveThem() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(eq("SELECT COALESCE(MAX(id), 0) FROM job_history"), eq(Long.class)))
+                .thenReturn(120L);
+        when(jdbcTemplate.queryForObject(contains("INFORMATION_SCHEMA.SEQUENCES"), eq(Long.class))).thenReturn(1L);
+
+        // Act
+        recorder.alignSequence();
+
+        // Assert
+        verify(jdbcTemplate).execute("ALTER SEQUENCE job_history_seq RESTART WITH 170");
+    }
+
+    private void start() {
+        recorder.start();
+        started = true;
+    }
+
+    private void holdWriter() throws InterruptedException {
+        start();
+        recorder.recordSuccess("search-employee", "hold", "{}", 10);
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static String contains(String text) {
+        return argThat(sql -> sql != null && sql.contains(text));
+    }
+}
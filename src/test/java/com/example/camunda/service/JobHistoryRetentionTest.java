@@ -0,0 +1,162 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.JobHistoryProperties;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JobHistoryRetentionTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    @Mock
+    private JobHistoryRepository jobHistoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path archiveDirectory;
+
+    private final JobHistoryProperties properties = new JobHistoryProperties();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private JobHistoryRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        properties.getRetention().setBatchSize(2);
+        properties.getRetention().setArchivePath(archiveDirectory.toString());
+        when(jobHistoryRepository.findByStatusAndExecutionTimeBeforeOrderByExecutionTimeAsc(any(), any(), any()))
+                .thenReturn(List.of());
+        when(jobHistoryRepository.findByStatusNotInAndExecutionTimeBeforeOrderByExecutionTimeAsc(any(), any(), any()))
+                .thenReturn(List.of());
+        retention = new JobHistoryRetention(jobHistoryRepository, new TransactionTemplate(transactionManager),
+                properties, objectMapper);
+    }
+
+    @Test
+    void run_ShouldArchiveExpiredRowsByDayAndThenDeleteThem() throws IOException {
+        // Arrange
+        when(jobHistoryRepository.findByStatusAndExecutionTimeBeforeOrderByExecutionTimeAsc(eq("COMPLETED"), any(), any()))
+                .thenReturn(List.of(row(1, MONDAY), row(2, MONDAY.plusDays(1))))
+                .thenReturn(List.of(row(3, MONDAY)))
+                .thenReturn(List.of());
+
+        // Act
+        retention.run();
+
+        // Assert
+        assertThat(archivedIds(archiveDirectory.resolve("job-history-2026-03-02.ndjson.gz"))).containsExactly(1L, 3L);
+        assertThat(archivedIds(archiveDirectory.resolve("job-history-2026-03-03.ndjson.gz"))).containsExactly(2L);
+        verify(jobHistoryRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(jobHistoryRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void run_ShouldApplyEachStatusTtlAndTheDefaultToOtherStatuses() {
+        // Arrange
+        properties.getRetention().setTtl(Map.of("completed", Duration.ofDays(3)));
+        properties.getRetention().setDefaultTtl(Duration.ofDays(60));
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        retention.run();
+
+        // Assert
+        verify(jobHistoryRepository).findByStatusAndExecutionTimeBeforeOrderByExecutionTimeAsc(eq("COMPLETED"),
+                argThat(before -> before.isBefore(now.minusDays(3).plusMinutes(1))
+                        && before.isAfter(now.minusDays(3).minusMinutes(1))), any());
+        verify(jobHistoryRepository).findByStatusNotInAndExecutionTimeBeforeOrderByExecutionTimeAsc(
+                argThat(statuses -> statuses.size() == 1 && statuses.contains("COMPLETED")),
+                argThat(before -> before.isBefore(now.minusDays(60).plusMinutes(1))), any());
+    }
+
+    @Test
+    void run_WhenTheArchiveCannotBeWritten_ShouldKeepTheRows() throws IOException {
+        // Arrange
+        Path notADirectory = Files.createFile(archiveDirectory.resolve("taken"));
+        properties.getRetention().setArchivePath(notADirectory.toString());
+        when(jobHistoryRepository.findByStatusAndExecutionTimeBeforeOrderByExecutionTimeAsc(eq("FAILED"), any(), any()))
+                .thenReturn(List.of(row(7, MONDAY)));
+
+        // Act
+        retention.run();
+
+        // Assert
+        verify(jobHistoryRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void run_ShouldStopAfterMaxBatchesPerRun() {
+        // Arrange
+        properties.getRetention().setMaxBatchesPerRun(3);
+        properties.getRetention().setArchive(false);
+        when(jobHistoryRepository.findByStatusAndExecutionTimeBeforeOrderByExecutionTimeAsc(eq("COMPLETED"), any(), any()))
+                .thenReturn(List.of(row(1, MONDAY), row(2, MONDAY)));
+
+        // Act
+        retention.run();
+
+        // Assert
+        verify(jobHistoryRepository, times(3)).deleteAllByIdInBatch(anyList());
+        verify(jobHistoryRepository, never())
+                .findByStatusNotInAndExecutionTimeBeforeOrderByExecutionTimeAsc(any(), any(), any());
+        assertThat(archiveDirectory).isEmptyDirectory();
+    }
+
+    private List<Long> archivedIds(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .map(line -> {
+                        try {
+                            return objectMapper.readValue(line, JobHistory.class).getId();
+                        } catch (IOException e) {
+                            throw new AssertionError(e);
+                        }
+                    })
+                    .toList();
+        }
+    }
+
+    private static JobHistory row(long id, LocalDateTime executionTime) {
+        JobHistory row = new JobHistory();
+        row.setId(id);
+        row.setJobType("search-employee");
+        row.setJobKey("job-" + id);
+        row.setStatus("COMPLETED");
+        row.setVariables("{\"employeeName\":\"Alice\"}");
+        row.setExecutionTime(executionTime);
+        return row;
+    }
+}
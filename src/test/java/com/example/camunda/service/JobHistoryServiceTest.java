@@ -0,0 +1,130 @@
+package com.example.camunda.service;
+
+import com.example.camunda.dto.JobHistoryDTO;
+import com.example.camunda.dto.JobHistorySummary;
+import com.example.camunda.model.JobHistory;
+import com.example.camunda.repository.JobHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobHistoryServiceTest {
+
+    @Mock
+    private JobHistoryRepository jobHistoryRepository;
+
+    @InjectMocks
+    private JobHistoryService jobHistoryService;
+
+    @Test
+    void getRecentJobHistoryDtos_WhenNothingWasAdded_ShouldNotReadTheRowsAgain() {
+        // Arrange
+        when(jobHistoryRepository.findExtent()).thenReturn(extent(2, 2));
+        when(jobHistoryRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(entry(2, "Bob"), entry(1, "Alice"))));
+
+        // Act
+        List<JobHistoryDTO> first = jobHistoryService.getRecentJobHistoryDtos(100);
+        List<JobHistoryDTO> second = jobHistoryService.getRecentJobHistoryDtos(100);
+
+        // Assert
+        assertThat(second).isEqualTo(first);
+        assertThat(first).extracting(JobHistoryDTO::getId).containsExactly(2L, 1L);
+        verify(jobHistoryRepository, times(1)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getRecentJobHistoryDtos_WhenAnEntryWasAdded_ShouldOnlyMapTheNewEntry() {
+        // Arrange
+        JobHistory alice = entry(1, "Alice");
+        JobHistory bob = entry(2, "Bob");
+        when(jobHistoryRepository.findExtent()).thenReturn(extent(1, 1), extent(2, 2));
+        when(jobHistoryRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(alice)))
+                .thenReturn(new PageImpl<>(List.of(bob, alice)));
+
+        // Act
+        jobHistoryService.getRecentJobHistoryDtos(100);
+        // Mapped again, Alice's entry would now show the new name
+        alice.setVariables("{\"employeeName\":\"Changed\"}");
+        List<JobHistoryDTO> second = jobHistoryService.getRecentJobHistoryDtos(100);
+
+        // Assert
+        assertThat(second).hasSize(2);
+        assertThat(second.get(0).getInputParameters()).containsEntry("Employee Name", "Bob");
+        assertThat(second.get(1).getInputParameters()).containsEntry("Employee Name", "Alice");
+    }
+
+    @Test
+    void getRecentJobHistoryDtos_WhenACallerChangesAnEntry_ShouldNotChangeTheCachedOne() {
+        // Arrange
+        when(jobHistoryRepository.findExtent()).thenReturn(extent(1, 1));
+        when(jobHistoryRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(entry(1, "Alice"))));
+        List<JobHistoryDTO> first = jobHistoryService.getRecentJobHistoryDtos(100);
+
+        // Act
+        first.get(0).setStatus("CHANGED");
+        first.get(0).getInputParameters().put("Employee Name", "Changed");
+        List<JobHistoryDTO> second = jobHistoryService.getRecentJobHistoryDtos(100);
+
+        // Assert
+        assertThat(second.get(0).getStatus()).isEqualTo("COMPLETED");
+        assertThat(second.get(0).getInputParameters()).containsEntry("Employee Name", "Alice");
+    }
+
+    @Test
+    void getRecentJobHistoryDtos_ShouldUseTheStoredSummaryWithoutReadingVariables() {
+        // Arrange
+        JobHistory stored = entry(3, "Carol");
+        stored.setVariables("not json");
+        stored.setSummary(new JobHistorySummary(Map.of("Employee Name", "Carol"), Map.of("Employees Found", 1))
+                .toJson());
+        when(jobHistoryRepository.findExtent()).thenReturn(extent(1, 3));
+        when(jobHistoryRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(stored)));
+
+        // Act
+        List<JobHistoryDTO> result = jobHistoryService.getRecentJobHistoryDtos(100);
+
+        // Assert
+        assertThat(result.get(0).getInputParameters()).containsEntry("Employee Name", "Carol");
+        assertThat(result.get(0).getResults()).containsEntry("Employees Found", 1);
+    }
+
+    private static JobHistoryRepository.Extent extent(long entries, long lastId) {
+        return new JobHistoryRepository.Extent() {
+            @Override
+            public long getEntries() {
+                return entries;
+            }
+
+            @Override
+            public long getLastId() {
+                return lastId;
+            }
+        };
+    }
+
+    private static JobHistory entry(long id, String employeeName) {
+        JobHistory entry = new JobHistory();
+        entry.setId(id);
+        entry.setJobType("search-employee");
+        entry.setJobKey("job-" + id);
+        entry.setStatus("COMPLETED");
+        entry.setExecutionTime(LocalDateTime.of(2026, 3, 2, 10, 0).plusMinutes(id));
+        entry.setVariables("{\"employeeName\":\"" + employeeName + "\"}");
+        return entry;
+    }
+}
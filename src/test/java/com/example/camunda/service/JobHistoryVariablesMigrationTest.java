@@ -0,0 +1,136 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.JobHistoryProperties;
+import com.example.camunda.util.VariablesCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JobHistoryVariablesMigrationTest {
+
+    private final JobHistoryProperties properties = new JobHistoryProperties();
+
+    private JdbcTemplate jdbcTemplate;
+    private JobHistoryVariablesMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        migration = new JobHistoryVariablesMigration(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), properties);
+        properties.getVariablesMigration().setBatchSize(2);
+        properties.getVariablesMigration().setBatchesPerRun(2);
+
+        jdbcTemplate.execute("CREATE TABLE job_history (id BIGINT PRIMARY KEY, job_type VARCHAR(255), "
+                + "variables TEXT, variables_data VARBINARY, summary TEXT, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE job_history_migration (id INT PRIMARY KEY, last_id BIGINT NOT NULL, "
+                + "completed BOOLEAN NOT NULL)");
+        jdbcTemplate.update("INSERT INTO job_history (id, job_type, variables) VALUES "
+                + "(1, 'search-employee', '{\"employeeName\":\"Alice\"}'), "
+                + "(2, 'query-for-company', '{\"companyName\":\"Acme\"}'), "
+                + "(3, 'search-employee', NULL), "
+                + "(5, 'ship-order', '{\"orderId\":42}'), "
+                + "(8, 'match-customer-with-dri', '{\"customerName\":\"Johnathan Doe\"}')");
+        jdbcTemplate.update("INSERT INTO job_history (id, job_type, variables_data) VALUES (6, 'search-employee', ?)",
+                (Object) VariablesCodec.encode("search-employee", "{\"employeeName\":\"Bob\"}"));
+    }
+
+    @Test
+    void run_ShouldCompressAndSummarizeEveryLegacyRowAcrossRuns() {
+        // Act
+        migration.run();
+        boolean doneAfterFirstRun = migration.isDone();
+        migration.run();
+
+        // Assert
+        assertThat(doneAfterFirstRun).isFalse();
+        assertThat(migration.isDone()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_history WHERE variables IS NOT NULL",
+                Long.class)).isZero();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, variables_data FROM job_history ORDER BY id");
+        assertThat(rows).extracting(row -> VariablesCodec.decode((byte[]) row.get("VARIABLES_DATA")))
+                .containsExactly("{\"employeeName\":\"Alice\"}", "{\"companyName\":\"Acme\"}", null,
+                        "{\"orderId\":42}", "{\"employeeName\":\"Bob\"}", "{\"customerName\":\"Johnathan Doe\"}");
+        assertThat(jdbcTemplate.queryForList("SELECT summary FROM job_history ORDER BY id", String.class))
+                .containsExactly(
+                        "{\"inputParameters\":{\"Employee Name\":\"Alice\"},"
+                                + "\"results\":{\"Employee Found\":\"Alice\"}}",
+                        "{\"inputParameters\":{\"Company Name\":\"Acme\"},\"results\":{}}",
+                        "{\"inputParameters\":{},\"results\":{}}",
+                        "{\"inputParameters\":{},\"results\":{}}",
+                        "{\"inputParameters\":{\"Employee Name\":\"Bob\"},\"results\":{\"Employee Found\":\"Bob\"}}",
+                        "{\"inputParameters\":{\"Customer Name\":\"Johnathan Doe\"},\"results\":{}}");
+    }
+
+    @Test
+    void run_WithUndecodableRow_ShouldSkipItAndMigrateTheRest() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO job_history (id, job_type, variables_data) VALUES (4, 'search-employee', ?)",
+                (Object) new byte[] {(byte) 0x7F, 1, 2, 3});
+
+        // Act
+        migration.run();
+        migration.run();
+
+        // Assert
+        assertThat(migration.isDone()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_history WHERE variables IS NOT NULL",
+                Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM job_history WHERE summary IS NULL", Long.class))
+                .containsExactly(4L);
+    }
+
+    @Test
+    void run_AfterRestart_ShouldResumeFromTheSavedIdAndSkipOnceFinished() {
+        // Arrange
+        migration.run();
+        // A row the first run already passed; visited again, it would be migrated
+        jdbcTemplate.update("UPDATE job_history SET variables = 'legacy', variables_data = NULL WHERE id = 1");
+
+        // Act
+        JobHistoryVariablesMigration resumed = restartedMigration();
+        resumed.run();
+        jdbcTemplate.update("INSERT INTO job_history (id, job_type, variables) VALUES (9, 'ship-order', 'legacy')");
+        JobHistoryVariablesMigration finished = restartedMigration();
+        finished.run();
+
+        // Assert
+        assertThat(resumed.isDone()).isTrue();
+        assertThat(finished.isDone()).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM job_history WHERE variables IS NOT NULL ORDER BY id",
+                Long.class)).containsExactly(1L, 9L);
+        assertThat(jdbcTemplate.queryForMap("SELECT last_id, completed FROM job_history_migration"))
+                .containsEntry("LAST_ID", 8L).containsEntry("COMPLETED", true);
+    }
+
+    @Test
+    void run_WhenDisabled_ShouldLeaveRowsAlone() {
+        // Arrange
+        properties.getVariablesMigration().setEnabled(false);
+
+        // Act
+        migration.run();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_history WHERE variables IS NOT NULL",
+                Long.class)).isEqualTo(4L);
+    }
+
+    private JobHistoryVariablesMigration restartedMigration() {
+        DriverManagerDataSource dataSource = (DriverManagerDataSource) jdbcTemplate.getDataSource();
+        return new JobHistoryVariablesMigration(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), properties);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.camunda.service;
+
+import com.example.camunda.config.JdbcTimingListener;
+import com.example.camunda.service.JobPhaseTimer.Phase;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JobPhaseTimerTest {
+
+    @Test
+    void timings_ShouldSplitTheHandlerIntoPhasesAndTheSearchIntoDatabaseAndMatching() {
+        // Arrange
+        JdbcTimingListener listener = new JdbcTimingListener();
+        JobPhaseTimer.Timings timings;
+
+        // Act
+        try (JobPhaseTimer timer = JobPhaseTimer.start(System.currentTimeMillis() - 5_000)) {
+            JobPhaseTimer.time(Phase.HANDLER, () -> {
+                JobPhaseTimer.time(Phase.DESERIALIZE, () -> pause(10));
+                JobPhaseTimer.time(Phase.SEARCH, () -> {
+                    listener.jdbcExecuteStatementStart();
+                    pause(30);
+                    listener.jdbcExecuteStatementEnd();
+                    return pause(20);
+                });
+                return pause(15);
+            });
+            JobPhaseTimer.time(Phase.COMPLETE, () -> pause(5));
+            timings = timer.timings();
+        }
+
+        // Assert
+        assertThat(timings.brokerWaitMs()).isBetween(5_000L, 6_000L);
+        assertThat(timings.deserializeMs()).isGreaterThanOrEqualTo(10);
+        assertThat(timings.searchDbMs()).isBetween(30L, 49L);
+        assertThat(timings.searchMatchMs()).isGreaterThanOrEqualTo(19);
+        assertThat(timings.resultBuildMs()).isGreaterThanOrEqualTo(14);
+        assertThat(timings.completeMs()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void addDatabaseNanos_OutsideASearchOrATimer_ShouldBeIgnored() {
+        // Act
+        JobPhaseTimer.addDatabaseNanos(TimeUnit.SECONDS.toNanos(1));
+        String result = JobPhaseTimer.time(Phase.SEARCH, () -> "ran");
+        JobPhaseTimer.Timings timings;
+        try (JobPhaseTimer timer = JobPhaseTimer.start(System.currentTimeMillis())) {
+            JobPhaseTimer.addDatabaseNanos(TimeUnit.SECONDS.toNanos(1));
+            timings = timer.timings();
+        }
+
+        // Assert
+        assertThat(result).isEqualTo("ran");
+        assertThat(timings.searchDbMs()).isZero();
+    }
+
+    private static Object pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.camunda.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AddressParserTest {
+
+    @Test
+    void parse_WithSeededAddressFormat_ShouldSplitAllParts() {
+        AddressParser.ParsedAddress parsed = AddressParser.parse("4821 Oak Ave, San Francisco, CA 94107");
+
+        assertThat(parsed.street()).isEqualTo("4821 Oak Ave");
+        assertThat(parsed.city()).isEqualTo("San Francisco");
+        assertThat(parsed.state()).isEqualTo("CA");
+        assertThat(parsed.zipCode()).isEqualTo("94107");
+        assertThat(parsed.cityKey()).isEqualTo("san francisco");
+    }
+
+    @Test
+    void parse_WithStreetAndCityOnly_ShouldLeaveStateAndZipEmpty() {
+        AddressParser.ParsedAddress parsed = AddressParser.parse("42 Silicon Ave, Tech City");
+
+        assertThat(parsed.street()).isEqualTo("42 Silicon Ave");
+        assertThat(parsed.city()).isEqualTo("Tech City");
+        assertThat(parsed.state()).isNull();
+        assertThat(parsed.zipCode()).isNull();
+    }
+
+    @Test
+    void parse_WithStateButNoZip_ShouldRecognizeState() {
+        AddressParser.ParsedAddress parsed = AddressParser.parse("123 Tech Street, San Francisco, CA");
+
+        assertThat(parsed.city()).isEqualTo("San Francisco");
+        assertThat(parsed.state()).isEqualTo("CA");
+        assertThat(parsed.zipCode()).isNull();
+    }
+
+    @Test
+    void parse_WithExtraSegments_ShouldKeepThemOnTheStreetLine() {
+        AddressParser.ParsedAddress parsed = AddressParser.parse("1 Main St, Suite 200, Boston, MA 02110");
+
+        assertThat(parsed.street()).isEqualTo("1 Main St, Suite 200");
+        assertThat(parsed.city()).isEqualTo("Boston");
+        assertThat(parsed.state()).isEqualTo("MA");
+        assertThat(parsed.zipCode()).isEqualTo("02110");
+    }
+
+    @Test
+    void parse_WithStreetOnly_ShouldHaveNoCity() {
+        AddressParser.ParsedAddress parsed = AddressParser.parse("123 Test St");
+
+        assertThat(parsed.street()).isEqualTo("123 Test St");
+        assertThat(parsed.city()).isNull();
+        assertThat(parsed.cityKey()).isNull();
+    }
+
+    @Test
+    void parse_WithBlankAddress_ShouldReturnEmpty() {
+        assertThat(AddressParser.parse(null)).isEqualTo(AddressParser.ParsedAddress.EMPTY);
+        assertThat(AddressParser.parse("  ")).isEqualTo(AddressParser.ParsedAddress.EMPTY);
+    }
+}
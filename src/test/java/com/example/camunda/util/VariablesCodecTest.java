@@ -0,0 +1,51 @@
+package com.example.camunda.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VariablesCodecTest {
+
+    private static final String MATCH_VARIABLES = "{\"customerName\":\"Johnathan Doe\",\"fuzzyMatching\":true,"
+            + "\"matchingResult\":{\"status\":\"MATCHED\",\"customer\":{\"customerId\":1042,"
+            + "\"customerName\":\"Johnathan Doe\"},\"employee\":{\"employeeId\":7,\"fullName\":\"Ada Lovelace\","
+            + "\"department\":\"Engineering\"},\"timestamp\":\"2026-03-02T10:15:30.123\"},"
+            + "\"matchStatus\":\"SINGLE_MATCH\",\"customerCount\":1,\"customerId\":\"1042\","
+            + "\"employeeId\":7,\"employeeName\":\"Ada Lovelace\",\"employeeTitle\":\"Engineer\","
+            + "\"employeeDepartment\":\"Engineering\",\"employeePhone\":\"555-0107\"}";
+
+    @Test
+    void encode_WithJobTypeDictionary_ShouldRoundTripAndShrinkSeveralTimes() {
+        byte[] encoded = VariablesCodec.encode("match-customer-with-dri", MATCH_VARIABLES);
+
+        assertThat(VariablesCodec.decode(encoded)).isEqualTo(MATCH_VARIABLES);
+        assertThat(encoded.length).isLessThan(MATCH_VARIABLES.getBytes(StandardCharsets.UTF_8).length / 3);
+    }
+
+    @Test
+    void encode_WithUnknownJobType_ShouldRoundTripWithoutDictionary() {
+        String variables = "{\"orderId\":\"ü-42\",\"lines\":[1,2,3]}";
+
+        assertThat(VariablesCodec.decode(VariablesCodec.encode("ship-order", variables))).isEqualTo(variables);
+        assertThat(VariablesCodec.decode(VariablesCodec.encode(null, ""))).isEmpty();
+    }
+
+    @Test
+    void encode_WithNull_ShouldStayNull() {
+        assertThat(VariablesCodec.encode("search-employee", null)).isNull();
+        assertThat(VariablesCodec.decode(null)).isNull();
+    }
+
+    @Test
+    void decode_WithTruncatedOrUnknownData_ShouldBeRejected() {
+        byte[] encoded = VariablesCodec.encode("search-employee", "{\"employeeName\":\"Alice\"}");
+
+        assertThatThrownBy(() -> VariablesCodec.decode(Arrays.copyOf(encoded, encoded.length - 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> VariablesCodec.decode(new byte[] {9, 0, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
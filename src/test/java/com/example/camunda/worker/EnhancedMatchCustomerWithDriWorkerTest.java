@@ -1,5 +1,7 @@
 package com.example.camunda.worker;
 
+import com.example.camunda.dto.CustomerDriView;
+import com.example.camunda.dto.EmployeeSummary;
 import com.example.camunda.model.Customer;
 import com.example.camunda.model.Employee;
 import com.example.camunda.service.CustomerService;
@@ -60,7 +62,7 @@ public class EnhancedMatchCustomerWithDriWorkerTest {
         when(job.getVariablesAsMap()).thenReturn(variables);
         when(job.getKey()).thenReturn(12345L);
         when(customerService.getCustomerWithEmployee(eq(123L), eq(null), isNull())).thenReturn(testCustomer);
-        when(customerService.getEmployeeForCustomer(testCustomer)).thenReturn(testEmployee);
+        when(customerService.getDriViews(java.util.List.of(testCustomer))).thenReturn(java.util.List.of(driView(testCustomer, testEmployee)));
 
         // Act
         Map<String, Object> result = worker.handleJob(job);
@@ -109,7 +111,7 @@ public class EnhancedMatchCustomerWithDriWorkerTest {
         when(job.getVariablesAsMap()).thenReturn(variables);
         when(job.getKey()).thenReturn(12345L);
         when(customerService.getCustomerWithEmployee(eq(null), eq("Test Customer"), isNull())).thenReturn(testCustomer);
-        when(customerService.getEmployeeForCustomer(testCustomer)).thenReturn(testEmployee);
+        when(customerService.getDriViews(java.util.List.of(testCustomer))).thenReturn(java.util.List.of(driView(testCustomer, testEmployee)));
 
         // Act
         Map<String, Object> result = worker.handleJob(job);
@@ -137,7 +139,7 @@ public class EnhancedMatchCustomerWithDriWorkerTest {
         when(job.getVariablesAsMap()).thenReturn(variables);
         when(job.getKey()).thenReturn(12345L);
         when(customerService.getCustomerWithEmployee(eq(123L), eq("Test Customer"), isNull())).thenReturn(testCustomer);
-        when(customerService.getEmployeeForCustomer(testCustomer)).thenReturn(testEmployee);
+        when(customerService.getDriViews(java.util.List.of(testCustomer))).thenReturn(java.util.List.of(driView(testCustomer, testEmployee)));
 
         // Act
         Map<String, Object> result = worker.handleJob(job);
@@ -211,7 +213,7 @@ public class EnhancedMatchCustomerWithDriWorkerTest {
         when(job.getVariablesAsMap()).thenReturn(variables);
         when(job.getKey()).thenReturn(12345L);
         when(customerService.getCustomerWithEmployee(eq(123L), eq(null), isNull())).thenReturn(testCustomer);
-        when(customerService.getEmployeeForCustomer(testCustomer)).thenReturn(testEmployee);
+        when(customerService.getDriViews(java.util.List.of(testCustomer))).thenReturn(java.util.List.of(driView(testCustomer, testEmployee)));
 
         // Act
         Map<String, Object> result = worker.handleJob(job);
@@ -247,8 +249,8 @@ public class EnhancedMatchCustomerWithDriWorkerTest {
         when(job.getVariablesAsMap()).thenReturn(variables);
         when(job.getKey()).thenReturn(12345L);
         when(customerService.getCustomersWithEmployees(eq(null), eq("John"), isNull())).thenReturn(customers);
-        when(customerService.getEmployeeForCustomer(testCustomer)).thenReturn(testEmployee);
-        when(customerService.getEmployeeForCustomer(testCustomer2)).thenReturn(testEmployee2);
+        when(customerService.getDriViews(customers)).thenReturn(java.util.List.of(
+                driView(testCustomer, testEmployee), driView(testCustomer2, testEmployee2)));
 
         // Act
         Map<String, Object> result = worker.handleJob(job);
@@ -269,4 +271,9 @@ public class EnhancedMatchCustomerWithDriWorkerTest {
         
         verify(customerService).getCustomersWithEmployees(eq(null), eq("John"), isNull());
     }
+
+    private static CustomerDriView driView(Customer customer, Employee employee) {
+        return CustomerDriView.of(customer, new EmployeeSummary(employee.getEmployeeId(), employee.getFullName(),
+                employee.getJobTitle(), employee.getDepartment(), employee.getPhoneNumber()));
+    }
 }